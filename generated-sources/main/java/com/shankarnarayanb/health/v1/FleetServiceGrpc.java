@@ -0,0 +1,329 @@
+package com.shankarnarayanb.health.v1;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ * <pre>
+ * Fleet-wide health, served by an aggregator (FleetServer) that watches many HealthService
+ * nodes. Answered from the aggregator's in-memory fleet table; no call reaches the nodes.
+ * </pre>
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.58.0)",
+    comments = "Source: health_service.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class FleetServiceGrpc {
+
+  private FleetServiceGrpc() {}
+
+  public static final java.lang.String SERVICE_NAME = "health.v1.FleetService";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest,
+      com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse> getGetFleetStatusMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "GetFleetStatus",
+      requestType = com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest.class,
+      responseType = com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest,
+      com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse> getGetFleetStatusMethod() {
+    io.grpc.MethodDescriptor<com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest, com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse> getGetFleetStatusMethod;
+    if ((getGetFleetStatusMethod = FleetServiceGrpc.getGetFleetStatusMethod) == null) {
+      synchronized (FleetServiceGrpc.class) {
+        if ((getGetFleetStatusMethod = FleetServiceGrpc.getGetFleetStatusMethod) == null) {
+          FleetServiceGrpc.getGetFleetStatusMethod = getGetFleetStatusMethod =
+              io.grpc.MethodDescriptor.<com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest, com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "GetFleetStatus"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new FleetServiceMethodDescriptorSupplier("GetFleetStatus"))
+              .build();
+        }
+      }
+    }
+    return getGetFleetStatusMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static FleetServiceStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<FleetServiceStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<FleetServiceStub>() {
+        @java.lang.Override
+        public FleetServiceStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new FleetServiceStub(channel, callOptions);
+        }
+      };
+    return FleetServiceStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static FleetServiceBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<FleetServiceBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<FleetServiceBlockingStub>() {
+        @java.lang.Override
+        public FleetServiceBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new FleetServiceBlockingStub(channel, callOptions);
+        }
+      };
+    return FleetServiceBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static FleetServiceFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<FleetServiceFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<FleetServiceFutureStub>() {
+        @java.lang.Override
+        public FleetServiceFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new FleetServiceFutureStub(channel, callOptions);
+        }
+      };
+    return FleetServiceFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   * <pre>
+   * Fleet-wide health, served by an aggregator (FleetServer) that watches many HealthService
+   * nodes. Answered from the aggregator's in-memory fleet table; no call reaches the nodes.
+   * </pre>
+   */
+  public interface AsyncService {
+
+    /**
+     * <pre>
+     * Summary of the fleet or a slice of it (service, zone), optionally grouped and with the worst nodes
+     * </pre>
+     */
+    default void getFleetStatus(com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest request,
+        io.grpc.stub.StreamObserver<com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetFleetStatusMethod(), responseObserver);
+    }
+  }
+
+  /**
+   * Base class for the server implementation of the service FleetService.
+   * <pre>
+   * Fleet-wide health, served by an aggregator (FleetServer) that watches many HealthService
+   * nodes. Answered from the aggregator's in-memory fleet table; no call reaches the nodes.
+   * </pre>
+   */
+  public static abstract class FleetServiceImplBase
+      implements io.grpc.BindableService, AsyncService {
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return FleetServiceGrpc.bindService(this);
+    }
+  }
+
+  /**
+   * A stub to allow clients to do asynchronous rpc calls to service FleetService.
+   * <pre>
+   * Fleet-wide health, served by an aggregator (FleetServer) that watches many HealthService
+   * nodes. Answered from the aggregator's in-memory fleet table; no call reaches the nodes.
+   * </pre>
+   */
+  public static final class FleetServiceStub
+      extends io.grpc.stub.AbstractAsyncStub<FleetServiceStub> {
+    private FleetServiceStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected FleetServiceStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new FleetServiceStub(channel, callOptions);
+    }
+
+    /**
+     * <pre>
+     * Summary of the fleet or a slice of it (service, zone), optionally grouped and with the worst nodes
+     * </pre>
+     */
+    public void getFleetStatus(com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest request,
+        io.grpc.stub.StreamObserver<com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetFleetStatusMethod(), getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   * A stub to allow clients to do synchronous rpc calls to service FleetService.
+   * <pre>
+   * Fleet-wide health, served by an aggregator (FleetServer) that watches many HealthService
+   * nodes. Answered from the aggregator's in-memory fleet table; no call reaches the nodes.
+   * </pre>
+   */
+  public static final class FleetServiceBlockingStub
+      extends io.grpc.stub.AbstractBlockingStub<FleetServiceBlockingStub> {
+    private FleetServiceBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected FleetServiceBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new FleetServiceBlockingStub(channel, callOptions);
+    }
+
+    /**
+     * <pre>
+     * Summary of the fleet or a slice of it (service, zone), optionally grouped and with the worst nodes
+     * </pre>
+     */
+    public com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse getFleetStatus(com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetFleetStatusMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   * A stub to allow clients to do ListenableFuture-style rpc calls to service FleetService.
+   * <pre>
+   * Fleet-wide health, served by an aggregator (FleetServer) that watches many HealthService
+   * nodes. Answered from the aggregator's in-memory fleet table; no call reaches the nodes.
+   * </pre>
+   */
+  public static final class FleetServiceFutureStub
+      extends io.grpc.stub.AbstractFutureStub<FleetServiceFutureStub> {
+    private FleetServiceFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected FleetServiceFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new FleetServiceFutureStub(channel, callOptions);
+    }
+
+    /**
+     * <pre>
+     * Summary of the fleet or a slice of it (service, zone), optionally grouped and with the worst nodes
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse> getFleetStatus(
+        com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetFleetStatusMethod(), getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_GET_FLEET_STATUS = 0;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final AsyncService serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(AsyncService serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_GET_FLEET_STATUS:
+          serviceImpl.getFleetStatus((com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest) request,
+              (io.grpc.stub.StreamObserver<com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  public static final io.grpc.ServerServiceDefinition bindService(AsyncService service) {
+    return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+        .addMethod(
+          getGetFleetStatusMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest,
+              com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse>(
+                service, METHODID_GET_FLEET_STATUS)))
+        .build();
+  }
+
+  private static abstract class FleetServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    FleetServiceBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return com.shankarnarayanb.health.v1.HealthServiceProto.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("FleetService");
+    }
+  }
+
+  private static final class FleetServiceFileDescriptorSupplier
+      extends FleetServiceBaseDescriptorSupplier {
+    FleetServiceFileDescriptorSupplier() {}
+  }
+
+  private static final class FleetServiceMethodDescriptorSupplier
+      extends FleetServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final java.lang.String methodName;
+
+    FleetServiceMethodDescriptorSupplier(java.lang.String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (FleetServiceGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new FleetServiceFileDescriptorSupplier())
+              .addMethod(getGetFleetStatusMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
@@ -111,6 +111,130 @@ public final class HealthServiceGrpc {
     return getWatchHealthMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest,
+      com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport> getStreamLoadReportsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "StreamLoadReports",
+      requestType = com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest.class,
+      responseType = com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest,
+      com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport> getStreamLoadReportsMethod() {
+    io.grpc.MethodDescriptor<com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest, com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport> getStreamLoadReportsMethod;
+    if ((getStreamLoadReportsMethod = HealthServiceGrpc.getStreamLoadReportsMethod) == null) {
+      synchronized (HealthServiceGrpc.class) {
+        if ((getStreamLoadReportsMethod = HealthServiceGrpc.getStreamLoadReportsMethod) == null) {
+          HealthServiceGrpc.getStreamLoadReportsMethod = getStreamLoadReportsMethod =
+              io.grpc.MethodDescriptor.<com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest, com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "StreamLoadReports"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport.getDefaultInstance()))
+              .setSchemaDescriptor(new HealthServiceMethodDescriptorSupplier("StreamLoadReports"))
+              .build();
+        }
+      }
+    }
+    return getStreamLoadReportsMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest,
+      com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow> getSetMaintenanceMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "SetMaintenance",
+      requestType = com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest.class,
+      responseType = com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest,
+      com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow> getSetMaintenanceMethod() {
+    io.grpc.MethodDescriptor<com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest, com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow> getSetMaintenanceMethod;
+    if ((getSetMaintenanceMethod = HealthServiceGrpc.getSetMaintenanceMethod) == null) {
+      synchronized (HealthServiceGrpc.class) {
+        if ((getSetMaintenanceMethod = HealthServiceGrpc.getSetMaintenanceMethod) == null) {
+          HealthServiceGrpc.getSetMaintenanceMethod = getSetMaintenanceMethod =
+              io.grpc.MethodDescriptor.<com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest, com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "SetMaintenance"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow.getDefaultInstance()))
+              .setSchemaDescriptor(new HealthServiceMethodDescriptorSupplier("SetMaintenance"))
+              .build();
+        }
+      }
+    }
+    return getSetMaintenanceMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest,
+      com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList> getClearMaintenanceMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "ClearMaintenance",
+      requestType = com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest.class,
+      responseType = com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest,
+      com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList> getClearMaintenanceMethod() {
+    io.grpc.MethodDescriptor<com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest, com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList> getClearMaintenanceMethod;
+    if ((getClearMaintenanceMethod = HealthServiceGrpc.getClearMaintenanceMethod) == null) {
+      synchronized (HealthServiceGrpc.class) {
+        if ((getClearMaintenanceMethod = HealthServiceGrpc.getClearMaintenanceMethod) == null) {
+          HealthServiceGrpc.getClearMaintenanceMethod = getClearMaintenanceMethod =
+              io.grpc.MethodDescriptor.<com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest, com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "ClearMaintenance"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList.getDefaultInstance()))
+              .setSchemaDescriptor(new HealthServiceMethodDescriptorSupplier("ClearMaintenance"))
+              .build();
+        }
+      }
+    }
+    return getClearMaintenanceMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest,
+      com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList> getListMaintenanceMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "ListMaintenance",
+      requestType = com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest.class,
+      responseType = com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest,
+      com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList> getListMaintenanceMethod() {
+    io.grpc.MethodDescriptor<com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest, com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList> getListMaintenanceMethod;
+    if ((getListMaintenanceMethod = HealthServiceGrpc.getListMaintenanceMethod) == null) {
+      synchronized (HealthServiceGrpc.class) {
+        if ((getListMaintenanceMethod = HealthServiceGrpc.getListMaintenanceMethod) == null) {
+          HealthServiceGrpc.getListMaintenanceMethod = getListMaintenanceMethod =
+              io.grpc.MethodDescriptor.<com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest, com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "ListMaintenance"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList.getDefaultInstance()))
+              .setSchemaDescriptor(new HealthServiceMethodDescriptorSupplier("ListMaintenance"))
+              .build();
+        }
+      }
+    }
+    return getListMaintenanceMethod;
+  }
+
   /**
    * Creates a new async stub that supports all call types for the service
    */
@@ -191,6 +315,47 @@ public final class HealthServiceGrpc {
         io.grpc.stub.StreamObserver<com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse> responseObserver) {
       io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getWatchHealthMethod(), responseObserver);
     }
+
+    /**
+     * <pre>
+     * Out-of-band load reports for weighted load balancing (same data as the trailers on every RPC)
+     * </pre>
+     */
+    default void streamLoadReports(com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest request,
+        io.grpc.stub.StreamObserver<com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getStreamLoadReportsMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * Admin: schedule (or start now) a maintenance window for a component or the whole node.
+     * Requires the x-health-admin-token header to match the server's health.admin.token.
+     * </pre>
+     */
+    default void setMaintenance(com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest request,
+        io.grpc.stub.StreamObserver<com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getSetMaintenanceMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * Admin: end maintenance windows early (by id, or every window for a component)
+     * </pre>
+     */
+    default void clearMaintenance(com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest request,
+        io.grpc.stub.StreamObserver<com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getClearMaintenanceMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * Admin: list current and scheduled maintenance windows
+     * </pre>
+     */
+    default void listMaintenance(com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest request,
+        io.grpc.stub.StreamObserver<com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getListMaintenanceMethod(), responseObserver);
+    }
   }
 
   /**
@@ -258,6 +423,51 @@ public final class HealthServiceGrpc {
       io.grpc.stub.ClientCalls.asyncServerStreamingCall(
           getChannel().newCall(getWatchHealthMethod(), getCallOptions()), request, responseObserver);
     }
+
+    /**
+     * <pre>
+     * Out-of-band load reports for weighted load balancing (same data as the trailers on every RPC)
+     * </pre>
+     */
+    public void streamLoadReports(com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest request,
+        io.grpc.stub.StreamObserver<com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getStreamLoadReportsMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * Admin: schedule (or start now) a maintenance window for a component or the whole node.
+     * Requires the x-health-admin-token header to match the server's health.admin.token.
+     * </pre>
+     */
+    public void setMaintenance(com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest request,
+        io.grpc.stub.StreamObserver<com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getSetMaintenanceMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * Admin: end maintenance windows early (by id, or every window for a component)
+     * </pre>
+     */
+    public void clearMaintenance(com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest request,
+        io.grpc.stub.StreamObserver<com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getClearMaintenanceMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * Admin: list current and scheduled maintenance windows
+     * </pre>
+     */
+    public void listMaintenance(com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest request,
+        io.grpc.stub.StreamObserver<com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getListMaintenanceMethod(), getCallOptions()), request, responseObserver);
+    }
   }
 
   /**
@@ -309,6 +519,48 @@ public final class HealthServiceGrpc {
       return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
           getChannel(), getWatchHealthMethod(), getCallOptions(), request);
     }
+
+    /**
+     * <pre>
+     * Out-of-band load reports for weighted load balancing (same data as the trailers on every RPC)
+     * </pre>
+     */
+    public java.util.Iterator<com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport> streamLoadReports(
+        com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getStreamLoadReportsMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * Admin: schedule (or start now) a maintenance window for a component or the whole node.
+     * Requires the x-health-admin-token header to match the server's health.admin.token.
+     * </pre>
+     */
+    public com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow setMaintenance(com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getSetMaintenanceMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * Admin: end maintenance windows early (by id, or every window for a component)
+     * </pre>
+     */
+    public com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList clearMaintenance(com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getClearMaintenanceMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * Admin: list current and scheduled maintenance windows
+     * </pre>
+     */
+    public com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList listMaintenance(com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getListMaintenanceMethod(), getCallOptions(), request);
+    }
   }
 
   /**
@@ -351,11 +603,49 @@ public final class HealthServiceGrpc {
       return io.grpc.stub.ClientCalls.futureUnaryCall(
           getChannel().newCall(getCheckHealthMethod(), getCallOptions()), request);
     }
+
+    /**
+     * <pre>
+     * Admin: schedule (or start now) a maintenance window for a component or the whole node.
+     * Requires the x-health-admin-token header to match the server's health.admin.token.
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow> setMaintenance(
+        com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getSetMaintenanceMethod(), getCallOptions()), request);
+    }
+
+    /**
+     * <pre>
+     * Admin: end maintenance windows early (by id, or every window for a component)
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList> clearMaintenance(
+        com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getClearMaintenanceMethod(), getCallOptions()), request);
+    }
+
+    /**
+     * <pre>
+     * Admin: list current and scheduled maintenance windows
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList> listMaintenance(
+        com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getListMaintenanceMethod(), getCallOptions()), request);
+    }
   }
 
   private static final int METHODID_PING = 0;
   private static final int METHODID_CHECK_HEALTH = 1;
   private static final int METHODID_WATCH_HEALTH = 2;
+  private static final int METHODID_STREAM_LOAD_REPORTS = 3;
+  private static final int METHODID_SET_MAINTENANCE = 4;
+  private static final int METHODID_CLEAR_MAINTENANCE = 5;
+  private static final int METHODID_LIST_MAINTENANCE = 6;
 
   private static final class MethodHandlers<Req, Resp> implements
       io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
@@ -386,6 +676,22 @@ public final class HealthServiceGrpc {
           serviceImpl.watchHealth((com.shankarnarayanb.health.v1.HealthServiceProto.HealthWatchRequest) request,
               (io.grpc.stub.StreamObserver<com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse>) responseObserver);
           break;
+        case METHODID_STREAM_LOAD_REPORTS:
+          serviceImpl.streamLoadReports((com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest) request,
+              (io.grpc.stub.StreamObserver<com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport>) responseObserver);
+          break;
+        case METHODID_SET_MAINTENANCE:
+          serviceImpl.setMaintenance((com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest) request,
+              (io.grpc.stub.StreamObserver<com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow>) responseObserver);
+          break;
+        case METHODID_CLEAR_MAINTENANCE:
+          serviceImpl.clearMaintenance((com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest) request,
+              (io.grpc.stub.StreamObserver<com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList>) responseObserver);
+          break;
+        case METHODID_LIST_MAINTENANCE:
+          serviceImpl.listMaintenance((com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest) request,
+              (io.grpc.stub.StreamObserver<com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList>) responseObserver);
+          break;
         default:
           throw new AssertionError();
       }
@@ -425,6 +731,34 @@ public final class HealthServiceGrpc {
               com.shankarnarayanb.health.v1.HealthServiceProto.HealthWatchRequest,
               com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse>(
                 service, METHODID_WATCH_HEALTH)))
+        .addMethod(
+          getStreamLoadReportsMethod(),
+          io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+            new MethodHandlers<
+              com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest,
+              com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport>(
+                service, METHODID_STREAM_LOAD_REPORTS)))
+        .addMethod(
+          getSetMaintenanceMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest,
+              com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow>(
+                service, METHODID_SET_MAINTENANCE)))
+        .addMethod(
+          getClearMaintenanceMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest,
+              com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList>(
+                service, METHODID_CLEAR_MAINTENANCE)))
+        .addMethod(
+          getListMaintenanceMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest,
+              com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList>(
+                service, METHODID_LIST_MAINTENANCE)))
         .build();
   }
 
@@ -476,6 +810,10 @@ public final class HealthServiceGrpc {
               .addMethod(getPingMethod())
               .addMethod(getCheckHealthMethod())
               .addMethod(getWatchHealthMethod())
+              .addMethod(getStreamLoadReportsMethod())
+              .addMethod(getSetMaintenanceMethod())
+              .addMethod(getClearMaintenanceMethod())
+              .addMethod(getListMaintenanceMethod())
               .build();
         }
       }
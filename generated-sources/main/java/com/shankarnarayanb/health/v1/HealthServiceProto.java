@@ -1992,6 +1992,26 @@ public final class HealthServiceProto {
      * @return The intervalSeconds.
      */
     int getIntervalSeconds();
+
+    /**
+     * <pre>
+     * Last sequence number seen before reconnecting (0 = fresh watch)
+     * </pre>
+     *
+     * <code>int64 resume_after_sequence = 3;</code>
+     * @return The resumeAfterSequence.
+     */
+    long getResumeAfterSequence();
+
+    /**
+     * <pre>
+     * watch_epoch that resume_after_sequence belongs to
+     * </pre>
+     *
+     * <code>int64 resume_epoch = 4;</code>
+     * @return The resumeEpoch.
+     */
+    long getResumeEpoch();
   }
   /**
    * <pre>
@@ -2104,6 +2124,36 @@ public final class HealthServiceProto {
       return intervalSeconds_;
     }
 
+    public static final int RESUME_AFTER_SEQUENCE_FIELD_NUMBER = 3;
+    private long resumeAfterSequence_ = 0L;
+    /**
+     * <pre>
+     * Last sequence number seen before reconnecting (0 = fresh watch)
+     * </pre>
+     *
+     * <code>int64 resume_after_sequence = 3;</code>
+     * @return The resumeAfterSequence.
+     */
+    @java.lang.Override
+    public long getResumeAfterSequence() {
+      return resumeAfterSequence_;
+    }
+
+    public static final int RESUME_EPOCH_FIELD_NUMBER = 4;
+    private long resumeEpoch_ = 0L;
+    /**
+     * <pre>
+     * watch_epoch that resume_after_sequence belongs to
+     * </pre>
+     *
+     * <code>int64 resume_epoch = 4;</code>
+     * @return The resumeEpoch.
+     */
+    @java.lang.Override
+    public long getResumeEpoch() {
+      return resumeEpoch_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -2124,6 +2174,12 @@ public final class HealthServiceProto {
       if (intervalSeconds_ != 0) {
         output.writeInt32(2, intervalSeconds_);
       }
+      if (resumeAfterSequence_ != 0L) {
+        output.writeInt64(3, resumeAfterSequence_);
+      }
+      if (resumeEpoch_ != 0L) {
+        output.writeInt64(4, resumeEpoch_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -2145,6 +2201,14 @@ public final class HealthServiceProto {
         size += com.google.protobuf.CodedOutputStream
           .computeInt32Size(2, intervalSeconds_);
       }
+      if (resumeAfterSequence_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, resumeAfterSequence_);
+      }
+      if (resumeEpoch_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, resumeEpoch_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
@@ -2164,6 +2228,10 @@ public final class HealthServiceProto {
           .equals(other.getComponentsList())) return false;
       if (getIntervalSeconds()
           != other.getIntervalSeconds()) return false;
+      if (getResumeAfterSequence()
+          != other.getResumeAfterSequence()) return false;
+      if (getResumeEpoch()
+          != other.getResumeEpoch()) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -2181,6 +2249,12 @@ public final class HealthServiceProto {
       }
       hash = (37 * hash) + INTERVAL_SECONDS_FIELD_NUMBER;
       hash = (53 * hash) + getIntervalSeconds();
+      hash = (37 * hash) + RESUME_AFTER_SEQUENCE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getResumeAfterSequence());
+      hash = (37 * hash) + RESUME_EPOCH_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getResumeEpoch());
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -2319,6 +2393,8 @@ public final class HealthServiceProto {
         components_ =
             com.google.protobuf.LazyStringArrayList.emptyList();
         intervalSeconds_ = 0;
+        resumeAfterSequence_ = 0L;
+        resumeEpoch_ = 0L;
         return this;
       }
 
@@ -2359,6 +2435,12 @@ public final class HealthServiceProto {
         if (((from_bitField0_ & 0x00000002) != 0)) {
           result.intervalSeconds_ = intervalSeconds_;
         }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.resumeAfterSequence_ = resumeAfterSequence_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.resumeEpoch_ = resumeEpoch_;
+        }
       }
 
       @java.lang.Override
@@ -2386,6 +2468,12 @@ public final class HealthServiceProto {
         if (other.getIntervalSeconds() != 0) {
           setIntervalSeconds(other.getIntervalSeconds());
         }
+        if (other.getResumeAfterSequence() != 0L) {
+          setResumeAfterSequence(other.getResumeAfterSequence());
+        }
+        if (other.getResumeEpoch() != 0L) {
+          setResumeEpoch(other.getResumeEpoch());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
@@ -2423,6 +2511,16 @@ public final class HealthServiceProto {
                 bitField0_ |= 0x00000002;
                 break;
               } // case 16
+              case 24: {
+                resumeAfterSequence_ = input.readInt64();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 32: {
+                resumeEpoch_ = input.readInt64();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -2631,6 +2729,94 @@ public final class HealthServiceProto {
         return this;
       }
 
+      private long resumeAfterSequence_ ;
+      /**
+       * <pre>
+       * Last sequence number seen before reconnecting (0 = fresh watch)
+       * </pre>
+       *
+       * <code>int64 resume_after_sequence = 3;</code>
+       * @return The resumeAfterSequence.
+       */
+      @java.lang.Override
+      public long getResumeAfterSequence() {
+        return resumeAfterSequence_;
+      }
+      /**
+       * <pre>
+       * Last sequence number seen before reconnecting (0 = fresh watch)
+       * </pre>
+       *
+       * <code>int64 resume_after_sequence = 3;</code>
+       * @param value The resumeAfterSequence to set.
+       * @return This builder for chaining.
+       */
+      public Builder setResumeAfterSequence(long value) {
+
+        resumeAfterSequence_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Last sequence number seen before reconnecting (0 = fresh watch)
+       * </pre>
+       *
+       * <code>int64 resume_after_sequence = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearResumeAfterSequence() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        resumeAfterSequence_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long resumeEpoch_ ;
+      /**
+       * <pre>
+       * watch_epoch that resume_after_sequence belongs to
+       * </pre>
+       *
+       * <code>int64 resume_epoch = 4;</code>
+       * @return The resumeEpoch.
+       */
+      @java.lang.Override
+      public long getResumeEpoch() {
+        return resumeEpoch_;
+      }
+      /**
+       * <pre>
+       * watch_epoch that resume_after_sequence belongs to
+       * </pre>
+       *
+       * <code>int64 resume_epoch = 4;</code>
+       * @param value The resumeEpoch to set.
+       * @return This builder for chaining.
+       */
+      public Builder setResumeEpoch(long value) {
+
+        resumeEpoch_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * watch_epoch that resume_after_sequence belongs to
+       * </pre>
+       *
+       * <code>int64 resume_epoch = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearResumeEpoch() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        resumeEpoch_ = 0L;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:health.v1.HealthWatchRequest)
     }
 
@@ -2852,6 +3038,63 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue);
      */
     com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetailsOrBuilder getErrorDetailsOrBuilder();
 
+    /**
+     * <pre>
+     * Monotonically increasing per watch group (0 for unary CheckHealth)
+     * </pre>
+     *
+     * <code>int64 sequence_number = 8;</code>
+     * @return The sequenceNumber.
+     */
+    long getSequenceNumber();
+
+    /**
+     * <pre>
+     * 0-100 for the node: weighted component scores, 0 when UNHEALTHY or in maintenance
+     * </pre>
+     *
+     * <code>double health_score = 9;</code>
+     * @return The healthScore.
+     */
+    double getHealthScore();
+
+    /**
+     * <pre>
+     * How often the node's overall status was not UNHEALTHY or MAINTENANCE
+     * </pre>
+     *
+     * <code>.health.v1.Availability availability = 10;</code>
+     * @return Whether the availability field is set.
+     */
+    boolean hasAvailability();
+    /**
+     * <pre>
+     * How often the node's overall status was not UNHEALTHY or MAINTENANCE
+     * </pre>
+     *
+     * <code>.health.v1.Availability availability = 10;</code>
+     * @return The availability.
+     */
+    com.shankarnarayanb.health.v1.HealthServiceProto.Availability getAvailability();
+    /**
+     * <pre>
+     * How often the node's overall status was not UNHEALTHY or MAINTENANCE
+     * </pre>
+     *
+     * <code>.health.v1.Availability availability = 10;</code>
+     */
+    com.shankarnarayanb.health.v1.HealthServiceProto.AvailabilityOrBuilder getAvailabilityOrBuilder();
+
+    /**
+     * <pre>
+     * Identifies the watch group that numbered sequence_number; numbers from
+     * </pre>
+     *
+     * <code>int64 watch_epoch = 11;</code>
+     * @return The watchEpoch.
+     */
+    long getWatchEpoch();
+
     com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse.AdditionalInfoCase getAdditionalInfoCase();
   }
   /**
@@ -3099,6 +3342,7 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue);
       // @@protoc_insertion_point(enum_scope:health.v1.HealthCheckResponse.ServiceStatus)
     }
 
+    private int bitField0_;
     private int additionalInfoCase_ = 0;
     @SuppressWarnings("serial")
     private java.lang.Object additionalInfo_;
@@ -3431,6 +3675,89 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
       return com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails.getDefaultInstance();
     }
 
+    public static final int SEQUENCE_NUMBER_FIELD_NUMBER = 8;
+    private long sequenceNumber_ = 0L;
+    /**
+     * <pre>
+     * Monotonically increasing per watch group (0 for unary CheckHealth)
+     * </pre>
+     *
+     * <code>int64 sequence_number = 8;</code>
+     * @return The sequenceNumber.
+     */
+    @java.lang.Override
+    public long getSequenceNumber() {
+      return sequenceNumber_;
+    }
+
+    public static final int HEALTH_SCORE_FIELD_NUMBER = 9;
+    private double healthScore_ = 0D;
+    /**
+     * <pre>
+     * 0-100 for the node: weighted component scores, 0 when UNHEALTHY or in maintenance
+     * </pre>
+     *
+     * <code>double health_score = 9;</code>
+     * @return The healthScore.
+     */
+    @java.lang.Override
+    public double getHealthScore() {
+      return healthScore_;
+    }
+
+    public static final int AVAILABILITY_FIELD_NUMBER = 10;
+    private com.shankarnarayanb.health.v1.HealthServiceProto.Availability availability_;
+    /**
+     * <pre>
+     * How often the node's overall status was not UNHEALTHY or MAINTENANCE
+     * </pre>
+     *
+     * <code>.health.v1.Availability availability = 10;</code>
+     * @return Whether the availability field is set.
+     */
+    @java.lang.Override
+    public boolean hasAvailability() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <pre>
+     * How often the node's overall status was not UNHEALTHY or MAINTENANCE
+     * </pre>
+     *
+     * <code>.health.v1.Availability availability = 10;</code>
+     * @return The availability.
+     */
+    @java.lang.Override
+    public com.shankarnarayanb.health.v1.HealthServiceProto.Availability getAvailability() {
+      return availability_ == null ? com.shankarnarayanb.health.v1.HealthServiceProto.Availability.getDefaultInstance() : availability_;
+    }
+    /**
+     * <pre>
+     * How often the node's overall status was not UNHEALTHY or MAINTENANCE
+     * </pre>
+     *
+     * <code>.health.v1.Availability availability = 10;</code>
+     */
+    @java.lang.Override
+    public com.shankarnarayanb.health.v1.HealthServiceProto.AvailabilityOrBuilder getAvailabilityOrBuilder() {
+      return availability_ == null ? com.shankarnarayanb.health.v1.HealthServiceProto.Availability.getDefaultInstance() : availability_;
+    }
+
+    public static final int WATCH_EPOCH_FIELD_NUMBER = 11;
+    private long watchEpoch_ = 0L;
+    /**
+     * <pre>
+     * Identifies the watch group that numbered sequence_number; numbers from
+     * </pre>
+     *
+     * <code>int64 watch_epoch = 11;</code>
+     * @return The watchEpoch.
+     */
+    @java.lang.Override
+    public long getWatchEpoch() {
+      return watchEpoch_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -3469,6 +3796,18 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
       if (additionalInfoCase_ == 7) {
         output.writeMessage(7, (com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails) additionalInfo_);
       }
+      if (sequenceNumber_ != 0L) {
+        output.writeInt64(8, sequenceNumber_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(healthScore_) != 0) {
+        output.writeDouble(9, healthScore_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeMessage(10, getAvailability());
+      }
+      if (watchEpoch_ != 0L) {
+        output.writeInt64(11, watchEpoch_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -3515,6 +3854,22 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(7, (com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails) additionalInfo_);
       }
+      if (sequenceNumber_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(8, sequenceNumber_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(healthScore_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(9, healthScore_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(10, getAvailability());
+      }
+      if (watchEpoch_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(11, watchEpoch_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
@@ -3539,6 +3894,18 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
           .equals(other.getErrorMessage())) return false;
       if (!getWarningsList()
           .equals(other.getWarningsList())) return false;
+      if (getSequenceNumber()
+          != other.getSequenceNumber()) return false;
+      if (java.lang.Double.doubleToLongBits(getHealthScore())
+          != java.lang.Double.doubleToLongBits(
+              other.getHealthScore())) return false;
+      if (hasAvailability() != other.hasAvailability()) return false;
+      if (hasAvailability()) {
+        if (!getAvailability()
+            .equals(other.getAvailability())) return false;
+      }
+      if (getWatchEpoch()
+          != other.getWatchEpoch()) return false;
       if (!getAdditionalInfoCase().equals(other.getAdditionalInfoCase())) return false;
       switch (additionalInfoCase_) {
         case 6:
@@ -3578,6 +3945,19 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
         hash = (37 * hash) + WARNINGS_FIELD_NUMBER;
         hash = (53 * hash) + getWarningsList().hashCode();
       }
+      hash = (37 * hash) + SEQUENCE_NUMBER_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSequenceNumber());
+      hash = (37 * hash) + HEALTH_SCORE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getHealthScore()));
+      if (hasAvailability()) {
+        hash = (37 * hash) + AVAILABILITY_FIELD_NUMBER;
+        hash = (53 * hash) + getAvailability().hashCode();
+      }
+      hash = (37 * hash) + WATCH_EPOCH_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getWatchEpoch());
       switch (additionalInfoCase_) {
         case 6:
           hash = (37 * hash) + MAINTENANCE_INFO_FIELD_NUMBER;
@@ -3735,13 +4115,19 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
 
       // Construct using com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse.newBuilder()
       private Builder() {
-
+        maybeForceBuilderInitialization();
       }
 
       private Builder(
           com.google.protobuf.GeneratedMessage.BuilderParent parent) {
         super(parent);
-
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage
+                .alwaysUseFieldBuilders) {
+          internalGetAvailabilityFieldBuilder();
+        }
       }
       @java.lang.Override
       public Builder clear() {
@@ -3759,6 +4145,14 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
         if (errorDetailsBuilder_ != null) {
           errorDetailsBuilder_.clear();
         }
+        sequenceNumber_ = 0L;
+        healthScore_ = 0D;
+        availability_ = null;
+        if (availabilityBuilder_ != null) {
+          availabilityBuilder_.dispose();
+          availabilityBuilder_ = null;
+        }
+        watchEpoch_ = 0L;
         additionalInfoCase_ = 0;
         additionalInfo_ = null;
         return this;
@@ -3811,6 +4205,23 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
           warnings_.makeImmutable();
           result.warnings_ = warnings_;
         }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.sequenceNumber_ = sequenceNumber_;
+        }
+        if (((from_bitField0_ & 0x00000100) != 0)) {
+          result.healthScore_ = healthScore_;
+        }
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000200) != 0)) {
+          result.availability_ = availabilityBuilder_ == null
+              ? availability_
+              : availabilityBuilder_.build();
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000400) != 0)) {
+          result.watchEpoch_ = watchEpoch_;
+        }
+        result.bitField0_ |= to_bitField0_;
       }
 
       private void buildPartialOneofs(com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse result) {
@@ -3862,6 +4273,18 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
           }
           onChanged();
         }
+        if (other.getSequenceNumber() != 0L) {
+          setSequenceNumber(other.getSequenceNumber());
+        }
+        if (java.lang.Double.doubleToRawLongBits(other.getHealthScore()) != 0) {
+          setHealthScore(other.getHealthScore());
+        }
+        if (other.hasAvailability()) {
+          mergeAvailability(other.getAvailability());
+        }
+        if (other.getWatchEpoch() != 0L) {
+          setWatchEpoch(other.getWatchEpoch());
+        }
         switch (other.getAdditionalInfoCase()) {
           case MAINTENANCE_INFO: {
             mergeMaintenanceInfo(other.getMaintenanceInfo());
@@ -3945,6 +4368,28 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
                 additionalInfoCase_ = 7;
                 break;
               } // case 58
+              case 64: {
+                sequenceNumber_ = input.readInt64();
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 64
+              case 73: {
+                healthScore_ = input.readDouble();
+                bitField0_ |= 0x00000100;
+                break;
+              } // case 73
+              case 82: {
+                input.readMessage(
+                    internalGetAvailabilityFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000200;
+                break;
+              } // case 82
+              case 88: {
+                watchEpoch_ = input.readInt64();
+                bitField0_ |= 0x00000400;
+                break;
+              } // case 88
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -4782,28 +5227,317 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
         return errorDetailsBuilder_;
       }
 
-      // @@protoc_insertion_point(builder_scope:health.v1.HealthCheckResponse)
-    }
-
-    // @@protoc_insertion_point(class_scope:health.v1.HealthCheckResponse)
-    private static final com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse();
-    }
-
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    private static final com.google.protobuf.Parser<HealthCheckResponse>
-        PARSER = new com.google.protobuf.AbstractParser<HealthCheckResponse>() {
+      private long sequenceNumber_ ;
+      /**
+       * <pre>
+       * Monotonically increasing per watch group (0 for unary CheckHealth)
+       * </pre>
+       *
+       * <code>int64 sequence_number = 8;</code>
+       * @return The sequenceNumber.
+       */
       @java.lang.Override
-      public HealthCheckResponse parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        Builder builder = newBuilder();
-        try {
+      public long getSequenceNumber() {
+        return sequenceNumber_;
+      }
+      /**
+       * <pre>
+       * Monotonically increasing per watch group (0 for unary CheckHealth)
+       * </pre>
+       *
+       * <code>int64 sequence_number = 8;</code>
+       * @param value The sequenceNumber to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSequenceNumber(long value) {
+
+        sequenceNumber_ = value;
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Monotonically increasing per watch group (0 for unary CheckHealth)
+       * </pre>
+       *
+       * <code>int64 sequence_number = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSequenceNumber() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        sequenceNumber_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private double healthScore_ ;
+      /**
+       * <pre>
+       * 0-100 for the node: weighted component scores, 0 when UNHEALTHY or in maintenance
+       * </pre>
+       *
+       * <code>double health_score = 9;</code>
+       * @return The healthScore.
+       */
+      @java.lang.Override
+      public double getHealthScore() {
+        return healthScore_;
+      }
+      /**
+       * <pre>
+       * 0-100 for the node: weighted component scores, 0 when UNHEALTHY or in maintenance
+       * </pre>
+       *
+       * <code>double health_score = 9;</code>
+       * @param value The healthScore to set.
+       * @return This builder for chaining.
+       */
+      public Builder setHealthScore(double value) {
+
+        healthScore_ = value;
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 0-100 for the node: weighted component scores, 0 when UNHEALTHY or in maintenance
+       * </pre>
+       *
+       * <code>double health_score = 9;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearHealthScore() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        healthScore_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private com.shankarnarayanb.health.v1.HealthServiceProto.Availability availability_;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shankarnarayanb.health.v1.HealthServiceProto.Availability, com.shankarnarayanb.health.v1.HealthServiceProto.Availability.Builder, com.shankarnarayanb.health.v1.HealthServiceProto.AvailabilityOrBuilder> availabilityBuilder_;
+      /**
+       * <pre>
+       * How often the node's overall status was not UNHEALTHY or MAINTENANCE
+       * </pre>
+       *
+       * <code>.health.v1.Availability availability = 10;</code>
+       * @return Whether the availability field is set.
+       */
+      public boolean hasAvailability() {
+        return ((bitField0_ & 0x00000200) != 0);
+      }
+      /**
+       * <pre>
+       * How often the node's overall status was not UNHEALTHY or MAINTENANCE
+       * </pre>
+       *
+       * <code>.health.v1.Availability availability = 10;</code>
+       * @return The availability.
+       */
+      public com.shankarnarayanb.health.v1.HealthServiceProto.Availability getAvailability() {
+        if (availabilityBuilder_ == null) {
+          return availability_ == null ? com.shankarnarayanb.health.v1.HealthServiceProto.Availability.getDefaultInstance() : availability_;
+        } else {
+          return availabilityBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * How often the node's overall status was not UNHEALTHY or MAINTENANCE
+       * </pre>
+       *
+       * <code>.health.v1.Availability availability = 10;</code>
+       */
+      public Builder setAvailability(com.shankarnarayanb.health.v1.HealthServiceProto.Availability value) {
+        if (availabilityBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          availability_ = value;
+        } else {
+          availabilityBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000200;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * How often the node's overall status was not UNHEALTHY or MAINTENANCE
+       * </pre>
+       *
+       * <code>.health.v1.Availability availability = 10;</code>
+       */
+      public Builder setAvailability(
+          com.shankarnarayanb.health.v1.HealthServiceProto.Availability.Builder builderForValue) {
+        if (availabilityBuilder_ == null) {
+          availability_ = builderForValue.build();
+        } else {
+          availabilityBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000200;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * How often the node's overall status was not UNHEALTHY or MAINTENANCE
+       * </pre>
+       *
+       * <code>.health.v1.Availability availability = 10;</code>
+       */
+      public Builder mergeAvailability(com.shankarnarayanb.health.v1.HealthServiceProto.Availability value) {
+        if (availabilityBuilder_ == null) {
+          if (((bitField0_ & 0x00000200) != 0) &&
+            availability_ != null &&
+            availability_ != com.shankarnarayanb.health.v1.HealthServiceProto.Availability.getDefaultInstance()) {
+            getAvailabilityBuilder().mergeFrom(value);
+          } else {
+            availability_ = value;
+          }
+        } else {
+          availabilityBuilder_.mergeFrom(value);
+        }
+        if (availability_ != null) {
+          bitField0_ |= 0x00000200;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * How often the node's overall status was not UNHEALTHY or MAINTENANCE
+       * </pre>
+       *
+       * <code>.health.v1.Availability availability = 10;</code>
+       */
+      public Builder clearAvailability() {
+        bitField0_ = (bitField0_ & ~0x00000200);
+        availability_ = null;
+        if (availabilityBuilder_ != null) {
+          availabilityBuilder_.dispose();
+          availabilityBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * How often the node's overall status was not UNHEALTHY or MAINTENANCE
+       * </pre>
+       *
+       * <code>.health.v1.Availability availability = 10;</code>
+       */
+      public com.shankarnarayanb.health.v1.HealthServiceProto.Availability.Builder getAvailabilityBuilder() {
+        bitField0_ |= 0x00000200;
+        onChanged();
+        return internalGetAvailabilityFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * How often the node's overall status was not UNHEALTHY or MAINTENANCE
+       * </pre>
+       *
+       * <code>.health.v1.Availability availability = 10;</code>
+       */
+      public com.shankarnarayanb.health.v1.HealthServiceProto.AvailabilityOrBuilder getAvailabilityOrBuilder() {
+        if (availabilityBuilder_ != null) {
+          return availabilityBuilder_.getMessageOrBuilder();
+        } else {
+          return availability_ == null ?
+              com.shankarnarayanb.health.v1.HealthServiceProto.Availability.getDefaultInstance() : availability_;
+        }
+      }
+      /**
+       * <pre>
+       * How often the node's overall status was not UNHEALTHY or MAINTENANCE
+       * </pre>
+       *
+       * <code>.health.v1.Availability availability = 10;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shankarnarayanb.health.v1.HealthServiceProto.Availability, com.shankarnarayanb.health.v1.HealthServiceProto.Availability.Builder, com.shankarnarayanb.health.v1.HealthServiceProto.AvailabilityOrBuilder> 
+          internalGetAvailabilityFieldBuilder() {
+        if (availabilityBuilder_ == null) {
+          availabilityBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.shankarnarayanb.health.v1.HealthServiceProto.Availability, com.shankarnarayanb.health.v1.HealthServiceProto.Availability.Builder, com.shankarnarayanb.health.v1.HealthServiceProto.AvailabilityOrBuilder>(
+                  getAvailability(),
+                  getParentForChildren(),
+                  isClean());
+          availability_ = null;
+        }
+        return availabilityBuilder_;
+      }
+
+      private long watchEpoch_ ;
+      /**
+       * <pre>
+       * Identifies the watch group that numbered sequence_number; numbers from
+       * </pre>
+       *
+       * <code>int64 watch_epoch = 11;</code>
+       * @return The watchEpoch.
+       */
+      @java.lang.Override
+      public long getWatchEpoch() {
+        return watchEpoch_;
+      }
+      /**
+       * <pre>
+       * Identifies the watch group that numbered sequence_number; numbers from
+       * </pre>
+       *
+       * <code>int64 watch_epoch = 11;</code>
+       * @param value The watchEpoch to set.
+       * @return This builder for chaining.
+       */
+      public Builder setWatchEpoch(long value) {
+
+        watchEpoch_ = value;
+        bitField0_ |= 0x00000400;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Identifies the watch group that numbered sequence_number; numbers from
+       * </pre>
+       *
+       * <code>int64 watch_epoch = 11;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearWatchEpoch() {
+        bitField0_ = (bitField0_ & ~0x00000400);
+        watchEpoch_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:health.v1.HealthCheckResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:health.v1.HealthCheckResponse)
+    private static final com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse();
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<HealthCheckResponse>
+        PARSER = new com.google.protobuf.AbstractParser<HealthCheckResponse>() {
+      @java.lang.Override
+      public HealthCheckResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
           builder.mergeFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
           throw e.setUnfinishedMessage(builder.buildPartial());
@@ -4959,6 +5693,43 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
      */
     com.google.protobuf.ByteString
         getLastCheckInfoBytes();
+
+    /**
+     * <pre>
+     * 0-100 from recent success rate and latency; 0 while unavailable
+     * </pre>
+     *
+     * <code>double health_score = 7;</code>
+     * @return The healthScore.
+     */
+    double getHealthScore();
+
+    /**
+     * <pre>
+     * How often recent checks found the component available
+     * </pre>
+     *
+     * <code>.health.v1.Availability availability = 8;</code>
+     * @return Whether the availability field is set.
+     */
+    boolean hasAvailability();
+    /**
+     * <pre>
+     * How often recent checks found the component available
+     * </pre>
+     *
+     * <code>.health.v1.Availability availability = 8;</code>
+     * @return The availability.
+     */
+    com.shankarnarayanb.health.v1.HealthServiceProto.Availability getAvailability();
+    /**
+     * <pre>
+     * How often recent checks found the component available
+     * </pre>
+     *
+     * <code>.health.v1.Availability availability = 8;</code>
+     */
+    com.shankarnarayanb.health.v1.HealthServiceProto.AvailabilityOrBuilder getAvailabilityOrBuilder();
   }
   /**
    * <pre>
@@ -5217,6 +5988,59 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
       }
     }
 
+    public static final int HEALTH_SCORE_FIELD_NUMBER = 7;
+    private double healthScore_ = 0D;
+    /**
+     * <pre>
+     * 0-100 from recent success rate and latency; 0 while unavailable
+     * </pre>
+     *
+     * <code>double health_score = 7;</code>
+     * @return The healthScore.
+     */
+    @java.lang.Override
+    public double getHealthScore() {
+      return healthScore_;
+    }
+
+    public static final int AVAILABILITY_FIELD_NUMBER = 8;
+    private com.shankarnarayanb.health.v1.HealthServiceProto.Availability availability_;
+    /**
+     * <pre>
+     * How often recent checks found the component available
+     * </pre>
+     *
+     * <code>.health.v1.Availability availability = 8;</code>
+     * @return Whether the availability field is set.
+     */
+    @java.lang.Override
+    public boolean hasAvailability() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <pre>
+     * How often recent checks found the component available
+     * </pre>
+     *
+     * <code>.health.v1.Availability availability = 8;</code>
+     * @return The availability.
+     */
+    @java.lang.Override
+    public com.shankarnarayanb.health.v1.HealthServiceProto.Availability getAvailability() {
+      return availability_ == null ? com.shankarnarayanb.health.v1.HealthServiceProto.Availability.getDefaultInstance() : availability_;
+    }
+    /**
+     * <pre>
+     * How often recent checks found the component available
+     * </pre>
+     *
+     * <code>.health.v1.Availability availability = 8;</code>
+     */
+    @java.lang.Override
+    public com.shankarnarayanb.health.v1.HealthServiceProto.AvailabilityOrBuilder getAvailabilityOrBuilder() {
+      return availability_ == null ? com.shankarnarayanb.health.v1.HealthServiceProto.Availability.getDefaultInstance() : availability_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -5249,6 +6073,12 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
       if (((bitField0_ & 0x00000001) != 0)) {
         com.google.protobuf.GeneratedMessage.writeString(output, 6, lastCheckInfo_);
       }
+      if (java.lang.Double.doubleToRawLongBits(healthScore_) != 0) {
+        output.writeDouble(7, healthScore_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeMessage(8, getAvailability());
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -5280,6 +6110,14 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
       if (((bitField0_ & 0x00000001) != 0)) {
         size += com.google.protobuf.GeneratedMessage.computeStringSize(6, lastCheckInfo_);
       }
+      if (java.lang.Double.doubleToRawLongBits(healthScore_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(7, healthScore_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(8, getAvailability());
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
@@ -5310,6 +6148,14 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
         if (!getLastCheckInfo()
             .equals(other.getLastCheckInfo())) return false;
       }
+      if (java.lang.Double.doubleToLongBits(getHealthScore())
+          != java.lang.Double.doubleToLongBits(
+              other.getHealthScore())) return false;
+      if (hasAvailability() != other.hasAvailability()) return false;
+      if (hasAvailability()) {
+        if (!getAvailability()
+            .equals(other.getAvailability())) return false;
+      }
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -5340,6 +6186,13 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
         hash = (37 * hash) + LAST_CHECK_INFO_FIELD_NUMBER;
         hash = (53 * hash) + getLastCheckInfo().hashCode();
       }
+      hash = (37 * hash) + HEALTH_SCORE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getHealthScore()));
+      if (hasAvailability()) {
+        hash = (37 * hash) + AVAILABILITY_FIELD_NUMBER;
+        hash = (53 * hash) + getAvailability().hashCode();
+      }
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -5463,13 +6316,20 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
 
       // Construct using com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth.newBuilder()
       private Builder() {
-
+        maybeForceBuilderInitialization();
       }
 
       private Builder(
           com.google.protobuf.GeneratedMessage.BuilderParent parent) {
         super(parent);
-
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage
+                .alwaysUseFieldBuilders) {
+          internalGetDependenciesFieldBuilder();
+          internalGetAvailabilityFieldBuilder();
+        }
       }
       @java.lang.Override
       public Builder clear() {
@@ -5487,6 +6347,12 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
         }
         bitField0_ = (bitField0_ & ~0x00000010);
         lastCheckInfo_ = "";
+        healthScore_ = 0D;
+        availability_ = null;
+        if (availabilityBuilder_ != null) {
+          availabilityBuilder_.dispose();
+          availabilityBuilder_ = null;
+        }
         return this;
       }
 
@@ -5550,6 +6416,15 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
           result.lastCheckInfo_ = lastCheckInfo_;
           to_bitField0_ |= 0x00000001;
         }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.healthScore_ = healthScore_;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.availability_ = availabilityBuilder_ == null
+              ? availability_
+              : availabilityBuilder_.build();
+          to_bitField0_ |= 0x00000002;
+        }
         result.bitField0_ |= to_bitField0_;
       }
 
@@ -5610,6 +6485,12 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
           bitField0_ |= 0x00000020;
           onChanged();
         }
+        if (java.lang.Double.doubleToRawLongBits(other.getHealthScore()) != 0) {
+          setHealthScore(other.getHealthScore());
+        }
+        if (other.hasAvailability()) {
+          mergeAvailability(other.getAvailability());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
@@ -5674,9 +6555,21 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
                 bitField0_ |= 0x00000020;
                 break;
               } // case 50
-              default: {
-                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                  done = true; // was an endgroup tag
+              case 57: {
+                healthScore_ = input.readDouble();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 57
+              case 66: {
+                input.readMessage(
+                    internalGetAvailabilityFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 66
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
                 }
                 break;
               } // default:
@@ -6330,6 +7223,207 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
         return this;
       }
 
+      private double healthScore_ ;
+      /**
+       * <pre>
+       * 0-100 from recent success rate and latency; 0 while unavailable
+       * </pre>
+       *
+       * <code>double health_score = 7;</code>
+       * @return The healthScore.
+       */
+      @java.lang.Override
+      public double getHealthScore() {
+        return healthScore_;
+      }
+      /**
+       * <pre>
+       * 0-100 from recent success rate and latency; 0 while unavailable
+       * </pre>
+       *
+       * <code>double health_score = 7;</code>
+       * @param value The healthScore to set.
+       * @return This builder for chaining.
+       */
+      public Builder setHealthScore(double value) {
+
+        healthScore_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 0-100 from recent success rate and latency; 0 while unavailable
+       * </pre>
+       *
+       * <code>double health_score = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearHealthScore() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        healthScore_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private com.shankarnarayanb.health.v1.HealthServiceProto.Availability availability_;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shankarnarayanb.health.v1.HealthServiceProto.Availability, com.shankarnarayanb.health.v1.HealthServiceProto.Availability.Builder, com.shankarnarayanb.health.v1.HealthServiceProto.AvailabilityOrBuilder> availabilityBuilder_;
+      /**
+       * <pre>
+       * How often recent checks found the component available
+       * </pre>
+       *
+       * <code>.health.v1.Availability availability = 8;</code>
+       * @return Whether the availability field is set.
+       */
+      public boolean hasAvailability() {
+        return ((bitField0_ & 0x00000080) != 0);
+      }
+      /**
+       * <pre>
+       * How often recent checks found the component available
+       * </pre>
+       *
+       * <code>.health.v1.Availability availability = 8;</code>
+       * @return The availability.
+       */
+      public com.shankarnarayanb.health.v1.HealthServiceProto.Availability getAvailability() {
+        if (availabilityBuilder_ == null) {
+          return availability_ == null ? com.shankarnarayanb.health.v1.HealthServiceProto.Availability.getDefaultInstance() : availability_;
+        } else {
+          return availabilityBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * How often recent checks found the component available
+       * </pre>
+       *
+       * <code>.health.v1.Availability availability = 8;</code>
+       */
+      public Builder setAvailability(com.shankarnarayanb.health.v1.HealthServiceProto.Availability value) {
+        if (availabilityBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          availability_ = value;
+        } else {
+          availabilityBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * How often recent checks found the component available
+       * </pre>
+       *
+       * <code>.health.v1.Availability availability = 8;</code>
+       */
+      public Builder setAvailability(
+          com.shankarnarayanb.health.v1.HealthServiceProto.Availability.Builder builderForValue) {
+        if (availabilityBuilder_ == null) {
+          availability_ = builderForValue.build();
+        } else {
+          availabilityBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * How often recent checks found the component available
+       * </pre>
+       *
+       * <code>.health.v1.Availability availability = 8;</code>
+       */
+      public Builder mergeAvailability(com.shankarnarayanb.health.v1.HealthServiceProto.Availability value) {
+        if (availabilityBuilder_ == null) {
+          if (((bitField0_ & 0x00000080) != 0) &&
+            availability_ != null &&
+            availability_ != com.shankarnarayanb.health.v1.HealthServiceProto.Availability.getDefaultInstance()) {
+            getAvailabilityBuilder().mergeFrom(value);
+          } else {
+            availability_ = value;
+          }
+        } else {
+          availabilityBuilder_.mergeFrom(value);
+        }
+        if (availability_ != null) {
+          bitField0_ |= 0x00000080;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * How often recent checks found the component available
+       * </pre>
+       *
+       * <code>.health.v1.Availability availability = 8;</code>
+       */
+      public Builder clearAvailability() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        availability_ = null;
+        if (availabilityBuilder_ != null) {
+          availabilityBuilder_.dispose();
+          availabilityBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * How often recent checks found the component available
+       * </pre>
+       *
+       * <code>.health.v1.Availability availability = 8;</code>
+       */
+      public com.shankarnarayanb.health.v1.HealthServiceProto.Availability.Builder getAvailabilityBuilder() {
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return internalGetAvailabilityFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * How often recent checks found the component available
+       * </pre>
+       *
+       * <code>.health.v1.Availability availability = 8;</code>
+       */
+      public com.shankarnarayanb.health.v1.HealthServiceProto.AvailabilityOrBuilder getAvailabilityOrBuilder() {
+        if (availabilityBuilder_ != null) {
+          return availabilityBuilder_.getMessageOrBuilder();
+        } else {
+          return availability_ == null ?
+              com.shankarnarayanb.health.v1.HealthServiceProto.Availability.getDefaultInstance() : availability_;
+        }
+      }
+      /**
+       * <pre>
+       * How often recent checks found the component available
+       * </pre>
+       *
+       * <code>.health.v1.Availability availability = 8;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shankarnarayanb.health.v1.HealthServiceProto.Availability, com.shankarnarayanb.health.v1.HealthServiceProto.Availability.Builder, com.shankarnarayanb.health.v1.HealthServiceProto.AvailabilityOrBuilder> 
+          internalGetAvailabilityFieldBuilder() {
+        if (availabilityBuilder_ == null) {
+          availabilityBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.shankarnarayanb.health.v1.HealthServiceProto.Availability, com.shankarnarayanb.health.v1.HealthServiceProto.Availability.Builder, com.shankarnarayanb.health.v1.HealthServiceProto.AvailabilityOrBuilder>(
+                  getAvailability(),
+                  getParentForChildren(),
+                  isClean());
+          availability_ = null;
+        }
+        return availabilityBuilder_;
+      }
+
       // @@protoc_insertion_point(builder_scope:health.v1.ComponentHealth)
     }
 
@@ -6381,101 +7475,39 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
 
   }
 
-  public interface DependentComponentOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:health.v1.DependentComponent)
+  public interface AvailabilityOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:health.v1.Availability)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <pre>
-     * Dependency identifier (e.g., "payment-service")
-     * </pre>
-     *
-     * <code>string name = 1;</code>
-     * @return The name.
-     */
-    java.lang.String getName();
-    /**
-     * <pre>
-     * Dependency identifier (e.g., "payment-service")
-     * </pre>
-     *
-     * <code>string name = 1;</code>
-     * @return The bytes for name.
-     */
-    com.google.protobuf.ByteString
-        getNameBytes();
-
-    /**
-     * <pre>
-     * Dependency is reachable
-     * </pre>
-     *
-     * <code>bool available = 2;</code>
-     * @return The available.
-     */
-    boolean getAvailable();
-
-    /**
-     * <pre>
-     * Error information if unavailable
-     * </pre>
-     *
-     * <code>string error_details = 3;</code>
-     * @return The errorDetails.
-     */
-    java.lang.String getErrorDetails();
-    /**
-     * <pre>
-     * Error information if unavailable
-     * </pre>
-     *
-     * <code>string error_details = 3;</code>
-     * @return The bytes for errorDetails.
+     * <code>double last_1m = 1;</code>
+     * @return The last1m.
      */
-    com.google.protobuf.ByteString
-        getErrorDetailsBytes();
+    double getLast1M();
 
     /**
-     * <pre>
-     * Dependency version if available
-     * </pre>
-     *
-     * <code>string version = 4;</code>
-     * @return The version.
-     */
-    java.lang.String getVersion();
-    /**
-     * <pre>
-     * Dependency version if available
-     * </pre>
-     *
-     * <code>string version = 4;</code>
-     * @return The bytes for version.
+     * <code>double last_5m = 2;</code>
+     * @return The last5m.
      */
-    com.google.protobuf.ByteString
-        getVersionBytes();
+    double getLast5M();
 
     /**
-     * <pre>
-     * Timestamp of last successful check
-     * </pre>
-     *
-     * <code>int64 last_successful_check = 5;</code>
-     * @return The lastSuccessfulCheck.
+     * <code>double last_1h = 3;</code>
+     * @return The last1h.
      */
-    long getLastSuccessfulCheck();
+    double getLast1H();
   }
   /**
    * <pre>
-   * Dependency component status
+   * Rolling availability, in percent of checks (100 when there were none in the window)
    * </pre>
    *
-   * Protobuf type {@code health.v1.DependentComponent}
+   * Protobuf type {@code health.v1.Availability}
    */
-  public static final class DependentComponent extends
+  public static final class Availability extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:health.v1.DependentComponent)
-      DependentComponentOrBuilder {
+      // @@protoc_insertion_point(message_implements:health.v1.Availability)
+      AvailabilityOrBuilder {
   private static final long serialVersionUID = 0L;
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
@@ -6484,200 +7516,59 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
         /* minor= */ 31,
         /* patch= */ 0,
         /* suffix= */ "",
-        DependentComponent.class.getName());
+        Availability.class.getName());
     }
-    // Use DependentComponent.newBuilder() to construct.
-    private DependentComponent(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    // Use Availability.newBuilder() to construct.
+    private Availability(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-    private DependentComponent() {
-      name_ = "";
-      errorDetails_ = "";
-      version_ = "";
+    private Availability() {
     }
 
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_DependentComponent_descriptor;
+      return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_Availability_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_DependentComponent_fieldAccessorTable
+      return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_Availability_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent.class, com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent.Builder.class);
+              com.shankarnarayanb.health.v1.HealthServiceProto.Availability.class, com.shankarnarayanb.health.v1.HealthServiceProto.Availability.Builder.class);
     }
 
-    public static final int NAME_FIELD_NUMBER = 1;
-    @SuppressWarnings("serial")
-    private volatile java.lang.Object name_ = "";
+    public static final int LAST_1M_FIELD_NUMBER = 1;
+    private double last1M_ = 0D;
     /**
-     * <pre>
-     * Dependency identifier (e.g., "payment-service")
-     * </pre>
-     *
-     * <code>string name = 1;</code>
-     * @return The name.
+     * <code>double last_1m = 1;</code>
+     * @return The last1m.
      */
     @java.lang.Override
-    public java.lang.String getName() {
-      java.lang.Object ref = name_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        name_ = s;
-        return s;
-      }
+    public double getLast1M() {
+      return last1M_;
     }
+
+    public static final int LAST_5M_FIELD_NUMBER = 2;
+    private double last5M_ = 0D;
     /**
-     * <pre>
-     * Dependency identifier (e.g., "payment-service")
-     * </pre>
-     *
-     * <code>string name = 1;</code>
-     * @return The bytes for name.
+     * <code>double last_5m = 2;</code>
+     * @return The last5m.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString
-        getNameBytes() {
-      java.lang.Object ref = name_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        name_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public double getLast5M() {
+      return last5M_;
     }
 
-    public static final int AVAILABLE_FIELD_NUMBER = 2;
-    private boolean available_ = false;
+    public static final int LAST_1H_FIELD_NUMBER = 3;
+    private double last1H_ = 0D;
     /**
-     * <pre>
-     * Dependency is reachable
-     * </pre>
-     *
-     * <code>bool available = 2;</code>
-     * @return The available.
+     * <code>double last_1h = 3;</code>
+     * @return The last1h.
      */
     @java.lang.Override
-    public boolean getAvailable() {
-      return available_;
-    }
-
-    public static final int ERROR_DETAILS_FIELD_NUMBER = 3;
-    @SuppressWarnings("serial")
-    private volatile java.lang.Object errorDetails_ = "";
-    /**
-     * <pre>
-     * Error information if unavailable
-     * </pre>
-     *
-     * <code>string error_details = 3;</code>
-     * @return The errorDetails.
-     */
-    @java.lang.Override
-    public java.lang.String getErrorDetails() {
-      java.lang.Object ref = errorDetails_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        errorDetails_ = s;
-        return s;
-      }
-    }
-    /**
-     * <pre>
-     * Error information if unavailable
-     * </pre>
-     *
-     * <code>string error_details = 3;</code>
-     * @return The bytes for errorDetails.
-     */
-    @java.lang.Override
-    public com.google.protobuf.ByteString
-        getErrorDetailsBytes() {
-      java.lang.Object ref = errorDetails_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        errorDetails_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int VERSION_FIELD_NUMBER = 4;
-    @SuppressWarnings("serial")
-    private volatile java.lang.Object version_ = "";
-    /**
-     * <pre>
-     * Dependency version if available
-     * </pre>
-     *
-     * <code>string version = 4;</code>
-     * @return The version.
-     */
-    @java.lang.Override
-    public java.lang.String getVersion() {
-      java.lang.Object ref = version_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        version_ = s;
-        return s;
-      }
-    }
-    /**
-     * <pre>
-     * Dependency version if available
-     * </pre>
-     *
-     * <code>string version = 4;</code>
-     * @return The bytes for version.
-     */
-    @java.lang.Override
-    public com.google.protobuf.ByteString
-        getVersionBytes() {
-      java.lang.Object ref = version_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        version_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int LAST_SUCCESSFUL_CHECK_FIELD_NUMBER = 5;
-    private long lastSuccessfulCheck_ = 0L;
-    /**
-     * <pre>
-     * Timestamp of last successful check
-     * </pre>
-     *
-     * <code>int64 last_successful_check = 5;</code>
-     * @return The lastSuccessfulCheck.
-     */
-    @java.lang.Override
-    public long getLastSuccessfulCheck() {
-      return lastSuccessfulCheck_;
+    public double getLast1H() {
+      return last1H_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -6694,20 +7585,14 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(name_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 1, name_);
+      if (java.lang.Double.doubleToRawLongBits(last1M_) != 0) {
+        output.writeDouble(1, last1M_);
       }
-      if (available_ != false) {
-        output.writeBool(2, available_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(errorDetails_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 3, errorDetails_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(version_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 4, version_);
+      if (java.lang.Double.doubleToRawLongBits(last5M_) != 0) {
+        output.writeDouble(2, last5M_);
       }
-      if (lastSuccessfulCheck_ != 0L) {
-        output.writeInt64(5, lastSuccessfulCheck_);
+      if (java.lang.Double.doubleToRawLongBits(last1H_) != 0) {
+        output.writeDouble(3, last1H_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -6718,22 +7603,17 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
       if (size != -1) return size;
 
       size = 0;
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(name_)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, name_);
-      }
-      if (available_ != false) {
+      if (java.lang.Double.doubleToRawLongBits(last1M_) != 0) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(2, available_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(errorDetails_)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(3, errorDetails_);
+          .computeDoubleSize(1, last1M_);
       }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(version_)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(4, version_);
+      if (java.lang.Double.doubleToRawLongBits(last5M_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(2, last5M_);
       }
-      if (lastSuccessfulCheck_ != 0L) {
+      if (java.lang.Double.doubleToRawLongBits(last1H_) != 0) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt64Size(5, lastSuccessfulCheck_);
+          .computeDoubleSize(3, last1H_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -6745,21 +7625,20 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent)) {
+      if (!(obj instanceof com.shankarnarayanb.health.v1.HealthServiceProto.Availability)) {
         return super.equals(obj);
       }
-      com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent other = (com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent) obj;
-
-      if (!getName()
-          .equals(other.getName())) return false;
-      if (getAvailable()
-          != other.getAvailable()) return false;
-      if (!getErrorDetails()
-          .equals(other.getErrorDetails())) return false;
-      if (!getVersion()
-          .equals(other.getVersion())) return false;
-      if (getLastSuccessfulCheck()
-          != other.getLastSuccessfulCheck()) return false;
+      com.shankarnarayanb.health.v1.HealthServiceProto.Availability other = (com.shankarnarayanb.health.v1.HealthServiceProto.Availability) obj;
+
+      if (java.lang.Double.doubleToLongBits(getLast1M())
+          != java.lang.Double.doubleToLongBits(
+              other.getLast1M())) return false;
+      if (java.lang.Double.doubleToLongBits(getLast5M())
+          != java.lang.Double.doubleToLongBits(
+              other.getLast5M())) return false;
+      if (java.lang.Double.doubleToLongBits(getLast1H())
+          != java.lang.Double.doubleToLongBits(
+              other.getLast1H())) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -6771,61 +7650,58 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + NAME_FIELD_NUMBER;
-      hash = (53 * hash) + getName().hashCode();
-      hash = (37 * hash) + AVAILABLE_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
-          getAvailable());
-      hash = (37 * hash) + ERROR_DETAILS_FIELD_NUMBER;
-      hash = (53 * hash) + getErrorDetails().hashCode();
-      hash = (37 * hash) + VERSION_FIELD_NUMBER;
-      hash = (53 * hash) + getVersion().hashCode();
-      hash = (37 * hash) + LAST_SUCCESSFUL_CHECK_FIELD_NUMBER;
+      hash = (37 * hash) + LAST_1M_FIELD_NUMBER;
       hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-          getLastSuccessfulCheck());
+          java.lang.Double.doubleToLongBits(getLast1M()));
+      hash = (37 * hash) + LAST_5M_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getLast5M()));
+      hash = (37 * hash) + LAST_1H_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getLast1H()));
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent parseFrom(
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.Availability parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent parseFrom(
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.Availability parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent parseFrom(
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.Availability parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent parseFrom(
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.Availability parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent parseFrom(byte[] data)
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.Availability parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent parseFrom(
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.Availability parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent parseFrom(java.io.InputStream input)
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.Availability parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent parseFrom(
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.Availability parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -6833,26 +7709,26 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent parseDelimitedFrom(java.io.InputStream input)
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.Availability parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent parseDelimitedFrom(
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.Availability parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent parseFrom(
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.Availability parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent parseFrom(
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.Availability parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -6865,7 +7741,7 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent prototype) {
+    public static Builder newBuilder(com.shankarnarayanb.health.v1.HealthServiceProto.Availability prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -6882,29 +7758,29 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
     }
     /**
      * <pre>
-     * Dependency component status
+     * Rolling availability, in percent of checks (100 when there were none in the window)
      * </pre>
      *
-     * Protobuf type {@code health.v1.DependentComponent}
+     * Protobuf type {@code health.v1.Availability}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:health.v1.DependentComponent)
-        com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponentOrBuilder {
+        // @@protoc_insertion_point(builder_implements:health.v1.Availability)
+        com.shankarnarayanb.health.v1.HealthServiceProto.AvailabilityOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_DependentComponent_descriptor;
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_Availability_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_DependentComponent_fieldAccessorTable
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_Availability_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent.class, com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent.Builder.class);
+                com.shankarnarayanb.health.v1.HealthServiceProto.Availability.class, com.shankarnarayanb.health.v1.HealthServiceProto.Availability.Builder.class);
       }
 
-      // Construct using com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent.newBuilder()
+      // Construct using com.shankarnarayanb.health.v1.HealthServiceProto.Availability.newBuilder()
       private Builder() {
 
       }
@@ -6918,28 +7794,26 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
       public Builder clear() {
         super.clear();
         bitField0_ = 0;
-        name_ = "";
-        available_ = false;
-        errorDetails_ = "";
-        version_ = "";
-        lastSuccessfulCheck_ = 0L;
+        last1M_ = 0D;
+        last5M_ = 0D;
+        last1H_ = 0D;
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_DependentComponent_descriptor;
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_Availability_descriptor;
       }
 
       @java.lang.Override
-      public com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent getDefaultInstanceForType() {
-        return com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent.getDefaultInstance();
+      public com.shankarnarayanb.health.v1.HealthServiceProto.Availability getDefaultInstanceForType() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.Availability.getDefaultInstance();
       }
 
       @java.lang.Override
-      public com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent build() {
-        com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent result = buildPartial();
+      public com.shankarnarayanb.health.v1.HealthServiceProto.Availability build() {
+        com.shankarnarayanb.health.v1.HealthServiceProto.Availability result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -6947,64 +7821,46 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
       }
 
       @java.lang.Override
-      public com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent buildPartial() {
-        com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent result = new com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent(this);
+      public com.shankarnarayanb.health.v1.HealthServiceProto.Availability buildPartial() {
+        com.shankarnarayanb.health.v1.HealthServiceProto.Availability result = new com.shankarnarayanb.health.v1.HealthServiceProto.Availability(this);
         if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartial0(com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent result) {
+      private void buildPartial0(com.shankarnarayanb.health.v1.HealthServiceProto.Availability result) {
         int from_bitField0_ = bitField0_;
         if (((from_bitField0_ & 0x00000001) != 0)) {
-          result.name_ = name_;
+          result.last1M_ = last1M_;
         }
         if (((from_bitField0_ & 0x00000002) != 0)) {
-          result.available_ = available_;
+          result.last5M_ = last5M_;
         }
         if (((from_bitField0_ & 0x00000004) != 0)) {
-          result.errorDetails_ = errorDetails_;
-        }
-        if (((from_bitField0_ & 0x00000008) != 0)) {
-          result.version_ = version_;
-        }
-        if (((from_bitField0_ & 0x00000010) != 0)) {
-          result.lastSuccessfulCheck_ = lastSuccessfulCheck_;
+          result.last1H_ = last1H_;
         }
       }
 
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent) {
-          return mergeFrom((com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent)other);
+        if (other instanceof com.shankarnarayanb.health.v1.HealthServiceProto.Availability) {
+          return mergeFrom((com.shankarnarayanb.health.v1.HealthServiceProto.Availability)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent other) {
-        if (other == com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent.getDefaultInstance()) return this;
-        if (!other.getName().isEmpty()) {
-          name_ = other.name_;
-          bitField0_ |= 0x00000001;
-          onChanged();
-        }
-        if (other.getAvailable() != false) {
-          setAvailable(other.getAvailable());
-        }
-        if (!other.getErrorDetails().isEmpty()) {
-          errorDetails_ = other.errorDetails_;
-          bitField0_ |= 0x00000004;
-          onChanged();
+      public Builder mergeFrom(com.shankarnarayanb.health.v1.HealthServiceProto.Availability other) {
+        if (other == com.shankarnarayanb.health.v1.HealthServiceProto.Availability.getDefaultInstance()) return this;
+        if (java.lang.Double.doubleToRawLongBits(other.getLast1M()) != 0) {
+          setLast1M(other.getLast1M());
         }
-        if (!other.getVersion().isEmpty()) {
-          version_ = other.version_;
-          bitField0_ |= 0x00000008;
-          onChanged();
+        if (java.lang.Double.doubleToRawLongBits(other.getLast5M()) != 0) {
+          setLast5M(other.getLast5M());
         }
-        if (other.getLastSuccessfulCheck() != 0L) {
-          setLastSuccessfulCheck(other.getLastSuccessfulCheck());
+        if (java.lang.Double.doubleToRawLongBits(other.getLast1H()) != 0) {
+          setLast1H(other.getLast1H());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
@@ -7032,31 +7888,21 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
               case 0:
                 done = true;
                 break;
-              case 10: {
-                name_ = input.readStringRequireUtf8();
+              case 9: {
+                last1M_ = input.readDouble();
                 bitField0_ |= 0x00000001;
                 break;
-              } // case 10
-              case 16: {
-                available_ = input.readBool();
+              } // case 9
+              case 17: {
+                last5M_ = input.readDouble();
                 bitField0_ |= 0x00000002;
                 break;
-              } // case 16
-              case 26: {
-                errorDetails_ = input.readStringRequireUtf8();
+              } // case 17
+              case 25: {
+                last1H_ = input.readDouble();
                 bitField0_ |= 0x00000004;
                 break;
-              } // case 26
-              case 34: {
-                version_ = input.readStringRequireUtf8();
-                bitField0_ |= 0x00000008;
-                break;
-              } // case 34
-              case 40: {
-                lastSuccessfulCheck_ = input.readInt64();
-                bitField0_ |= 0x00000010;
-                break;
-              } // case 40
+              } // case 25
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -7074,460 +7920,248 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
       }
       private int bitField0_;
 
-      private java.lang.Object name_ = "";
+      private double last1M_ ;
       /**
-       * <pre>
-       * Dependency identifier (e.g., "payment-service")
-       * </pre>
-       *
-       * <code>string name = 1;</code>
-       * @return The name.
+       * <code>double last_1m = 1;</code>
+       * @return The last1m.
        */
-      public java.lang.String getName() {
-        java.lang.Object ref = name_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          name_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <pre>
-       * Dependency identifier (e.g., "payment-service")
-       * </pre>
-       *
-       * <code>string name = 1;</code>
-       * @return The bytes for name.
-       */
-      public com.google.protobuf.ByteString
-          getNameBytes() {
-        java.lang.Object ref = name_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          name_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      @java.lang.Override
+      public double getLast1M() {
+        return last1M_;
       }
       /**
-       * <pre>
-       * Dependency identifier (e.g., "payment-service")
-       * </pre>
-       *
-       * <code>string name = 1;</code>
-       * @param value The name to set.
+       * <code>double last_1m = 1;</code>
+       * @param value The last1m to set.
        * @return This builder for chaining.
        */
-      public Builder setName(
-          java.lang.String value) {
-        if (value == null) { throw new NullPointerException(); }
-        name_ = value;
+      public Builder setLast1M(double value) {
+
+        last1M_ = value;
         bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
       /**
-       * <pre>
-       * Dependency identifier (e.g., "payment-service")
-       * </pre>
-       *
-       * <code>string name = 1;</code>
+       * <code>double last_1m = 1;</code>
        * @return This builder for chaining.
        */
-      public Builder clearName() {
-        name_ = getDefaultInstance().getName();
+      public Builder clearLast1M() {
         bitField0_ = (bitField0_ & ~0x00000001);
-        onChanged();
-        return this;
-      }
-      /**
-       * <pre>
-       * Dependency identifier (e.g., "payment-service")
-       * </pre>
-       *
-       * <code>string name = 1;</code>
-       * @param value The bytes for name to set.
-       * @return This builder for chaining.
-       */
-      public Builder setNameBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        checkByteStringIsUtf8(value);
-        name_ = value;
-        bitField0_ |= 0x00000001;
+        last1M_ = 0D;
         onChanged();
         return this;
       }
 
-      private boolean available_ ;
+      private double last5M_ ;
       /**
-       * <pre>
-       * Dependency is reachable
-       * </pre>
-       *
-       * <code>bool available = 2;</code>
-       * @return The available.
+       * <code>double last_5m = 2;</code>
+       * @return The last5m.
        */
       @java.lang.Override
-      public boolean getAvailable() {
-        return available_;
+      public double getLast5M() {
+        return last5M_;
       }
       /**
-       * <pre>
-       * Dependency is reachable
-       * </pre>
-       *
-       * <code>bool available = 2;</code>
-       * @param value The available to set.
+       * <code>double last_5m = 2;</code>
+       * @param value The last5m to set.
        * @return This builder for chaining.
        */
-      public Builder setAvailable(boolean value) {
+      public Builder setLast5M(double value) {
 
-        available_ = value;
+        last5M_ = value;
         bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
       /**
-       * <pre>
-       * Dependency is reachable
-       * </pre>
-       *
-       * <code>bool available = 2;</code>
+       * <code>double last_5m = 2;</code>
        * @return This builder for chaining.
        */
-      public Builder clearAvailable() {
+      public Builder clearLast5M() {
         bitField0_ = (bitField0_ & ~0x00000002);
-        available_ = false;
+        last5M_ = 0D;
         onChanged();
         return this;
       }
 
-      private java.lang.Object errorDetails_ = "";
-      /**
-       * <pre>
-       * Error information if unavailable
-       * </pre>
-       *
-       * <code>string error_details = 3;</code>
-       * @return The errorDetails.
-       */
-      public java.lang.String getErrorDetails() {
-        java.lang.Object ref = errorDetails_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          errorDetails_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
+      private double last1H_ ;
       /**
-       * <pre>
-       * Error information if unavailable
-       * </pre>
-       *
-       * <code>string error_details = 3;</code>
-       * @return The bytes for errorDetails.
+       * <code>double last_1h = 3;</code>
+       * @return The last1h.
        */
-      public com.google.protobuf.ByteString
-          getErrorDetailsBytes() {
-        java.lang.Object ref = errorDetails_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          errorDetails_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      @java.lang.Override
+      public double getLast1H() {
+        return last1H_;
       }
       /**
-       * <pre>
-       * Error information if unavailable
-       * </pre>
-       *
-       * <code>string error_details = 3;</code>
-       * @param value The errorDetails to set.
+       * <code>double last_1h = 3;</code>
+       * @param value The last1h to set.
        * @return This builder for chaining.
        */
-      public Builder setErrorDetails(
-          java.lang.String value) {
-        if (value == null) { throw new NullPointerException(); }
-        errorDetails_ = value;
+      public Builder setLast1H(double value) {
+
+        last1H_ = value;
         bitField0_ |= 0x00000004;
         onChanged();
         return this;
       }
       /**
-       * <pre>
-       * Error information if unavailable
-       * </pre>
-       *
-       * <code>string error_details = 3;</code>
+       * <code>double last_1h = 3;</code>
        * @return This builder for chaining.
        */
-      public Builder clearErrorDetails() {
-        errorDetails_ = getDefaultInstance().getErrorDetails();
+      public Builder clearLast1H() {
         bitField0_ = (bitField0_ & ~0x00000004);
-        onChanged();
-        return this;
-      }
-      /**
-       * <pre>
-       * Error information if unavailable
-       * </pre>
-       *
-       * <code>string error_details = 3;</code>
-       * @param value The bytes for errorDetails to set.
-       * @return This builder for chaining.
-       */
-      public Builder setErrorDetailsBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        checkByteStringIsUtf8(value);
-        errorDetails_ = value;
-        bitField0_ |= 0x00000004;
+        last1H_ = 0D;
         onChanged();
         return this;
       }
 
-      private java.lang.Object version_ = "";
-      /**
-       * <pre>
-       * Dependency version if available
-       * </pre>
-       *
-       * <code>string version = 4;</code>
-       * @return The version.
-       */
-      public java.lang.String getVersion() {
-        java.lang.Object ref = version_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          version_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <pre>
-       * Dependency version if available
-       * </pre>
-       *
-       * <code>string version = 4;</code>
-       * @return The bytes for version.
-       */
-      public com.google.protobuf.ByteString
-          getVersionBytes() {
-        java.lang.Object ref = version_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          version_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
+      // @@protoc_insertion_point(builder_scope:health.v1.Availability)
+    }
+
+    // @@protoc_insertion_point(class_scope:health.v1.Availability)
+    private static final com.shankarnarayanb.health.v1.HealthServiceProto.Availability DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.shankarnarayanb.health.v1.HealthServiceProto.Availability();
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.Availability getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Availability>
+        PARSER = new com.google.protobuf.AbstractParser<Availability>() {
+      @java.lang.Override
+      public Availability parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
         }
-      }
-      /**
-       * <pre>
-       * Dependency version if available
-       * </pre>
-       *
-       * <code>string version = 4;</code>
-       * @param value The version to set.
-       * @return This builder for chaining.
-       */
-      public Builder setVersion(
-          java.lang.String value) {
-        if (value == null) { throw new NullPointerException(); }
-        version_ = value;
-        bitField0_ |= 0x00000008;
-        onChanged();
-        return this;
-      }
-      /**
-       * <pre>
-       * Dependency version if available
-       * </pre>
-       *
-       * <code>string version = 4;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearVersion() {
-        version_ = getDefaultInstance().getVersion();
-        bitField0_ = (bitField0_ & ~0x00000008);
-        onChanged();
-        return this;
-      }
-      /**
-       * <pre>
-       * Dependency version if available
-       * </pre>
-       *
-       * <code>string version = 4;</code>
-       * @param value The bytes for version to set.
-       * @return This builder for chaining.
-       */
-      public Builder setVersionBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        checkByteStringIsUtf8(value);
-        version_ = value;
-        bitField0_ |= 0x00000008;
-        onChanged();
-        return this;
-      }
-
-      private long lastSuccessfulCheck_ ;
-      /**
-       * <pre>
-       * Timestamp of last successful check
-       * </pre>
-       *
-       * <code>int64 last_successful_check = 5;</code>
-       * @return The lastSuccessfulCheck.
-       */
-      @java.lang.Override
-      public long getLastSuccessfulCheck() {
-        return lastSuccessfulCheck_;
-      }
-      /**
-       * <pre>
-       * Timestamp of last successful check
-       * </pre>
-       *
-       * <code>int64 last_successful_check = 5;</code>
-       * @param value The lastSuccessfulCheck to set.
-       * @return This builder for chaining.
-       */
-      public Builder setLastSuccessfulCheck(long value) {
-
-        lastSuccessfulCheck_ = value;
-        bitField0_ |= 0x00000010;
-        onChanged();
-        return this;
-      }
-      /**
-       * <pre>
-       * Timestamp of last successful check
-       * </pre>
-       *
-       * <code>int64 last_successful_check = 5;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearLastSuccessfulCheck() {
-        bitField0_ = (bitField0_ & ~0x00000010);
-        lastSuccessfulCheck_ = 0L;
-        onChanged();
-        return this;
-      }
-
-      // @@protoc_insertion_point(builder_scope:health.v1.DependentComponent)
-    }
-
-    // @@protoc_insertion_point(class_scope:health.v1.DependentComponent)
-    private static final com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent();
-    }
-
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    private static final com.google.protobuf.Parser<DependentComponent>
-        PARSER = new com.google.protobuf.AbstractParser<DependentComponent>() {
-      @java.lang.Override
-      public DependentComponent parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        Builder builder = newBuilder();
-        try {
-          builder.mergeFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.setUnfinishedMessage(builder.buildPartial());
-        } catch (com.google.protobuf.UninitializedMessageException e) {
-          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
-        } catch (java.io.IOException e) {
-          throw new com.google.protobuf.InvalidProtocolBufferException(e)
-              .setUnfinishedMessage(builder.buildPartial());
-        }
-        return builder.buildPartial();
+        return builder.buildPartial();
       }
     };
 
-    public static com.google.protobuf.Parser<DependentComponent> parser() {
+    public static com.google.protobuf.Parser<Availability> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<DependentComponent> getParserForType() {
+    public com.google.protobuf.Parser<Availability> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent getDefaultInstanceForType() {
+    public com.shankarnarayanb.health.v1.HealthServiceProto.Availability getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface MaintenanceInfoOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:health.v1.MaintenanceInfo)
+  public interface DependentComponentOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:health.v1.DependentComponent)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>int64 start_time = 1;</code>
-     * @return The startTime.
+     * <pre>
+     * Dependency identifier (e.g., "payment-service")
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     * @return The name.
      */
-    long getStartTime();
+    java.lang.String getName();
+    /**
+     * <pre>
+     * Dependency identifier (e.g., "payment-service")
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
 
     /**
-     * <code>int64 estimated_end_time = 2;</code>
-     * @return The estimatedEndTime.
+     * <pre>
+     * Dependency is reachable
+     * </pre>
+     *
+     * <code>bool available = 2;</code>
+     * @return The available.
      */
-    long getEstimatedEndTime();
+    boolean getAvailable();
 
     /**
-     * <code>string reason = 3;</code>
-     * @return The reason.
+     * <pre>
+     * Error information if unavailable
+     * </pre>
+     *
+     * <code>string error_details = 3;</code>
+     * @return The errorDetails.
      */
-    java.lang.String getReason();
+    java.lang.String getErrorDetails();
     /**
-     * <code>string reason = 3;</code>
-     * @return The bytes for reason.
+     * <pre>
+     * Error information if unavailable
+     * </pre>
+     *
+     * <code>string error_details = 3;</code>
+     * @return The bytes for errorDetails.
      */
     com.google.protobuf.ByteString
-        getReasonBytes();
+        getErrorDetailsBytes();
+
+    /**
+     * <pre>
+     * Dependency version if available
+     * </pre>
+     *
+     * <code>string version = 4;</code>
+     * @return The version.
+     */
+    java.lang.String getVersion();
+    /**
+     * <pre>
+     * Dependency version if available
+     * </pre>
+     *
+     * <code>string version = 4;</code>
+     * @return The bytes for version.
+     */
+    com.google.protobuf.ByteString
+        getVersionBytes();
+
+    /**
+     * <pre>
+     * Timestamp of last successful check
+     * </pre>
+     *
+     * <code>int64 last_successful_check = 5;</code>
+     * @return The lastSuccessfulCheck.
+     */
+    long getLastSuccessfulCheck();
   }
   /**
    * <pre>
-   * Additional message types to demonstrate more concepts
+   * Dependency component status
    * </pre>
    *
-   * Protobuf type {@code health.v1.MaintenanceInfo}
+   * Protobuf type {@code health.v1.DependentComponent}
    */
-  public static final class MaintenanceInfo extends
+  public static final class DependentComponent extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:health.v1.MaintenanceInfo)
-      MaintenanceInfoOrBuilder {
+      // @@protoc_insertion_point(message_implements:health.v1.DependentComponent)
+      DependentComponentOrBuilder {
   private static final long serialVersionUID = 0L;
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
@@ -7536,90 +8170,202 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
         /* minor= */ 31,
         /* patch= */ 0,
         /* suffix= */ "",
-        MaintenanceInfo.class.getName());
+        DependentComponent.class.getName());
     }
-    // Use MaintenanceInfo.newBuilder() to construct.
-    private MaintenanceInfo(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    // Use DependentComponent.newBuilder() to construct.
+    private DependentComponent(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-    private MaintenanceInfo() {
-      reason_ = "";
+    private DependentComponent() {
+      name_ = "";
+      errorDetails_ = "";
+      version_ = "";
     }
 
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_MaintenanceInfo_descriptor;
+      return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_DependentComponent_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_MaintenanceInfo_fieldAccessorTable
+      return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_DependentComponent_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo.class, com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo.Builder.class);
-    }
-
-    public static final int START_TIME_FIELD_NUMBER = 1;
-    private long startTime_ = 0L;
-    /**
-     * <code>int64 start_time = 1;</code>
-     * @return The startTime.
-     */
-    @java.lang.Override
-    public long getStartTime() {
-      return startTime_;
-    }
-
-    public static final int ESTIMATED_END_TIME_FIELD_NUMBER = 2;
-    private long estimatedEndTime_ = 0L;
-    /**
-     * <code>int64 estimated_end_time = 2;</code>
-     * @return The estimatedEndTime.
-     */
-    @java.lang.Override
-    public long getEstimatedEndTime() {
-      return estimatedEndTime_;
+              com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent.class, com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent.Builder.class);
     }
 
-    public static final int REASON_FIELD_NUMBER = 3;
+    public static final int NAME_FIELD_NUMBER = 1;
     @SuppressWarnings("serial")
-    private volatile java.lang.Object reason_ = "";
+    private volatile java.lang.Object name_ = "";
     /**
-     * <code>string reason = 3;</code>
-     * @return The reason.
+     * <pre>
+     * Dependency identifier (e.g., "payment-service")
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     * @return The name.
      */
     @java.lang.Override
-    public java.lang.String getReason() {
-      java.lang.Object ref = reason_;
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        reason_ = s;
+        name_ = s;
         return s;
       }
     }
     /**
-     * <code>string reason = 3;</code>
-     * @return The bytes for reason.
+     * <pre>
+     * Dependency identifier (e.g., "payment-service")
+     * </pre>
+     *
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
      */
     @java.lang.Override
     public com.google.protobuf.ByteString
-        getReasonBytes() {
-      java.lang.Object ref = reason_;
+        getNameBytes() {
+      java.lang.Object ref = name_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        reason_ = b;
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int AVAILABLE_FIELD_NUMBER = 2;
+    private boolean available_ = false;
+    /**
+     * <pre>
+     * Dependency is reachable
+     * </pre>
+     *
+     * <code>bool available = 2;</code>
+     * @return The available.
+     */
+    @java.lang.Override
+    public boolean getAvailable() {
+      return available_;
+    }
+
+    public static final int ERROR_DETAILS_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object errorDetails_ = "";
+    /**
+     * <pre>
+     * Error information if unavailable
+     * </pre>
+     *
+     * <code>string error_details = 3;</code>
+     * @return The errorDetails.
+     */
+    @java.lang.Override
+    public java.lang.String getErrorDetails() {
+      java.lang.Object ref = errorDetails_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        errorDetails_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Error information if unavailable
+     * </pre>
+     *
+     * <code>string error_details = 3;</code>
+     * @return The bytes for errorDetails.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getErrorDetailsBytes() {
+      java.lang.Object ref = errorDetails_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        errorDetails_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int VERSION_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object version_ = "";
+    /**
+     * <pre>
+     * Dependency version if available
+     * </pre>
+     *
+     * <code>string version = 4;</code>
+     * @return The version.
+     */
+    @java.lang.Override
+    public java.lang.String getVersion() {
+      java.lang.Object ref = version_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        version_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Dependency version if available
+     * </pre>
+     *
+     * <code>string version = 4;</code>
+     * @return The bytes for version.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getVersionBytes() {
+      java.lang.Object ref = version_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        version_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
+    public static final int LAST_SUCCESSFUL_CHECK_FIELD_NUMBER = 5;
+    private long lastSuccessfulCheck_ = 0L;
+    /**
+     * <pre>
+     * Timestamp of last successful check
+     * </pre>
+     *
+     * <code>int64 last_successful_check = 5;</code>
+     * @return The lastSuccessfulCheck.
+     */
+    @java.lang.Override
+    public long getLastSuccessfulCheck() {
+      return lastSuccessfulCheck_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -7634,14 +8380,20 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (startTime_ != 0L) {
-        output.writeInt64(1, startTime_);
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(name_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, name_);
       }
-      if (estimatedEndTime_ != 0L) {
-        output.writeInt64(2, estimatedEndTime_);
+      if (available_ != false) {
+        output.writeBool(2, available_);
       }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(reason_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 3, reason_);
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(errorDetails_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 3, errorDetails_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(version_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 4, version_);
+      }
+      if (lastSuccessfulCheck_ != 0L) {
+        output.writeInt64(5, lastSuccessfulCheck_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -7652,16 +8404,22 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
       if (size != -1) return size;
 
       size = 0;
-      if (startTime_ != 0L) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt64Size(1, startTime_);
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(name_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, name_);
       }
-      if (estimatedEndTime_ != 0L) {
+      if (available_ != false) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt64Size(2, estimatedEndTime_);
+          .computeBoolSize(2, available_);
       }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(reason_)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(3, reason_);
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(errorDetails_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(3, errorDetails_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(version_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(4, version_);
+      }
+      if (lastSuccessfulCheck_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(5, lastSuccessfulCheck_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -7673,17 +8431,21 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo)) {
+      if (!(obj instanceof com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent)) {
         return super.equals(obj);
       }
-      com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo other = (com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo) obj;
+      com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent other = (com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent) obj;
 
-      if (getStartTime()
-          != other.getStartTime()) return false;
-      if (getEstimatedEndTime()
-          != other.getEstimatedEndTime()) return false;
-      if (!getReason()
-          .equals(other.getReason())) return false;
+      if (!getName()
+          .equals(other.getName())) return false;
+      if (getAvailable()
+          != other.getAvailable()) return false;
+      if (!getErrorDetails()
+          .equals(other.getErrorDetails())) return false;
+      if (!getVersion()
+          .equals(other.getVersion())) return false;
+      if (getLastSuccessfulCheck()
+          != other.getLastSuccessfulCheck()) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -7695,57 +8457,61 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + START_TIME_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-          getStartTime());
-      hash = (37 * hash) + ESTIMATED_END_TIME_FIELD_NUMBER;
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      hash = (37 * hash) + AVAILABLE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getAvailable());
+      hash = (37 * hash) + ERROR_DETAILS_FIELD_NUMBER;
+      hash = (53 * hash) + getErrorDetails().hashCode();
+      hash = (37 * hash) + VERSION_FIELD_NUMBER;
+      hash = (53 * hash) + getVersion().hashCode();
+      hash = (37 * hash) + LAST_SUCCESSFUL_CHECK_FIELD_NUMBER;
       hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-          getEstimatedEndTime());
-      hash = (37 * hash) + REASON_FIELD_NUMBER;
-      hash = (53 * hash) + getReason().hashCode();
+          getLastSuccessfulCheck());
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo parseFrom(
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo parseFrom(
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo parseFrom(
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo parseFrom(
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo parseFrom(byte[] data)
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo parseFrom(
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo parseFrom(java.io.InputStream input)
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo parseFrom(
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -7753,26 +8519,26 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo parseDelimitedFrom(java.io.InputStream input)
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo parseDelimitedFrom(
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo parseFrom(
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo parseFrom(
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -7785,7 +8551,7 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo prototype) {
+    public static Builder newBuilder(com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -7802,29 +8568,29 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
     }
     /**
      * <pre>
-     * Additional message types to demonstrate more concepts
+     * Dependency component status
      * </pre>
      *
-     * Protobuf type {@code health.v1.MaintenanceInfo}
+     * Protobuf type {@code health.v1.DependentComponent}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:health.v1.MaintenanceInfo)
-        com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfoOrBuilder {
+        // @@protoc_insertion_point(builder_implements:health.v1.DependentComponent)
+        com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponentOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_MaintenanceInfo_descriptor;
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_DependentComponent_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_MaintenanceInfo_fieldAccessorTable
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_DependentComponent_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo.class, com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo.Builder.class);
+                com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent.class, com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent.Builder.class);
       }
 
-      // Construct using com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo.newBuilder()
+      // Construct using com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent.newBuilder()
       private Builder() {
 
       }
@@ -7838,26 +8604,28 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
       public Builder clear() {
         super.clear();
         bitField0_ = 0;
-        startTime_ = 0L;
-        estimatedEndTime_ = 0L;
-        reason_ = "";
+        name_ = "";
+        available_ = false;
+        errorDetails_ = "";
+        version_ = "";
+        lastSuccessfulCheck_ = 0L;
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_MaintenanceInfo_descriptor;
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_DependentComponent_descriptor;
       }
 
       @java.lang.Override
-      public com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo getDefaultInstanceForType() {
-        return com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo.getDefaultInstance();
+      public com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent getDefaultInstanceForType() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent.getDefaultInstance();
       }
 
       @java.lang.Override
-      public com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo build() {
-        com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo result = buildPartial();
+      public com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent build() {
+        com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -7865,49 +8633,65 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
       }
 
       @java.lang.Override
-      public com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo buildPartial() {
-        com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo result = new com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo(this);
+      public com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent buildPartial() {
+        com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent result = new com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent(this);
         if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartial0(com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo result) {
+      private void buildPartial0(com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent result) {
         int from_bitField0_ = bitField0_;
         if (((from_bitField0_ & 0x00000001) != 0)) {
-          result.startTime_ = startTime_;
+          result.name_ = name_;
         }
         if (((from_bitField0_ & 0x00000002) != 0)) {
-          result.estimatedEndTime_ = estimatedEndTime_;
+          result.available_ = available_;
         }
         if (((from_bitField0_ & 0x00000004) != 0)) {
-          result.reason_ = reason_;
+          result.errorDetails_ = errorDetails_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.version_ = version_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.lastSuccessfulCheck_ = lastSuccessfulCheck_;
         }
       }
 
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo) {
-          return mergeFrom((com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo)other);
+        if (other instanceof com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent) {
+          return mergeFrom((com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo other) {
-        if (other == com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo.getDefaultInstance()) return this;
-        if (other.getStartTime() != 0L) {
-          setStartTime(other.getStartTime());
+      public Builder mergeFrom(com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent other) {
+        if (other == com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent.getDefaultInstance()) return this;
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          bitField0_ |= 0x00000001;
+          onChanged();
         }
-        if (other.getEstimatedEndTime() != 0L) {
-          setEstimatedEndTime(other.getEstimatedEndTime());
+        if (other.getAvailable() != false) {
+          setAvailable(other.getAvailable());
         }
-        if (!other.getReason().isEmpty()) {
-          reason_ = other.reason_;
+        if (!other.getErrorDetails().isEmpty()) {
+          errorDetails_ = other.errorDetails_;
           bitField0_ |= 0x00000004;
           onChanged();
         }
+        if (!other.getVersion().isEmpty()) {
+          version_ = other.version_;
+          bitField0_ |= 0x00000008;
+          onChanged();
+        }
+        if (other.getLastSuccessfulCheck() != 0L) {
+          setLastSuccessfulCheck(other.getLastSuccessfulCheck());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
@@ -7934,21 +8718,31 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
               case 0:
                 done = true;
                 break;
-              case 8: {
-                startTime_ = input.readInt64();
+              case 10: {
+                name_ = input.readStringRequireUtf8();
                 bitField0_ |= 0x00000001;
                 break;
-              } // case 8
+              } // case 10
               case 16: {
-                estimatedEndTime_ = input.readInt64();
+                available_ = input.readBool();
                 bitField0_ |= 0x00000002;
                 break;
               } // case 16
               case 26: {
-                reason_ = input.readStringRequireUtf8();
+                errorDetails_ = input.readStringRequireUtf8();
                 bitField0_ |= 0x00000004;
                 break;
               } // case 26
+              case 34: {
+                version_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 40: {
+                lastSuccessfulCheck_ = input.readInt64();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -7966,159 +8760,387 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
       }
       private int bitField0_;
 
-      private long startTime_ ;
+      private java.lang.Object name_ = "";
       /**
-       * <code>int64 start_time = 1;</code>
-       * @return The startTime.
+       * <pre>
+       * Dependency identifier (e.g., "payment-service")
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @return The name.
        */
-      @java.lang.Override
-      public long getStartTime() {
-        return startTime_;
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
       }
       /**
-       * <code>int64 start_time = 1;</code>
-       * @param value The startTime to set.
+       * <pre>
+       * Dependency identifier (e.g., "payment-service")
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Dependency identifier (e.g., "payment-service")
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @param value The name to set.
        * @return This builder for chaining.
        */
-      public Builder setStartTime(long value) {
-
-        startTime_ = value;
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        name_ = value;
         bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
       /**
-       * <code>int64 start_time = 1;</code>
+       * <pre>
+       * Dependency identifier (e.g., "payment-service")
+       * </pre>
+       *
+       * <code>string name = 1;</code>
        * @return This builder for chaining.
        */
-      public Builder clearStartTime() {
+      public Builder clearName() {
+        name_ = getDefaultInstance().getName();
         bitField0_ = (bitField0_ & ~0x00000001);
-        startTime_ = 0L;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Dependency identifier (e.g., "payment-service")
+       * </pre>
+       *
+       * <code>string name = 1;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        name_ = value;
+        bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
 
-      private long estimatedEndTime_ ;
+      private boolean available_ ;
       /**
-       * <code>int64 estimated_end_time = 2;</code>
-       * @return The estimatedEndTime.
+       * <pre>
+       * Dependency is reachable
+       * </pre>
+       *
+       * <code>bool available = 2;</code>
+       * @return The available.
        */
       @java.lang.Override
-      public long getEstimatedEndTime() {
-        return estimatedEndTime_;
+      public boolean getAvailable() {
+        return available_;
       }
       /**
-       * <code>int64 estimated_end_time = 2;</code>
-       * @param value The estimatedEndTime to set.
+       * <pre>
+       * Dependency is reachable
+       * </pre>
+       *
+       * <code>bool available = 2;</code>
+       * @param value The available to set.
        * @return This builder for chaining.
        */
-      public Builder setEstimatedEndTime(long value) {
+      public Builder setAvailable(boolean value) {
 
-        estimatedEndTime_ = value;
+        available_ = value;
         bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
       /**
-       * <code>int64 estimated_end_time = 2;</code>
+       * <pre>
+       * Dependency is reachable
+       * </pre>
+       *
+       * <code>bool available = 2;</code>
        * @return This builder for chaining.
        */
-      public Builder clearEstimatedEndTime() {
+      public Builder clearAvailable() {
         bitField0_ = (bitField0_ & ~0x00000002);
-        estimatedEndTime_ = 0L;
+        available_ = false;
         onChanged();
         return this;
       }
 
-      private java.lang.Object reason_ = "";
+      private java.lang.Object errorDetails_ = "";
       /**
-       * <code>string reason = 3;</code>
-       * @return The reason.
+       * <pre>
+       * Error information if unavailable
+       * </pre>
+       *
+       * <code>string error_details = 3;</code>
+       * @return The errorDetails.
        */
-      public java.lang.String getReason() {
-        java.lang.Object ref = reason_;
+      public java.lang.String getErrorDetails() {
+        java.lang.Object ref = errorDetails_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          reason_ = s;
+          errorDetails_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>string reason = 3;</code>
-       * @return The bytes for reason.
+       * <pre>
+       * Error information if unavailable
+       * </pre>
+       *
+       * <code>string error_details = 3;</code>
+       * @return The bytes for errorDetails.
        */
       public com.google.protobuf.ByteString
-          getReasonBytes() {
-        java.lang.Object ref = reason_;
+          getErrorDetailsBytes() {
+        java.lang.Object ref = errorDetails_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          reason_ = b;
+          errorDetails_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>string reason = 3;</code>
-       * @param value The reason to set.
+       * <pre>
+       * Error information if unavailable
+       * </pre>
+       *
+       * <code>string error_details = 3;</code>
+       * @param value The errorDetails to set.
        * @return This builder for chaining.
        */
-      public Builder setReason(
+      public Builder setErrorDetails(
           java.lang.String value) {
         if (value == null) { throw new NullPointerException(); }
-        reason_ = value;
+        errorDetails_ = value;
         bitField0_ |= 0x00000004;
         onChanged();
         return this;
       }
       /**
-       * <code>string reason = 3;</code>
+       * <pre>
+       * Error information if unavailable
+       * </pre>
+       *
+       * <code>string error_details = 3;</code>
        * @return This builder for chaining.
        */
-      public Builder clearReason() {
-        reason_ = getDefaultInstance().getReason();
+      public Builder clearErrorDetails() {
+        errorDetails_ = getDefaultInstance().getErrorDetails();
         bitField0_ = (bitField0_ & ~0x00000004);
         onChanged();
         return this;
       }
       /**
-       * <code>string reason = 3;</code>
-       * @param value The bytes for reason to set.
+       * <pre>
+       * Error information if unavailable
+       * </pre>
+       *
+       * <code>string error_details = 3;</code>
+       * @param value The bytes for errorDetails to set.
        * @return This builder for chaining.
        */
-      public Builder setReasonBytes(
+      public Builder setErrorDetailsBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) { throw new NullPointerException(); }
         checkByteStringIsUtf8(value);
-        reason_ = value;
+        errorDetails_ = value;
         bitField0_ |= 0x00000004;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:health.v1.MaintenanceInfo)
+      private java.lang.Object version_ = "";
+      /**
+       * <pre>
+       * Dependency version if available
+       * </pre>
+       *
+       * <code>string version = 4;</code>
+       * @return The version.
+       */
+      public java.lang.String getVersion() {
+        java.lang.Object ref = version_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          version_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Dependency version if available
+       * </pre>
+       *
+       * <code>string version = 4;</code>
+       * @return The bytes for version.
+       */
+      public com.google.protobuf.ByteString
+          getVersionBytes() {
+        java.lang.Object ref = version_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          version_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Dependency version if available
+       * </pre>
+       *
+       * <code>string version = 4;</code>
+       * @param value The version to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVersion(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        version_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Dependency version if available
+       * </pre>
+       *
+       * <code>string version = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVersion() {
+        version_ = getDefaultInstance().getVersion();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Dependency version if available
+       * </pre>
+       *
+       * <code>string version = 4;</code>
+       * @param value The bytes for version to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVersionBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        version_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+
+      private long lastSuccessfulCheck_ ;
+      /**
+       * <pre>
+       * Timestamp of last successful check
+       * </pre>
+       *
+       * <code>int64 last_successful_check = 5;</code>
+       * @return The lastSuccessfulCheck.
+       */
+      @java.lang.Override
+      public long getLastSuccessfulCheck() {
+        return lastSuccessfulCheck_;
+      }
+      /**
+       * <pre>
+       * Timestamp of last successful check
+       * </pre>
+       *
+       * <code>int64 last_successful_check = 5;</code>
+       * @param value The lastSuccessfulCheck to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLastSuccessfulCheck(long value) {
+
+        lastSuccessfulCheck_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Timestamp of last successful check
+       * </pre>
+       *
+       * <code>int64 last_successful_check = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLastSuccessfulCheck() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        lastSuccessfulCheck_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:health.v1.DependentComponent)
     }
 
-    // @@protoc_insertion_point(class_scope:health.v1.MaintenanceInfo)
-    private static final com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:health.v1.DependentComponent)
+    private static final com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo();
+      DEFAULT_INSTANCE = new com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent();
     }
 
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo getDefaultInstance() {
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<MaintenanceInfo>
-        PARSER = new com.google.protobuf.AbstractParser<MaintenanceInfo>() {
+    private static final com.google.protobuf.Parser<DependentComponent>
+        PARSER = new com.google.protobuf.AbstractParser<DependentComponent>() {
       @java.lang.Override
-      public MaintenanceInfo parsePartialFrom(
+      public DependentComponent parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -8137,76 +9159,61 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
       }
     };
 
-    public static com.google.protobuf.Parser<MaintenanceInfo> parser() {
+    public static com.google.protobuf.Parser<DependentComponent> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<MaintenanceInfo> getParserForType() {
+    public com.google.protobuf.Parser<DependentComponent> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo getDefaultInstanceForType() {
+    public com.shankarnarayanb.health.v1.HealthServiceProto.DependentComponent getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface ErrorDetailsOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:health.v1.ErrorDetails)
+  public interface MaintenanceInfoOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:health.v1.MaintenanceInfo)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>int32 error_code = 1;</code>
-     * @return The errorCode.
+     * <code>int64 start_time = 1;</code>
+     * @return The startTime.
      */
-    int getErrorCode();
+    long getStartTime();
 
     /**
-     * <code>string error_category = 2;</code>
-     * @return The errorCategory.
-     */
-    java.lang.String getErrorCategory();
-    /**
-     * <code>string error_category = 2;</code>
-     * @return The bytes for errorCategory.
+     * <code>int64 estimated_end_time = 2;</code>
+     * @return The estimatedEndTime.
      */
-    com.google.protobuf.ByteString
-        getErrorCategoryBytes();
+    long getEstimatedEndTime();
 
     /**
-     * <code>repeated string stack_trace = 3;</code>
-     * @return A list containing the stackTrace.
-     */
-    java.util.List<java.lang.String>
-        getStackTraceList();
-    /**
-     * <code>repeated string stack_trace = 3;</code>
-     * @return The count of stackTrace.
-     */
-    int getStackTraceCount();
-    /**
-     * <code>repeated string stack_trace = 3;</code>
-     * @param index The index of the element to return.
-     * @return The stackTrace at the given index.
+     * <code>string reason = 3;</code>
+     * @return The reason.
      */
-    java.lang.String getStackTrace(int index);
+    java.lang.String getReason();
     /**
-     * <code>repeated string stack_trace = 3;</code>
-     * @param index The index of the value to return.
-     * @return The bytes of the stackTrace at the given index.
+     * <code>string reason = 3;</code>
+     * @return The bytes for reason.
      */
     com.google.protobuf.ByteString
-        getStackTraceBytes(int index);
+        getReasonBytes();
   }
   /**
-   * Protobuf type {@code health.v1.ErrorDetails}
+   * <pre>
+   * Additional message types to demonstrate more concepts
+   * </pre>
+   *
+   * Protobuf type {@code health.v1.MaintenanceInfo}
    */
-  public static final class ErrorDetails extends
+  public static final class MaintenanceInfo extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:health.v1.ErrorDetails)
-      ErrorDetailsOrBuilder {
+      // @@protoc_insertion_point(message_implements:health.v1.MaintenanceInfo)
+      MaintenanceInfoOrBuilder {
   private static final long serialVersionUID = 0L;
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
@@ -8215,118 +9222,90 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
         /* minor= */ 31,
         /* patch= */ 0,
         /* suffix= */ "",
-        ErrorDetails.class.getName());
+        MaintenanceInfo.class.getName());
     }
-    // Use ErrorDetails.newBuilder() to construct.
-    private ErrorDetails(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    // Use MaintenanceInfo.newBuilder() to construct.
+    private MaintenanceInfo(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-    private ErrorDetails() {
-      errorCategory_ = "";
-      stackTrace_ =
-          com.google.protobuf.LazyStringArrayList.emptyList();
+    private MaintenanceInfo() {
+      reason_ = "";
     }
 
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_ErrorDetails_descriptor;
+      return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_MaintenanceInfo_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_ErrorDetails_fieldAccessorTable
+      return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_MaintenanceInfo_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails.class, com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails.Builder.class);
+              com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo.class, com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo.Builder.class);
     }
 
-    public static final int ERROR_CODE_FIELD_NUMBER = 1;
-    private int errorCode_ = 0;
+    public static final int START_TIME_FIELD_NUMBER = 1;
+    private long startTime_ = 0L;
     /**
-     * <code>int32 error_code = 1;</code>
-     * @return The errorCode.
+     * <code>int64 start_time = 1;</code>
+     * @return The startTime.
      */
     @java.lang.Override
-    public int getErrorCode() {
-      return errorCode_;
+    public long getStartTime() {
+      return startTime_;
     }
 
-    public static final int ERROR_CATEGORY_FIELD_NUMBER = 2;
+    public static final int ESTIMATED_END_TIME_FIELD_NUMBER = 2;
+    private long estimatedEndTime_ = 0L;
+    /**
+     * <code>int64 estimated_end_time = 2;</code>
+     * @return The estimatedEndTime.
+     */
+    @java.lang.Override
+    public long getEstimatedEndTime() {
+      return estimatedEndTime_;
+    }
+
+    public static final int REASON_FIELD_NUMBER = 3;
     @SuppressWarnings("serial")
-    private volatile java.lang.Object errorCategory_ = "";
+    private volatile java.lang.Object reason_ = "";
     /**
-     * <code>string error_category = 2;</code>
-     * @return The errorCategory.
+     * <code>string reason = 3;</code>
+     * @return The reason.
      */
     @java.lang.Override
-    public java.lang.String getErrorCategory() {
-      java.lang.Object ref = errorCategory_;
+    public java.lang.String getReason() {
+      java.lang.Object ref = reason_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        errorCategory_ = s;
+        reason_ = s;
         return s;
       }
     }
     /**
-     * <code>string error_category = 2;</code>
-     * @return The bytes for errorCategory.
+     * <code>string reason = 3;</code>
+     * @return The bytes for reason.
      */
     @java.lang.Override
     public com.google.protobuf.ByteString
-        getErrorCategoryBytes() {
-      java.lang.Object ref = errorCategory_;
+        getReasonBytes() {
+      java.lang.Object ref = reason_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        errorCategory_ = b;
+        reason_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
-    public static final int STACK_TRACE_FIELD_NUMBER = 3;
-    @SuppressWarnings("serial")
-    private com.google.protobuf.LazyStringArrayList stackTrace_ =
-        com.google.protobuf.LazyStringArrayList.emptyList();
-    /**
-     * <code>repeated string stack_trace = 3;</code>
-     * @return A list containing the stackTrace.
-     */
-    public com.google.protobuf.ProtocolStringList
-        getStackTraceList() {
-      return stackTrace_;
-    }
-    /**
-     * <code>repeated string stack_trace = 3;</code>
-     * @return The count of stackTrace.
-     */
-    public int getStackTraceCount() {
-      return stackTrace_.size();
-    }
-    /**
-     * <code>repeated string stack_trace = 3;</code>
-     * @param index The index of the element to return.
-     * @return The stackTrace at the given index.
-     */
-    public java.lang.String getStackTrace(int index) {
-      return stackTrace_.get(index);
-    }
-    /**
-     * <code>repeated string stack_trace = 3;</code>
-     * @param index The index of the value to return.
-     * @return The bytes of the stackTrace at the given index.
-     */
-    public com.google.protobuf.ByteString
-        getStackTraceBytes(int index) {
-      return stackTrace_.getByteString(index);
-    }
-
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -8341,14 +9320,14 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (errorCode_ != 0) {
-        output.writeInt32(1, errorCode_);
+      if (startTime_ != 0L) {
+        output.writeInt64(1, startTime_);
       }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(errorCategory_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 2, errorCategory_);
+      if (estimatedEndTime_ != 0L) {
+        output.writeInt64(2, estimatedEndTime_);
       }
-      for (int i = 0; i < stackTrace_.size(); i++) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 3, stackTrace_.getRaw(i));
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(reason_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 3, reason_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -8359,20 +9338,16 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
       if (size != -1) return size;
 
       size = 0;
-      if (errorCode_ != 0) {
+      if (startTime_ != 0L) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(1, errorCode_);
+          .computeInt64Size(1, startTime_);
       }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(errorCategory_)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, errorCategory_);
+      if (estimatedEndTime_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, estimatedEndTime_);
       }
-      {
-        int dataSize = 0;
-        for (int i = 0; i < stackTrace_.size(); i++) {
-          dataSize += computeStringSizeNoTag(stackTrace_.getRaw(i));
-        }
-        size += dataSize;
-        size += 1 * getStackTraceList().size();
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(reason_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(3, reason_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -8384,17 +9359,17 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails)) {
+      if (!(obj instanceof com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo)) {
         return super.equals(obj);
       }
-      com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails other = (com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails) obj;
+      com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo other = (com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo) obj;
 
-      if (getErrorCode()
-          != other.getErrorCode()) return false;
-      if (!getErrorCategory()
-          .equals(other.getErrorCategory())) return false;
-      if (!getStackTraceList()
-          .equals(other.getStackTraceList())) return false;
+      if (getStartTime()
+          != other.getStartTime()) return false;
+      if (getEstimatedEndTime()
+          != other.getEstimatedEndTime()) return false;
+      if (!getReason()
+          .equals(other.getReason())) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -8406,57 +9381,57 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + ERROR_CODE_FIELD_NUMBER;
-      hash = (53 * hash) + getErrorCode();
-      hash = (37 * hash) + ERROR_CATEGORY_FIELD_NUMBER;
-      hash = (53 * hash) + getErrorCategory().hashCode();
-      if (getStackTraceCount() > 0) {
-        hash = (37 * hash) + STACK_TRACE_FIELD_NUMBER;
-        hash = (53 * hash) + getStackTraceList().hashCode();
-      }
+      hash = (37 * hash) + START_TIME_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getStartTime());
+      hash = (37 * hash) + ESTIMATED_END_TIME_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getEstimatedEndTime());
+      hash = (37 * hash) + REASON_FIELD_NUMBER;
+      hash = (53 * hash) + getReason().hashCode();
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails parseFrom(
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails parseFrom(
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails parseFrom(
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails parseFrom(
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails parseFrom(byte[] data)
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails parseFrom(
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails parseFrom(java.io.InputStream input)
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails parseFrom(
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -8464,26 +9439,26 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails parseDelimitedFrom(java.io.InputStream input)
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails parseDelimitedFrom(
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails parseFrom(
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails parseFrom(
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -8496,7 +9471,7 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails prototype) {
+    public static Builder newBuilder(com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -8512,26 +9487,30 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
       return builder;
     }
     /**
-     * Protobuf type {@code health.v1.ErrorDetails}
+     * <pre>
+     * Additional message types to demonstrate more concepts
+     * </pre>
+     *
+     * Protobuf type {@code health.v1.MaintenanceInfo}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:health.v1.ErrorDetails)
-        com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetailsOrBuilder {
+        // @@protoc_insertion_point(builder_implements:health.v1.MaintenanceInfo)
+        com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfoOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_ErrorDetails_descriptor;
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_MaintenanceInfo_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_ErrorDetails_fieldAccessorTable
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_MaintenanceInfo_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails.class, com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails.Builder.class);
+                com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo.class, com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo.Builder.class);
       }
 
-      // Construct using com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails.newBuilder()
+      // Construct using com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo.newBuilder()
       private Builder() {
 
       }
@@ -8545,27 +9524,26 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
       public Builder clear() {
         super.clear();
         bitField0_ = 0;
-        errorCode_ = 0;
-        errorCategory_ = "";
-        stackTrace_ =
-            com.google.protobuf.LazyStringArrayList.emptyList();
+        startTime_ = 0L;
+        estimatedEndTime_ = 0L;
+        reason_ = "";
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_ErrorDetails_descriptor;
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_MaintenanceInfo_descriptor;
       }
 
       @java.lang.Override
-      public com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails getDefaultInstanceForType() {
-        return com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails.getDefaultInstance();
+      public com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo getDefaultInstanceForType() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo.getDefaultInstance();
       }
 
       @java.lang.Override
-      public com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails build() {
-        com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails result = buildPartial();
+      public com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo build() {
+        com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -8573,55 +9551,47 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
       }
 
       @java.lang.Override
-      public com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails buildPartial() {
-        com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails result = new com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails(this);
+      public com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo buildPartial() {
+        com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo result = new com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo(this);
         if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartial0(com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails result) {
+      private void buildPartial0(com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo result) {
         int from_bitField0_ = bitField0_;
         if (((from_bitField0_ & 0x00000001) != 0)) {
-          result.errorCode_ = errorCode_;
+          result.startTime_ = startTime_;
         }
         if (((from_bitField0_ & 0x00000002) != 0)) {
-          result.errorCategory_ = errorCategory_;
+          result.estimatedEndTime_ = estimatedEndTime_;
         }
         if (((from_bitField0_ & 0x00000004) != 0)) {
-          stackTrace_.makeImmutable();
-          result.stackTrace_ = stackTrace_;
+          result.reason_ = reason_;
         }
       }
 
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails) {
-          return mergeFrom((com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails)other);
+        if (other instanceof com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo) {
+          return mergeFrom((com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails other) {
-        if (other == com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails.getDefaultInstance()) return this;
-        if (other.getErrorCode() != 0) {
-          setErrorCode(other.getErrorCode());
+      public Builder mergeFrom(com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo other) {
+        if (other == com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo.getDefaultInstance()) return this;
+        if (other.getStartTime() != 0L) {
+          setStartTime(other.getStartTime());
         }
-        if (!other.getErrorCategory().isEmpty()) {
-          errorCategory_ = other.errorCategory_;
-          bitField0_ |= 0x00000002;
-          onChanged();
+        if (other.getEstimatedEndTime() != 0L) {
+          setEstimatedEndTime(other.getEstimatedEndTime());
         }
-        if (!other.stackTrace_.isEmpty()) {
-          if (stackTrace_.isEmpty()) {
-            stackTrace_ = other.stackTrace_;
-            bitField0_ |= 0x00000004;
-          } else {
-            ensureStackTraceIsMutable();
-            stackTrace_.addAll(other.stackTrace_);
-          }
+        if (!other.getReason().isEmpty()) {
+          reason_ = other.reason_;
+          bitField0_ |= 0x00000004;
           onChanged();
         }
         this.mergeUnknownFields(other.getUnknownFields());
@@ -8651,20 +9621,19 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
                 done = true;
                 break;
               case 8: {
-                errorCode_ = input.readInt32();
+                startTime_ = input.readInt64();
                 bitField0_ |= 0x00000001;
                 break;
               } // case 8
-              case 18: {
-                errorCategory_ = input.readStringRequireUtf8();
+              case 16: {
+                estimatedEndTime_ = input.readInt64();
                 bitField0_ |= 0x00000002;
                 break;
-              } // case 18
+              } // case 16
               case 26: {
-                java.lang.String s = input.readStringRequireUtf8();
-                ensureStackTraceIsMutable();
-                stackTrace_.add(s);
-                break;
+                reason_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
               } // case 26
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
@@ -8681,240 +9650,11395 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
         } // finally
         return this;
       }
-      private int bitField0_;
+      private int bitField0_;
+
+      private long startTime_ ;
+      /**
+       * <code>int64 start_time = 1;</code>
+       * @return The startTime.
+       */
+      @java.lang.Override
+      public long getStartTime() {
+        return startTime_;
+      }
+      /**
+       * <code>int64 start_time = 1;</code>
+       * @param value The startTime to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStartTime(long value) {
+
+        startTime_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 start_time = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearStartTime() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        startTime_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long estimatedEndTime_ ;
+      /**
+       * <code>int64 estimated_end_time = 2;</code>
+       * @return The estimatedEndTime.
+       */
+      @java.lang.Override
+      public long getEstimatedEndTime() {
+        return estimatedEndTime_;
+      }
+      /**
+       * <code>int64 estimated_end_time = 2;</code>
+       * @param value The estimatedEndTime to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEstimatedEndTime(long value) {
+
+        estimatedEndTime_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 estimated_end_time = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearEstimatedEndTime() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        estimatedEndTime_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object reason_ = "";
+      /**
+       * <code>string reason = 3;</code>
+       * @return The reason.
+       */
+      public java.lang.String getReason() {
+        java.lang.Object ref = reason_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          reason_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string reason = 3;</code>
+       * @return The bytes for reason.
+       */
+      public com.google.protobuf.ByteString
+          getReasonBytes() {
+        java.lang.Object ref = reason_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          reason_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string reason = 3;</code>
+       * @param value The reason to set.
+       * @return This builder for chaining.
+       */
+      public Builder setReason(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        reason_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string reason = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearReason() {
+        reason_ = getDefaultInstance().getReason();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string reason = 3;</code>
+       * @param value The bytes for reason to set.
+       * @return This builder for chaining.
+       */
+      public Builder setReasonBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        reason_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:health.v1.MaintenanceInfo)
+    }
+
+    // @@protoc_insertion_point(class_scope:health.v1.MaintenanceInfo)
+    private static final com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo();
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<MaintenanceInfo>
+        PARSER = new com.google.protobuf.AbstractParser<MaintenanceInfo>() {
+      @java.lang.Override
+      public MaintenanceInfo parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<MaintenanceInfo> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<MaintenanceInfo> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface MaintenanceWindowOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:health.v1.MaintenanceWindow)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Assigned by the server when left empty
+     * </pre>
+     *
+     * <code>string id = 1;</code>
+     * @return The id.
+     */
+    java.lang.String getId();
+    /**
+     * <pre>
+     * Assigned by the server when left empty
+     * </pre>
+     *
+     * <code>string id = 1;</code>
+     * @return The bytes for id.
+     */
+    com.google.protobuf.ByteString
+        getIdBytes();
+
+    /**
+     * <pre>
+     * Component name; empty = the whole node
+     * </pre>
+     *
+     * <code>string component = 2;</code>
+     * @return The component.
+     */
+    java.lang.String getComponent();
+    /**
+     * <pre>
+     * Component name; empty = the whole node
+     * </pre>
+     *
+     * <code>string component = 2;</code>
+     * @return The bytes for component.
+     */
+    com.google.protobuf.ByteString
+        getComponentBytes();
+
+    /**
+     * <pre>
+     * start_time (0 = now), estimated_end_time (0 = until cleared), reason
+     * </pre>
+     *
+     * <code>.health.v1.MaintenanceInfo info = 3;</code>
+     * @return Whether the info field is set.
+     */
+    boolean hasInfo();
+    /**
+     * <pre>
+     * start_time (0 = now), estimated_end_time (0 = until cleared), reason
+     * </pre>
+     *
+     * <code>.health.v1.MaintenanceInfo info = 3;</code>
+     * @return The info.
+     */
+    com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo getInfo();
+    /**
+     * <pre>
+     * start_time (0 = now), estimated_end_time (0 = until cleared), reason
+     * </pre>
+     *
+     * <code>.health.v1.MaintenanceInfo info = 3;</code>
+     */
+    com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfoOrBuilder getInfoOrBuilder();
+  }
+  /**
+   * <pre>
+   * A maintenance window. While it is active the component (or, with no component,
+   * the whole node) is not probed and responses report MAINTENANCE with its info.
+   * </pre>
+   *
+   * Protobuf type {@code health.v1.MaintenanceWindow}
+   */
+  public static final class MaintenanceWindow extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:health.v1.MaintenanceWindow)
+      MaintenanceWindowOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 31,
+        /* patch= */ 0,
+        /* suffix= */ "",
+        MaintenanceWindow.class.getName());
+    }
+    // Use MaintenanceWindow.newBuilder() to construct.
+    private MaintenanceWindow(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private MaintenanceWindow() {
+      id_ = "";
+      component_ = "";
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_MaintenanceWindow_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_MaintenanceWindow_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow.class, com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int ID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object id_ = "";
+    /**
+     * <pre>
+     * Assigned by the server when left empty
+     * </pre>
+     *
+     * <code>string id = 1;</code>
+     * @return The id.
+     */
+    @java.lang.Override
+    public java.lang.String getId() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        id_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Assigned by the server when left empty
+     * </pre>
+     *
+     * <code>string id = 1;</code>
+     * @return The bytes for id.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getIdBytes() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        id_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int COMPONENT_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object component_ = "";
+    /**
+     * <pre>
+     * Component name; empty = the whole node
+     * </pre>
+     *
+     * <code>string component = 2;</code>
+     * @return The component.
+     */
+    @java.lang.Override
+    public java.lang.String getComponent() {
+      java.lang.Object ref = component_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        component_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Component name; empty = the whole node
+     * </pre>
+     *
+     * <code>string component = 2;</code>
+     * @return The bytes for component.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getComponentBytes() {
+      java.lang.Object ref = component_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        component_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int INFO_FIELD_NUMBER = 3;
+    private com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo info_;
+    /**
+     * <pre>
+     * start_time (0 = now), estimated_end_time (0 = until cleared), reason
+     * </pre>
+     *
+     * <code>.health.v1.MaintenanceInfo info = 3;</code>
+     * @return Whether the info field is set.
+     */
+    @java.lang.Override
+    public boolean hasInfo() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <pre>
+     * start_time (0 = now), estimated_end_time (0 = until cleared), reason
+     * </pre>
+     *
+     * <code>.health.v1.MaintenanceInfo info = 3;</code>
+     * @return The info.
+     */
+    @java.lang.Override
+    public com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo getInfo() {
+      return info_ == null ? com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo.getDefaultInstance() : info_;
+    }
+    /**
+     * <pre>
+     * start_time (0 = now), estimated_end_time (0 = until cleared), reason
+     * </pre>
+     *
+     * <code>.health.v1.MaintenanceInfo info = 3;</code>
+     */
+    @java.lang.Override
+    public com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfoOrBuilder getInfoOrBuilder() {
+      return info_ == null ? com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo.getDefaultInstance() : info_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(id_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, id_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(component_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 2, component_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeMessage(3, getInfo());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(id_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, id_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(component_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, component_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, getInfo());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow)) {
+        return super.equals(obj);
+      }
+      com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow other = (com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow) obj;
+
+      if (!getId()
+          .equals(other.getId())) return false;
+      if (!getComponent()
+          .equals(other.getComponent())) return false;
+      if (hasInfo() != other.hasInfo()) return false;
+      if (hasInfo()) {
+        if (!getInfo()
+            .equals(other.getInfo())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + ID_FIELD_NUMBER;
+      hash = (53 * hash) + getId().hashCode();
+      hash = (37 * hash) + COMPONENT_FIELD_NUMBER;
+      hash = (53 * hash) + getComponent().hashCode();
+      if (hasInfo()) {
+        hash = (37 * hash) + INFO_FIELD_NUMBER;
+        hash = (53 * hash) + getInfo().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * A maintenance window. While it is active the component (or, with no component,
+     * the whole node) is not probed and responses report MAINTENANCE with its info.
+     * </pre>
+     *
+     * Protobuf type {@code health.v1.MaintenanceWindow}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:health.v1.MaintenanceWindow)
+        com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_MaintenanceWindow_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_MaintenanceWindow_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow.class, com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow.Builder.class);
+      }
+
+      // Construct using com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage
+                .alwaysUseFieldBuilders) {
+          internalGetInfoFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        id_ = "";
+        component_ = "";
+        info_ = null;
+        if (infoBuilder_ != null) {
+          infoBuilder_.dispose();
+          infoBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_MaintenanceWindow_descriptor;
+      }
+
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow getDefaultInstanceForType() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow build() {
+        com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow buildPartial() {
+        com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow result = new com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.id_ = id_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.component_ = component_;
+        }
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.info_ = infoBuilder_ == null
+              ? info_
+              : infoBuilder_.build();
+          to_bitField0_ |= 0x00000001;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow) {
+          return mergeFrom((com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow other) {
+        if (other == com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow.getDefaultInstance()) return this;
+        if (!other.getId().isEmpty()) {
+          id_ = other.id_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getComponent().isEmpty()) {
+          component_ = other.component_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (other.hasInfo()) {
+          mergeInfo(other.getInfo());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                id_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                component_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                input.readMessage(
+                    internalGetInfoFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object id_ = "";
+      /**
+       * <pre>
+       * Assigned by the server when left empty
+       * </pre>
+       *
+       * <code>string id = 1;</code>
+       * @return The id.
+       */
+      public java.lang.String getId() {
+        java.lang.Object ref = id_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          id_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Assigned by the server when left empty
+       * </pre>
+       *
+       * <code>string id = 1;</code>
+       * @return The bytes for id.
+       */
+      public com.google.protobuf.ByteString
+          getIdBytes() {
+        java.lang.Object ref = id_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          id_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Assigned by the server when left empty
+       * </pre>
+       *
+       * <code>string id = 1;</code>
+       * @param value The id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        id_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Assigned by the server when left empty
+       * </pre>
+       *
+       * <code>string id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearId() {
+        id_ = getDefaultInstance().getId();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Assigned by the server when left empty
+       * </pre>
+       *
+       * <code>string id = 1;</code>
+       * @param value The bytes for id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        id_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object component_ = "";
+      /**
+       * <pre>
+       * Component name; empty = the whole node
+       * </pre>
+       *
+       * <code>string component = 2;</code>
+       * @return The component.
+       */
+      public java.lang.String getComponent() {
+        java.lang.Object ref = component_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          component_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Component name; empty = the whole node
+       * </pre>
+       *
+       * <code>string component = 2;</code>
+       * @return The bytes for component.
+       */
+      public com.google.protobuf.ByteString
+          getComponentBytes() {
+        java.lang.Object ref = component_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          component_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Component name; empty = the whole node
+       * </pre>
+       *
+       * <code>string component = 2;</code>
+       * @param value The component to set.
+       * @return This builder for chaining.
+       */
+      public Builder setComponent(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        component_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Component name; empty = the whole node
+       * </pre>
+       *
+       * <code>string component = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearComponent() {
+        component_ = getDefaultInstance().getComponent();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Component name; empty = the whole node
+       * </pre>
+       *
+       * <code>string component = 2;</code>
+       * @param value The bytes for component to set.
+       * @return This builder for chaining.
+       */
+      public Builder setComponentBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        component_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo info_;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo, com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo.Builder, com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfoOrBuilder> infoBuilder_;
+      /**
+       * <pre>
+       * start_time (0 = now), estimated_end_time (0 = until cleared), reason
+       * </pre>
+       *
+       * <code>.health.v1.MaintenanceInfo info = 3;</code>
+       * @return Whether the info field is set.
+       */
+      public boolean hasInfo() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <pre>
+       * start_time (0 = now), estimated_end_time (0 = until cleared), reason
+       * </pre>
+       *
+       * <code>.health.v1.MaintenanceInfo info = 3;</code>
+       * @return The info.
+       */
+      public com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo getInfo() {
+        if (infoBuilder_ == null) {
+          return info_ == null ? com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo.getDefaultInstance() : info_;
+        } else {
+          return infoBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * start_time (0 = now), estimated_end_time (0 = until cleared), reason
+       * </pre>
+       *
+       * <code>.health.v1.MaintenanceInfo info = 3;</code>
+       */
+      public Builder setInfo(com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo value) {
+        if (infoBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          info_ = value;
+        } else {
+          infoBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * start_time (0 = now), estimated_end_time (0 = until cleared), reason
+       * </pre>
+       *
+       * <code>.health.v1.MaintenanceInfo info = 3;</code>
+       */
+      public Builder setInfo(
+          com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo.Builder builderForValue) {
+        if (infoBuilder_ == null) {
+          info_ = builderForValue.build();
+        } else {
+          infoBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * start_time (0 = now), estimated_end_time (0 = until cleared), reason
+       * </pre>
+       *
+       * <code>.health.v1.MaintenanceInfo info = 3;</code>
+       */
+      public Builder mergeInfo(com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo value) {
+        if (infoBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0) &&
+            info_ != null &&
+            info_ != com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo.getDefaultInstance()) {
+            getInfoBuilder().mergeFrom(value);
+          } else {
+            info_ = value;
+          }
+        } else {
+          infoBuilder_.mergeFrom(value);
+        }
+        if (info_ != null) {
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * start_time (0 = now), estimated_end_time (0 = until cleared), reason
+       * </pre>
+       *
+       * <code>.health.v1.MaintenanceInfo info = 3;</code>
+       */
+      public Builder clearInfo() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        info_ = null;
+        if (infoBuilder_ != null) {
+          infoBuilder_.dispose();
+          infoBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * start_time (0 = now), estimated_end_time (0 = until cleared), reason
+       * </pre>
+       *
+       * <code>.health.v1.MaintenanceInfo info = 3;</code>
+       */
+      public com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo.Builder getInfoBuilder() {
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return internalGetInfoFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * start_time (0 = now), estimated_end_time (0 = until cleared), reason
+       * </pre>
+       *
+       * <code>.health.v1.MaintenanceInfo info = 3;</code>
+       */
+      public com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfoOrBuilder getInfoOrBuilder() {
+        if (infoBuilder_ != null) {
+          return infoBuilder_.getMessageOrBuilder();
+        } else {
+          return info_ == null ?
+              com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo.getDefaultInstance() : info_;
+        }
+      }
+      /**
+       * <pre>
+       * start_time (0 = now), estimated_end_time (0 = until cleared), reason
+       * </pre>
+       *
+       * <code>.health.v1.MaintenanceInfo info = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo, com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo.Builder, com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfoOrBuilder> 
+          internalGetInfoFieldBuilder() {
+        if (infoBuilder_ == null) {
+          infoBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo, com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo.Builder, com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfoOrBuilder>(
+                  getInfo(),
+                  getParentForChildren(),
+                  isClean());
+          info_ = null;
+        }
+        return infoBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:health.v1.MaintenanceWindow)
+    }
+
+    // @@protoc_insertion_point(class_scope:health.v1.MaintenanceWindow)
+    private static final com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow();
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<MaintenanceWindow>
+        PARSER = new com.google.protobuf.AbstractParser<MaintenanceWindow>() {
+      @java.lang.Override
+      public MaintenanceWindow parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<MaintenanceWindow> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<MaintenanceWindow> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SetMaintenanceRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:health.v1.SetMaintenanceRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * A window with an existing id replaces it
+     * </pre>
+     *
+     * <code>.health.v1.MaintenanceWindow window = 1;</code>
+     * @return Whether the window field is set.
+     */
+    boolean hasWindow();
+    /**
+     * <pre>
+     * A window with an existing id replaces it
+     * </pre>
+     *
+     * <code>.health.v1.MaintenanceWindow window = 1;</code>
+     * @return The window.
+     */
+    com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow getWindow();
+    /**
+     * <pre>
+     * A window with an existing id replaces it
+     * </pre>
+     *
+     * <code>.health.v1.MaintenanceWindow window = 1;</code>
+     */
+    com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowOrBuilder getWindowOrBuilder();
+  }
+  /**
+   * Protobuf type {@code health.v1.SetMaintenanceRequest}
+   */
+  public static final class SetMaintenanceRequest extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:health.v1.SetMaintenanceRequest)
+      SetMaintenanceRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 31,
+        /* patch= */ 0,
+        /* suffix= */ "",
+        SetMaintenanceRequest.class.getName());
+    }
+    // Use SetMaintenanceRequest.newBuilder() to construct.
+    private SetMaintenanceRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private SetMaintenanceRequest() {
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_SetMaintenanceRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_SetMaintenanceRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest.class, com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int WINDOW_FIELD_NUMBER = 1;
+    private com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow window_;
+    /**
+     * <pre>
+     * A window with an existing id replaces it
+     * </pre>
+     *
+     * <code>.health.v1.MaintenanceWindow window = 1;</code>
+     * @return Whether the window field is set.
+     */
+    @java.lang.Override
+    public boolean hasWindow() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <pre>
+     * A window with an existing id replaces it
+     * </pre>
+     *
+     * <code>.health.v1.MaintenanceWindow window = 1;</code>
+     * @return The window.
+     */
+    @java.lang.Override
+    public com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow getWindow() {
+      return window_ == null ? com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow.getDefaultInstance() : window_;
+    }
+    /**
+     * <pre>
+     * A window with an existing id replaces it
+     * </pre>
+     *
+     * <code>.health.v1.MaintenanceWindow window = 1;</code>
+     */
+    @java.lang.Override
+    public com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowOrBuilder getWindowOrBuilder() {
+      return window_ == null ? com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow.getDefaultInstance() : window_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeMessage(1, getWindow());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getWindow());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest)) {
+        return super.equals(obj);
+      }
+      com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest other = (com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest) obj;
+
+      if (hasWindow() != other.hasWindow()) return false;
+      if (hasWindow()) {
+        if (!getWindow()
+            .equals(other.getWindow())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasWindow()) {
+        hash = (37 * hash) + WINDOW_FIELD_NUMBER;
+        hash = (53 * hash) + getWindow().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code health.v1.SetMaintenanceRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:health.v1.SetMaintenanceRequest)
+        com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_SetMaintenanceRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_SetMaintenanceRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest.class, com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest.Builder.class);
+      }
+
+      // Construct using com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage
+                .alwaysUseFieldBuilders) {
+          internalGetWindowFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        window_ = null;
+        if (windowBuilder_ != null) {
+          windowBuilder_.dispose();
+          windowBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_SetMaintenanceRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest getDefaultInstanceForType() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest build() {
+        com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest buildPartial() {
+        com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest result = new com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.window_ = windowBuilder_ == null
+              ? window_
+              : windowBuilder_.build();
+          to_bitField0_ |= 0x00000001;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest) {
+          return mergeFrom((com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest other) {
+        if (other == com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest.getDefaultInstance()) return this;
+        if (other.hasWindow()) {
+          mergeWindow(other.getWindow());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    internalGetWindowFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow window_;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow, com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow.Builder, com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowOrBuilder> windowBuilder_;
+      /**
+       * <pre>
+       * A window with an existing id replaces it
+       * </pre>
+       *
+       * <code>.health.v1.MaintenanceWindow window = 1;</code>
+       * @return Whether the window field is set.
+       */
+      public boolean hasWindow() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <pre>
+       * A window with an existing id replaces it
+       * </pre>
+       *
+       * <code>.health.v1.MaintenanceWindow window = 1;</code>
+       * @return The window.
+       */
+      public com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow getWindow() {
+        if (windowBuilder_ == null) {
+          return window_ == null ? com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow.getDefaultInstance() : window_;
+        } else {
+          return windowBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * A window with an existing id replaces it
+       * </pre>
+       *
+       * <code>.health.v1.MaintenanceWindow window = 1;</code>
+       */
+      public Builder setWindow(com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow value) {
+        if (windowBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          window_ = value;
+        } else {
+          windowBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * A window with an existing id replaces it
+       * </pre>
+       *
+       * <code>.health.v1.MaintenanceWindow window = 1;</code>
+       */
+      public Builder setWindow(
+          com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow.Builder builderForValue) {
+        if (windowBuilder_ == null) {
+          window_ = builderForValue.build();
+        } else {
+          windowBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * A window with an existing id replaces it
+       * </pre>
+       *
+       * <code>.health.v1.MaintenanceWindow window = 1;</code>
+       */
+      public Builder mergeWindow(com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow value) {
+        if (windowBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            window_ != null &&
+            window_ != com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow.getDefaultInstance()) {
+            getWindowBuilder().mergeFrom(value);
+          } else {
+            window_ = value;
+          }
+        } else {
+          windowBuilder_.mergeFrom(value);
+        }
+        if (window_ != null) {
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * A window with an existing id replaces it
+       * </pre>
+       *
+       * <code>.health.v1.MaintenanceWindow window = 1;</code>
+       */
+      public Builder clearWindow() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        window_ = null;
+        if (windowBuilder_ != null) {
+          windowBuilder_.dispose();
+          windowBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * A window with an existing id replaces it
+       * </pre>
+       *
+       * <code>.health.v1.MaintenanceWindow window = 1;</code>
+       */
+      public com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow.Builder getWindowBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return internalGetWindowFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * A window with an existing id replaces it
+       * </pre>
+       *
+       * <code>.health.v1.MaintenanceWindow window = 1;</code>
+       */
+      public com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowOrBuilder getWindowOrBuilder() {
+        if (windowBuilder_ != null) {
+          return windowBuilder_.getMessageOrBuilder();
+        } else {
+          return window_ == null ?
+              com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow.getDefaultInstance() : window_;
+        }
+      }
+      /**
+       * <pre>
+       * A window with an existing id replaces it
+       * </pre>
+       *
+       * <code>.health.v1.MaintenanceWindow window = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow, com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow.Builder, com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowOrBuilder> 
+          internalGetWindowFieldBuilder() {
+        if (windowBuilder_ == null) {
+          windowBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow, com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow.Builder, com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowOrBuilder>(
+                  getWindow(),
+                  getParentForChildren(),
+                  isClean());
+          window_ = null;
+        }
+        return windowBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:health.v1.SetMaintenanceRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:health.v1.SetMaintenanceRequest)
+    private static final com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest();
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<SetMaintenanceRequest>
+        PARSER = new com.google.protobuf.AbstractParser<SetMaintenanceRequest>() {
+      @java.lang.Override
+      public SetMaintenanceRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<SetMaintenanceRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SetMaintenanceRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.shankarnarayanb.health.v1.HealthServiceProto.SetMaintenanceRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ClearMaintenanceRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:health.v1.ClearMaintenanceRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Window to clear; if empty, every window for component is cleared
+     * </pre>
+     *
+     * <code>string id = 1;</code>
+     * @return The id.
+     */
+    java.lang.String getId();
+    /**
+     * <pre>
+     * Window to clear; if empty, every window for component is cleared
+     * </pre>
+     *
+     * <code>string id = 1;</code>
+     * @return The bytes for id.
+     */
+    com.google.protobuf.ByteString
+        getIdBytes();
+
+    /**
+     * <pre>
+     * Empty with an empty id = node-wide windows
+     * </pre>
+     *
+     * <code>string component = 2;</code>
+     * @return The component.
+     */
+    java.lang.String getComponent();
+    /**
+     * <pre>
+     * Empty with an empty id = node-wide windows
+     * </pre>
+     *
+     * <code>string component = 2;</code>
+     * @return The bytes for component.
+     */
+    com.google.protobuf.ByteString
+        getComponentBytes();
+  }
+  /**
+   * Protobuf type {@code health.v1.ClearMaintenanceRequest}
+   */
+  public static final class ClearMaintenanceRequest extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:health.v1.ClearMaintenanceRequest)
+      ClearMaintenanceRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 31,
+        /* patch= */ 0,
+        /* suffix= */ "",
+        ClearMaintenanceRequest.class.getName());
+    }
+    // Use ClearMaintenanceRequest.newBuilder() to construct.
+    private ClearMaintenanceRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private ClearMaintenanceRequest() {
+      id_ = "";
+      component_ = "";
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_ClearMaintenanceRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_ClearMaintenanceRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest.class, com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest.Builder.class);
+    }
+
+    public static final int ID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object id_ = "";
+    /**
+     * <pre>
+     * Window to clear; if empty, every window for component is cleared
+     * </pre>
+     *
+     * <code>string id = 1;</code>
+     * @return The id.
+     */
+    @java.lang.Override
+    public java.lang.String getId() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        id_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Window to clear; if empty, every window for component is cleared
+     * </pre>
+     *
+     * <code>string id = 1;</code>
+     * @return The bytes for id.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getIdBytes() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        id_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int COMPONENT_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object component_ = "";
+    /**
+     * <pre>
+     * Empty with an empty id = node-wide windows
+     * </pre>
+     *
+     * <code>string component = 2;</code>
+     * @return The component.
+     */
+    @java.lang.Override
+    public java.lang.String getComponent() {
+      java.lang.Object ref = component_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        component_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Empty with an empty id = node-wide windows
+     * </pre>
+     *
+     * <code>string component = 2;</code>
+     * @return The bytes for component.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getComponentBytes() {
+      java.lang.Object ref = component_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        component_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(id_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, id_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(component_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 2, component_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(id_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, id_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(component_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, component_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest)) {
+        return super.equals(obj);
+      }
+      com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest other = (com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest) obj;
+
+      if (!getId()
+          .equals(other.getId())) return false;
+      if (!getComponent()
+          .equals(other.getComponent())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + ID_FIELD_NUMBER;
+      hash = (53 * hash) + getId().hashCode();
+      hash = (37 * hash) + COMPONENT_FIELD_NUMBER;
+      hash = (53 * hash) + getComponent().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code health.v1.ClearMaintenanceRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:health.v1.ClearMaintenanceRequest)
+        com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_ClearMaintenanceRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_ClearMaintenanceRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest.class, com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest.Builder.class);
+      }
+
+      // Construct using com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        id_ = "";
+        component_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_ClearMaintenanceRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest getDefaultInstanceForType() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest build() {
+        com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest buildPartial() {
+        com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest result = new com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.id_ = id_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.component_ = component_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest) {
+          return mergeFrom((com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest other) {
+        if (other == com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest.getDefaultInstance()) return this;
+        if (!other.getId().isEmpty()) {
+          id_ = other.id_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getComponent().isEmpty()) {
+          component_ = other.component_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                id_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                component_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object id_ = "";
+      /**
+       * <pre>
+       * Window to clear; if empty, every window for component is cleared
+       * </pre>
+       *
+       * <code>string id = 1;</code>
+       * @return The id.
+       */
+      public java.lang.String getId() {
+        java.lang.Object ref = id_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          id_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Window to clear; if empty, every window for component is cleared
+       * </pre>
+       *
+       * <code>string id = 1;</code>
+       * @return The bytes for id.
+       */
+      public com.google.protobuf.ByteString
+          getIdBytes() {
+        java.lang.Object ref = id_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          id_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Window to clear; if empty, every window for component is cleared
+       * </pre>
+       *
+       * <code>string id = 1;</code>
+       * @param value The id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        id_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Window to clear; if empty, every window for component is cleared
+       * </pre>
+       *
+       * <code>string id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearId() {
+        id_ = getDefaultInstance().getId();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Window to clear; if empty, every window for component is cleared
+       * </pre>
+       *
+       * <code>string id = 1;</code>
+       * @param value The bytes for id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        id_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object component_ = "";
+      /**
+       * <pre>
+       * Empty with an empty id = node-wide windows
+       * </pre>
+       *
+       * <code>string component = 2;</code>
+       * @return The component.
+       */
+      public java.lang.String getComponent() {
+        java.lang.Object ref = component_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          component_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Empty with an empty id = node-wide windows
+       * </pre>
+       *
+       * <code>string component = 2;</code>
+       * @return The bytes for component.
+       */
+      public com.google.protobuf.ByteString
+          getComponentBytes() {
+        java.lang.Object ref = component_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          component_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Empty with an empty id = node-wide windows
+       * </pre>
+       *
+       * <code>string component = 2;</code>
+       * @param value The component to set.
+       * @return This builder for chaining.
+       */
+      public Builder setComponent(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        component_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Empty with an empty id = node-wide windows
+       * </pre>
+       *
+       * <code>string component = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearComponent() {
+        component_ = getDefaultInstance().getComponent();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Empty with an empty id = node-wide windows
+       * </pre>
+       *
+       * <code>string component = 2;</code>
+       * @param value The bytes for component to set.
+       * @return This builder for chaining.
+       */
+      public Builder setComponentBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        component_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:health.v1.ClearMaintenanceRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:health.v1.ClearMaintenanceRequest)
+    private static final com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest();
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ClearMaintenanceRequest>
+        PARSER = new com.google.protobuf.AbstractParser<ClearMaintenanceRequest>() {
+      @java.lang.Override
+      public ClearMaintenanceRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<ClearMaintenanceRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ClearMaintenanceRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.shankarnarayanb.health.v1.HealthServiceProto.ClearMaintenanceRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ListMaintenanceRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:health.v1.ListMaintenanceRequest)
+      com.google.protobuf.MessageOrBuilder {
+  }
+  /**
+   * Protobuf type {@code health.v1.ListMaintenanceRequest}
+   */
+  public static final class ListMaintenanceRequest extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:health.v1.ListMaintenanceRequest)
+      ListMaintenanceRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 31,
+        /* patch= */ 0,
+        /* suffix= */ "",
+        ListMaintenanceRequest.class.getName());
+    }
+    // Use ListMaintenanceRequest.newBuilder() to construct.
+    private ListMaintenanceRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private ListMaintenanceRequest() {
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_ListMaintenanceRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_ListMaintenanceRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest.class, com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest.Builder.class);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest)) {
+        return super.equals(obj);
+      }
+      com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest other = (com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest) obj;
+
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code health.v1.ListMaintenanceRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:health.v1.ListMaintenanceRequest)
+        com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_ListMaintenanceRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_ListMaintenanceRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest.class, com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest.Builder.class);
+      }
+
+      // Construct using com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_ListMaintenanceRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest getDefaultInstanceForType() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest build() {
+        com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest buildPartial() {
+        com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest result = new com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest(this);
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest) {
+          return mergeFrom((com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest other) {
+        if (other == com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest.getDefaultInstance()) return this;
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:health.v1.ListMaintenanceRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:health.v1.ListMaintenanceRequest)
+    private static final com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest();
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ListMaintenanceRequest>
+        PARSER = new com.google.protobuf.AbstractParser<ListMaintenanceRequest>() {
+      @java.lang.Override
+      public ListMaintenanceRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<ListMaintenanceRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ListMaintenanceRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.shankarnarayanb.health.v1.HealthServiceProto.ListMaintenanceRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface MaintenanceWindowListOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:health.v1.MaintenanceWindowList)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .health.v1.MaintenanceWindow windows = 1;</code>
+     */
+    java.util.List<com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow> 
+        getWindowsList();
+    /**
+     * <code>repeated .health.v1.MaintenanceWindow windows = 1;</code>
+     */
+    com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow getWindows(int index);
+    /**
+     * <code>repeated .health.v1.MaintenanceWindow windows = 1;</code>
+     */
+    int getWindowsCount();
+    /**
+     * <code>repeated .health.v1.MaintenanceWindow windows = 1;</code>
+     */
+    java.util.List<? extends com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowOrBuilder> 
+        getWindowsOrBuilderList();
+    /**
+     * <code>repeated .health.v1.MaintenanceWindow windows = 1;</code>
+     */
+    com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowOrBuilder getWindowsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code health.v1.MaintenanceWindowList}
+   */
+  public static final class MaintenanceWindowList extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:health.v1.MaintenanceWindowList)
+      MaintenanceWindowListOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 31,
+        /* patch= */ 0,
+        /* suffix= */ "",
+        MaintenanceWindowList.class.getName());
+    }
+    // Use MaintenanceWindowList.newBuilder() to construct.
+    private MaintenanceWindowList(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private MaintenanceWindowList() {
+      windows_ = java.util.Collections.emptyList();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_MaintenanceWindowList_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_MaintenanceWindowList_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList.class, com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList.Builder.class);
+    }
+
+    public static final int WINDOWS_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private java.util.List<com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow> windows_;
+    /**
+     * <code>repeated .health.v1.MaintenanceWindow windows = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow> getWindowsList() {
+      return windows_;
+    }
+    /**
+     * <code>repeated .health.v1.MaintenanceWindow windows = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowOrBuilder> 
+        getWindowsOrBuilderList() {
+      return windows_;
+    }
+    /**
+     * <code>repeated .health.v1.MaintenanceWindow windows = 1;</code>
+     */
+    @java.lang.Override
+    public int getWindowsCount() {
+      return windows_.size();
+    }
+    /**
+     * <code>repeated .health.v1.MaintenanceWindow windows = 1;</code>
+     */
+    @java.lang.Override
+    public com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow getWindows(int index) {
+      return windows_.get(index);
+    }
+    /**
+     * <code>repeated .health.v1.MaintenanceWindow windows = 1;</code>
+     */
+    @java.lang.Override
+    public com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowOrBuilder getWindowsOrBuilder(
+        int index) {
+      return windows_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < windows_.size(); i++) {
+        output.writeMessage(1, windows_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < windows_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, windows_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList)) {
+        return super.equals(obj);
+      }
+      com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList other = (com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList) obj;
+
+      if (!getWindowsList()
+          .equals(other.getWindowsList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getWindowsCount() > 0) {
+        hash = (37 * hash) + WINDOWS_FIELD_NUMBER;
+        hash = (53 * hash) + getWindowsList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code health.v1.MaintenanceWindowList}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:health.v1.MaintenanceWindowList)
+        com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowListOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_MaintenanceWindowList_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_MaintenanceWindowList_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList.class, com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList.Builder.class);
+      }
+
+      // Construct using com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        if (windowsBuilder_ == null) {
+          windows_ = java.util.Collections.emptyList();
+        } else {
+          windows_ = null;
+          windowsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_MaintenanceWindowList_descriptor;
+      }
+
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList getDefaultInstanceForType() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList build() {
+        com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList buildPartial() {
+        com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList result = new com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList result) {
+        if (windowsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            windows_ = java.util.Collections.unmodifiableList(windows_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.windows_ = windows_;
+        } else {
+          result.windows_ = windowsBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList result) {
+        int from_bitField0_ = bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList) {
+          return mergeFrom((com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList other) {
+        if (other == com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList.getDefaultInstance()) return this;
+        if (windowsBuilder_ == null) {
+          if (!other.windows_.isEmpty()) {
+            if (windows_.isEmpty()) {
+              windows_ = other.windows_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureWindowsIsMutable();
+              windows_.addAll(other.windows_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.windows_.isEmpty()) {
+            if (windowsBuilder_.isEmpty()) {
+              windowsBuilder_.dispose();
+              windowsBuilder_ = null;
+              windows_ = other.windows_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              windowsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   internalGetWindowsFieldBuilder() : null;
+            } else {
+              windowsBuilder_.addAllMessages(other.windows_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow m =
+                    input.readMessage(
+                        com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow.parser(),
+                        extensionRegistry);
+                if (windowsBuilder_ == null) {
+                  ensureWindowsIsMutable();
+                  windows_.add(m);
+                } else {
+                  windowsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow> windows_ =
+        java.util.Collections.emptyList();
+      private void ensureWindowsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          windows_ = new java.util.ArrayList<com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow>(windows_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow, com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow.Builder, com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowOrBuilder> windowsBuilder_;
+
+      /**
+       * <code>repeated .health.v1.MaintenanceWindow windows = 1;</code>
+       */
+      public java.util.List<com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow> getWindowsList() {
+        if (windowsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(windows_);
+        } else {
+          return windowsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .health.v1.MaintenanceWindow windows = 1;</code>
+       */
+      public int getWindowsCount() {
+        if (windowsBuilder_ == null) {
+          return windows_.size();
+        } else {
+          return windowsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .health.v1.MaintenanceWindow windows = 1;</code>
+       */
+      public com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow getWindows(int index) {
+        if (windowsBuilder_ == null) {
+          return windows_.get(index);
+        } else {
+          return windowsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .health.v1.MaintenanceWindow windows = 1;</code>
+       */
+      public Builder setWindows(
+          int index, com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow value) {
+        if (windowsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureWindowsIsMutable();
+          windows_.set(index, value);
+          onChanged();
+        } else {
+          windowsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .health.v1.MaintenanceWindow windows = 1;</code>
+       */
+      public Builder setWindows(
+          int index, com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow.Builder builderForValue) {
+        if (windowsBuilder_ == null) {
+          ensureWindowsIsMutable();
+          windows_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          windowsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .health.v1.MaintenanceWindow windows = 1;</code>
+       */
+      public Builder addWindows(com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow value) {
+        if (windowsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureWindowsIsMutable();
+          windows_.add(value);
+          onChanged();
+        } else {
+          windowsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .health.v1.MaintenanceWindow windows = 1;</code>
+       */
+      public Builder addWindows(
+          int index, com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow value) {
+        if (windowsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureWindowsIsMutable();
+          windows_.add(index, value);
+          onChanged();
+        } else {
+          windowsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .health.v1.MaintenanceWindow windows = 1;</code>
+       */
+      public Builder addWindows(
+          com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow.Builder builderForValue) {
+        if (windowsBuilder_ == null) {
+          ensureWindowsIsMutable();
+          windows_.add(builderForValue.build());
+          onChanged();
+        } else {
+          windowsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .health.v1.MaintenanceWindow windows = 1;</code>
+       */
+      public Builder addWindows(
+          int index, com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow.Builder builderForValue) {
+        if (windowsBuilder_ == null) {
+          ensureWindowsIsMutable();
+          windows_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          windowsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .health.v1.MaintenanceWindow windows = 1;</code>
+       */
+      public Builder addAllWindows(
+          java.lang.Iterable<? extends com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow> values) {
+        if (windowsBuilder_ == null) {
+          ensureWindowsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, windows_);
+          onChanged();
+        } else {
+          windowsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .health.v1.MaintenanceWindow windows = 1;</code>
+       */
+      public Builder clearWindows() {
+        if (windowsBuilder_ == null) {
+          windows_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          windowsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .health.v1.MaintenanceWindow windows = 1;</code>
+       */
+      public Builder removeWindows(int index) {
+        if (windowsBuilder_ == null) {
+          ensureWindowsIsMutable();
+          windows_.remove(index);
+          onChanged();
+        } else {
+          windowsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .health.v1.MaintenanceWindow windows = 1;</code>
+       */
+      public com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow.Builder getWindowsBuilder(
+          int index) {
+        return internalGetWindowsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .health.v1.MaintenanceWindow windows = 1;</code>
+       */
+      public com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowOrBuilder getWindowsOrBuilder(
+          int index) {
+        if (windowsBuilder_ == null) {
+          return windows_.get(index);  } else {
+          return windowsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .health.v1.MaintenanceWindow windows = 1;</code>
+       */
+      public java.util.List<? extends com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowOrBuilder> 
+           getWindowsOrBuilderList() {
+        if (windowsBuilder_ != null) {
+          return windowsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(windows_);
+        }
+      }
+      /**
+       * <code>repeated .health.v1.MaintenanceWindow windows = 1;</code>
+       */
+      public com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow.Builder addWindowsBuilder() {
+        return internalGetWindowsFieldBuilder().addBuilder(
+            com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .health.v1.MaintenanceWindow windows = 1;</code>
+       */
+      public com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow.Builder addWindowsBuilder(
+          int index) {
+        return internalGetWindowsFieldBuilder().addBuilder(
+            index, com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .health.v1.MaintenanceWindow windows = 1;</code>
+       */
+      public java.util.List<com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow.Builder> 
+           getWindowsBuilderList() {
+        return internalGetWindowsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow, com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow.Builder, com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowOrBuilder> 
+          internalGetWindowsFieldBuilder() {
+        if (windowsBuilder_ == null) {
+          windowsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow, com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow.Builder, com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowOrBuilder>(
+                  windows_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          windows_ = null;
+        }
+        return windowsBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:health.v1.MaintenanceWindowList)
+    }
+
+    // @@protoc_insertion_point(class_scope:health.v1.MaintenanceWindowList)
+    private static final com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList();
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<MaintenanceWindowList>
+        PARSER = new com.google.protobuf.AbstractParser<MaintenanceWindowList>() {
+      @java.lang.Override
+      public MaintenanceWindowList parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<MaintenanceWindowList> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<MaintenanceWindowList> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindowList getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ErrorDetailsOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:health.v1.ErrorDetails)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 error_code = 1;</code>
+     * @return The errorCode.
+     */
+    int getErrorCode();
+
+    /**
+     * <code>string error_category = 2;</code>
+     * @return The errorCategory.
+     */
+    java.lang.String getErrorCategory();
+    /**
+     * <code>string error_category = 2;</code>
+     * @return The bytes for errorCategory.
+     */
+    com.google.protobuf.ByteString
+        getErrorCategoryBytes();
+
+    /**
+     * <code>repeated string stack_trace = 3;</code>
+     * @return A list containing the stackTrace.
+     */
+    java.util.List<java.lang.String>
+        getStackTraceList();
+    /**
+     * <code>repeated string stack_trace = 3;</code>
+     * @return The count of stackTrace.
+     */
+    int getStackTraceCount();
+    /**
+     * <code>repeated string stack_trace = 3;</code>
+     * @param index The index of the element to return.
+     * @return The stackTrace at the given index.
+     */
+    java.lang.String getStackTrace(int index);
+    /**
+     * <code>repeated string stack_trace = 3;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the stackTrace at the given index.
+     */
+    com.google.protobuf.ByteString
+        getStackTraceBytes(int index);
+  }
+  /**
+   * Protobuf type {@code health.v1.ErrorDetails}
+   */
+  public static final class ErrorDetails extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:health.v1.ErrorDetails)
+      ErrorDetailsOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 31,
+        /* patch= */ 0,
+        /* suffix= */ "",
+        ErrorDetails.class.getName());
+    }
+    // Use ErrorDetails.newBuilder() to construct.
+    private ErrorDetails(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private ErrorDetails() {
+      errorCategory_ = "";
+      stackTrace_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_ErrorDetails_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_ErrorDetails_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails.class, com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails.Builder.class);
+    }
+
+    public static final int ERROR_CODE_FIELD_NUMBER = 1;
+    private int errorCode_ = 0;
+    /**
+     * <code>int32 error_code = 1;</code>
+     * @return The errorCode.
+     */
+    @java.lang.Override
+    public int getErrorCode() {
+      return errorCode_;
+    }
+
+    public static final int ERROR_CATEGORY_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object errorCategory_ = "";
+    /**
+     * <code>string error_category = 2;</code>
+     * @return The errorCategory.
+     */
+    @java.lang.Override
+    public java.lang.String getErrorCategory() {
+      java.lang.Object ref = errorCategory_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        errorCategory_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string error_category = 2;</code>
+     * @return The bytes for errorCategory.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getErrorCategoryBytes() {
+      java.lang.Object ref = errorCategory_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        errorCategory_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int STACK_TRACE_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList stackTrace_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <code>repeated string stack_trace = 3;</code>
+     * @return A list containing the stackTrace.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getStackTraceList() {
+      return stackTrace_;
+    }
+    /**
+     * <code>repeated string stack_trace = 3;</code>
+     * @return The count of stackTrace.
+     */
+    public int getStackTraceCount() {
+      return stackTrace_.size();
+    }
+    /**
+     * <code>repeated string stack_trace = 3;</code>
+     * @param index The index of the element to return.
+     * @return The stackTrace at the given index.
+     */
+    public java.lang.String getStackTrace(int index) {
+      return stackTrace_.get(index);
+    }
+    /**
+     * <code>repeated string stack_trace = 3;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the stackTrace at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getStackTraceBytes(int index) {
+      return stackTrace_.getByteString(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (errorCode_ != 0) {
+        output.writeInt32(1, errorCode_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(errorCategory_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 2, errorCategory_);
+      }
+      for (int i = 0; i < stackTrace_.size(); i++) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 3, stackTrace_.getRaw(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (errorCode_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, errorCode_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(errorCategory_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, errorCategory_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < stackTrace_.size(); i++) {
+          dataSize += computeStringSizeNoTag(stackTrace_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getStackTraceList().size();
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails)) {
+        return super.equals(obj);
+      }
+      com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails other = (com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails) obj;
+
+      if (getErrorCode()
+          != other.getErrorCode()) return false;
+      if (!getErrorCategory()
+          .equals(other.getErrorCategory())) return false;
+      if (!getStackTraceList()
+          .equals(other.getStackTraceList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + ERROR_CODE_FIELD_NUMBER;
+      hash = (53 * hash) + getErrorCode();
+      hash = (37 * hash) + ERROR_CATEGORY_FIELD_NUMBER;
+      hash = (53 * hash) + getErrorCategory().hashCode();
+      if (getStackTraceCount() > 0) {
+        hash = (37 * hash) + STACK_TRACE_FIELD_NUMBER;
+        hash = (53 * hash) + getStackTraceList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code health.v1.ErrorDetails}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:health.v1.ErrorDetails)
+        com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetailsOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_ErrorDetails_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_ErrorDetails_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails.class, com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails.Builder.class);
+      }
+
+      // Construct using com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        errorCode_ = 0;
+        errorCategory_ = "";
+        stackTrace_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_ErrorDetails_descriptor;
+      }
+
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails getDefaultInstanceForType() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails build() {
+        com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails buildPartial() {
+        com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails result = new com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.errorCode_ = errorCode_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.errorCategory_ = errorCategory_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          stackTrace_.makeImmutable();
+          result.stackTrace_ = stackTrace_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails) {
+          return mergeFrom((com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails other) {
+        if (other == com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails.getDefaultInstance()) return this;
+        if (other.getErrorCode() != 0) {
+          setErrorCode(other.getErrorCode());
+        }
+        if (!other.getErrorCategory().isEmpty()) {
+          errorCategory_ = other.errorCategory_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.stackTrace_.isEmpty()) {
+          if (stackTrace_.isEmpty()) {
+            stackTrace_ = other.stackTrace_;
+            bitField0_ |= 0x00000004;
+          } else {
+            ensureStackTraceIsMutable();
+            stackTrace_.addAll(other.stackTrace_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                errorCode_ = input.readInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 18: {
+                errorCategory_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureStackTraceIsMutable();
+                stackTrace_.add(s);
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int errorCode_ ;
+      /**
+       * <code>int32 error_code = 1;</code>
+       * @return The errorCode.
+       */
+      @java.lang.Override
+      public int getErrorCode() {
+        return errorCode_;
+      }
+      /**
+       * <code>int32 error_code = 1;</code>
+       * @param value The errorCode to set.
+       * @return This builder for chaining.
+       */
+      public Builder setErrorCode(int value) {
+
+        errorCode_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 error_code = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearErrorCode() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        errorCode_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object errorCategory_ = "";
+      /**
+       * <code>string error_category = 2;</code>
+       * @return The errorCategory.
+       */
+      public java.lang.String getErrorCategory() {
+        java.lang.Object ref = errorCategory_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          errorCategory_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string error_category = 2;</code>
+       * @return The bytes for errorCategory.
+       */
+      public com.google.protobuf.ByteString
+          getErrorCategoryBytes() {
+        java.lang.Object ref = errorCategory_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          errorCategory_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string error_category = 2;</code>
+       * @param value The errorCategory to set.
+       * @return This builder for chaining.
+       */
+      public Builder setErrorCategory(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        errorCategory_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string error_category = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearErrorCategory() {
+        errorCategory_ = getDefaultInstance().getErrorCategory();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string error_category = 2;</code>
+       * @param value The bytes for errorCategory to set.
+       * @return This builder for chaining.
+       */
+      public Builder setErrorCategoryBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        errorCategory_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringArrayList stackTrace_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureStackTraceIsMutable() {
+        if (!stackTrace_.isModifiable()) {
+          stackTrace_ = new com.google.protobuf.LazyStringArrayList(stackTrace_);
+        }
+        bitField0_ |= 0x00000004;
+      }
+      /**
+       * <code>repeated string stack_trace = 3;</code>
+       * @return A list containing the stackTrace.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getStackTraceList() {
+        stackTrace_.makeImmutable();
+        return stackTrace_;
+      }
+      /**
+       * <code>repeated string stack_trace = 3;</code>
+       * @return The count of stackTrace.
+       */
+      public int getStackTraceCount() {
+        return stackTrace_.size();
+      }
+      /**
+       * <code>repeated string stack_trace = 3;</code>
+       * @param index The index of the element to return.
+       * @return The stackTrace at the given index.
+       */
+      public java.lang.String getStackTrace(int index) {
+        return stackTrace_.get(index);
+      }
+      /**
+       * <code>repeated string stack_trace = 3;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the stackTrace at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getStackTraceBytes(int index) {
+        return stackTrace_.getByteString(index);
+      }
+      /**
+       * <code>repeated string stack_trace = 3;</code>
+       * @param index The index to set the value at.
+       * @param value The stackTrace to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStackTrace(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureStackTraceIsMutable();
+        stackTrace_.set(index, value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string stack_trace = 3;</code>
+       * @param value The stackTrace to add.
+       * @return This builder for chaining.
+       */
+      public Builder addStackTrace(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureStackTraceIsMutable();
+        stackTrace_.add(value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string stack_trace = 3;</code>
+       * @param values The stackTrace to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllStackTrace(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureStackTraceIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, stackTrace_);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string stack_trace = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearStackTrace() {
+        stackTrace_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string stack_trace = 3;</code>
+       * @param value The bytes of the stackTrace to add.
+       * @return This builder for chaining.
+       */
+      public Builder addStackTraceBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureStackTraceIsMutable();
+        stackTrace_.add(value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:health.v1.ErrorDetails)
+    }
+
+    // @@protoc_insertion_point(class_scope:health.v1.ErrorDetails)
+    private static final com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails();
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ErrorDetails>
+        PARSER = new com.google.protobuf.AbstractParser<ErrorDetails>() {
+      @java.lang.Override
+      public ErrorDetails parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<ErrorDetails> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ErrorDetails> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface LoadReportRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:health.v1.LoadReportRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * How often to send a report (default and minimum: the sampling interval)
+     * </pre>
+     *
+     * <code>int32 interval_ms = 1;</code>
+     * @return The intervalMs.
+     */
+    int getIntervalMs();
+  }
+  /**
+   * <pre>
+   * Request for out-of-band load reports
+   * </pre>
+   *
+   * Protobuf type {@code health.v1.LoadReportRequest}
+   */
+  public static final class LoadReportRequest extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:health.v1.LoadReportRequest)
+      LoadReportRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 31,
+        /* patch= */ 0,
+        /* suffix= */ "",
+        LoadReportRequest.class.getName());
+    }
+    // Use LoadReportRequest.newBuilder() to construct.
+    private LoadReportRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private LoadReportRequest() {
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_LoadReportRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_LoadReportRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest.class, com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest.Builder.class);
+    }
+
+    public static final int INTERVAL_MS_FIELD_NUMBER = 1;
+    private int intervalMs_ = 0;
+    /**
+     * <pre>
+     * How often to send a report (default and minimum: the sampling interval)
+     * </pre>
+     *
+     * <code>int32 interval_ms = 1;</code>
+     * @return The intervalMs.
+     */
+    @java.lang.Override
+    public int getIntervalMs() {
+      return intervalMs_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (intervalMs_ != 0) {
+        output.writeInt32(1, intervalMs_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (intervalMs_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, intervalMs_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest)) {
+        return super.equals(obj);
+      }
+      com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest other = (com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest) obj;
+
+      if (getIntervalMs()
+          != other.getIntervalMs()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + INTERVAL_MS_FIELD_NUMBER;
+      hash = (53 * hash) + getIntervalMs();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Request for out-of-band load reports
+     * </pre>
+     *
+     * Protobuf type {@code health.v1.LoadReportRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:health.v1.LoadReportRequest)
+        com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_LoadReportRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_LoadReportRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest.class, com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest.Builder.class);
+      }
+
+      // Construct using com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        intervalMs_ = 0;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_LoadReportRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest getDefaultInstanceForType() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest build() {
+        com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest buildPartial() {
+        com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest result = new com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.intervalMs_ = intervalMs_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest) {
+          return mergeFrom((com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest other) {
+        if (other == com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest.getDefaultInstance()) return this;
+        if (other.getIntervalMs() != 0) {
+          setIntervalMs(other.getIntervalMs());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                intervalMs_ = input.readInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int intervalMs_ ;
+      /**
+       * <pre>
+       * How often to send a report (default and minimum: the sampling interval)
+       * </pre>
+       *
+       * <code>int32 interval_ms = 1;</code>
+       * @return The intervalMs.
+       */
+      @java.lang.Override
+      public int getIntervalMs() {
+        return intervalMs_;
+      }
+      /**
+       * <pre>
+       * How often to send a report (default and minimum: the sampling interval)
+       * </pre>
+       *
+       * <code>int32 interval_ms = 1;</code>
+       * @param value The intervalMs to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIntervalMs(int value) {
+
+        intervalMs_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * How often to send a report (default and minimum: the sampling interval)
+       * </pre>
+       *
+       * <code>int32 interval_ms = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIntervalMs() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        intervalMs_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:health.v1.LoadReportRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:health.v1.LoadReportRequest)
+    private static final com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest();
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<LoadReportRequest>
+        PARSER = new com.google.protobuf.AbstractParser<LoadReportRequest>() {
+      @java.lang.Override
+      public LoadReportRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<LoadReportRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<LoadReportRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface LoadReportOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:health.v1.LoadReport)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Process CPU use, 0.0 - 1.0 of all cores
+     * </pre>
+     *
+     * <code>double cpu_utilization = 1;</code>
+     * @return The cpuUtilization.
+     */
+    double getCpuUtilization();
+
+    /**
+     * <pre>
+     * Heap used / heap max, 0.0 - 1.0
+     * </pre>
+     *
+     * <code>double mem_utilization = 2;</code>
+     * @return The memUtilization.
+     */
+    double getMemUtilization();
+
+    /**
+     * <pre>
+     * Unary RPCs in flight
+     * </pre>
+     *
+     * <code>int64 in_flight_requests = 3;</code>
+     * @return The inFlightRequests.
+     */
+    long getInFlightRequests();
+
+    /**
+     * <pre>
+     * RPCs started per second over the last interval
+     * </pre>
+     *
+     * <code>double qps = 4;</code>
+     * @return The qps.
+     */
+    double getQps();
+
+    /**
+     * <pre>
+     * Failed RPCs per second over the last interval
+     * </pre>
+     *
+     * <code>double eps = 5;</code>
+     * @return The eps.
+     */
+    double getEps();
+
+    /**
+     * <pre>
+     * eps / completed RPCs per second, 0.0 - 1.0
+     * </pre>
+     *
+     * <code>double error_rate = 6;</code>
+     * @return The errorRate.
+     */
+    double getErrorRate();
+
+    /**
+     * <pre>
+     * When the sample was taken
+     * </pre>
+     *
+     * <code>int64 timestamp_ms = 7;</code>
+     * @return The timestampMs.
+     */
+    long getTimestampMs();
+  }
+  /**
+   * <pre>
+   * Per-node utilization, modelled on ORCA backend metrics. Also sent on every RPC
+   * as the binary trailer "health-load-report-bin".
+   * </pre>
+   *
+   * Protobuf type {@code health.v1.LoadReport}
+   */
+  public static final class LoadReport extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:health.v1.LoadReport)
+      LoadReportOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 31,
+        /* patch= */ 0,
+        /* suffix= */ "",
+        LoadReport.class.getName());
+    }
+    // Use LoadReport.newBuilder() to construct.
+    private LoadReport(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private LoadReport() {
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_LoadReport_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_LoadReport_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport.class, com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport.Builder.class);
+    }
+
+    public static final int CPU_UTILIZATION_FIELD_NUMBER = 1;
+    private double cpuUtilization_ = 0D;
+    /**
+     * <pre>
+     * Process CPU use, 0.0 - 1.0 of all cores
+     * </pre>
+     *
+     * <code>double cpu_utilization = 1;</code>
+     * @return The cpuUtilization.
+     */
+    @java.lang.Override
+    public double getCpuUtilization() {
+      return cpuUtilization_;
+    }
+
+    public static final int MEM_UTILIZATION_FIELD_NUMBER = 2;
+    private double memUtilization_ = 0D;
+    /**
+     * <pre>
+     * Heap used / heap max, 0.0 - 1.0
+     * </pre>
+     *
+     * <code>double mem_utilization = 2;</code>
+     * @return The memUtilization.
+     */
+    @java.lang.Override
+    public double getMemUtilization() {
+      return memUtilization_;
+    }
+
+    public static final int IN_FLIGHT_REQUESTS_FIELD_NUMBER = 3;
+    private long inFlightRequests_ = 0L;
+    /**
+     * <pre>
+     * Unary RPCs in flight
+     * </pre>
+     *
+     * <code>int64 in_flight_requests = 3;</code>
+     * @return The inFlightRequests.
+     */
+    @java.lang.Override
+    public long getInFlightRequests() {
+      return inFlightRequests_;
+    }
+
+    public static final int QPS_FIELD_NUMBER = 4;
+    private double qps_ = 0D;
+    /**
+     * <pre>
+     * RPCs started per second over the last interval
+     * </pre>
+     *
+     * <code>double qps = 4;</code>
+     * @return The qps.
+     */
+    @java.lang.Override
+    public double getQps() {
+      return qps_;
+    }
+
+    public static final int EPS_FIELD_NUMBER = 5;
+    private double eps_ = 0D;
+    /**
+     * <pre>
+     * Failed RPCs per second over the last interval
+     * </pre>
+     *
+     * <code>double eps = 5;</code>
+     * @return The eps.
+     */
+    @java.lang.Override
+    public double getEps() {
+      return eps_;
+    }
+
+    public static final int ERROR_RATE_FIELD_NUMBER = 6;
+    private double errorRate_ = 0D;
+    /**
+     * <pre>
+     * eps / completed RPCs per second, 0.0 - 1.0
+     * </pre>
+     *
+     * <code>double error_rate = 6;</code>
+     * @return The errorRate.
+     */
+    @java.lang.Override
+    public double getErrorRate() {
+      return errorRate_;
+    }
+
+    public static final int TIMESTAMP_MS_FIELD_NUMBER = 7;
+    private long timestampMs_ = 0L;
+    /**
+     * <pre>
+     * When the sample was taken
+     * </pre>
+     *
+     * <code>int64 timestamp_ms = 7;</code>
+     * @return The timestampMs.
+     */
+    @java.lang.Override
+    public long getTimestampMs() {
+      return timestampMs_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (java.lang.Double.doubleToRawLongBits(cpuUtilization_) != 0) {
+        output.writeDouble(1, cpuUtilization_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(memUtilization_) != 0) {
+        output.writeDouble(2, memUtilization_);
+      }
+      if (inFlightRequests_ != 0L) {
+        output.writeInt64(3, inFlightRequests_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(qps_) != 0) {
+        output.writeDouble(4, qps_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(eps_) != 0) {
+        output.writeDouble(5, eps_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(errorRate_) != 0) {
+        output.writeDouble(6, errorRate_);
+      }
+      if (timestampMs_ != 0L) {
+        output.writeInt64(7, timestampMs_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (java.lang.Double.doubleToRawLongBits(cpuUtilization_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(1, cpuUtilization_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(memUtilization_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(2, memUtilization_);
+      }
+      if (inFlightRequests_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, inFlightRequests_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(qps_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(4, qps_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(eps_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(5, eps_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(errorRate_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(6, errorRate_);
+      }
+      if (timestampMs_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(7, timestampMs_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport)) {
+        return super.equals(obj);
+      }
+      com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport other = (com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport) obj;
+
+      if (java.lang.Double.doubleToLongBits(getCpuUtilization())
+          != java.lang.Double.doubleToLongBits(
+              other.getCpuUtilization())) return false;
+      if (java.lang.Double.doubleToLongBits(getMemUtilization())
+          != java.lang.Double.doubleToLongBits(
+              other.getMemUtilization())) return false;
+      if (getInFlightRequests()
+          != other.getInFlightRequests()) return false;
+      if (java.lang.Double.doubleToLongBits(getQps())
+          != java.lang.Double.doubleToLongBits(
+              other.getQps())) return false;
+      if (java.lang.Double.doubleToLongBits(getEps())
+          != java.lang.Double.doubleToLongBits(
+              other.getEps())) return false;
+      if (java.lang.Double.doubleToLongBits(getErrorRate())
+          != java.lang.Double.doubleToLongBits(
+              other.getErrorRate())) return false;
+      if (getTimestampMs()
+          != other.getTimestampMs()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + CPU_UTILIZATION_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getCpuUtilization()));
+      hash = (37 * hash) + MEM_UTILIZATION_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getMemUtilization()));
+      hash = (37 * hash) + IN_FLIGHT_REQUESTS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getInFlightRequests());
+      hash = (37 * hash) + QPS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getQps()));
+      hash = (37 * hash) + EPS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getEps()));
+      hash = (37 * hash) + ERROR_RATE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getErrorRate()));
+      hash = (37 * hash) + TIMESTAMP_MS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getTimestampMs());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Per-node utilization, modelled on ORCA backend metrics. Also sent on every RPC
+     * as the binary trailer "health-load-report-bin".
+     * </pre>
+     *
+     * Protobuf type {@code health.v1.LoadReport}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:health.v1.LoadReport)
+        com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_LoadReport_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_LoadReport_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport.class, com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport.Builder.class);
+      }
+
+      // Construct using com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        cpuUtilization_ = 0D;
+        memUtilization_ = 0D;
+        inFlightRequests_ = 0L;
+        qps_ = 0D;
+        eps_ = 0D;
+        errorRate_ = 0D;
+        timestampMs_ = 0L;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_LoadReport_descriptor;
+      }
+
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport getDefaultInstanceForType() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport build() {
+        com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport buildPartial() {
+        com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport result = new com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.cpuUtilization_ = cpuUtilization_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.memUtilization_ = memUtilization_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.inFlightRequests_ = inFlightRequests_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.qps_ = qps_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.eps_ = eps_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.errorRate_ = errorRate_;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.timestampMs_ = timestampMs_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport) {
+          return mergeFrom((com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport other) {
+        if (other == com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport.getDefaultInstance()) return this;
+        if (java.lang.Double.doubleToRawLongBits(other.getCpuUtilization()) != 0) {
+          setCpuUtilization(other.getCpuUtilization());
+        }
+        if (java.lang.Double.doubleToRawLongBits(other.getMemUtilization()) != 0) {
+          setMemUtilization(other.getMemUtilization());
+        }
+        if (other.getInFlightRequests() != 0L) {
+          setInFlightRequests(other.getInFlightRequests());
+        }
+        if (java.lang.Double.doubleToRawLongBits(other.getQps()) != 0) {
+          setQps(other.getQps());
+        }
+        if (java.lang.Double.doubleToRawLongBits(other.getEps()) != 0) {
+          setEps(other.getEps());
+        }
+        if (java.lang.Double.doubleToRawLongBits(other.getErrorRate()) != 0) {
+          setErrorRate(other.getErrorRate());
+        }
+        if (other.getTimestampMs() != 0L) {
+          setTimestampMs(other.getTimestampMs());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 9: {
+                cpuUtilization_ = input.readDouble();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 9
+              case 17: {
+                memUtilization_ = input.readDouble();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 17
+              case 24: {
+                inFlightRequests_ = input.readInt64();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 33: {
+                qps_ = input.readDouble();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 33
+              case 41: {
+                eps_ = input.readDouble();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 41
+              case 49: {
+                errorRate_ = input.readDouble();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 49
+              case 56: {
+                timestampMs_ = input.readInt64();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 56
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private double cpuUtilization_ ;
+      /**
+       * <pre>
+       * Process CPU use, 0.0 - 1.0 of all cores
+       * </pre>
+       *
+       * <code>double cpu_utilization = 1;</code>
+       * @return The cpuUtilization.
+       */
+      @java.lang.Override
+      public double getCpuUtilization() {
+        return cpuUtilization_;
+      }
+      /**
+       * <pre>
+       * Process CPU use, 0.0 - 1.0 of all cores
+       * </pre>
+       *
+       * <code>double cpu_utilization = 1;</code>
+       * @param value The cpuUtilization to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCpuUtilization(double value) {
+
+        cpuUtilization_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Process CPU use, 0.0 - 1.0 of all cores
+       * </pre>
+       *
+       * <code>double cpu_utilization = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCpuUtilization() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        cpuUtilization_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private double memUtilization_ ;
+      /**
+       * <pre>
+       * Heap used / heap max, 0.0 - 1.0
+       * </pre>
+       *
+       * <code>double mem_utilization = 2;</code>
+       * @return The memUtilization.
+       */
+      @java.lang.Override
+      public double getMemUtilization() {
+        return memUtilization_;
+      }
+      /**
+       * <pre>
+       * Heap used / heap max, 0.0 - 1.0
+       * </pre>
+       *
+       * <code>double mem_utilization = 2;</code>
+       * @param value The memUtilization to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMemUtilization(double value) {
+
+        memUtilization_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Heap used / heap max, 0.0 - 1.0
+       * </pre>
+       *
+       * <code>double mem_utilization = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMemUtilization() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        memUtilization_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private long inFlightRequests_ ;
+      /**
+       * <pre>
+       * Unary RPCs in flight
+       * </pre>
+       *
+       * <code>int64 in_flight_requests = 3;</code>
+       * @return The inFlightRequests.
+       */
+      @java.lang.Override
+      public long getInFlightRequests() {
+        return inFlightRequests_;
+      }
+      /**
+       * <pre>
+       * Unary RPCs in flight
+       * </pre>
+       *
+       * <code>int64 in_flight_requests = 3;</code>
+       * @param value The inFlightRequests to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInFlightRequests(long value) {
+
+        inFlightRequests_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Unary RPCs in flight
+       * </pre>
+       *
+       * <code>int64 in_flight_requests = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearInFlightRequests() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        inFlightRequests_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private double qps_ ;
+      /**
+       * <pre>
+       * RPCs started per second over the last interval
+       * </pre>
+       *
+       * <code>double qps = 4;</code>
+       * @return The qps.
+       */
+      @java.lang.Override
+      public double getQps() {
+        return qps_;
+      }
+      /**
+       * <pre>
+       * RPCs started per second over the last interval
+       * </pre>
+       *
+       * <code>double qps = 4;</code>
+       * @param value The qps to set.
+       * @return This builder for chaining.
+       */
+      public Builder setQps(double value) {
+
+        qps_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * RPCs started per second over the last interval
+       * </pre>
+       *
+       * <code>double qps = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearQps() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        qps_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private double eps_ ;
+      /**
+       * <pre>
+       * Failed RPCs per second over the last interval
+       * </pre>
+       *
+       * <code>double eps = 5;</code>
+       * @return The eps.
+       */
+      @java.lang.Override
+      public double getEps() {
+        return eps_;
+      }
+      /**
+       * <pre>
+       * Failed RPCs per second over the last interval
+       * </pre>
+       *
+       * <code>double eps = 5;</code>
+       * @param value The eps to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEps(double value) {
+
+        eps_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Failed RPCs per second over the last interval
+       * </pre>
+       *
+       * <code>double eps = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearEps() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        eps_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private double errorRate_ ;
+      /**
+       * <pre>
+       * eps / completed RPCs per second, 0.0 - 1.0
+       * </pre>
+       *
+       * <code>double error_rate = 6;</code>
+       * @return The errorRate.
+       */
+      @java.lang.Override
+      public double getErrorRate() {
+        return errorRate_;
+      }
+      /**
+       * <pre>
+       * eps / completed RPCs per second, 0.0 - 1.0
+       * </pre>
+       *
+       * <code>double error_rate = 6;</code>
+       * @param value The errorRate to set.
+       * @return This builder for chaining.
+       */
+      public Builder setErrorRate(double value) {
+
+        errorRate_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * eps / completed RPCs per second, 0.0 - 1.0
+       * </pre>
+       *
+       * <code>double error_rate = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearErrorRate() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        errorRate_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private long timestampMs_ ;
+      /**
+       * <pre>
+       * When the sample was taken
+       * </pre>
+       *
+       * <code>int64 timestamp_ms = 7;</code>
+       * @return The timestampMs.
+       */
+      @java.lang.Override
+      public long getTimestampMs() {
+        return timestampMs_;
+      }
+      /**
+       * <pre>
+       * When the sample was taken
+       * </pre>
+       *
+       * <code>int64 timestamp_ms = 7;</code>
+       * @param value The timestampMs to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTimestampMs(long value) {
+
+        timestampMs_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * When the sample was taken
+       * </pre>
+       *
+       * <code>int64 timestamp_ms = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTimestampMs() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        timestampMs_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:health.v1.LoadReport)
+    }
+
+    // @@protoc_insertion_point(class_scope:health.v1.LoadReport)
+    private static final com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport();
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<LoadReport>
+        PARSER = new com.google.protobuf.AbstractParser<LoadReport>() {
+      @java.lang.Override
+      public LoadReport parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<LoadReport> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<LoadReport> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface FleetStatusRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:health.v1.FleetStatusRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Only nodes of this service (empty = all)
+     * </pre>
+     *
+     * <code>string service = 1;</code>
+     * @return The service.
+     */
+    java.lang.String getService();
+    /**
+     * <pre>
+     * Only nodes of this service (empty = all)
+     * </pre>
+     *
+     * <code>string service = 1;</code>
+     * @return The bytes for service.
+     */
+    com.google.protobuf.ByteString
+        getServiceBytes();
+
+    /**
+     * <pre>
+     * Only nodes in this zone (empty = all)
+     * </pre>
+     *
+     * <code>string zone = 2;</code>
+     * @return The zone.
+     */
+    java.lang.String getZone();
+    /**
+     * <pre>
+     * Only nodes in this zone (empty = all)
+     * </pre>
+     *
+     * <code>string zone = 2;</code>
+     * @return The bytes for zone.
+     */
+    com.google.protobuf.ByteString
+        getZoneBytes();
+
+    /**
+     * <pre>
+     * Also list this many lowest-scoring nodes of the selection
+     * </pre>
+     *
+     * <code>int32 worst = 3;</code>
+     * @return The worst.
+     */
+    int getWorst();
+
+    /**
+     * <pre>
+     * Also summarize each service in the selection
+     * </pre>
+     *
+     * <code>bool group_by_service = 4;</code>
+     * @return The groupByService.
+     */
+    boolean getGroupByService();
+
+    /**
+     * <pre>
+     * Also summarize each zone in the selection
+     * </pre>
+     *
+     * <code>bool group_by_zone = 5;</code>
+     * @return The groupByZone.
+     */
+    boolean getGroupByZone();
+  }
+  /**
+   * <pre>
+   * Fleet query: an empty request summarizes the whole fleet
+   * </pre>
+   *
+   * Protobuf type {@code health.v1.FleetStatusRequest}
+   */
+  public static final class FleetStatusRequest extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:health.v1.FleetStatusRequest)
+      FleetStatusRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 31,
+        /* patch= */ 0,
+        /* suffix= */ "",
+        FleetStatusRequest.class.getName());
+    }
+    // Use FleetStatusRequest.newBuilder() to construct.
+    private FleetStatusRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private FleetStatusRequest() {
+      service_ = "";
+      zone_ = "";
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_FleetStatusRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_FleetStatusRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest.class, com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest.Builder.class);
+    }
+
+    public static final int SERVICE_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object service_ = "";
+    /**
+     * <pre>
+     * Only nodes of this service (empty = all)
+     * </pre>
+     *
+     * <code>string service = 1;</code>
+     * @return The service.
+     */
+    @java.lang.Override
+    public java.lang.String getService() {
+      java.lang.Object ref = service_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        service_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Only nodes of this service (empty = all)
+     * </pre>
+     *
+     * <code>string service = 1;</code>
+     * @return The bytes for service.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getServiceBytes() {
+      java.lang.Object ref = service_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        service_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ZONE_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object zone_ = "";
+    /**
+     * <pre>
+     * Only nodes in this zone (empty = all)
+     * </pre>
+     *
+     * <code>string zone = 2;</code>
+     * @return The zone.
+     */
+    @java.lang.Override
+    public java.lang.String getZone() {
+      java.lang.Object ref = zone_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        zone_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Only nodes in this zone (empty = all)
+     * </pre>
+     *
+     * <code>string zone = 2;</code>
+     * @return The bytes for zone.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getZoneBytes() {
+      java.lang.Object ref = zone_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        zone_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int WORST_FIELD_NUMBER = 3;
+    private int worst_ = 0;
+    /**
+     * <pre>
+     * Also list this many lowest-scoring nodes of the selection
+     * </pre>
+     *
+     * <code>int32 worst = 3;</code>
+     * @return The worst.
+     */
+    @java.lang.Override
+    public int getWorst() {
+      return worst_;
+    }
+
+    public static final int GROUP_BY_SERVICE_FIELD_NUMBER = 4;
+    private boolean groupByService_ = false;
+    /**
+     * <pre>
+     * Also summarize each service in the selection
+     * </pre>
+     *
+     * <code>bool group_by_service = 4;</code>
+     * @return The groupByService.
+     */
+    @java.lang.Override
+    public boolean getGroupByService() {
+      return groupByService_;
+    }
+
+    public static final int GROUP_BY_ZONE_FIELD_NUMBER = 5;
+    private boolean groupByZone_ = false;
+    /**
+     * <pre>
+     * Also summarize each zone in the selection
+     * </pre>
+     *
+     * <code>bool group_by_zone = 5;</code>
+     * @return The groupByZone.
+     */
+    @java.lang.Override
+    public boolean getGroupByZone() {
+      return groupByZone_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(service_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, service_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(zone_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 2, zone_);
+      }
+      if (worst_ != 0) {
+        output.writeInt32(3, worst_);
+      }
+      if (groupByService_ != false) {
+        output.writeBool(4, groupByService_);
+      }
+      if (groupByZone_ != false) {
+        output.writeBool(5, groupByZone_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(service_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, service_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(zone_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, zone_);
+      }
+      if (worst_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, worst_);
+      }
+      if (groupByService_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(4, groupByService_);
+      }
+      if (groupByZone_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(5, groupByZone_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest)) {
+        return super.equals(obj);
+      }
+      com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest other = (com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest) obj;
+
+      if (!getService()
+          .equals(other.getService())) return false;
+      if (!getZone()
+          .equals(other.getZone())) return false;
+      if (getWorst()
+          != other.getWorst()) return false;
+      if (getGroupByService()
+          != other.getGroupByService()) return false;
+      if (getGroupByZone()
+          != other.getGroupByZone()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SERVICE_FIELD_NUMBER;
+      hash = (53 * hash) + getService().hashCode();
+      hash = (37 * hash) + ZONE_FIELD_NUMBER;
+      hash = (53 * hash) + getZone().hashCode();
+      hash = (37 * hash) + WORST_FIELD_NUMBER;
+      hash = (53 * hash) + getWorst();
+      hash = (37 * hash) + GROUP_BY_SERVICE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getGroupByService());
+      hash = (37 * hash) + GROUP_BY_ZONE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getGroupByZone());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Fleet query: an empty request summarizes the whole fleet
+     * </pre>
+     *
+     * Protobuf type {@code health.v1.FleetStatusRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:health.v1.FleetStatusRequest)
+        com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_FleetStatusRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_FleetStatusRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest.class, com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest.Builder.class);
+      }
+
+      // Construct using com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        service_ = "";
+        zone_ = "";
+        worst_ = 0;
+        groupByService_ = false;
+        groupByZone_ = false;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_FleetStatusRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest getDefaultInstanceForType() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest build() {
+        com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest buildPartial() {
+        com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest result = new com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.service_ = service_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.zone_ = zone_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.worst_ = worst_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.groupByService_ = groupByService_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.groupByZone_ = groupByZone_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest) {
+          return mergeFrom((com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest other) {
+        if (other == com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest.getDefaultInstance()) return this;
+        if (!other.getService().isEmpty()) {
+          service_ = other.service_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getZone().isEmpty()) {
+          zone_ = other.zone_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (other.getWorst() != 0) {
+          setWorst(other.getWorst());
+        }
+        if (other.getGroupByService() != false) {
+          setGroupByService(other.getGroupByService());
+        }
+        if (other.getGroupByZone() != false) {
+          setGroupByZone(other.getGroupByZone());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                service_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                zone_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 24: {
+                worst_ = input.readInt32();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 32: {
+                groupByService_ = input.readBool();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 40: {
+                groupByZone_ = input.readBool();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object service_ = "";
+      /**
+       * <pre>
+       * Only nodes of this service (empty = all)
+       * </pre>
+       *
+       * <code>string service = 1;</code>
+       * @return The service.
+       */
+      public java.lang.String getService() {
+        java.lang.Object ref = service_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          service_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Only nodes of this service (empty = all)
+       * </pre>
+       *
+       * <code>string service = 1;</code>
+       * @return The bytes for service.
+       */
+      public com.google.protobuf.ByteString
+          getServiceBytes() {
+        java.lang.Object ref = service_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          service_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Only nodes of this service (empty = all)
+       * </pre>
+       *
+       * <code>string service = 1;</code>
+       * @param value The service to set.
+       * @return This builder for chaining.
+       */
+      public Builder setService(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        service_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Only nodes of this service (empty = all)
+       * </pre>
+       *
+       * <code>string service = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearService() {
+        service_ = getDefaultInstance().getService();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Only nodes of this service (empty = all)
+       * </pre>
+       *
+       * <code>string service = 1;</code>
+       * @param value The bytes for service to set.
+       * @return This builder for chaining.
+       */
+      public Builder setServiceBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        service_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object zone_ = "";
+      /**
+       * <pre>
+       * Only nodes in this zone (empty = all)
+       * </pre>
+       *
+       * <code>string zone = 2;</code>
+       * @return The zone.
+       */
+      public java.lang.String getZone() {
+        java.lang.Object ref = zone_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          zone_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Only nodes in this zone (empty = all)
+       * </pre>
+       *
+       * <code>string zone = 2;</code>
+       * @return The bytes for zone.
+       */
+      public com.google.protobuf.ByteString
+          getZoneBytes() {
+        java.lang.Object ref = zone_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          zone_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Only nodes in this zone (empty = all)
+       * </pre>
+       *
+       * <code>string zone = 2;</code>
+       * @param value The zone to set.
+       * @return This builder for chaining.
+       */
+      public Builder setZone(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        zone_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Only nodes in this zone (empty = all)
+       * </pre>
+       *
+       * <code>string zone = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearZone() {
+        zone_ = getDefaultInstance().getZone();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Only nodes in this zone (empty = all)
+       * </pre>
+       *
+       * <code>string zone = 2;</code>
+       * @param value The bytes for zone to set.
+       * @return This builder for chaining.
+       */
+      public Builder setZoneBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        zone_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private int worst_ ;
+      /**
+       * <pre>
+       * Also list this many lowest-scoring nodes of the selection
+       * </pre>
+       *
+       * <code>int32 worst = 3;</code>
+       * @return The worst.
+       */
+      @java.lang.Override
+      public int getWorst() {
+        return worst_;
+      }
+      /**
+       * <pre>
+       * Also list this many lowest-scoring nodes of the selection
+       * </pre>
+       *
+       * <code>int32 worst = 3;</code>
+       * @param value The worst to set.
+       * @return This builder for chaining.
+       */
+      public Builder setWorst(int value) {
+
+        worst_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Also list this many lowest-scoring nodes of the selection
+       * </pre>
+       *
+       * <code>int32 worst = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearWorst() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        worst_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean groupByService_ ;
+      /**
+       * <pre>
+       * Also summarize each service in the selection
+       * </pre>
+       *
+       * <code>bool group_by_service = 4;</code>
+       * @return The groupByService.
+       */
+      @java.lang.Override
+      public boolean getGroupByService() {
+        return groupByService_;
+      }
+      /**
+       * <pre>
+       * Also summarize each service in the selection
+       * </pre>
+       *
+       * <code>bool group_by_service = 4;</code>
+       * @param value The groupByService to set.
+       * @return This builder for chaining.
+       */
+      public Builder setGroupByService(boolean value) {
+
+        groupByService_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Also summarize each service in the selection
+       * </pre>
+       *
+       * <code>bool group_by_service = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearGroupByService() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        groupByService_ = false;
+        onChanged();
+        return this;
+      }
+
+      private boolean groupByZone_ ;
+      /**
+       * <pre>
+       * Also summarize each zone in the selection
+       * </pre>
+       *
+       * <code>bool group_by_zone = 5;</code>
+       * @return The groupByZone.
+       */
+      @java.lang.Override
+      public boolean getGroupByZone() {
+        return groupByZone_;
+      }
+      /**
+       * <pre>
+       * Also summarize each zone in the selection
+       * </pre>
+       *
+       * <code>bool group_by_zone = 5;</code>
+       * @param value The groupByZone to set.
+       * @return This builder for chaining.
+       */
+      public Builder setGroupByZone(boolean value) {
+
+        groupByZone_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Also summarize each zone in the selection
+       * </pre>
+       *
+       * <code>bool group_by_zone = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearGroupByZone() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        groupByZone_ = false;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:health.v1.FleetStatusRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:health.v1.FleetStatusRequest)
+    private static final com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest();
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<FleetStatusRequest>
+        PARSER = new com.google.protobuf.AbstractParser<FleetStatusRequest>() {
+      @java.lang.Override
+      public FleetStatusRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<FleetStatusRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<FleetStatusRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface FleetStatusResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:health.v1.FleetStatusResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * The whole selection
+     * </pre>
+     *
+     * <code>.health.v1.FleetSummary summary = 1;</code>
+     * @return Whether the summary field is set.
+     */
+    boolean hasSummary();
+    /**
+     * <pre>
+     * The whole selection
+     * </pre>
+     *
+     * <code>.health.v1.FleetSummary summary = 1;</code>
+     * @return The summary.
+     */
+    com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary getSummary();
+    /**
+     * <pre>
+     * The whole selection
+     * </pre>
+     *
+     * <code>.health.v1.FleetSummary summary = 1;</code>
+     */
+    com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummaryOrBuilder getSummaryOrBuilder();
+
+    /**
+     * <pre>
+     * Per service, when group_by_service
+     * </pre>
+     *
+     * <code>map&lt;string, .health.v1.FleetSummary&gt; services = 2;</code>
+     */
+    int getServicesCount();
+    /**
+     * <pre>
+     * Per service, when group_by_service
+     * </pre>
+     *
+     * <code>map&lt;string, .health.v1.FleetSummary&gt; services = 2;</code>
+     */
+    boolean containsServices(
+        java.lang.String key);
+    /**
+     * Use {@link #getServicesMap()} instead.
+     */
+    @java.lang.Deprecated
+    java.util.Map<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary>
+    getServices();
+    /**
+     * <pre>
+     * Per service, when group_by_service
+     * </pre>
+     *
+     * <code>map&lt;string, .health.v1.FleetSummary&gt; services = 2;</code>
+     */
+    java.util.Map<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary>
+    getServicesMap();
+    /**
+     * <pre>
+     * Per service, when group_by_service
+     * </pre>
+     *
+     * <code>map&lt;string, .health.v1.FleetSummary&gt; services = 2;</code>
+     */
+    /* nullable */
+com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary getServicesOrDefault(
+        java.lang.String key,
+        /* nullable */
+com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary defaultValue);
+    /**
+     * <pre>
+     * Per service, when group_by_service
+     * </pre>
+     *
+     * <code>map&lt;string, .health.v1.FleetSummary&gt; services = 2;</code>
+     */
+    com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary getServicesOrThrow(
+        java.lang.String key);
+
+    /**
+     * <pre>
+     * Per zone, when group_by_zone
+     * </pre>
+     *
+     * <code>map&lt;string, .health.v1.FleetSummary&gt; zones = 3;</code>
+     */
+    int getZonesCount();
+    /**
+     * <pre>
+     * Per zone, when group_by_zone
+     * </pre>
+     *
+     * <code>map&lt;string, .health.v1.FleetSummary&gt; zones = 3;</code>
+     */
+    boolean containsZones(
+        java.lang.String key);
+    /**
+     * Use {@link #getZonesMap()} instead.
+     */
+    @java.lang.Deprecated
+    java.util.Map<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary>
+    getZones();
+    /**
+     * <pre>
+     * Per zone, when group_by_zone
+     * </pre>
+     *
+     * <code>map&lt;string, .health.v1.FleetSummary&gt; zones = 3;</code>
+     */
+    java.util.Map<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary>
+    getZonesMap();
+    /**
+     * <pre>
+     * Per zone, when group_by_zone
+     * </pre>
+     *
+     * <code>map&lt;string, .health.v1.FleetSummary&gt; zones = 3;</code>
+     */
+    /* nullable */
+com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary getZonesOrDefault(
+        java.lang.String key,
+        /* nullable */
+com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary defaultValue);
+    /**
+     * <pre>
+     * Per zone, when group_by_zone
+     * </pre>
+     *
+     * <code>map&lt;string, .health.v1.FleetSummary&gt; zones = 3;</code>
+     */
+    com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary getZonesOrThrow(
+        java.lang.String key);
+
+    /**
+     * <pre>
+     * Lowest health score first
+     * </pre>
+     *
+     * <code>repeated .health.v1.FleetNode worst_nodes = 4;</code>
+     */
+    java.util.List<com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode> 
+        getWorstNodesList();
+    /**
+     * <pre>
+     * Lowest health score first
+     * </pre>
+     *
+     * <code>repeated .health.v1.FleetNode worst_nodes = 4;</code>
+     */
+    com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode getWorstNodes(int index);
+    /**
+     * <pre>
+     * Lowest health score first
+     * </pre>
+     *
+     * <code>repeated .health.v1.FleetNode worst_nodes = 4;</code>
+     */
+    int getWorstNodesCount();
+    /**
+     * <pre>
+     * Lowest health score first
+     * </pre>
+     *
+     * <code>repeated .health.v1.FleetNode worst_nodes = 4;</code>
+     */
+    java.util.List<? extends com.shankarnarayanb.health.v1.HealthServiceProto.FleetNodeOrBuilder> 
+        getWorstNodesOrBuilderList();
+    /**
+     * <pre>
+     * Lowest health score first
+     * </pre>
+     *
+     * <code>repeated .health.v1.FleetNode worst_nodes = 4;</code>
+     */
+    com.shankarnarayanb.health.v1.HealthServiceProto.FleetNodeOrBuilder getWorstNodesOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code health.v1.FleetStatusResponse}
+   */
+  public static final class FleetStatusResponse extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:health.v1.FleetStatusResponse)
+      FleetStatusResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 31,
+        /* patch= */ 0,
+        /* suffix= */ "",
+        FleetStatusResponse.class.getName());
+    }
+    // Use FleetStatusResponse.newBuilder() to construct.
+    private FleetStatusResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private FleetStatusResponse() {
+      worstNodes_ = java.util.Collections.emptyList();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_FleetStatusResponse_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    @java.lang.Override
+    protected com.google.protobuf.MapFieldReflectionAccessor internalGetMapFieldReflection(
+        int number) {
+      switch (number) {
+        case 2:
+          return internalGetServices();
+        case 3:
+          return internalGetZones();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_FleetStatusResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse.class, com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int SUMMARY_FIELD_NUMBER = 1;
+    private com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary summary_;
+    /**
+     * <pre>
+     * The whole selection
+     * </pre>
+     *
+     * <code>.health.v1.FleetSummary summary = 1;</code>
+     * @return Whether the summary field is set.
+     */
+    @java.lang.Override
+    public boolean hasSummary() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <pre>
+     * The whole selection
+     * </pre>
+     *
+     * <code>.health.v1.FleetSummary summary = 1;</code>
+     * @return The summary.
+     */
+    @java.lang.Override
+    public com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary getSummary() {
+      return summary_ == null ? com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary.getDefaultInstance() : summary_;
+    }
+    /**
+     * <pre>
+     * The whole selection
+     * </pre>
+     *
+     * <code>.health.v1.FleetSummary summary = 1;</code>
+     */
+    @java.lang.Override
+    public com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummaryOrBuilder getSummaryOrBuilder() {
+      return summary_ == null ? com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary.getDefaultInstance() : summary_;
+    }
+
+    public static final int SERVICES_FIELD_NUMBER = 2;
+    private static final class ServicesDefaultEntryHolder {
+      static final com.google.protobuf.MapEntry<
+          java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary> defaultEntry =
+              com.google.protobuf.MapEntry
+              .<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary>newDefaultInstance(
+                  com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_FleetStatusResponse_ServicesEntry_descriptor, 
+                  com.google.protobuf.WireFormat.FieldType.STRING,
+                  "",
+                  com.google.protobuf.WireFormat.FieldType.MESSAGE,
+                  com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary.getDefaultInstance());
+    }
+    @SuppressWarnings("serial")
+    private com.google.protobuf.MapField<
+        java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary> services_;
+    private com.google.protobuf.MapField<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary>
+    internalGetServices() {
+      if (services_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            ServicesDefaultEntryHolder.defaultEntry);
+      }
+      return services_;
+    }
+    public int getServicesCount() {
+      return internalGetServices().getMap().size();
+    }
+    /**
+     * <pre>
+     * Per service, when group_by_service
+     * </pre>
+     *
+     * <code>map&lt;string, .health.v1.FleetSummary&gt; services = 2;</code>
+     */
+    @java.lang.Override
+    public boolean containsServices(
+        java.lang.String key) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      return internalGetServices().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getServicesMap()} instead.
+     */
+    @java.lang.Override
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary> getServices() {
+      return getServicesMap();
+    }
+    /**
+     * <pre>
+     * Per service, when group_by_service
+     * </pre>
+     *
+     * <code>map&lt;string, .health.v1.FleetSummary&gt; services = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.Map<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary> getServicesMap() {
+      return internalGetServices().getMap();
+    }
+    /**
+     * <pre>
+     * Per service, when group_by_service
+     * </pre>
+     *
+     * <code>map&lt;string, .health.v1.FleetSummary&gt; services = 2;</code>
+     */
+    @java.lang.Override
+    public /* nullable */
+com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary getServicesOrDefault(
+        java.lang.String key,
+        /* nullable */
+com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary defaultValue) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      java.util.Map<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary> map =
+          internalGetServices().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <pre>
+     * Per service, when group_by_service
+     * </pre>
+     *
+     * <code>map&lt;string, .health.v1.FleetSummary&gt; services = 2;</code>
+     */
+    @java.lang.Override
+    public com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary getServicesOrThrow(
+        java.lang.String key) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      java.util.Map<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary> map =
+          internalGetServices().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public static final int ZONES_FIELD_NUMBER = 3;
+    private static final class ZonesDefaultEntryHolder {
+      static final com.google.protobuf.MapEntry<
+          java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary> defaultEntry =
+              com.google.protobuf.MapEntry
+              .<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary>newDefaultInstance(
+                  com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_FleetStatusResponse_ZonesEntry_descriptor, 
+                  com.google.protobuf.WireFormat.FieldType.STRING,
+                  "",
+                  com.google.protobuf.WireFormat.FieldType.MESSAGE,
+                  com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary.getDefaultInstance());
+    }
+    @SuppressWarnings("serial")
+    private com.google.protobuf.MapField<
+        java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary> zones_;
+    private com.google.protobuf.MapField<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary>
+    internalGetZones() {
+      if (zones_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            ZonesDefaultEntryHolder.defaultEntry);
+      }
+      return zones_;
+    }
+    public int getZonesCount() {
+      return internalGetZones().getMap().size();
+    }
+    /**
+     * <pre>
+     * Per zone, when group_by_zone
+     * </pre>
+     *
+     * <code>map&lt;string, .health.v1.FleetSummary&gt; zones = 3;</code>
+     */
+    @java.lang.Override
+    public boolean containsZones(
+        java.lang.String key) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      return internalGetZones().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getZonesMap()} instead.
+     */
+    @java.lang.Override
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary> getZones() {
+      return getZonesMap();
+    }
+    /**
+     * <pre>
+     * Per zone, when group_by_zone
+     * </pre>
+     *
+     * <code>map&lt;string, .health.v1.FleetSummary&gt; zones = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.Map<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary> getZonesMap() {
+      return internalGetZones().getMap();
+    }
+    /**
+     * <pre>
+     * Per zone, when group_by_zone
+     * </pre>
+     *
+     * <code>map&lt;string, .health.v1.FleetSummary&gt; zones = 3;</code>
+     */
+    @java.lang.Override
+    public /* nullable */
+com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary getZonesOrDefault(
+        java.lang.String key,
+        /* nullable */
+com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary defaultValue) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      java.util.Map<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary> map =
+          internalGetZones().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <pre>
+     * Per zone, when group_by_zone
+     * </pre>
+     *
+     * <code>map&lt;string, .health.v1.FleetSummary&gt; zones = 3;</code>
+     */
+    @java.lang.Override
+    public com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary getZonesOrThrow(
+        java.lang.String key) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      java.util.Map<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary> map =
+          internalGetZones().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public static final int WORST_NODES_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private java.util.List<com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode> worstNodes_;
+    /**
+     * <pre>
+     * Lowest health score first
+     * </pre>
+     *
+     * <code>repeated .health.v1.FleetNode worst_nodes = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode> getWorstNodesList() {
+      return worstNodes_;
+    }
+    /**
+     * <pre>
+     * Lowest health score first
+     * </pre>
+     *
+     * <code>repeated .health.v1.FleetNode worst_nodes = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.shankarnarayanb.health.v1.HealthServiceProto.FleetNodeOrBuilder> 
+        getWorstNodesOrBuilderList() {
+      return worstNodes_;
+    }
+    /**
+     * <pre>
+     * Lowest health score first
+     * </pre>
+     *
+     * <code>repeated .health.v1.FleetNode worst_nodes = 4;</code>
+     */
+    @java.lang.Override
+    public int getWorstNodesCount() {
+      return worstNodes_.size();
+    }
+    /**
+     * <pre>
+     * Lowest health score first
+     * </pre>
+     *
+     * <code>repeated .health.v1.FleetNode worst_nodes = 4;</code>
+     */
+    @java.lang.Override
+    public com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode getWorstNodes(int index) {
+      return worstNodes_.get(index);
+    }
+    /**
+     * <pre>
+     * Lowest health score first
+     * </pre>
+     *
+     * <code>repeated .health.v1.FleetNode worst_nodes = 4;</code>
+     */
+    @java.lang.Override
+    public com.shankarnarayanb.health.v1.HealthServiceProto.FleetNodeOrBuilder getWorstNodesOrBuilder(
+        int index) {
+      return worstNodes_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeMessage(1, getSummary());
+      }
+      com.google.protobuf.GeneratedMessage
+        .serializeStringMapTo(
+          output,
+          internalGetServices(),
+          ServicesDefaultEntryHolder.defaultEntry,
+          2);
+      com.google.protobuf.GeneratedMessage
+        .serializeStringMapTo(
+          output,
+          internalGetZones(),
+          ZonesDefaultEntryHolder.defaultEntry,
+          3);
+      for (int i = 0; i < worstNodes_.size(); i++) {
+        output.writeMessage(4, worstNodes_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getSummary());
+      }
+      for (java.util.Map.Entry<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary> entry
+           : internalGetServices().getMap().entrySet()) {
+        com.google.protobuf.MapEntry<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary>
+        services__ = ServicesDefaultEntryHolder.defaultEntry.newBuilderForType()
+            .setKey(entry.getKey())
+            .setValue(entry.getValue())
+            .build();
+        size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(2, services__);
+      }
+      for (java.util.Map.Entry<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary> entry
+           : internalGetZones().getMap().entrySet()) {
+        com.google.protobuf.MapEntry<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary>
+        zones__ = ZonesDefaultEntryHolder.defaultEntry.newBuilderForType()
+            .setKey(entry.getKey())
+            .setValue(entry.getValue())
+            .build();
+        size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(3, zones__);
+      }
+      for (int i = 0; i < worstNodes_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, worstNodes_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse)) {
+        return super.equals(obj);
+      }
+      com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse other = (com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse) obj;
+
+      if (hasSummary() != other.hasSummary()) return false;
+      if (hasSummary()) {
+        if (!getSummary()
+            .equals(other.getSummary())) return false;
+      }
+      if (!internalGetServices().equals(
+          other.internalGetServices())) return false;
+      if (!internalGetZones().equals(
+          other.internalGetZones())) return false;
+      if (!getWorstNodesList()
+          .equals(other.getWorstNodesList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasSummary()) {
+        hash = (37 * hash) + SUMMARY_FIELD_NUMBER;
+        hash = (53 * hash) + getSummary().hashCode();
+      }
+      if (!internalGetServices().getMap().isEmpty()) {
+        hash = (37 * hash) + SERVICES_FIELD_NUMBER;
+        hash = (53 * hash) + internalGetServices().hashCode();
+      }
+      if (!internalGetZones().getMap().isEmpty()) {
+        hash = (37 * hash) + ZONES_FIELD_NUMBER;
+        hash = (53 * hash) + internalGetZones().hashCode();
+      }
+      if (getWorstNodesCount() > 0) {
+        hash = (37 * hash) + WORST_NODES_FIELD_NUMBER;
+        hash = (53 * hash) + getWorstNodesList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code health.v1.FleetStatusResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:health.v1.FleetStatusResponse)
+        com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_FleetStatusResponse_descriptor;
+      }
+
+      @SuppressWarnings({"rawtypes"})
+      protected com.google.protobuf.MapFieldReflectionAccessor internalGetMapFieldReflection(
+          int number) {
+        switch (number) {
+          case 2:
+            return internalGetServices();
+          case 3:
+            return internalGetZones();
+          default:
+            throw new RuntimeException(
+                "Invalid map field number: " + number);
+        }
+      }
+      @SuppressWarnings({"rawtypes"})
+      protected com.google.protobuf.MapFieldReflectionAccessor internalGetMutableMapFieldReflection(
+          int number) {
+        switch (number) {
+          case 2:
+            return internalGetMutableServices();
+          case 3:
+            return internalGetMutableZones();
+          default:
+            throw new RuntimeException(
+                "Invalid map field number: " + number);
+        }
+      }
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_FleetStatusResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse.class, com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse.Builder.class);
+      }
+
+      // Construct using com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage
+                .alwaysUseFieldBuilders) {
+          internalGetSummaryFieldBuilder();
+          internalGetWorstNodesFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        summary_ = null;
+        if (summaryBuilder_ != null) {
+          summaryBuilder_.dispose();
+          summaryBuilder_ = null;
+        }
+        internalGetMutableServices().clear();
+        internalGetMutableZones().clear();
+        if (worstNodesBuilder_ == null) {
+          worstNodes_ = java.util.Collections.emptyList();
+        } else {
+          worstNodes_ = null;
+          worstNodesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_FleetStatusResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse getDefaultInstanceForType() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse build() {
+        com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse buildPartial() {
+        com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse result = new com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse result) {
+        if (worstNodesBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) != 0)) {
+            worstNodes_ = java.util.Collections.unmodifiableList(worstNodes_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.worstNodes_ = worstNodes_;
+        } else {
+          result.worstNodes_ = worstNodesBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.summary_ = summaryBuilder_ == null
+              ? summary_
+              : summaryBuilder_.build();
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.services_ = internalGetServices().build(ServicesDefaultEntryHolder.defaultEntry);
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.zones_ = internalGetZones().build(ZonesDefaultEntryHolder.defaultEntry);
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse) {
+          return mergeFrom((com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse other) {
+        if (other == com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse.getDefaultInstance()) return this;
+        if (other.hasSummary()) {
+          mergeSummary(other.getSummary());
+        }
+        internalGetMutableServices().mergeFrom(
+            other.internalGetServices());
+        bitField0_ |= 0x00000002;
+        internalGetMutableZones().mergeFrom(
+            other.internalGetZones());
+        bitField0_ |= 0x00000004;
+        if (worstNodesBuilder_ == null) {
+          if (!other.worstNodes_.isEmpty()) {
+            if (worstNodes_.isEmpty()) {
+              worstNodes_ = other.worstNodes_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureWorstNodesIsMutable();
+              worstNodes_.addAll(other.worstNodes_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.worstNodes_.isEmpty()) {
+            if (worstNodesBuilder_.isEmpty()) {
+              worstNodesBuilder_.dispose();
+              worstNodesBuilder_ = null;
+              worstNodes_ = other.worstNodes_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              worstNodesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   internalGetWorstNodesFieldBuilder() : null;
+            } else {
+              worstNodesBuilder_.addAllMessages(other.worstNodes_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    internalGetSummaryFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                com.google.protobuf.MapEntry<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary>
+                services__ = input.readMessage(
+                    ServicesDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+                internalGetMutableServices().ensureBuilderMap().put(
+                    services__.getKey(), services__.getValue());
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                com.google.protobuf.MapEntry<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary>
+                zones__ = input.readMessage(
+                    ZonesDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+                internalGetMutableZones().ensureBuilderMap().put(
+                    zones__.getKey(), zones__.getValue());
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode m =
+                    input.readMessage(
+                        com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode.parser(),
+                        extensionRegistry);
+                if (worstNodesBuilder_ == null) {
+                  ensureWorstNodesIsMutable();
+                  worstNodes_.add(m);
+                } else {
+                  worstNodesBuilder_.addMessage(m);
+                }
+                break;
+              } // case 34
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary summary_;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary.Builder, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummaryOrBuilder> summaryBuilder_;
+      /**
+       * <pre>
+       * The whole selection
+       * </pre>
+       *
+       * <code>.health.v1.FleetSummary summary = 1;</code>
+       * @return Whether the summary field is set.
+       */
+      public boolean hasSummary() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <pre>
+       * The whole selection
+       * </pre>
+       *
+       * <code>.health.v1.FleetSummary summary = 1;</code>
+       * @return The summary.
+       */
+      public com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary getSummary() {
+        if (summaryBuilder_ == null) {
+          return summary_ == null ? com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary.getDefaultInstance() : summary_;
+        } else {
+          return summaryBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * The whole selection
+       * </pre>
+       *
+       * <code>.health.v1.FleetSummary summary = 1;</code>
+       */
+      public Builder setSummary(com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary value) {
+        if (summaryBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          summary_ = value;
+        } else {
+          summaryBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The whole selection
+       * </pre>
+       *
+       * <code>.health.v1.FleetSummary summary = 1;</code>
+       */
+      public Builder setSummary(
+          com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary.Builder builderForValue) {
+        if (summaryBuilder_ == null) {
+          summary_ = builderForValue.build();
+        } else {
+          summaryBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The whole selection
+       * </pre>
+       *
+       * <code>.health.v1.FleetSummary summary = 1;</code>
+       */
+      public Builder mergeSummary(com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary value) {
+        if (summaryBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            summary_ != null &&
+            summary_ != com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary.getDefaultInstance()) {
+            getSummaryBuilder().mergeFrom(value);
+          } else {
+            summary_ = value;
+          }
+        } else {
+          summaryBuilder_.mergeFrom(value);
+        }
+        if (summary_ != null) {
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * The whole selection
+       * </pre>
+       *
+       * <code>.health.v1.FleetSummary summary = 1;</code>
+       */
+      public Builder clearSummary() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        summary_ = null;
+        if (summaryBuilder_ != null) {
+          summaryBuilder_.dispose();
+          summaryBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The whole selection
+       * </pre>
+       *
+       * <code>.health.v1.FleetSummary summary = 1;</code>
+       */
+      public com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary.Builder getSummaryBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return internalGetSummaryFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * The whole selection
+       * </pre>
+       *
+       * <code>.health.v1.FleetSummary summary = 1;</code>
+       */
+      public com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummaryOrBuilder getSummaryOrBuilder() {
+        if (summaryBuilder_ != null) {
+          return summaryBuilder_.getMessageOrBuilder();
+        } else {
+          return summary_ == null ?
+              com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary.getDefaultInstance() : summary_;
+        }
+      }
+      /**
+       * <pre>
+       * The whole selection
+       * </pre>
+       *
+       * <code>.health.v1.FleetSummary summary = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary.Builder, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummaryOrBuilder> 
+          internalGetSummaryFieldBuilder() {
+        if (summaryBuilder_ == null) {
+          summaryBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary.Builder, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummaryOrBuilder>(
+                  getSummary(),
+                  getParentForChildren(),
+                  isClean());
+          summary_ = null;
+        }
+        return summaryBuilder_;
+      }
+
+      private static final class ServicesConverter implements com.google.protobuf.MapFieldBuilder.Converter<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummaryOrBuilder, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary> {
+        @java.lang.Override
+        public com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary build(com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummaryOrBuilder val) {
+          if (val instanceof com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary) { return (com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary) val; }
+          return ((com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary.Builder) val).build();
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.MapEntry<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary> defaultEntry() {
+          return ServicesDefaultEntryHolder.defaultEntry;
+        }
+      };
+      private static final ServicesConverter servicesConverter = new ServicesConverter();
+
+      private com.google.protobuf.MapFieldBuilder<
+          java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummaryOrBuilder, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary.Builder> services_;
+      private com.google.protobuf.MapFieldBuilder<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummaryOrBuilder, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary.Builder>
+          internalGetServices() {
+        if (services_ == null) {
+          return new com.google.protobuf.MapFieldBuilder<>(servicesConverter);
+        }
+        return services_;
+      }
+      private com.google.protobuf.MapFieldBuilder<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummaryOrBuilder, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary.Builder>
+          internalGetMutableServices() {
+        if (services_ == null) {
+          services_ = new com.google.protobuf.MapFieldBuilder<>(servicesConverter);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return services_;
+      }
+      public int getServicesCount() {
+        return internalGetServices().ensureBuilderMap().size();
+      }
+      /**
+       * <pre>
+       * Per service, when group_by_service
+       * </pre>
+       *
+       * <code>map&lt;string, .health.v1.FleetSummary&gt; services = 2;</code>
+       */
+      @java.lang.Override
+      public boolean containsServices(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        return internalGetServices().ensureBuilderMap().containsKey(key);
+      }
+      /**
+       * Use {@link #getServicesMap()} instead.
+       */
+      @java.lang.Override
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary> getServices() {
+        return getServicesMap();
+      }
+      /**
+       * <pre>
+       * Per service, when group_by_service
+       * </pre>
+       *
+       * <code>map&lt;string, .health.v1.FleetSummary&gt; services = 2;</code>
+       */
+      @java.lang.Override
+      public java.util.Map<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary> getServicesMap() {
+        return internalGetServices().getImmutableMap();
+      }
+      /**
+       * <pre>
+       * Per service, when group_by_service
+       * </pre>
+       *
+       * <code>map&lt;string, .health.v1.FleetSummary&gt; services = 2;</code>
+       */
+      @java.lang.Override
+      public /* nullable */
+com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary getServicesOrDefault(
+          java.lang.String key,
+          /* nullable */
+com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary defaultValue) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        java.util.Map<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummaryOrBuilder> map = internalGetMutableServices().ensureBuilderMap();
+        return map.containsKey(key) ? servicesConverter.build(map.get(key)) : defaultValue;
+      }
+      /**
+       * <pre>
+       * Per service, when group_by_service
+       * </pre>
+       *
+       * <code>map&lt;string, .health.v1.FleetSummary&gt; services = 2;</code>
+       */
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary getServicesOrThrow(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        java.util.Map<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummaryOrBuilder> map = internalGetMutableServices().ensureBuilderMap();
+        if (!map.containsKey(key)) {
+          throw new java.lang.IllegalArgumentException();
+        }
+        return servicesConverter.build(map.get(key));
+      }
+      public Builder clearServices() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        internalGetMutableServices().clear();
+        return this;
+      }
+      /**
+       * <pre>
+       * Per service, when group_by_service
+       * </pre>
+       *
+       * <code>map&lt;string, .health.v1.FleetSummary&gt; services = 2;</code>
+       */
+      public Builder removeServices(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        internalGetMutableServices().ensureBuilderMap()
+            .remove(key);
+        return this;
+      }
+      /**
+       * Use alternate mutation accessors instead.
+       */
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary>
+          getMutableServices() {
+        bitField0_ |= 0x00000002;
+        return internalGetMutableServices().ensureMessageMap();
+      }
+      /**
+       * <pre>
+       * Per service, when group_by_service
+       * </pre>
+       *
+       * <code>map&lt;string, .health.v1.FleetSummary&gt; services = 2;</code>
+       */
+      public Builder putServices(
+          java.lang.String key,
+          com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary value) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        if (value == null) { throw new NullPointerException("map value"); }
+        internalGetMutableServices().ensureBuilderMap()
+            .put(key, value);
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <pre>
+       * Per service, when group_by_service
+       * </pre>
+       *
+       * <code>map&lt;string, .health.v1.FleetSummary&gt; services = 2;</code>
+       */
+      public Builder putAllServices(
+          java.util.Map<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary> values) {
+        for (java.util.Map.Entry<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary> e : values.entrySet()) {
+          if (e.getKey() == null || e.getValue() == null) {
+            throw new NullPointerException();
+          }
+        }
+        internalGetMutableServices().ensureBuilderMap()
+            .putAll(values);
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <pre>
+       * Per service, when group_by_service
+       * </pre>
+       *
+       * <code>map&lt;string, .health.v1.FleetSummary&gt; services = 2;</code>
+       */
+      public com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary.Builder putServicesBuilderIfAbsent(
+          java.lang.String key) {
+        java.util.Map<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummaryOrBuilder> builderMap = internalGetMutableServices().ensureBuilderMap();
+        com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummaryOrBuilder entry = builderMap.get(key);
+        if (entry == null) {
+          entry = com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary.newBuilder();
+          builderMap.put(key, entry);
+        }
+        if (entry instanceof com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary) {
+          entry = ((com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary) entry).toBuilder();
+          builderMap.put(key, entry);
+        }
+        return (com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary.Builder) entry;
+      }
+
+      private static final class ZonesConverter implements com.google.protobuf.MapFieldBuilder.Converter<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummaryOrBuilder, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary> {
+        @java.lang.Override
+        public com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary build(com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummaryOrBuilder val) {
+          if (val instanceof com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary) { return (com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary) val; }
+          return ((com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary.Builder) val).build();
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.MapEntry<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary> defaultEntry() {
+          return ZonesDefaultEntryHolder.defaultEntry;
+        }
+      };
+      private static final ZonesConverter zonesConverter = new ZonesConverter();
+
+      private com.google.protobuf.MapFieldBuilder<
+          java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummaryOrBuilder, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary.Builder> zones_;
+      private com.google.protobuf.MapFieldBuilder<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummaryOrBuilder, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary.Builder>
+          internalGetZones() {
+        if (zones_ == null) {
+          return new com.google.protobuf.MapFieldBuilder<>(zonesConverter);
+        }
+        return zones_;
+      }
+      private com.google.protobuf.MapFieldBuilder<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummaryOrBuilder, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary.Builder>
+          internalGetMutableZones() {
+        if (zones_ == null) {
+          zones_ = new com.google.protobuf.MapFieldBuilder<>(zonesConverter);
+        }
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return zones_;
+      }
+      public int getZonesCount() {
+        return internalGetZones().ensureBuilderMap().size();
+      }
+      /**
+       * <pre>
+       * Per zone, when group_by_zone
+       * </pre>
+       *
+       * <code>map&lt;string, .health.v1.FleetSummary&gt; zones = 3;</code>
+       */
+      @java.lang.Override
+      public boolean containsZones(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        return internalGetZones().ensureBuilderMap().containsKey(key);
+      }
+      /**
+       * Use {@link #getZonesMap()} instead.
+       */
+      @java.lang.Override
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary> getZones() {
+        return getZonesMap();
+      }
+      /**
+       * <pre>
+       * Per zone, when group_by_zone
+       * </pre>
+       *
+       * <code>map&lt;string, .health.v1.FleetSummary&gt; zones = 3;</code>
+       */
+      @java.lang.Override
+      public java.util.Map<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary> getZonesMap() {
+        return internalGetZones().getImmutableMap();
+      }
+      /**
+       * <pre>
+       * Per zone, when group_by_zone
+       * </pre>
+       *
+       * <code>map&lt;string, .health.v1.FleetSummary&gt; zones = 3;</code>
+       */
+      @java.lang.Override
+      public /* nullable */
+com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary getZonesOrDefault(
+          java.lang.String key,
+          /* nullable */
+com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary defaultValue) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        java.util.Map<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummaryOrBuilder> map = internalGetMutableZones().ensureBuilderMap();
+        return map.containsKey(key) ? zonesConverter.build(map.get(key)) : defaultValue;
+      }
+      /**
+       * <pre>
+       * Per zone, when group_by_zone
+       * </pre>
+       *
+       * <code>map&lt;string, .health.v1.FleetSummary&gt; zones = 3;</code>
+       */
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary getZonesOrThrow(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        java.util.Map<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummaryOrBuilder> map = internalGetMutableZones().ensureBuilderMap();
+        if (!map.containsKey(key)) {
+          throw new java.lang.IllegalArgumentException();
+        }
+        return zonesConverter.build(map.get(key));
+      }
+      public Builder clearZones() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        internalGetMutableZones().clear();
+        return this;
+      }
+      /**
+       * <pre>
+       * Per zone, when group_by_zone
+       * </pre>
+       *
+       * <code>map&lt;string, .health.v1.FleetSummary&gt; zones = 3;</code>
+       */
+      public Builder removeZones(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        internalGetMutableZones().ensureBuilderMap()
+            .remove(key);
+        return this;
+      }
+      /**
+       * Use alternate mutation accessors instead.
+       */
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary>
+          getMutableZones() {
+        bitField0_ |= 0x00000004;
+        return internalGetMutableZones().ensureMessageMap();
+      }
+      /**
+       * <pre>
+       * Per zone, when group_by_zone
+       * </pre>
+       *
+       * <code>map&lt;string, .health.v1.FleetSummary&gt; zones = 3;</code>
+       */
+      public Builder putZones(
+          java.lang.String key,
+          com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary value) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        if (value == null) { throw new NullPointerException("map value"); }
+        internalGetMutableZones().ensureBuilderMap()
+            .put(key, value);
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <pre>
+       * Per zone, when group_by_zone
+       * </pre>
+       *
+       * <code>map&lt;string, .health.v1.FleetSummary&gt; zones = 3;</code>
+       */
+      public Builder putAllZones(
+          java.util.Map<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary> values) {
+        for (java.util.Map.Entry<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary> e : values.entrySet()) {
+          if (e.getKey() == null || e.getValue() == null) {
+            throw new NullPointerException();
+          }
+        }
+        internalGetMutableZones().ensureBuilderMap()
+            .putAll(values);
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <pre>
+       * Per zone, when group_by_zone
+       * </pre>
+       *
+       * <code>map&lt;string, .health.v1.FleetSummary&gt; zones = 3;</code>
+       */
+      public com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary.Builder putZonesBuilderIfAbsent(
+          java.lang.String key) {
+        java.util.Map<java.lang.String, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummaryOrBuilder> builderMap = internalGetMutableZones().ensureBuilderMap();
+        com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummaryOrBuilder entry = builderMap.get(key);
+        if (entry == null) {
+          entry = com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary.newBuilder();
+          builderMap.put(key, entry);
+        }
+        if (entry instanceof com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary) {
+          entry = ((com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary) entry).toBuilder();
+          builderMap.put(key, entry);
+        }
+        return (com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary.Builder) entry;
+      }
+
+      private java.util.List<com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode> worstNodes_ =
+        java.util.Collections.emptyList();
+      private void ensureWorstNodesIsMutable() {
+        if (!((bitField0_ & 0x00000008) != 0)) {
+          worstNodes_ = new java.util.ArrayList<com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode>(worstNodes_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode, com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode.Builder, com.shankarnarayanb.health.v1.HealthServiceProto.FleetNodeOrBuilder> worstNodesBuilder_;
+
+      /**
+       * <pre>
+       * Lowest health score first
+       * </pre>
+       *
+       * <code>repeated .health.v1.FleetNode worst_nodes = 4;</code>
+       */
+      public java.util.List<com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode> getWorstNodesList() {
+        if (worstNodesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(worstNodes_);
+        } else {
+          return worstNodesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * Lowest health score first
+       * </pre>
+       *
+       * <code>repeated .health.v1.FleetNode worst_nodes = 4;</code>
+       */
+      public int getWorstNodesCount() {
+        if (worstNodesBuilder_ == null) {
+          return worstNodes_.size();
+        } else {
+          return worstNodesBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * Lowest health score first
+       * </pre>
+       *
+       * <code>repeated .health.v1.FleetNode worst_nodes = 4;</code>
+       */
+      public com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode getWorstNodes(int index) {
+        if (worstNodesBuilder_ == null) {
+          return worstNodes_.get(index);
+        } else {
+          return worstNodesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * Lowest health score first
+       * </pre>
+       *
+       * <code>repeated .health.v1.FleetNode worst_nodes = 4;</code>
+       */
+      public Builder setWorstNodes(
+          int index, com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode value) {
+        if (worstNodesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureWorstNodesIsMutable();
+          worstNodes_.set(index, value);
+          onChanged();
+        } else {
+          worstNodesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Lowest health score first
+       * </pre>
+       *
+       * <code>repeated .health.v1.FleetNode worst_nodes = 4;</code>
+       */
+      public Builder setWorstNodes(
+          int index, com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode.Builder builderForValue) {
+        if (worstNodesBuilder_ == null) {
+          ensureWorstNodesIsMutable();
+          worstNodes_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          worstNodesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Lowest health score first
+       * </pre>
+       *
+       * <code>repeated .health.v1.FleetNode worst_nodes = 4;</code>
+       */
+      public Builder addWorstNodes(com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode value) {
+        if (worstNodesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureWorstNodesIsMutable();
+          worstNodes_.add(value);
+          onChanged();
+        } else {
+          worstNodesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Lowest health score first
+       * </pre>
+       *
+       * <code>repeated .health.v1.FleetNode worst_nodes = 4;</code>
+       */
+      public Builder addWorstNodes(
+          int index, com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode value) {
+        if (worstNodesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureWorstNodesIsMutable();
+          worstNodes_.add(index, value);
+          onChanged();
+        } else {
+          worstNodesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Lowest health score first
+       * </pre>
+       *
+       * <code>repeated .health.v1.FleetNode worst_nodes = 4;</code>
+       */
+      public Builder addWorstNodes(
+          com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode.Builder builderForValue) {
+        if (worstNodesBuilder_ == null) {
+          ensureWorstNodesIsMutable();
+          worstNodes_.add(builderForValue.build());
+          onChanged();
+        } else {
+          worstNodesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Lowest health score first
+       * </pre>
+       *
+       * <code>repeated .health.v1.FleetNode worst_nodes = 4;</code>
+       */
+      public Builder addWorstNodes(
+          int index, com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode.Builder builderForValue) {
+        if (worstNodesBuilder_ == null) {
+          ensureWorstNodesIsMutable();
+          worstNodes_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          worstNodesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Lowest health score first
+       * </pre>
+       *
+       * <code>repeated .health.v1.FleetNode worst_nodes = 4;</code>
+       */
+      public Builder addAllWorstNodes(
+          java.lang.Iterable<? extends com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode> values) {
+        if (worstNodesBuilder_ == null) {
+          ensureWorstNodesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, worstNodes_);
+          onChanged();
+        } else {
+          worstNodesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Lowest health score first
+       * </pre>
+       *
+       * <code>repeated .health.v1.FleetNode worst_nodes = 4;</code>
+       */
+      public Builder clearWorstNodes() {
+        if (worstNodesBuilder_ == null) {
+          worstNodes_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          worstNodesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Lowest health score first
+       * </pre>
+       *
+       * <code>repeated .health.v1.FleetNode worst_nodes = 4;</code>
+       */
+      public Builder removeWorstNodes(int index) {
+        if (worstNodesBuilder_ == null) {
+          ensureWorstNodesIsMutable();
+          worstNodes_.remove(index);
+          onChanged();
+        } else {
+          worstNodesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Lowest health score first
+       * </pre>
+       *
+       * <code>repeated .health.v1.FleetNode worst_nodes = 4;</code>
+       */
+      public com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode.Builder getWorstNodesBuilder(
+          int index) {
+        return internalGetWorstNodesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * Lowest health score first
+       * </pre>
+       *
+       * <code>repeated .health.v1.FleetNode worst_nodes = 4;</code>
+       */
+      public com.shankarnarayanb.health.v1.HealthServiceProto.FleetNodeOrBuilder getWorstNodesOrBuilder(
+          int index) {
+        if (worstNodesBuilder_ == null) {
+          return worstNodes_.get(index);  } else {
+          return worstNodesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * Lowest health score first
+       * </pre>
+       *
+       * <code>repeated .health.v1.FleetNode worst_nodes = 4;</code>
+       */
+      public java.util.List<? extends com.shankarnarayanb.health.v1.HealthServiceProto.FleetNodeOrBuilder> 
+           getWorstNodesOrBuilderList() {
+        if (worstNodesBuilder_ != null) {
+          return worstNodesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(worstNodes_);
+        }
+      }
+      /**
+       * <pre>
+       * Lowest health score first
+       * </pre>
+       *
+       * <code>repeated .health.v1.FleetNode worst_nodes = 4;</code>
+       */
+      public com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode.Builder addWorstNodesBuilder() {
+        return internalGetWorstNodesFieldBuilder().addBuilder(
+            com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Lowest health score first
+       * </pre>
+       *
+       * <code>repeated .health.v1.FleetNode worst_nodes = 4;</code>
+       */
+      public com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode.Builder addWorstNodesBuilder(
+          int index) {
+        return internalGetWorstNodesFieldBuilder().addBuilder(
+            index, com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Lowest health score first
+       * </pre>
+       *
+       * <code>repeated .health.v1.FleetNode worst_nodes = 4;</code>
+       */
+      public java.util.List<com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode.Builder> 
+           getWorstNodesBuilderList() {
+        return internalGetWorstNodesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode, com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode.Builder, com.shankarnarayanb.health.v1.HealthServiceProto.FleetNodeOrBuilder> 
+          internalGetWorstNodesFieldBuilder() {
+        if (worstNodesBuilder_ == null) {
+          worstNodesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode, com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode.Builder, com.shankarnarayanb.health.v1.HealthServiceProto.FleetNodeOrBuilder>(
+                  worstNodes_,
+                  ((bitField0_ & 0x00000008) != 0),
+                  getParentForChildren(),
+                  isClean());
+          worstNodes_ = null;
+        }
+        return worstNodesBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:health.v1.FleetStatusResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:health.v1.FleetStatusResponse)
+    private static final com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse();
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<FleetStatusResponse>
+        PARSER = new com.google.protobuf.AbstractParser<FleetStatusResponse>() {
+      @java.lang.Override
+      public FleetStatusResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<FleetStatusResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<FleetStatusResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface FleetSummaryOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:health.v1.FleetSummary)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * HEALTHY if every node is, UNHEALTHY if none is serving, else DEGRADED
+     * </pre>
+     *
+     * <code>.health.v1.HealthCheckResponse.ServiceStatus status = 1;</code>
+     * @return The enum numeric value on the wire for status.
+     */
+    int getStatusValue();
+    /**
+     * <pre>
+     * HEALTHY if every node is, UNHEALTHY if none is serving, else DEGRADED
+     * </pre>
+     *
+     * <code>.health.v1.HealthCheckResponse.ServiceStatus status = 1;</code>
+     * @return The status.
+     */
+    com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse.ServiceStatus getStatus();
+
+    /**
+     * <code>int32 nodes = 2;</code>
+     * @return The nodes.
+     */
+    int getNodes();
+
+    /**
+     * <code>int32 healthy = 3;</code>
+     * @return The healthy.
+     */
+    int getHealthy();
+
+    /**
+     * <code>int32 degraded = 4;</code>
+     * @return The degraded.
+     */
+    int getDegraded();
+
+    /**
+     * <code>int32 unhealthy = 5;</code>
+     * @return The unhealthy.
+     */
+    int getUnhealthy();
+
+    /**
+     * <code>int32 maintenance = 6;</code>
+     * @return The maintenance.
+     */
+    int getMaintenance();
+
+    /**
+     * <pre>
+     * Unreachable, or no update yet
+     * </pre>
+     *
+     * <code>int32 unknown = 7;</code>
+     * @return The unknown.
+     */
+    int getUnknown();
+
+    /**
+     * <code>double mean_health_score = 8;</code>
+     * @return The meanHealthScore.
+     */
+    double getMeanHealthScore();
+  }
+  /**
+   * <pre>
+   * Node counts by last reported status
+   * </pre>
+   *
+   * Protobuf type {@code health.v1.FleetSummary}
+   */
+  public static final class FleetSummary extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:health.v1.FleetSummary)
+      FleetSummaryOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 31,
+        /* patch= */ 0,
+        /* suffix= */ "",
+        FleetSummary.class.getName());
+    }
+    // Use FleetSummary.newBuilder() to construct.
+    private FleetSummary(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private FleetSummary() {
+      status_ = 0;
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_FleetSummary_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_FleetSummary_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary.class, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary.Builder.class);
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 1;
+    private int status_ = 0;
+    /**
+     * <pre>
+     * HEALTHY if every node is, UNHEALTHY if none is serving, else DEGRADED
+     * </pre>
+     *
+     * <code>.health.v1.HealthCheckResponse.ServiceStatus status = 1;</code>
+     * @return The enum numeric value on the wire for status.
+     */
+    @java.lang.Override public int getStatusValue() {
+      return status_;
+    }
+    /**
+     * <pre>
+     * HEALTHY if every node is, UNHEALTHY if none is serving, else DEGRADED
+     * </pre>
+     *
+     * <code>.health.v1.HealthCheckResponse.ServiceStatus status = 1;</code>
+     * @return The status.
+     */
+    @java.lang.Override public com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse.ServiceStatus getStatus() {
+      com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse.ServiceStatus result = com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse.ServiceStatus.forNumber(status_);
+      return result == null ? com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse.ServiceStatus.UNRECOGNIZED : result;
+    }
+
+    public static final int NODES_FIELD_NUMBER = 2;
+    private int nodes_ = 0;
+    /**
+     * <code>int32 nodes = 2;</code>
+     * @return The nodes.
+     */
+    @java.lang.Override
+    public int getNodes() {
+      return nodes_;
+    }
+
+    public static final int HEALTHY_FIELD_NUMBER = 3;
+    private int healthy_ = 0;
+    /**
+     * <code>int32 healthy = 3;</code>
+     * @return The healthy.
+     */
+    @java.lang.Override
+    public int getHealthy() {
+      return healthy_;
+    }
+
+    public static final int DEGRADED_FIELD_NUMBER = 4;
+    private int degraded_ = 0;
+    /**
+     * <code>int32 degraded = 4;</code>
+     * @return The degraded.
+     */
+    @java.lang.Override
+    public int getDegraded() {
+      return degraded_;
+    }
+
+    public static final int UNHEALTHY_FIELD_NUMBER = 5;
+    private int unhealthy_ = 0;
+    /**
+     * <code>int32 unhealthy = 5;</code>
+     * @return The unhealthy.
+     */
+    @java.lang.Override
+    public int getUnhealthy() {
+      return unhealthy_;
+    }
+
+    public static final int MAINTENANCE_FIELD_NUMBER = 6;
+    private int maintenance_ = 0;
+    /**
+     * <code>int32 maintenance = 6;</code>
+     * @return The maintenance.
+     */
+    @java.lang.Override
+    public int getMaintenance() {
+      return maintenance_;
+    }
+
+    public static final int UNKNOWN_FIELD_NUMBER = 7;
+    private int unknown_ = 0;
+    /**
+     * <pre>
+     * Unreachable, or no update yet
+     * </pre>
+     *
+     * <code>int32 unknown = 7;</code>
+     * @return The unknown.
+     */
+    @java.lang.Override
+    public int getUnknown() {
+      return unknown_;
+    }
+
+    public static final int MEAN_HEALTH_SCORE_FIELD_NUMBER = 8;
+    private double meanHealthScore_ = 0D;
+    /**
+     * <code>double mean_health_score = 8;</code>
+     * @return The meanHealthScore.
+     */
+    @java.lang.Override
+    public double getMeanHealthScore() {
+      return meanHealthScore_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (status_ != com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse.ServiceStatus.UNKNOWN.getNumber()) {
+        output.writeEnum(1, status_);
+      }
+      if (nodes_ != 0) {
+        output.writeInt32(2, nodes_);
+      }
+      if (healthy_ != 0) {
+        output.writeInt32(3, healthy_);
+      }
+      if (degraded_ != 0) {
+        output.writeInt32(4, degraded_);
+      }
+      if (unhealthy_ != 0) {
+        output.writeInt32(5, unhealthy_);
+      }
+      if (maintenance_ != 0) {
+        output.writeInt32(6, maintenance_);
+      }
+      if (unknown_ != 0) {
+        output.writeInt32(7, unknown_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(meanHealthScore_) != 0) {
+        output.writeDouble(8, meanHealthScore_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (status_ != com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse.ServiceStatus.UNKNOWN.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, status_);
+      }
+      if (nodes_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, nodes_);
+      }
+      if (healthy_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, healthy_);
+      }
+      if (degraded_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, degraded_);
+      }
+      if (unhealthy_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, unhealthy_);
+      }
+      if (maintenance_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(6, maintenance_);
+      }
+      if (unknown_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(7, unknown_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(meanHealthScore_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(8, meanHealthScore_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary)) {
+        return super.equals(obj);
+      }
+      com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary other = (com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary) obj;
+
+      if (status_ != other.status_) return false;
+      if (getNodes()
+          != other.getNodes()) return false;
+      if (getHealthy()
+          != other.getHealthy()) return false;
+      if (getDegraded()
+          != other.getDegraded()) return false;
+      if (getUnhealthy()
+          != other.getUnhealthy()) return false;
+      if (getMaintenance()
+          != other.getMaintenance()) return false;
+      if (getUnknown()
+          != other.getUnknown()) return false;
+      if (java.lang.Double.doubleToLongBits(getMeanHealthScore())
+          != java.lang.Double.doubleToLongBits(
+              other.getMeanHealthScore())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + STATUS_FIELD_NUMBER;
+      hash = (53 * hash) + status_;
+      hash = (37 * hash) + NODES_FIELD_NUMBER;
+      hash = (53 * hash) + getNodes();
+      hash = (37 * hash) + HEALTHY_FIELD_NUMBER;
+      hash = (53 * hash) + getHealthy();
+      hash = (37 * hash) + DEGRADED_FIELD_NUMBER;
+      hash = (53 * hash) + getDegraded();
+      hash = (37 * hash) + UNHEALTHY_FIELD_NUMBER;
+      hash = (53 * hash) + getUnhealthy();
+      hash = (37 * hash) + MAINTENANCE_FIELD_NUMBER;
+      hash = (53 * hash) + getMaintenance();
+      hash = (37 * hash) + UNKNOWN_FIELD_NUMBER;
+      hash = (53 * hash) + getUnknown();
+      hash = (37 * hash) + MEAN_HEALTH_SCORE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getMeanHealthScore()));
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Node counts by last reported status
+     * </pre>
+     *
+     * Protobuf type {@code health.v1.FleetSummary}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:health.v1.FleetSummary)
+        com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummaryOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_FleetSummary_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_FleetSummary_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary.class, com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary.Builder.class);
+      }
+
+      // Construct using com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        status_ = 0;
+        nodes_ = 0;
+        healthy_ = 0;
+        degraded_ = 0;
+        unhealthy_ = 0;
+        maintenance_ = 0;
+        unknown_ = 0;
+        meanHealthScore_ = 0D;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_FleetSummary_descriptor;
+      }
+
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary getDefaultInstanceForType() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary build() {
+        com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary buildPartial() {
+        com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary result = new com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.status_ = status_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.nodes_ = nodes_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.healthy_ = healthy_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.degraded_ = degraded_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.unhealthy_ = unhealthy_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.maintenance_ = maintenance_;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.unknown_ = unknown_;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.meanHealthScore_ = meanHealthScore_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary) {
+          return mergeFrom((com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary other) {
+        if (other == com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary.getDefaultInstance()) return this;
+        if (other.status_ != 0) {
+          setStatusValue(other.getStatusValue());
+        }
+        if (other.getNodes() != 0) {
+          setNodes(other.getNodes());
+        }
+        if (other.getHealthy() != 0) {
+          setHealthy(other.getHealthy());
+        }
+        if (other.getDegraded() != 0) {
+          setDegraded(other.getDegraded());
+        }
+        if (other.getUnhealthy() != 0) {
+          setUnhealthy(other.getUnhealthy());
+        }
+        if (other.getMaintenance() != 0) {
+          setMaintenance(other.getMaintenance());
+        }
+        if (other.getUnknown() != 0) {
+          setUnknown(other.getUnknown());
+        }
+        if (java.lang.Double.doubleToRawLongBits(other.getMeanHealthScore()) != 0) {
+          setMeanHealthScore(other.getMeanHealthScore());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                status_ = input.readEnum();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                nodes_ = input.readInt32();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 24: {
+                healthy_ = input.readInt32();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 32: {
+                degraded_ = input.readInt32();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 40: {
+                unhealthy_ = input.readInt32();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              case 48: {
+                maintenance_ = input.readInt32();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 48
+              case 56: {
+                unknown_ = input.readInt32();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 56
+              case 65: {
+                meanHealthScore_ = input.readDouble();
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 65
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int status_ = 0;
+      /**
+       * <pre>
+       * HEALTHY if every node is, UNHEALTHY if none is serving, else DEGRADED
+       * </pre>
+       *
+       * <code>.health.v1.HealthCheckResponse.ServiceStatus status = 1;</code>
+       * @return The enum numeric value on the wire for status.
+       */
+      @java.lang.Override public int getStatusValue() {
+        return status_;
+      }
+      /**
+       * <pre>
+       * HEALTHY if every node is, UNHEALTHY if none is serving, else DEGRADED
+       * </pre>
+       *
+       * <code>.health.v1.HealthCheckResponse.ServiceStatus status = 1;</code>
+       * @param value The enum numeric value on the wire for status to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStatusValue(int value) {
+        status_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * HEALTHY if every node is, UNHEALTHY if none is serving, else DEGRADED
+       * </pre>
+       *
+       * <code>.health.v1.HealthCheckResponse.ServiceStatus status = 1;</code>
+       * @return The status.
+       */
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse.ServiceStatus getStatus() {
+        com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse.ServiceStatus result = com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse.ServiceStatus.forNumber(status_);
+        return result == null ? com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse.ServiceStatus.UNRECOGNIZED : result;
+      }
+      /**
+       * <pre>
+       * HEALTHY if every node is, UNHEALTHY if none is serving, else DEGRADED
+       * </pre>
+       *
+       * <code>.health.v1.HealthCheckResponse.ServiceStatus status = 1;</code>
+       * @param value The status to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStatus(com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse.ServiceStatus value) {
+        if (value == null) { throw new NullPointerException(); }
+        bitField0_ |= 0x00000001;
+        status_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * HEALTHY if every node is, UNHEALTHY if none is serving, else DEGRADED
+       * </pre>
+       *
+       * <code>.health.v1.HealthCheckResponse.ServiceStatus status = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        status_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int nodes_ ;
+      /**
+       * <code>int32 nodes = 2;</code>
+       * @return The nodes.
+       */
+      @java.lang.Override
+      public int getNodes() {
+        return nodes_;
+      }
+      /**
+       * <code>int32 nodes = 2;</code>
+       * @param value The nodes to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNodes(int value) {
+
+        nodes_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 nodes = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNodes() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        nodes_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int healthy_ ;
+      /**
+       * <code>int32 healthy = 3;</code>
+       * @return The healthy.
+       */
+      @java.lang.Override
+      public int getHealthy() {
+        return healthy_;
+      }
+      /**
+       * <code>int32 healthy = 3;</code>
+       * @param value The healthy to set.
+       * @return This builder for chaining.
+       */
+      public Builder setHealthy(int value) {
+
+        healthy_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 healthy = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearHealthy() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        healthy_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int degraded_ ;
+      /**
+       * <code>int32 degraded = 4;</code>
+       * @return The degraded.
+       */
+      @java.lang.Override
+      public int getDegraded() {
+        return degraded_;
+      }
+      /**
+       * <code>int32 degraded = 4;</code>
+       * @param value The degraded to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDegraded(int value) {
+
+        degraded_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 degraded = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDegraded() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        degraded_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int unhealthy_ ;
+      /**
+       * <code>int32 unhealthy = 5;</code>
+       * @return The unhealthy.
+       */
+      @java.lang.Override
+      public int getUnhealthy() {
+        return unhealthy_;
+      }
+      /**
+       * <code>int32 unhealthy = 5;</code>
+       * @param value The unhealthy to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUnhealthy(int value) {
+
+        unhealthy_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 unhealthy = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearUnhealthy() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        unhealthy_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int maintenance_ ;
+      /**
+       * <code>int32 maintenance = 6;</code>
+       * @return The maintenance.
+       */
+      @java.lang.Override
+      public int getMaintenance() {
+        return maintenance_;
+      }
+      /**
+       * <code>int32 maintenance = 6;</code>
+       * @param value The maintenance to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMaintenance(int value) {
+
+        maintenance_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 maintenance = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMaintenance() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        maintenance_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int unknown_ ;
+      /**
+       * <pre>
+       * Unreachable, or no update yet
+       * </pre>
+       *
+       * <code>int32 unknown = 7;</code>
+       * @return The unknown.
+       */
+      @java.lang.Override
+      public int getUnknown() {
+        return unknown_;
+      }
+      /**
+       * <pre>
+       * Unreachable, or no update yet
+       * </pre>
+       *
+       * <code>int32 unknown = 7;</code>
+       * @param value The unknown to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUnknown(int value) {
+
+        unknown_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Unreachable, or no update yet
+       * </pre>
+       *
+       * <code>int32 unknown = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearUnknown() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        unknown_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private double meanHealthScore_ ;
+      /**
+       * <code>double mean_health_score = 8;</code>
+       * @return The meanHealthScore.
+       */
+      @java.lang.Override
+      public double getMeanHealthScore() {
+        return meanHealthScore_;
+      }
+      /**
+       * <code>double mean_health_score = 8;</code>
+       * @param value The meanHealthScore to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMeanHealthScore(double value) {
+
+        meanHealthScore_ = value;
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>double mean_health_score = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMeanHealthScore() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        meanHealthScore_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:health.v1.FleetSummary)
+    }
+
+    // @@protoc_insertion_point(class_scope:health.v1.FleetSummary)
+    private static final com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary();
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<FleetSummary>
+        PARSER = new com.google.protobuf.AbstractParser<FleetSummary>() {
+      @java.lang.Override
+      public FleetSummary parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<FleetSummary> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<FleetSummary> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface FleetNodeOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:health.v1.FleetNode)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string id = 1;</code>
+     * @return The id.
+     */
+    java.lang.String getId();
+    /**
+     * <code>string id = 1;</code>
+     * @return The bytes for id.
+     */
+    com.google.protobuf.ByteString
+        getIdBytes();
+
+    /**
+     * <code>string service = 2;</code>
+     * @return The service.
+     */
+    java.lang.String getService();
+    /**
+     * <code>string service = 2;</code>
+     * @return The bytes for service.
+     */
+    com.google.protobuf.ByteString
+        getServiceBytes();
+
+    /**
+     * <code>string zone = 3;</code>
+     * @return The zone.
+     */
+    java.lang.String getZone();
+    /**
+     * <code>string zone = 3;</code>
+     * @return The bytes for zone.
+     */
+    com.google.protobuf.ByteString
+        getZoneBytes();
+
+    /**
+     * <pre>
+     * gRPC target the node is watched on
+     * </pre>
+     *
+     * <code>string target = 4;</code>
+     * @return The target.
+     */
+    java.lang.String getTarget();
+    /**
+     * <pre>
+     * gRPC target the node is watched on
+     * </pre>
+     *
+     * <code>string target = 4;</code>
+     * @return The bytes for target.
+     */
+    com.google.protobuf.ByteString
+        getTargetBytes();
+
+    /**
+     * <pre>
+     * UNKNOWN while unreachable
+     * </pre>
+     *
+     * <code>.health.v1.HealthCheckResponse.ServiceStatus status = 5;</code>
+     * @return The enum numeric value on the wire for status.
+     */
+    int getStatusValue();
+    /**
+     * <pre>
+     * UNKNOWN while unreachable
+     * </pre>
+     *
+     * <code>.health.v1.HealthCheckResponse.ServiceStatus status = 5;</code>
+     * @return The status.
+     */
+    com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse.ServiceStatus getStatus();
+
+    /**
+     * <code>double health_score = 6;</code>
+     * @return The healthScore.
+     */
+    double getHealthScore();
+
+    /**
+     * <pre>
+     * Watch stream currently open
+     * </pre>
+     *
+     * <code>bool connected = 7;</code>
+     * @return The connected.
+     */
+    boolean getConnected();
+
+    /**
+     * <code>int64 updated_at_ms = 8;</code>
+     * @return The updatedAtMs.
+     */
+    long getUpdatedAtMs();
+
+    /**
+     * <code>string error_message = 9;</code>
+     * @return The errorMessage.
+     */
+    java.lang.String getErrorMessage();
+    /**
+     * <code>string error_message = 9;</code>
+     * @return The bytes for errorMessage.
+     */
+    com.google.protobuf.ByteString
+        getErrorMessageBytes();
+  }
+  /**
+   * <pre>
+   * One watched node, as last seen by the aggregator
+   * </pre>
+   *
+   * Protobuf type {@code health.v1.FleetNode}
+   */
+  public static final class FleetNode extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:health.v1.FleetNode)
+      FleetNodeOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 31,
+        /* patch= */ 0,
+        /* suffix= */ "",
+        FleetNode.class.getName());
+    }
+    // Use FleetNode.newBuilder() to construct.
+    private FleetNode(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private FleetNode() {
+      id_ = "";
+      service_ = "";
+      zone_ = "";
+      target_ = "";
+      status_ = 0;
+      errorMessage_ = "";
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_FleetNode_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_FleetNode_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode.class, com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode.Builder.class);
+    }
+
+    public static final int ID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object id_ = "";
+    /**
+     * <code>string id = 1;</code>
+     * @return The id.
+     */
+    @java.lang.Override
+    public java.lang.String getId() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        id_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string id = 1;</code>
+     * @return The bytes for id.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getIdBytes() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        id_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SERVICE_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object service_ = "";
+    /**
+     * <code>string service = 2;</code>
+     * @return The service.
+     */
+    @java.lang.Override
+    public java.lang.String getService() {
+      java.lang.Object ref = service_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        service_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string service = 2;</code>
+     * @return The bytes for service.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getServiceBytes() {
+      java.lang.Object ref = service_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        service_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ZONE_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object zone_ = "";
+    /**
+     * <code>string zone = 3;</code>
+     * @return The zone.
+     */
+    @java.lang.Override
+    public java.lang.String getZone() {
+      java.lang.Object ref = zone_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        zone_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string zone = 3;</code>
+     * @return The bytes for zone.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getZoneBytes() {
+      java.lang.Object ref = zone_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        zone_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TARGET_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object target_ = "";
+    /**
+     * <pre>
+     * gRPC target the node is watched on
+     * </pre>
+     *
+     * <code>string target = 4;</code>
+     * @return The target.
+     */
+    @java.lang.Override
+    public java.lang.String getTarget() {
+      java.lang.Object ref = target_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        target_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * gRPC target the node is watched on
+     * </pre>
+     *
+     * <code>string target = 4;</code>
+     * @return The bytes for target.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTargetBytes() {
+      java.lang.Object ref = target_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        target_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 5;
+    private int status_ = 0;
+    /**
+     * <pre>
+     * UNKNOWN while unreachable
+     * </pre>
+     *
+     * <code>.health.v1.HealthCheckResponse.ServiceStatus status = 5;</code>
+     * @return The enum numeric value on the wire for status.
+     */
+    @java.lang.Override public int getStatusValue() {
+      return status_;
+    }
+    /**
+     * <pre>
+     * UNKNOWN while unreachable
+     * </pre>
+     *
+     * <code>.health.v1.HealthCheckResponse.ServiceStatus status = 5;</code>
+     * @return The status.
+     */
+    @java.lang.Override public com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse.ServiceStatus getStatus() {
+      com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse.ServiceStatus result = com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse.ServiceStatus.forNumber(status_);
+      return result == null ? com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse.ServiceStatus.UNRECOGNIZED : result;
+    }
+
+    public static final int HEALTH_SCORE_FIELD_NUMBER = 6;
+    private double healthScore_ = 0D;
+    /**
+     * <code>double health_score = 6;</code>
+     * @return The healthScore.
+     */
+    @java.lang.Override
+    public double getHealthScore() {
+      return healthScore_;
+    }
+
+    public static final int CONNECTED_FIELD_NUMBER = 7;
+    private boolean connected_ = false;
+    /**
+     * <pre>
+     * Watch stream currently open
+     * </pre>
+     *
+     * <code>bool connected = 7;</code>
+     * @return The connected.
+     */
+    @java.lang.Override
+    public boolean getConnected() {
+      return connected_;
+    }
+
+    public static final int UPDATED_AT_MS_FIELD_NUMBER = 8;
+    private long updatedAtMs_ = 0L;
+    /**
+     * <code>int64 updated_at_ms = 8;</code>
+     * @return The updatedAtMs.
+     */
+    @java.lang.Override
+    public long getUpdatedAtMs() {
+      return updatedAtMs_;
+    }
+
+    public static final int ERROR_MESSAGE_FIELD_NUMBER = 9;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object errorMessage_ = "";
+    /**
+     * <code>string error_message = 9;</code>
+     * @return The errorMessage.
+     */
+    @java.lang.Override
+    public java.lang.String getErrorMessage() {
+      java.lang.Object ref = errorMessage_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        errorMessage_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string error_message = 9;</code>
+     * @return The bytes for errorMessage.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getErrorMessageBytes() {
+      java.lang.Object ref = errorMessage_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        errorMessage_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(id_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, id_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(service_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 2, service_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(zone_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 3, zone_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(target_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 4, target_);
+      }
+      if (status_ != com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse.ServiceStatus.UNKNOWN.getNumber()) {
+        output.writeEnum(5, status_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(healthScore_) != 0) {
+        output.writeDouble(6, healthScore_);
+      }
+      if (connected_ != false) {
+        output.writeBool(7, connected_);
+      }
+      if (updatedAtMs_ != 0L) {
+        output.writeInt64(8, updatedAtMs_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(errorMessage_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 9, errorMessage_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(id_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, id_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(service_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, service_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(zone_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(3, zone_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(target_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(4, target_);
+      }
+      if (status_ != com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse.ServiceStatus.UNKNOWN.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(5, status_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(healthScore_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(6, healthScore_);
+      }
+      if (connected_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(7, connected_);
+      }
+      if (updatedAtMs_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(8, updatedAtMs_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(errorMessage_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(9, errorMessage_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode)) {
+        return super.equals(obj);
+      }
+      com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode other = (com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode) obj;
+
+      if (!getId()
+          .equals(other.getId())) return false;
+      if (!getService()
+          .equals(other.getService())) return false;
+      if (!getZone()
+          .equals(other.getZone())) return false;
+      if (!getTarget()
+          .equals(other.getTarget())) return false;
+      if (status_ != other.status_) return false;
+      if (java.lang.Double.doubleToLongBits(getHealthScore())
+          != java.lang.Double.doubleToLongBits(
+              other.getHealthScore())) return false;
+      if (getConnected()
+          != other.getConnected()) return false;
+      if (getUpdatedAtMs()
+          != other.getUpdatedAtMs()) return false;
+      if (!getErrorMessage()
+          .equals(other.getErrorMessage())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + ID_FIELD_NUMBER;
+      hash = (53 * hash) + getId().hashCode();
+      hash = (37 * hash) + SERVICE_FIELD_NUMBER;
+      hash = (53 * hash) + getService().hashCode();
+      hash = (37 * hash) + ZONE_FIELD_NUMBER;
+      hash = (53 * hash) + getZone().hashCode();
+      hash = (37 * hash) + TARGET_FIELD_NUMBER;
+      hash = (53 * hash) + getTarget().hashCode();
+      hash = (37 * hash) + STATUS_FIELD_NUMBER;
+      hash = (53 * hash) + status_;
+      hash = (37 * hash) + HEALTH_SCORE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getHealthScore()));
+      hash = (37 * hash) + CONNECTED_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getConnected());
+      hash = (37 * hash) + UPDATED_AT_MS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getUpdatedAtMs());
+      hash = (37 * hash) + ERROR_MESSAGE_FIELD_NUMBER;
+      hash = (53 * hash) + getErrorMessage().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * One watched node, as last seen by the aggregator
+     * </pre>
+     *
+     * Protobuf type {@code health.v1.FleetNode}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:health.v1.FleetNode)
+        com.shankarnarayanb.health.v1.HealthServiceProto.FleetNodeOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_FleetNode_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_FleetNode_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode.class, com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode.Builder.class);
+      }
+
+      // Construct using com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        id_ = "";
+        service_ = "";
+        zone_ = "";
+        target_ = "";
+        status_ = 0;
+        healthScore_ = 0D;
+        connected_ = false;
+        updatedAtMs_ = 0L;
+        errorMessage_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.internal_static_health_v1_FleetNode_descriptor;
+      }
+
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode getDefaultInstanceForType() {
+        return com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode build() {
+        com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode buildPartial() {
+        com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode result = new com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.id_ = id_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.service_ = service_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.zone_ = zone_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.target_ = target_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.status_ = status_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.healthScore_ = healthScore_;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.connected_ = connected_;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.updatedAtMs_ = updatedAtMs_;
+        }
+        if (((from_bitField0_ & 0x00000100) != 0)) {
+          result.errorMessage_ = errorMessage_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode) {
+          return mergeFrom((com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode other) {
+        if (other == com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode.getDefaultInstance()) return this;
+        if (!other.getId().isEmpty()) {
+          id_ = other.id_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getService().isEmpty()) {
+          service_ = other.service_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.getZone().isEmpty()) {
+          zone_ = other.zone_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (!other.getTarget().isEmpty()) {
+          target_ = other.target_;
+          bitField0_ |= 0x00000008;
+          onChanged();
+        }
+        if (other.status_ != 0) {
+          setStatusValue(other.getStatusValue());
+        }
+        if (java.lang.Double.doubleToRawLongBits(other.getHealthScore()) != 0) {
+          setHealthScore(other.getHealthScore());
+        }
+        if (other.getConnected() != false) {
+          setConnected(other.getConnected());
+        }
+        if (other.getUpdatedAtMs() != 0L) {
+          setUpdatedAtMs(other.getUpdatedAtMs());
+        }
+        if (!other.getErrorMessage().isEmpty()) {
+          errorMessage_ = other.errorMessage_;
+          bitField0_ |= 0x00000100;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                id_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                service_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                zone_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                target_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 40: {
+                status_ = input.readEnum();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              case 49: {
+                healthScore_ = input.readDouble();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 49
+              case 56: {
+                connected_ = input.readBool();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 56
+              case 64: {
+                updatedAtMs_ = input.readInt64();
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 64
+              case 74: {
+                errorMessage_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000100;
+                break;
+              } // case 74
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object id_ = "";
+      /**
+       * <code>string id = 1;</code>
+       * @return The id.
+       */
+      public java.lang.String getId() {
+        java.lang.Object ref = id_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          id_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string id = 1;</code>
+       * @return The bytes for id.
+       */
+      public com.google.protobuf.ByteString
+          getIdBytes() {
+        java.lang.Object ref = id_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          id_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string id = 1;</code>
+       * @param value The id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        id_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearId() {
+        id_ = getDefaultInstance().getId();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string id = 1;</code>
+       * @param value The bytes for id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        id_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object service_ = "";
+      /**
+       * <code>string service = 2;</code>
+       * @return The service.
+       */
+      public java.lang.String getService() {
+        java.lang.Object ref = service_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          service_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string service = 2;</code>
+       * @return The bytes for service.
+       */
+      public com.google.protobuf.ByteString
+          getServiceBytes() {
+        java.lang.Object ref = service_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          service_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string service = 2;</code>
+       * @param value The service to set.
+       * @return This builder for chaining.
+       */
+      public Builder setService(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        service_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string service = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearService() {
+        service_ = getDefaultInstance().getService();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string service = 2;</code>
+       * @param value The bytes for service to set.
+       * @return This builder for chaining.
+       */
+      public Builder setServiceBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        service_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object zone_ = "";
+      /**
+       * <code>string zone = 3;</code>
+       * @return The zone.
+       */
+      public java.lang.String getZone() {
+        java.lang.Object ref = zone_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          zone_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string zone = 3;</code>
+       * @return The bytes for zone.
+       */
+      public com.google.protobuf.ByteString
+          getZoneBytes() {
+        java.lang.Object ref = zone_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          zone_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string zone = 3;</code>
+       * @param value The zone to set.
+       * @return This builder for chaining.
+       */
+      public Builder setZone(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        zone_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string zone = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearZone() {
+        zone_ = getDefaultInstance().getZone();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string zone = 3;</code>
+       * @param value The bytes for zone to set.
+       * @return This builder for chaining.
+       */
+      public Builder setZoneBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        zone_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object target_ = "";
+      /**
+       * <pre>
+       * gRPC target the node is watched on
+       * </pre>
+       *
+       * <code>string target = 4;</code>
+       * @return The target.
+       */
+      public java.lang.String getTarget() {
+        java.lang.Object ref = target_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          target_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * gRPC target the node is watched on
+       * </pre>
+       *
+       * <code>string target = 4;</code>
+       * @return The bytes for target.
+       */
+      public com.google.protobuf.ByteString
+          getTargetBytes() {
+        java.lang.Object ref = target_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          target_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * gRPC target the node is watched on
+       * </pre>
+       *
+       * <code>string target = 4;</code>
+       * @param value The target to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTarget(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        target_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * gRPC target the node is watched on
+       * </pre>
+       *
+       * <code>string target = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTarget() {
+        target_ = getDefaultInstance().getTarget();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * gRPC target the node is watched on
+       * </pre>
+       *
+       * <code>string target = 4;</code>
+       * @param value The bytes for target to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTargetBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        target_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+
+      private int status_ = 0;
+      /**
+       * <pre>
+       * UNKNOWN while unreachable
+       * </pre>
+       *
+       * <code>.health.v1.HealthCheckResponse.ServiceStatus status = 5;</code>
+       * @return The enum numeric value on the wire for status.
+       */
+      @java.lang.Override public int getStatusValue() {
+        return status_;
+      }
+      /**
+       * <pre>
+       * UNKNOWN while unreachable
+       * </pre>
+       *
+       * <code>.health.v1.HealthCheckResponse.ServiceStatus status = 5;</code>
+       * @param value The enum numeric value on the wire for status to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStatusValue(int value) {
+        status_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * UNKNOWN while unreachable
+       * </pre>
+       *
+       * <code>.health.v1.HealthCheckResponse.ServiceStatus status = 5;</code>
+       * @return The status.
+       */
+      @java.lang.Override
+      public com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse.ServiceStatus getStatus() {
+        com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse.ServiceStatus result = com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse.ServiceStatus.forNumber(status_);
+        return result == null ? com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse.ServiceStatus.UNRECOGNIZED : result;
+      }
+      /**
+       * <pre>
+       * UNKNOWN while unreachable
+       * </pre>
+       *
+       * <code>.health.v1.HealthCheckResponse.ServiceStatus status = 5;</code>
+       * @param value The status to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStatus(com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse.ServiceStatus value) {
+        if (value == null) { throw new NullPointerException(); }
+        bitField0_ |= 0x00000010;
+        status_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * UNKNOWN while unreachable
+       * </pre>
+       *
+       * <code>.health.v1.HealthCheckResponse.ServiceStatus status = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        status_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private double healthScore_ ;
+      /**
+       * <code>double health_score = 6;</code>
+       * @return The healthScore.
+       */
+      @java.lang.Override
+      public double getHealthScore() {
+        return healthScore_;
+      }
+      /**
+       * <code>double health_score = 6;</code>
+       * @param value The healthScore to set.
+       * @return This builder for chaining.
+       */
+      public Builder setHealthScore(double value) {
+
+        healthScore_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>double health_score = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearHealthScore() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        healthScore_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private boolean connected_ ;
+      /**
+       * <pre>
+       * Watch stream currently open
+       * </pre>
+       *
+       * <code>bool connected = 7;</code>
+       * @return The connected.
+       */
+      @java.lang.Override
+      public boolean getConnected() {
+        return connected_;
+      }
+      /**
+       * <pre>
+       * Watch stream currently open
+       * </pre>
+       *
+       * <code>bool connected = 7;</code>
+       * @param value The connected to set.
+       * @return This builder for chaining.
+       */
+      public Builder setConnected(boolean value) {
+
+        connected_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Watch stream currently open
+       * </pre>
+       *
+       * <code>bool connected = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearConnected() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        connected_ = false;
+        onChanged();
+        return this;
+      }
 
-      private int errorCode_ ;
+      private long updatedAtMs_ ;
       /**
-       * <code>int32 error_code = 1;</code>
-       * @return The errorCode.
+       * <code>int64 updated_at_ms = 8;</code>
+       * @return The updatedAtMs.
        */
       @java.lang.Override
-      public int getErrorCode() {
-        return errorCode_;
+      public long getUpdatedAtMs() {
+        return updatedAtMs_;
       }
       /**
-       * <code>int32 error_code = 1;</code>
-       * @param value The errorCode to set.
+       * <code>int64 updated_at_ms = 8;</code>
+       * @param value The updatedAtMs to set.
        * @return This builder for chaining.
        */
-      public Builder setErrorCode(int value) {
+      public Builder setUpdatedAtMs(long value) {
 
-        errorCode_ = value;
-        bitField0_ |= 0x00000001;
+        updatedAtMs_ = value;
+        bitField0_ |= 0x00000080;
         onChanged();
         return this;
       }
       /**
-       * <code>int32 error_code = 1;</code>
+       * <code>int64 updated_at_ms = 8;</code>
        * @return This builder for chaining.
        */
-      public Builder clearErrorCode() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        errorCode_ = 0;
+      public Builder clearUpdatedAtMs() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        updatedAtMs_ = 0L;
         onChanged();
         return this;
       }
 
-      private java.lang.Object errorCategory_ = "";
+      private java.lang.Object errorMessage_ = "";
       /**
-       * <code>string error_category = 2;</code>
-       * @return The errorCategory.
+       * <code>string error_message = 9;</code>
+       * @return The errorMessage.
        */
-      public java.lang.String getErrorCategory() {
-        java.lang.Object ref = errorCategory_;
+      public java.lang.String getErrorMessage() {
+        java.lang.Object ref = errorMessage_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          errorCategory_ = s;
+          errorMessage_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>string error_category = 2;</code>
-       * @return The bytes for errorCategory.
+       * <code>string error_message = 9;</code>
+       * @return The bytes for errorMessage.
        */
       public com.google.protobuf.ByteString
-          getErrorCategoryBytes() {
-        java.lang.Object ref = errorCategory_;
+          getErrorMessageBytes() {
+        java.lang.Object ref = errorMessage_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          errorCategory_ = b;
+          errorMessage_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>string error_category = 2;</code>
-       * @param value The errorCategory to set.
-       * @return This builder for chaining.
-       */
-      public Builder setErrorCategory(
-          java.lang.String value) {
-        if (value == null) { throw new NullPointerException(); }
-        errorCategory_ = value;
-        bitField0_ |= 0x00000002;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string error_category = 2;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearErrorCategory() {
-        errorCategory_ = getDefaultInstance().getErrorCategory();
-        bitField0_ = (bitField0_ & ~0x00000002);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string error_category = 2;</code>
-       * @param value The bytes for errorCategory to set.
-       * @return This builder for chaining.
-       */
-      public Builder setErrorCategoryBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        checkByteStringIsUtf8(value);
-        errorCategory_ = value;
-        bitField0_ |= 0x00000002;
-        onChanged();
-        return this;
-      }
-
-      private com.google.protobuf.LazyStringArrayList stackTrace_ =
-          com.google.protobuf.LazyStringArrayList.emptyList();
-      private void ensureStackTraceIsMutable() {
-        if (!stackTrace_.isModifiable()) {
-          stackTrace_ = new com.google.protobuf.LazyStringArrayList(stackTrace_);
-        }
-        bitField0_ |= 0x00000004;
-      }
-      /**
-       * <code>repeated string stack_trace = 3;</code>
-       * @return A list containing the stackTrace.
-       */
-      public com.google.protobuf.ProtocolStringList
-          getStackTraceList() {
-        stackTrace_.makeImmutable();
-        return stackTrace_;
-      }
-      /**
-       * <code>repeated string stack_trace = 3;</code>
-       * @return The count of stackTrace.
-       */
-      public int getStackTraceCount() {
-        return stackTrace_.size();
-      }
-      /**
-       * <code>repeated string stack_trace = 3;</code>
-       * @param index The index of the element to return.
-       * @return The stackTrace at the given index.
-       */
-      public java.lang.String getStackTrace(int index) {
-        return stackTrace_.get(index);
-      }
-      /**
-       * <code>repeated string stack_trace = 3;</code>
-       * @param index The index of the value to return.
-       * @return The bytes of the stackTrace at the given index.
-       */
-      public com.google.protobuf.ByteString
-          getStackTraceBytes(int index) {
-        return stackTrace_.getByteString(index);
-      }
-      /**
-       * <code>repeated string stack_trace = 3;</code>
-       * @param index The index to set the value at.
-       * @param value The stackTrace to set.
-       * @return This builder for chaining.
-       */
-      public Builder setStackTrace(
-          int index, java.lang.String value) {
-        if (value == null) { throw new NullPointerException(); }
-        ensureStackTraceIsMutable();
-        stackTrace_.set(index, value);
-        bitField0_ |= 0x00000004;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>repeated string stack_trace = 3;</code>
-       * @param value The stackTrace to add.
+       * <code>string error_message = 9;</code>
+       * @param value The errorMessage to set.
        * @return This builder for chaining.
        */
-      public Builder addStackTrace(
+      public Builder setErrorMessage(
           java.lang.String value) {
         if (value == null) { throw new NullPointerException(); }
-        ensureStackTraceIsMutable();
-        stackTrace_.add(value);
-        bitField0_ |= 0x00000004;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>repeated string stack_trace = 3;</code>
-       * @param values The stackTrace to add.
-       * @return This builder for chaining.
-       */
-      public Builder addAllStackTrace(
-          java.lang.Iterable<java.lang.String> values) {
-        ensureStackTraceIsMutable();
-        com.google.protobuf.AbstractMessageLite.Builder.addAll(
-            values, stackTrace_);
-        bitField0_ |= 0x00000004;
+        errorMessage_ = value;
+        bitField0_ |= 0x00000100;
         onChanged();
         return this;
       }
       /**
-       * <code>repeated string stack_trace = 3;</code>
+       * <code>string error_message = 9;</code>
        * @return This builder for chaining.
        */
-      public Builder clearStackTrace() {
-        stackTrace_ =
-          com.google.protobuf.LazyStringArrayList.emptyList();
-        bitField0_ = (bitField0_ & ~0x00000004);;
+      public Builder clearErrorMessage() {
+        errorMessage_ = getDefaultInstance().getErrorMessage();
+        bitField0_ = (bitField0_ & ~0x00000100);
         onChanged();
         return this;
       }
       /**
-       * <code>repeated string stack_trace = 3;</code>
-       * @param value The bytes of the stackTrace to add.
+       * <code>string error_message = 9;</code>
+       * @param value The bytes for errorMessage to set.
        * @return This builder for chaining.
        */
-      public Builder addStackTraceBytes(
+      public Builder setErrorMessageBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) { throw new NullPointerException(); }
         checkByteStringIsUtf8(value);
-        ensureStackTraceIsMutable();
-        stackTrace_.add(value);
-        bitField0_ |= 0x00000004;
+        errorMessage_ = value;
+        bitField0_ |= 0x00000100;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:health.v1.ErrorDetails)
+      // @@protoc_insertion_point(builder_scope:health.v1.FleetNode)
     }
 
-    // @@protoc_insertion_point(class_scope:health.v1.ErrorDetails)
-    private static final com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:health.v1.FleetNode)
+    private static final com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails();
+      DEFAULT_INSTANCE = new com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode();
     }
 
-    public static com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails getDefaultInstance() {
+    public static com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<ErrorDetails>
-        PARSER = new com.google.protobuf.AbstractParser<ErrorDetails>() {
+    private static final com.google.protobuf.Parser<FleetNode>
+        PARSER = new com.google.protobuf.AbstractParser<FleetNode>() {
       @java.lang.Override
-      public ErrorDetails parsePartialFrom(
+      public FleetNode parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -8933,17 +21057,17 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
       }
     };
 
-    public static com.google.protobuf.Parser<ErrorDetails> parser() {
+    public static com.google.protobuf.Parser<FleetNode> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<ErrorDetails> getParserForType() {
+    public com.google.protobuf.Parser<FleetNode> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.shankarnarayanb.health.v1.HealthServiceProto.ErrorDetails getDefaultInstanceForType() {
+    public com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -8984,6 +21108,11 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
   private static final 
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_health_v1_ComponentHealth_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_health_v1_Availability_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_health_v1_Availability_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_health_v1_DependentComponent_descriptor;
   private static final 
@@ -8994,11 +21123,76 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
   private static final 
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_health_v1_MaintenanceInfo_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_health_v1_MaintenanceWindow_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_health_v1_MaintenanceWindow_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_health_v1_SetMaintenanceRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_health_v1_SetMaintenanceRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_health_v1_ClearMaintenanceRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_health_v1_ClearMaintenanceRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_health_v1_ListMaintenanceRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_health_v1_ListMaintenanceRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_health_v1_MaintenanceWindowList_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_health_v1_MaintenanceWindowList_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_health_v1_ErrorDetails_descriptor;
   private static final 
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_health_v1_ErrorDetails_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_health_v1_LoadReportRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_health_v1_LoadReportRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_health_v1_LoadReport_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_health_v1_LoadReport_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_health_v1_FleetStatusRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_health_v1_FleetStatusRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_health_v1_FleetStatusResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_health_v1_FleetStatusResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_health_v1_FleetStatusResponse_ServicesEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_health_v1_FleetStatusResponse_ServicesEntry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_health_v1_FleetStatusResponse_ZonesEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_health_v1_FleetStatusResponse_ZonesEntry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_health_v1_FleetSummary_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_health_v1_FleetSummary_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_health_v1_FleetNode_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_health_v1_FleetNode_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -9013,43 +21207,98 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
       "\010\022\017\n\007version\030\002 \001(\t\022\024\n\014timestamp_ms\030\003 \001(\003" +
       "\"_\n\022HealthCheckRequest\022\022\n\ncomponents\030\001 \003" +
       "(\t\022\034\n\024include_dependencies\030\002 \001(\010\022\027\n\017time" +
-      "out_seconds\030\003 \001(\005\"B\n\022HealthWatchRequest\022" +
+      "out_seconds\030\003 \001(\005\"w\n\022HealthWatchRequest\022" +
       "\022\n\ncomponents\030\001 \003(\t\022\030\n\020interval_seconds\030" +
-      "\002 \001(\005\"\216\004\n\023HealthCheckResponse\022D\n\016overall" +
-      "_status\030\001 \001(\0162,.health.v1.HealthCheckRes" +
-      "ponse.ServiceStatus\022B\n\ncomponents\030\002 \003(\0132" +
-      "..health.v1.HealthCheckResponse.Componen" +
-      "tsEntry\022\037\n\027total_check_duration_ms\030\003 \001(\003" +
-      "\022\025\n\rerror_message\030\004 \001(\t\022\020\n\010warnings\030\005 \003(" +
-      "\t\0226\n\020maintenance_info\030\006 \001(\0132\032.health.v1." +
-      "MaintenanceInfoH\000\0220\n\rerror_details\030\007 \001(\013" +
-      "2\027.health.v1.ErrorDetailsH\000\032M\n\017Component" +
-      "sEntry\022\013\n\003key\030\001 \001(\t\022)\n\005value\030\002 \001(\0132\032.hea" +
-      "lth.v1.ComponentHealth:\0028\001\"W\n\rServiceSta" +
-      "tus\022\013\n\007UNKNOWN\020\000\022\013\n\007HEALTHY\020\001\022\014\n\010DEGRADE" +
-      "D\020\002\022\r\n\tUNHEALTHY\020\003\022\017\n\013MAINTENANCE\020\004B\021\n\017a" +
-      "dditional_info\"\320\001\n\017ComponentHealth\022\021\n\tav" +
-      "ailable\030\001 \001(\010\022\022\n\nfunctional\030\002 \001(\010\022\025\n\rerr" +
-      "or_details\030\003 \001(\t\022\030\n\020response_time_ms\030\004 \001" +
-      "(\003\0223\n\014dependencies\030\005 \003(\0132\035.health.v1.Dep" +
-      "endentComponent\022\034\n\017last_check_info\030\006 \001(\t" +
-      "H\000\210\001\001B\022\n\020_last_check_info\"|\n\022DependentCo" +
-      "mponent\022\014\n\004name\030\001 \001(\t\022\021\n\tavailable\030\002 \001(\010" +
-      "\022\025\n\rerror_details\030\003 \001(\t\022\017\n\007version\030\004 \001(\t" +
-      "\022\035\n\025last_successful_check\030\005 \001(\003\"Q\n\017Maint" +
-      "enanceInfo\022\022\n\nstart_time\030\001 \001(\003\022\032\n\022estima" +
-      "ted_end_time\030\002 \001(\003\022\016\n\006reason\030\003 \001(\t\"O\n\014Er" +
-      "rorDetails\022\022\n\nerror_code\030\001 \001(\005\022\026\n\016error_" +
-      "category\030\002 \001(\t\022\023\n\013stack_trace\030\003 \003(\t2\346\001\n\r" +
-      "HealthService\0227\n\004Ping\022\026.health.v1.PingRe" +
-      "quest\032\027.health.v1.PingResponse\022L\n\013CheckH" +
-      "ealth\022\035.health.v1.HealthCheckRequest\032\036.h" +
-      "ealth.v1.HealthCheckResponse\022N\n\013WatchHea" +
-      "lth\022\035.health.v1.HealthWatchRequest\032\036.hea" +
-      "lth.v1.HealthCheckResponse0\001Bb\n\035com.shan" +
-      "karnarayanb.health.v1B\022HealthServiceProt" +
-      "oZ-github.com/shankarnarayanb/health/v1;" +
-      "healthv1b\006proto3"
+      "\002 \001(\005\022\035\n\025resume_after_sequence\030\003 \001(\003\022\024\n\014" +
+      "resume_epoch\030\004 \001(\003\"\201\005\n\023HealthCheckRespon" +
+      "se\022D\n\016overall_status\030\001 \001(\0162,.health.v1.H" +
+      "ealthCheckResponse.ServiceStatus\022B\n\ncomp" +
+      "onents\030\002 \003(\0132..health.v1.HealthCheckResp" +
+      "onse.ComponentsEntry\022\037\n\027total_check_dura" +
+      "tion_ms\030\003 \001(\003\022\025\n\rerror_message\030\004 \001(\t\022\020\n\010" +
+      "warnings\030\005 \003(\t\0226\n\020maintenance_info\030\006 \001(\013" +
+      "2\032.health.v1.MaintenanceInfoH\000\0220\n\rerror_" +
+      "details\030\007 \001(\0132\027.health.v1.ErrorDetailsH\000" +
+      "\022\027\n\017sequence_number\030\010 \001(\003\022\024\n\014health_scor" +
+      "e\030\t \001(\001\022-\n\014availability\030\n \001(\0132\027.health.v" +
+      "1.Availability\022\023\n\013watch_epoch\030\013 \001(\003\032M\n\017C" +
+      "omponentsEntry\022\013\n\003key\030\001 \001(\t\022)\n\005value\030\002 \001" +
+      "(\0132\032.health.v1.ComponentHealth:\0028\001\"W\n\rSe" +
+      "rviceStatus\022\013\n\007UNKNOWN\020\000\022\013\n\007HEALTHY\020\001\022\014\n" +
+      "\010DEGRADED\020\002\022\r\n\tUNHEALTHY\020\003\022\017\n\013MAINTENANC" +
+      "E\020\004B\021\n\017additional_info\"\225\002\n\017ComponentHeal" +
+      "th\022\021\n\tavailable\030\001 \001(\010\022\022\n\nfunctional\030\002 \001(" +
+      "\010\022\025\n\rerror_details\030\003 \001(\t\022\030\n\020response_tim" +
+      "e_ms\030\004 \001(\003\0223\n\014dependencies\030\005 \003(\0132\035.healt" +
+      "h.v1.DependentComponent\022\034\n\017last_check_in" +
+      "fo\030\006 \001(\tH\000\210\001\001\022\024\n\014health_score\030\007 \001(\001\022-\n\014a" +
+      "vailability\030\010 \001(\0132\027.health.v1.Availabili" +
+      "tyB\022\n\020_last_check_info\"A\n\014Availability\022\017" +
+      "\n\007last_1m\030\001 \001(\001\022\017\n\007last_5m\030\002 \001(\001\022\017\n\007last" +
+      "_1h\030\003 \001(\001\"|\n\022DependentComponent\022\014\n\004name\030" +
+      "\001 \001(\t\022\021\n\tavailable\030\002 \001(\010\022\025\n\rerror_detail" +
+      "s\030\003 \001(\t\022\017\n\007version\030\004 \001(\t\022\035\n\025last_success" +
+      "ful_check\030\005 \001(\003\"Q\n\017MaintenanceInfo\022\022\n\nst" +
+      "art_time\030\001 \001(\003\022\032\n\022estimated_end_time\030\002 \001" +
+      "(\003\022\016\n\006reason\030\003 \001(\t\"\\\n\021MaintenanceWindow\022" +
+      "\n\n\002id\030\001 \001(\t\022\021\n\tcomponent\030\002 \001(\t\022(\n\004info\030\003" +
+      " \001(\0132\032.health.v1.MaintenanceInfo\"E\n\025SetM" +
+      "aintenanceRequest\022,\n\006window\030\001 \001(\0132\034.heal" +
+      "th.v1.MaintenanceWindow\"8\n\027ClearMaintena" +
+      "nceRequest\022\n\n\002id\030\001 \001(\t\022\021\n\tcomponent\030\002 \001(" +
+      "\t\"\030\n\026ListMaintenanceRequest\"F\n\025Maintenan" +
+      "ceWindowList\022-\n\007windows\030\001 \003(\0132\034.health.v" +
+      "1.MaintenanceWindow\"O\n\014ErrorDetails\022\022\n\ne" +
+      "rror_code\030\001 \001(\005\022\026\n\016error_category\030\002 \001(\t\022" +
+      "\023\n\013stack_trace\030\003 \003(\t\"(\n\021LoadReportReques" +
+      "t\022\023\n\013interval_ms\030\001 \001(\005\"\236\001\n\nLoadReport\022\027\n" +
+      "\017cpu_utilization\030\001 \001(\001\022\027\n\017mem_utilizatio" +
+      "n\030\002 \001(\001\022\032\n\022in_flight_requests\030\003 \001(\003\022\013\n\003q" +
+      "ps\030\004 \001(\001\022\013\n\003eps\030\005 \001(\001\022\022\n\nerror_rate\030\006 \001(" +
+      "\001\022\024\n\014timestamp_ms\030\007 \001(\003\"s\n\022FleetStatusRe" +
+      "quest\022\017\n\007service\030\001 \001(\t\022\014\n\004zone\030\002 \001(\t\022\r\n\005" +
+      "worst\030\003 \001(\005\022\030\n\020group_by_service\030\004 \001(\010\022\025\n" +
+      "\rgroup_by_zone\030\005 \001(\010\"\365\002\n\023FleetStatusResp" +
+      "onse\022(\n\007summary\030\001 \001(\0132\027.health.v1.FleetS" +
+      "ummary\022>\n\010services\030\002 \003(\0132,.health.v1.Fle" +
+      "etStatusResponse.ServicesEntry\0228\n\005zones\030" +
+      "\003 \003(\0132).health.v1.FleetStatusResponse.Zo" +
+      "nesEntry\022)\n\013worst_nodes\030\004 \003(\0132\024.health.v" +
+      "1.FleetNode\032H\n\rServicesEntry\022\013\n\003key\030\001 \001(" +
+      "\t\022&\n\005value\030\002 \001(\0132\027.health.v1.FleetSummar" +
+      "y:\0028\001\032E\n\nZonesEntry\022\013\n\003key\030\001 \001(\t\022&\n\005valu" +
+      "e\030\002 \001(\0132\027.health.v1.FleetSummary:\0028\001\"\322\001\n" +
+      "\014FleetSummary\022<\n\006status\030\001 \001(\0162,.health.v" +
+      "1.HealthCheckResponse.ServiceStatus\022\r\n\005n" +
+      "odes\030\002 \001(\005\022\017\n\007healthy\030\003 \001(\005\022\020\n\010degraded\030" +
+      "\004 \001(\005\022\021\n\tunhealthy\030\005 \001(\005\022\023\n\013maintenance\030" +
+      "\006 \001(\005\022\017\n\007unknown\030\007 \001(\005\022\031\n\021mean_health_sc" +
+      "ore\030\010 \001(\001\"\333\001\n\tFleetNode\022\n\n\002id\030\001 \001(\t\022\017\n\007s" +
+      "ervice\030\002 \001(\t\022\014\n\004zone\030\003 \001(\t\022\016\n\006target\030\004 \001" +
+      "(\t\022<\n\006status\030\005 \001(\0162,.health.v1.HealthChe" +
+      "ckResponse.ServiceStatus\022\024\n\014health_score" +
+      "\030\006 \001(\001\022\021\n\tconnected\030\007 \001(\010\022\025\n\rupdated_at_" +
+      "ms\030\010 \001(\003\022\025\n\rerror_message\030\t \001(\t2\266\004\n\rHeal" +
+      "thService\0227\n\004Ping\022\026.health.v1.PingReques" +
+      "t\032\027.health.v1.PingResponse\022L\n\013CheckHealt" +
+      "h\022\035.health.v1.HealthCheckRequest\032\036.healt" +
+      "h.v1.HealthCheckResponse\022N\n\013WatchHealth\022" +
+      "\035.health.v1.HealthWatchRequest\032\036.health." +
+      "v1.HealthCheckResponse0\001\022J\n\021StreamLoadRe" +
+      "ports\022\034.health.v1.LoadReportRequest\032\025.he" +
+      "alth.v1.LoadReport0\001\022P\n\016SetMaintenance\022 " +
+      ".health.v1.SetMaintenanceRequest\032\034.healt" +
+      "h.v1.MaintenanceWindow\022X\n\020ClearMaintenan" +
+      "ce\022\".health.v1.ClearMaintenanceRequest\032 " +
+      ".health.v1.MaintenanceWindowList\022V\n\017List" +
+      "Maintenance\022!.health.v1.ListMaintenanceR" +
+      "equest\032 .health.v1.MaintenanceWindowList" +
+      "2_\n\014FleetService\022O\n\016GetFleetStatus\022\035.hea" +
+      "lth.v1.FleetStatusRequest\032\036.health.v1.Fl" +
+      "eetStatusResponseBb\n\035com.shankarnarayanb" +
+      ".health.v1B\022HealthServiceProtoZ-github.c" +
+      "om/shankarnarayanb/health/v1;healthv1b\006p" +
+      "roto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -9078,13 +21327,13 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
     internal_static_health_v1_HealthWatchRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_health_v1_HealthWatchRequest_descriptor,
-        new java.lang.String[] { "Components", "IntervalSeconds", });
+        new java.lang.String[] { "Components", "IntervalSeconds", "ResumeAfterSequence", "ResumeEpoch", });
     internal_static_health_v1_HealthCheckResponse_descriptor =
       getDescriptor().getMessageTypes().get(4);
     internal_static_health_v1_HealthCheckResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_health_v1_HealthCheckResponse_descriptor,
-        new java.lang.String[] { "OverallStatus", "Components", "TotalCheckDurationMs", "ErrorMessage", "Warnings", "MaintenanceInfo", "ErrorDetails", "AdditionalInfo", });
+        new java.lang.String[] { "OverallStatus", "Components", "TotalCheckDurationMs", "ErrorMessage", "Warnings", "MaintenanceInfo", "ErrorDetails", "SequenceNumber", "HealthScore", "Availability", "WatchEpoch", "AdditionalInfo", });
     internal_static_health_v1_HealthCheckResponse_ComponentsEntry_descriptor =
       internal_static_health_v1_HealthCheckResponse_descriptor.getNestedTypes().get(0);
     internal_static_health_v1_HealthCheckResponse_ComponentsEntry_fieldAccessorTable = new
@@ -9096,25 +21345,109 @@ com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth defaultValue) {
     internal_static_health_v1_ComponentHealth_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_health_v1_ComponentHealth_descriptor,
-        new java.lang.String[] { "Available", "Functional", "ErrorDetails", "ResponseTimeMs", "Dependencies", "LastCheckInfo", });
-    internal_static_health_v1_DependentComponent_descriptor =
+        new java.lang.String[] { "Available", "Functional", "ErrorDetails", "ResponseTimeMs", "Dependencies", "LastCheckInfo", "HealthScore", "Availability", });
+    internal_static_health_v1_Availability_descriptor =
       getDescriptor().getMessageTypes().get(6);
+    internal_static_health_v1_Availability_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_health_v1_Availability_descriptor,
+        new java.lang.String[] { "Last1M", "Last5M", "Last1H", });
+    internal_static_health_v1_DependentComponent_descriptor =
+      getDescriptor().getMessageTypes().get(7);
     internal_static_health_v1_DependentComponent_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_health_v1_DependentComponent_descriptor,
         new java.lang.String[] { "Name", "Available", "ErrorDetails", "Version", "LastSuccessfulCheck", });
     internal_static_health_v1_MaintenanceInfo_descriptor =
-      getDescriptor().getMessageTypes().get(7);
+      getDescriptor().getMessageTypes().get(8);
     internal_static_health_v1_MaintenanceInfo_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_health_v1_MaintenanceInfo_descriptor,
         new java.lang.String[] { "StartTime", "EstimatedEndTime", "Reason", });
+    internal_static_health_v1_MaintenanceWindow_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_health_v1_MaintenanceWindow_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_health_v1_MaintenanceWindow_descriptor,
+        new java.lang.String[] { "Id", "Component", "Info", });
+    internal_static_health_v1_SetMaintenanceRequest_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_health_v1_SetMaintenanceRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_health_v1_SetMaintenanceRequest_descriptor,
+        new java.lang.String[] { "Window", });
+    internal_static_health_v1_ClearMaintenanceRequest_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_health_v1_ClearMaintenanceRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_health_v1_ClearMaintenanceRequest_descriptor,
+        new java.lang.String[] { "Id", "Component", });
+    internal_static_health_v1_ListMaintenanceRequest_descriptor =
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_health_v1_ListMaintenanceRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_health_v1_ListMaintenanceRequest_descriptor,
+        new java.lang.String[] { });
+    internal_static_health_v1_MaintenanceWindowList_descriptor =
+      getDescriptor().getMessageTypes().get(13);
+    internal_static_health_v1_MaintenanceWindowList_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_health_v1_MaintenanceWindowList_descriptor,
+        new java.lang.String[] { "Windows", });
     internal_static_health_v1_ErrorDetails_descriptor =
-      getDescriptor().getMessageTypes().get(8);
+      getDescriptor().getMessageTypes().get(14);
     internal_static_health_v1_ErrorDetails_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_health_v1_ErrorDetails_descriptor,
         new java.lang.String[] { "ErrorCode", "ErrorCategory", "StackTrace", });
+    internal_static_health_v1_LoadReportRequest_descriptor =
+      getDescriptor().getMessageTypes().get(15);
+    internal_static_health_v1_LoadReportRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_health_v1_LoadReportRequest_descriptor,
+        new java.lang.String[] { "IntervalMs", });
+    internal_static_health_v1_LoadReport_descriptor =
+      getDescriptor().getMessageTypes().get(16);
+    internal_static_health_v1_LoadReport_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_health_v1_LoadReport_descriptor,
+        new java.lang.String[] { "CpuUtilization", "MemUtilization", "InFlightRequests", "Qps", "Eps", "ErrorRate", "TimestampMs", });
+    internal_static_health_v1_FleetStatusRequest_descriptor =
+      getDescriptor().getMessageTypes().get(17);
+    internal_static_health_v1_FleetStatusRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_health_v1_FleetStatusRequest_descriptor,
+        new java.lang.String[] { "Service", "Zone", "Worst", "GroupByService", "GroupByZone", });
+    internal_static_health_v1_FleetStatusResponse_descriptor =
+      getDescriptor().getMessageTypes().get(18);
+    internal_static_health_v1_FleetStatusResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_health_v1_FleetStatusResponse_descriptor,
+        new java.lang.String[] { "Summary", "Services", "Zones", "WorstNodes", });
+    internal_static_health_v1_FleetStatusResponse_ServicesEntry_descriptor =
+      internal_static_health_v1_FleetStatusResponse_descriptor.getNestedTypes().get(0);
+    internal_static_health_v1_FleetStatusResponse_ServicesEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_health_v1_FleetStatusResponse_ServicesEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_health_v1_FleetStatusResponse_ZonesEntry_descriptor =
+      internal_static_health_v1_FleetStatusResponse_descriptor.getNestedTypes().get(1);
+    internal_static_health_v1_FleetStatusResponse_ZonesEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_health_v1_FleetStatusResponse_ZonesEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_health_v1_FleetSummary_descriptor =
+      getDescriptor().getMessageTypes().get(19);
+    internal_static_health_v1_FleetSummary_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_health_v1_FleetSummary_descriptor,
+        new java.lang.String[] { "Status", "Nodes", "Healthy", "Degraded", "Unhealthy", "Maintenance", "Unknown", "MeanHealthScore", });
+    internal_static_health_v1_FleetNode_descriptor =
+      getDescriptor().getMessageTypes().get(20);
+    internal_static_health_v1_FleetNode_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_health_v1_FleetNode_descriptor,
+        new java.lang.String[] { "Id", "Service", "Zone", "Target", "Status", "HealthScore", "Connected", "UpdatedAtMs", "ErrorMessage", });
     descriptor.resolveAllFeaturesImmutable();
   }
 
@@ -0,0 +1,171 @@
+package com.shankarnarayanb.health;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Asynchronous, sampled access log for health RPCs.
+ *
+ * Request threads write fixed-layout records into a preallocated ring buffer
+ * (a claim with one CAS, then plain array stores) and never format strings or
+ * touch I/O. A background thread drains the ring, formats key=value lines and
+ * hands them to the "health.access" logger. When the ring is full, records are
+ * dropped and counted rather than blocking the caller.
+ *
+ * Per-method sampling is configured with system properties, e.g.
+ * -Dhealth.accesslog.sample.Ping=100 logs one Ping in a hundred (the default);
+ * CheckHealth defaults to one in ten and WatchHealth, once per stream, to every one.
+ */
+public class AccessLog implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccessLog.class);
+    private static final Logger accessLogger = LoggerFactory.getLogger("health.access");
+    private static final int DEFAULT_CAPACITY = 8_192;   // power of two
+
+    public enum Method {
+        PING("Ping", 100),
+        CHECK_HEALTH("CheckHealth", 10),
+        WATCH_HEALTH("WatchHealth", 1);
+
+        final String rpcName;
+        final int defaultSampleEvery;
+
+        Method(String rpcName, int defaultSampleEvery) {
+            this.rpcName = rpcName;
+            this.defaultSampleEvery = defaultSampleEvery;
+        }
+    }
+
+    private final boolean enabled;
+    private final int[] sampleEvery = new int[Method.values().length];
+
+    // Ring buffer, one slot per index across the parallel arrays
+    private final int mask;
+    private final long[] timestamps;
+    private final long[] durations;
+    private final byte[] methods;
+    private final byte[] statuses;
+    private final int[] counts;
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong();
+    private volatile long consumed;
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final BackgroundWriter flusher;
+    private final StringBuilder line = new StringBuilder(128);   // flusher thread only
+
+    public AccessLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public AccessLog(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.mask = size - 1;
+        this.timestamps = new long[size];
+        this.durations = new long[size];
+        this.methods = new byte[size];
+        this.statuses = new byte[size];
+        this.counts = new int[size];
+        this.published = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            published.set(i, -1);
+        }
+
+        for (Method method : Method.values()) {
+            sampleEvery[method.ordinal()] = Math.max(0, Integer.getInteger(
+                    "health.accesslog.sample." + method.rpcName, method.defaultSampleEvery));
+        }
+        this.enabled = accessLogger.isInfoEnabled();
+
+        flusher = new BackgroundWriter("health-access-log", "access log records", this::flush);
+        if (enabled) {
+            flusher.start();
+        }
+    }
+
+    /**
+     * Record one call. Cheap enough for the hot path: a random draw for sampling,
+     * one CAS to claim a slot and a handful of array stores.
+     *
+     * @param status ServiceStatus number (or 0 when not applicable)
+     * @param count  method-specific count, e.g. components checked
+     */
+    public void record(Method method, int status, long durationNanos, int count) {
+        if (!enabled) {
+            return;
+        }
+        int every = sampleEvery[method.ordinal()];
+        if (every == 0 || (every > 1 && ThreadLocalRandom.current().nextInt(every) != 0)) {
+            return;
+        }
+
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed >= timestamps.length) {
+                dropped.incrementAndGet();
+                return;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        int slot = (int) (sequence & mask);
+        timestamps[slot] = System.currentTimeMillis();
+        durations[slot] = durationNanos;
+        methods[slot] = (byte) method.ordinal();
+        statuses[slot] = (byte) status;
+        counts[slot] = count;
+        published.lazySet(slot, sequence);   // release: fields above are visible once this is seen
+    }
+
+    /**
+     * Records claimed but not yet flushed.
+     */
+    public long getBacklog() {
+        return claimed.get() - consumed;
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Log every published record in order, stopping at the first slot still being written.
+     */
+    private int flush() {
+        Method[] methodValues = Method.values();
+        long next = consumed;
+        int drained = 0;
+        while (true) {
+            int slot = (int) (next & mask);
+            if (published.get(slot) != next) {
+                return drained;
+            }
+            line.setLength(0);
+            line.append("ts=").append(timestamps[slot])
+                    .append(" method=").append(methodValues[methods[slot]].rpcName)
+                    .append(" status=").append(statuses[slot])
+                    .append(" duration_us=").append(durations[slot] / 1_000)
+                    .append(" count=").append(counts[slot])
+                    .append(" sample=1/").append(sampleEvery[methods[slot]]);
+            next++;
+            consumed = next;   // free the slot before the (slow) logger call
+            accessLogger.info(line.toString());
+            drained++;
+        }
+    }
+
+    /**
+     * Flush remaining records and stop the background thread.
+     */
+    @Override
+    public void close() {
+        flusher.close(2_000);
+        if (dropped.get() > 0) {
+            logger.warn("Access log dropped {} records while the flusher was behind", dropped.get());
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.shankarnarayanb.health;
+
+import com.shankarnarayanb.health.v1.HealthServiceGrpc;
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Grpc;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Admission control for expensive health RPCs.
+ *
+ * Two independent limits apply to CheckHealth:
+ *
+ *   - a token bucket per client, so one misconfigured prober can only spend its own
+ *     budget; a check with dependencies costs more tokens than one without
+ *   - a global cap on concurrent checks, so a burst across many clients can't tie up
+ *     every serving thread
+ *
+ * A client is identified by its peer IP address. The {@code x-health-client-id} header
+ * is ignored unless health.admission.trustClientIdHeader is set, and even then it only
+ * tells apart clients behind the same address (e.g. probers behind one proxy): a caller
+ * that makes up IDs gets a fresh bucket per ID only where the operator chose to trust it.
+ * Ping is never limited.
+ *
+ * Configured with system properties: health.admission.enabled (true),
+ * health.admission.ratePerSecond (20), health.admission.burst (40),
+ * health.admission.dependencyCost (5), health.admission.maxConcurrentChecks (32),
+ * health.admission.trustClientIdHeader (false).
+ */
+public class AdmissionController {
+
+    public static final Metadata.Key<String> CLIENT_ID_HEADER =
+            Metadata.Key.of("x-health-client-id", Metadata.ASCII_STRING_MARSHALLER);
+    private static final Context.Key<String> CLIENT_KEY = Context.keyWithDefault("health-client", "unknown");
+
+    /** Upper bound on tracked clients; beyond it new clients share one bucket. */
+    private static final int MAX_CLIENTS = 10_000;
+    static final String OVERFLOW_CLIENT = "_other";
+    /** Minimum gap between sweeps for full buckets once MAX_CLIENTS is reached. */
+    private static final long EVICTION_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    public enum Decision { ADMITTED, RATE_LIMITED, CONCURRENCY_LIMITED }
+
+    private final boolean enabled = Boolean.parseBoolean(System.getProperty("health.admission.enabled", "true"));
+    private final double ratePerNano = Double.parseDouble(
+            System.getProperty("health.admission.ratePerSecond", "20")) / TimeUnit.SECONDS.toNanos(1);
+    private final double burst = Double.parseDouble(System.getProperty("health.admission.burst", "40"));
+    private final int dependencyCost = Integer.getInteger("health.admission.dependencyCost", 5);
+    private final int maxConcurrentChecks = Integer.getInteger("health.admission.maxConcurrentChecks", 32);
+    private final boolean trustClientIdHeader = Boolean.getBoolean("health.admission.trustClientIdHeader");
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicInteger concurrentChecks = new AtomicInteger();
+    private final AtomicLong nextEvictionNanos = new AtomicLong(System.nanoTime());
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder concurrencyLimited = new LongAdder();
+    private final LongAdder servedFromCache = new LongAdder();
+
+    /**
+     * Client identity of the current call, as captured by {@link #serverInterceptor()}.
+     */
+    public static String currentClient() {
+        return CLIENT_KEY.get();
+    }
+
+    /**
+     * Try to admit one CheckHealth. On {@link Decision#ADMITTED} the caller holds a
+     * concurrency slot and must call {@link #release()} when the check finishes.
+     * A check turned away for concurrency gets its tokens back: the client didn't
+     * get the check, so the retry shouldn't be rate limited for it.
+     */
+    public Decision tryAdmit(String client, boolean includeDependencies) {
+        if (!enabled) {
+            return Decision.ADMITTED;
+        }
+        double cost = Math.min(includeDependencies ? dependencyCost : 1, burst);
+        TokenBucket bucket = bucket(client);
+        if (!bucket.tryTake(cost, System.nanoTime())) {
+            rateLimited.increment();
+            return Decision.RATE_LIMITED;
+        }
+        if (concurrentChecks.incrementAndGet() > maxConcurrentChecks) {
+            concurrentChecks.decrementAndGet();
+            bucket.refund(cost);
+            concurrencyLimited.increment();
+            return Decision.CONCURRENCY_LIMITED;
+        }
+        return Decision.ADMITTED;
+    }
+
+    /**
+     * Return the concurrency slot taken by an admitted check.
+     */
+    public void release() {
+        if (enabled) {
+            concurrentChecks.decrementAndGet();
+        }
+    }
+
+    /**
+     * Count a rejected call that was answered with cached results instead of an error.
+     */
+    public void recordServedFromCache() {
+        servedFromCache.increment();
+    }
+
+    public long getRateLimitedCount() {
+        return rateLimited.sum();
+    }
+
+    public long getConcurrencyLimitedCount() {
+        return concurrencyLimited.sum();
+    }
+
+    public long getServedFromCacheCount() {
+        return servedFromCache.sum();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getMaxConcurrentChecks() {
+        return maxConcurrentChecks;
+    }
+
+    public int getConcurrentChecks() {
+        return concurrentChecks.get();
+    }
+
+    public int getTrackedClientCount() {
+        return buckets.size();
+    }
+
+    private TokenBucket bucket(String client) {
+        TokenBucket bucket = buckets.get(client);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= MAX_CLIENTS) {
+            evictFullBuckets();
+            if (buckets.size() >= MAX_CLIENTS) {
+                client = OVERFLOW_CLIENT;
+            }
+        }
+        return buckets.computeIfAbsent(client, c -> new TokenBucket(burst, System.nanoTime()));
+    }
+
+    /**
+     * A full bucket behaves exactly like a new one, so it can be dropped without
+     * changing any client's budget. The sweep walks every bucket, so it runs at most
+     * once per {@link #EVICTION_INTERVAL_NANOS}; new clients in between share the
+     * overflow bucket.
+     */
+    private void evictFullBuckets() {
+        long now = System.nanoTime();
+        long next = nextEvictionNanos.get();
+        if (now - next < 0 || !nextEvictionNanos.compareAndSet(next, now + EVICTION_INTERVAL_NANOS)) {
+            return;
+        }
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    /**
+     * Server interceptor that records the caller's identity for CheckHealth calls.
+     * Other methods pass through untouched.
+     */
+    public ServerInterceptor serverInterceptor() {
+        return new ServerInterceptor() {
+            @Override
+            public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+                    ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+                if (!enabled || call.getMethodDescriptor() != HealthServiceGrpc.getCheckHealthMethod()) {
+                    return next.startCall(call, headers);
+                }
+                return Contexts.interceptCall(
+                        Context.current().withValue(CLIENT_KEY, clientId(call, headers)), call, headers, next);
+            }
+        };
+    }
+
+    private String clientId(ServerCall<?, ?> call, Metadata headers) {
+        String peer = peerAddress(call);
+        if (trustClientIdHeader) {
+            String header = headers.get(CLIENT_ID_HEADER);
+            if (header != null && !header.isEmpty()) {
+                return peer + "/id:" + header;
+            }
+        }
+        return peer;
+    }
+
+    private static String peerAddress(ServerCall<?, ?> call) {
+        SocketAddress remote = call.getAttributes().get(Grpc.TRANSPORT_ATTR_REMOTE_ADDR);
+        if (remote instanceof InetSocketAddress inet && inet.getAddress() != null) {
+            return inet.getAddress().getHostAddress();
+        }
+        return remote != null ? remote.toString() : "unknown";
+    }
+
+    private final class TokenBucket {
+        private double tokens;
+        private long refilledAtNanos;
+
+        TokenBucket(double tokens, long now) {
+            this.tokens = tokens;
+            this.refilledAtNanos = now;
+        }
+
+        synchronized boolean tryTake(double cost, long now) {
+            refill(now);
+            if (tokens < cost) {
+                return false;
+            }
+            tokens -= cost;
+            return true;
+        }
+
+        synchronized void refund(double cost) {
+            tokens = Math.min(burst, tokens + cost);
+        }
+
+        synchronized boolean isFull(long now) {
+            refill(now);
+            return tokens >= burst;
+        }
+
+        private void refill(long now) {
+            if (now > refilledAtNanos) {     // 'now' is read before the lock, so it can lag slightly
+                tokens = Math.min(burst, tokens + (now - refilledAtNanos) * ratePerNano);
+                refilledAtNanos = now;
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.shankarnarayanb.health;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The writer thread behind the access log, the health event log and the file span
+ * exporter.
+ *
+ * Producers hand records to their owner's bounded buffer (a queue or a ring) and
+ * never wait for this thread. The thread calls {@link Drainer#drain()} until it
+ * writes nothing, then parks for {@link #IDLE_PARK_NANOS}. A failed drain is logged
+ * and the thread carries on, so one bad write doesn't stop the writer for good.
+ * {@link #close(long)} wakes it, lets it drain what is left, and waits for it to finish.
+ */
+final class BackgroundWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(BackgroundWriter.class);
+    static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    /**
+     * Writes out whatever is buffered; only ever called from the writer thread.
+     */
+    interface Drainer {
+        /**
+         * @return how many records were written; 0 when there was nothing to write
+         */
+        int drain() throws IOException;
+    }
+
+    private final String description;
+    private final Drainer drainer;
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    /**
+     * @param description what is written, for error messages, e.g. "trace spans to health-traces.jsonl"
+     */
+    BackgroundWriter(String threadName, String description, Drainer drainer) {
+        this.description = description;
+        this.drainer = drainer;
+        this.thread = new Thread(this::loop, threadName);
+        thread.setDaemon(true);
+    }
+
+    BackgroundWriter start() {
+        thread.start();
+        return this;
+    }
+
+    private void loop() {
+        while (true) {
+            int written;
+            try {
+                written = drainer.drain();
+            } catch (IOException | RuntimeException e) {
+                logger.error("Failed to write {}", description, e);
+                written = 0;
+            }
+            if (written == 0) {
+                if (!running || Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    /**
+     * Drain what is left and stop, waiting up to {@code timeoutMs} for the thread.
+     *
+     * @return true once the thread has exited, so the owner may release what it writes to;
+     *         false if it is still running
+     */
+    boolean close(long timeoutMs) {
+        running = false;
+        LockSupport.unpark(thread);
+        if (!thread.isAlive()) {
+            return true;
+        }
+        try {
+            thread.join(timeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return !thread.isAlive();
+    }
+}
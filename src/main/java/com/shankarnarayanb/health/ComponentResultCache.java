@@ -0,0 +1,87 @@
+package com.shankarnarayanb.health;
+
+import com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latest result of each component check, keyed by component and whether dependencies
+ * were included.
+ *
+ * The latest results are always kept: they answer checks that admission control
+ * rejects, and are seeded from the event log on restart. Reusing them for admitted
+ * checks is opt-in: with health.check.cacheTtlMs (default 0, off) above zero, a
+ * result younger than the TTL is served instead of running the check again, so
+ * bursts of probes and watch groups share one dependency check at the cost of
+ * results up to that old.
+ */
+public class ComponentResultCache {
+
+    private static final int MAX_RESULTS = 1_024;
+
+    private final Map<Key, Result> results = new ConcurrentHashMap<>();
+    private final long ttlNanos = TimeUnit.MILLISECONDS.toNanos(Long.getLong("health.check.cacheTtlMs", 0));
+
+    /**
+     * A component result and when (System.nanoTime) its check finished.
+     */
+    public record Result(ComponentHealth health, long checkedAtNanos) {
+
+        long ageNanos(long nowNanos) {
+            return nowNanos - checkedAtNanos;
+        }
+    }
+
+    /**
+     * Both fields, so no component name can collide with another's with-dependencies entry.
+     */
+    record Key(String component, boolean includeDependencies) {
+    }
+
+    static Key key(String component, boolean includeDependencies) {
+        return new Key(component, includeDependencies);
+    }
+
+    public boolean isReuseEnabled() {
+        return ttlNanos > 0;
+    }
+
+    /**
+     * The latest result if it may be reused for an admitted check, else null.
+     */
+    public Result fresh(String component, boolean includeDependencies, long nowNanos) {
+        if (ttlNanos <= 0) {
+            return null;
+        }
+        Result result = results.get(key(component, includeDependencies));
+        return result != null && result.ageNanos(nowNanos) < ttlNanos ? result : null;
+    }
+
+    /**
+     * The latest result regardless of age, or null.
+     */
+    public Result latest(String component, boolean includeDependencies) {
+        return results.get(key(component, includeDependencies));
+    }
+
+    /**
+     * Keep a check result; new keys are dropped once the cache is full.
+     */
+    public void put(String component, boolean includeDependencies, Result result) {
+        Key key = key(component, includeDependencies);
+        if (results.size() < MAX_RESULTS || results.containsKey(key)) {
+            results.put(key, result);
+        }
+    }
+
+    /**
+     * Seed a result restored from elsewhere, unless a newer one is already there.
+     */
+    public void seed(String component, boolean includeDependencies, Result result) {
+        if (results.size() < MAX_RESULTS) {
+            results.putIfAbsent(key(component, includeDependencies), result);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.shankarnarayanb.health;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Appends finished spans to a file as JSON lines, one span per line:
+ *
+ *   {"traceId":"...","spanId":"...","parentSpanId":"...","name":"...","detail":"...",
+ *    "startUs":..., "durationNs":..., "status":"..."}
+ *
+ * Exporting only enqueues the span; a background thread formats and writes
+ * them in batches. Spans are dropped (and counted) if the writer falls behind.
+ *
+ * The file is rotated once it reaches health.trace.maxFileBytes (default 64 MiB):
+ * it is renamed to file.1, older rotations shift to file.2 and so on, and only
+ * health.trace.maxFiles (default 4) files are kept, the live one included.
+ */
+public class FileSpanExporter implements SpanExporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileSpanExporter.class);
+    private static final int QUEUE_CAPACITY = 8_192;
+    private static final long DEFAULT_MAX_FILE_BYTES = 64L * 1024 * 1024;
+
+    private final Path file;
+    private final long maxFileBytes = Math.max(1, Long.getLong("health.trace.maxFileBytes", DEFAULT_MAX_FILE_BYTES));
+    private final int maxFiles = Math.max(1, Integer.getInteger("health.trace.maxFiles", 4));
+    private final BlockingQueue<Span> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final AtomicLong droppedSpans = new AtomicLong();
+    private final BackgroundWriter backgroundWriter;
+
+    // Owned by the writer thread after construction
+    private final List<Span> batch = new ArrayList<>(256);
+    private final StringBuilder line = new StringBuilder(256);
+    private BufferedWriter writer;
+    private long fileBytes;
+
+    public FileSpanExporter(Path file) throws IOException {
+        this.file = file;
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        openFile();
+
+        backgroundWriter = new BackgroundWriter("health-span-writer", "trace spans to " + file, this::drain).start();
+        logger.info("Writing trace spans to {}", file.toAbsolutePath());
+    }
+
+    @Override
+    public void export(Span span) {
+        if (!queue.offer(span)) {
+            droppedSpans.incrementAndGet();
+        }
+    }
+
+    public long getDroppedSpans() {
+        return droppedSpans.get();
+    }
+
+    private int drain() throws IOException {
+        try {
+            queue.drainTo(batch, 256);
+            for (Span span : batch) {
+                if (fileBytes >= maxFileBytes) {
+                    rotate();
+                }
+                line.setLength(0);
+                appendJson(line, span);
+                line.append('\n');
+                writer.append(line);
+                fileBytes += line.length();   // chars, not bytes: close enough for a size cap
+            }
+            writer.flush();
+            return batch.size();
+        } finally {
+            batch.clear();
+        }
+    }
+
+    private void openFile() throws IOException {
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        fileBytes = Files.size(file);
+    }
+
+    /**
+     * Close the file and shift it and its older rotations up by one, dropping the oldest.
+     */
+    private void rotate() throws IOException {
+        writer.close();
+        if (maxFiles == 1) {
+            Files.delete(file);
+        } else {
+            Files.deleteIfExists(rotated(maxFiles - 1));
+            for (int i = maxFiles - 2; i >= 1; i--) {
+                if (Files.exists(rotated(i))) {
+                    Files.move(rotated(i), rotated(i + 1));
+                }
+            }
+            Files.move(file, rotated(1));
+        }
+        openFile();
+        logger.debug("Rotated trace span file {}", file);
+    }
+
+    private Path rotated(int generation) {
+        return file.resolveSibling(file.getFileName() + "." + generation);
+    }
+
+    static void appendJson(StringBuilder out, Span span) {
+        out.append("{\"traceId\":\"").append(span.getTraceId())
+                .append("\",\"spanId\":\"").append(Tracer.hex(span.getSpanId()))
+                .append("\",\"parentSpanId\":\"").append(Tracer.hex(span.getParentSpanId()))
+                .append("\",\"name\":");
+        appendString(out, span.getName());
+        out.append(",\"detail\":");
+        if (span.getDetail() != null) {
+            appendString(out, span.getDetail());
+        } else {
+            out.append("null");
+        }
+        out.append(",\"startUs\":").append(span.getStartEpochMicros())
+                .append(",\"durationNs\":").append(span.getDurationNanos())
+                .append(",\"status\":");
+        appendString(out, span.getStatus());
+        out.append('}');
+    }
+
+    private static void appendString(StringBuilder out, String value) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.append('\\').append(c);
+            } else if (c < 0x20) {
+                out.append(String.format("\\u%04x", (int) c));
+            } else {
+                out.append(c);
+            }
+        }
+        out.append('"');
+    }
+
+    /**
+     * Write out queued spans and close the file.
+     */
+    @Override
+    public void close() {
+        if (!backgroundWriter.close(TimeUnit.SECONDS.toMillis(5))) {
+            logger.warn("Trace span writer did not stop within 5s; leaving {} open", file);
+        } else {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close trace span file {}", file, e);
+            }
+        }
+        if (droppedSpans.get() > 0) {
+            logger.warn("Dropped {} trace spans while the writer was behind", droppedSpans.get());
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.shankarnarayanb.health;
+
+import com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth;
+import com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse.ServiceStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Keeps component statuses from flapping, so watchers and load balancers only see
+ * changes that stick.
+ *
+ * Two mechanisms apply to each component's fresh check results:
+ *
+ *   - hysteresis: the reported status moves to a worse one after {@code downChecks}
+ *     consecutive worse results, and to a better one after {@code upChecks}
+ *     consecutive better results
+ *   - flap damping, after BGP route dampening: every reported change adds a penalty
+ *     that decays exponentially with a half-life. Once it passes the suppress limit
+ *     the component is held at its current (or any worse) status and not reported as
+ *     recovering until the penalty has decayed below the reuse limit.
+ *
+ * A component's first result is reported as is. Responses carry the stable status in
+ * available/functional and explain a held one in last_check_info; the check's own
+ * details are kept.
+ *
+ * Configured with system properties: health.damping.enabled (true),
+ * health.damping.downChecks (2), health.damping.upChecks (3),
+ * health.damping.penalty (1000), health.damping.suppressLimit (2000),
+ * health.damping.reuseLimit (750), health.damping.halfLifeSeconds (60),
+ * health.damping.maxSuppressSeconds (240).
+ */
+public class FlapDamper {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlapDamper.class);
+
+    /** Same bound as the check metrics, so arbitrary component names can't grow this without limit. */
+    private static final int MAX_COMPONENTS = 256;
+
+    private final boolean enabled = Boolean.parseBoolean(System.getProperty("health.damping.enabled", "true"));
+    private final int downChecks = Math.max(1, Integer.getInteger("health.damping.downChecks", 2));
+    private final int upChecks = Math.max(1, Integer.getInteger("health.damping.upChecks", 3));
+    private final double penaltyPerChange = Double.parseDouble(System.getProperty("health.damping.penalty", "1000"));
+    private final double suppressLimit = Double.parseDouble(System.getProperty("health.damping.suppressLimit", "2000"));
+    private final double reuseLimit = Double.parseDouble(System.getProperty("health.damping.reuseLimit", "750"));
+    private final double halfLifeMs = TimeUnit.SECONDS.toMillis(Long.getLong("health.damping.halfLifeSeconds", 60));
+    // A penalty this high takes maxSuppressSeconds to decay to the reuse limit, which bounds suppression
+    private final double maxPenalty = reuseLimit
+            * Math.pow(2, TimeUnit.SECONDS.toMillis(Long.getLong("health.damping.maxSuppressSeconds", 240)) / halfLifeMs);
+
+    private final Map<String, Tracker> trackers = new ConcurrentHashMap<>();
+
+    /**
+     * One component's damping state.
+     *
+     * @param stable    the status being reported
+     * @param direction +1 while recent results were worse than {@code stable}, -1 while better, 0 when equal
+     * @param streak    consecutive results in that direction
+     * @param penalty   flap penalty as of {@code penaltyAtMs}
+     */
+    public record State(ServiceStatus stable, int direction, int streak, double penalty, long penaltyAtMs,
+                        boolean suppressed) {
+    }
+
+    /**
+     * Feed a fresh (not cached) check result.
+     */
+    public void observe(String component, ServiceStatus status, long nowMs) {
+        if (!enabled) {
+            return;
+        }
+        Tracker tracker = trackers.get(component);
+        if (tracker == null) {
+            if (trackers.size() >= MAX_COMPONENTS) {
+                return;
+            }
+            tracker = trackers.computeIfAbsent(component, c -> new Tracker());
+        }
+        tracker.observe(component, status, nowMs);
+    }
+
+    /**
+     * The result to report for {@code component}: unchanged when its status is stable,
+     * otherwise with the stable status and a note on why it is held.
+     */
+    public ComponentHealth apply(String component, ComponentHealth health, long nowMs) {
+        Tracker tracker = enabled ? trackers.get(component) : null;
+        State state = tracker != null ? tracker.state : null;
+        if (state == null) {
+            return health;
+        }
+        ServiceStatus checked = HealthServiceImpl.statusOf(health);
+        double penalty = decayed(state, nowMs);
+        boolean suppressed = state.suppressed() && penalty >= reuseLimit;
+        if (checked == state.stable() && !suppressed) {
+            return health;
+        }
+
+        String note;
+        if (suppressed) {
+            note = String.format(Locale.ROOT, "Flapping: holding %s until the flap penalty %.0f decays below %.0f",
+                    state.stable(), penalty, reuseLimit);
+        } else {
+            note = String.format(Locale.ROOT, "Holding %s: last check %s (%d of %d needed to change)",
+                    state.stable(), checked, state.direction() != 0 ? state.streak() : 0,
+                    state.direction() > 0 ? downChecks : upChecks);
+        }
+        return health.toBuilder()
+                .setAvailable(state.stable() != ServiceStatus.UNHEALTHY)
+                .setFunctional(state.stable() == ServiceStatus.HEALTHY)
+                .setLastCheckInfo(health.hasLastCheckInfo() ? note + "; " + health.getLastCheckInfo() : note)
+                .build();
+    }
+
+    /**
+     * Visit every tracked component with its current penalty, for exporters.
+     */
+    public void forEachState(long nowMs, BiConsumer<String, State> visitor) {
+        trackers.forEach((component, tracker) -> {
+            State state = tracker.state;
+            if (state != null) {
+                double penalty = decayed(state, nowMs);
+                visitor.accept(component, new State(state.stable(), state.direction(), state.streak(),
+                        penalty, nowMs, state.suppressed() && penalty >= reuseLimit));
+            }
+        });
+    }
+
+    private double decayed(State state, long nowMs) {
+        long elapsedMs = nowMs - state.penaltyAtMs();
+        if (state.penalty() == 0 || elapsedMs <= 0) {
+            return state.penalty();
+        }
+        return state.penalty() * Math.pow(0.5, elapsedMs / halfLifeMs);
+    }
+
+    /**
+     * Results for one component arrive one check at a time, so a plain lock is enough;
+     * readers only see the published state.
+     */
+    private final class Tracker {
+        private volatile State state;
+
+        synchronized void observe(String component, ServiceStatus status, long nowMs) {
+            State current = state;
+            if (current == null) {
+                state = new State(status, 0, 0, 0, nowMs, false);
+                return;
+            }
+
+            double penalty = decayed(current, nowMs);
+            boolean suppressed = current.suppressed() && penalty >= reuseLimit;
+            if (current.suppressed() && !suppressed) {
+                logger.info("🔁 Component {} stopped flapping, reporting recoveries again", component);
+            }
+
+            ServiceStatus stable = current.stable();
+            int direction = Integer.signum(status.getNumber() - stable.getNumber());
+            int streak = direction == 0 ? 0 : direction == current.direction() ? current.streak() + 1 : 1;
+
+            // Worse results always get through after downChecks; better ones wait out suppression
+            boolean change = direction > 0 ? streak >= downChecks : direction < 0 && !suppressed && streak >= upChecks;
+            if (change) {
+                stable = status;
+                direction = 0;
+                streak = 0;
+                penalty = Math.min(maxPenalty, penalty + penaltyPerChange);
+                if (!suppressed && penalty >= suppressLimit) {
+                    suppressed = true;
+                    logger.warn("🔁 Component {} is flapping (penalty {}), holding {} until it settles",
+                            component, Math.round(penalty), stable);
+                }
+            }
+            state = new State(stable, direction, streak, penalty, nowMs, suppressed);
+        }
+    }
+}
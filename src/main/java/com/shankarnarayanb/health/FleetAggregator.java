@@ -0,0 +1,539 @@
+package com.shankarnarayanb.health;
+
+import com.shankarnarayanb.health.v1.HealthServiceGrpc;
+import com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode;
+import com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest;
+import com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse;
+import com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary;
+import com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse;
+import com.shankarnarayanb.health.v1.HealthServiceProto.HealthWatchRequest;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Status;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Watches many HealthService nodes and keeps the fleet's health in memory.
+ *
+ * Every node gets one WatchHealth stream. Streams are multiplexed over one channel per
+ * distinct target (several node entries on one target share it, and the channel is shut
+ * down when the last of them is removed), every channel uses gRPC's shared transport
+ * threads, and stream callbacks run on a small fixed pool, so threads don't grow with
+ * the fleet. health.fleet.maxChannels caps open connections.
+ * A stream that fails or ends (a node draining) is reopened with jittered exponential
+ * backoff; meanwhile the node is shown as disconnected.
+ *
+ * Each update replaces the node's row in the fleet table and adjusts running counts
+ * for the fleet, its service, its zone and its service-in-zone, publishing a fresh
+ * summary for each. A fleet, service or zone status is therefore a single map lookup,
+ * and the worst nodes come off an index kept sorted by health score.
+ *
+ * Configured with system properties: health.fleet.watchIntervalSeconds (10),
+ * health.fleet.maxChannels (4096), health.fleet.threads (2), health.fleet.maxBackoffMs (30000).
+ */
+public class FleetAggregator implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(FleetAggregator.class);
+
+    /** Upper bound on worst_nodes in one response. */
+    static final int MAX_WORST = 1_000;
+    private static final long MIN_BACKOFF_MS = 1_000;
+    private static final FleetSummary EMPTY = summarize(new int[HealthCheckResponse.ServiceStatus.MAINTENANCE_VALUE + 1], 0);
+    private static final Comparator<FleetNode> WORST_FIRST =
+            Comparator.comparingDouble(FleetNode::getHealthScore).thenComparing(FleetNode::getId);
+
+    private final int watchIntervalSeconds = Integer.getInteger("health.fleet.watchIntervalSeconds", 10);
+    private final int maxChannels = Integer.getInteger("health.fleet.maxChannels", 4_096);
+    private final long maxBackoffMs = Long.getLong("health.fleet.maxBackoffMs", 30_000);
+
+    private final Function<String, ManagedChannel> channelFactory;
+    private final ExecutorService callbackExecutor;
+    private final ScheduledExecutorService reconnects;
+    private final Map<String, SharedChannel> channels = new HashMap<>();   // guarded by itself
+    private final Map<String, Watcher> watchers = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    // Fleet table. Writes are serialized on 'this'; reads use the published rows and summaries
+    private final Map<String, FleetNode> table = new ConcurrentHashMap<>();
+    private final NavigableSet<FleetNode> ranking = new ConcurrentSkipListSet<>(WORST_FIRST);
+    private final Map<GroupKey, Tally> tallies = new HashMap<>();
+    private final Map<GroupKey, FleetSummary> summaries = new ConcurrentHashMap<>();
+    private final Set<String> services = ConcurrentHashMap.newKeySet();
+    private final Set<String> zones = ConcurrentHashMap.newKeySet();
+
+    /**
+     * A node to watch. {@code components} are passed to WatchHealth (empty = the node's defaults).
+     */
+    public record Node(String id, String service, String zone, String target, List<String> components) {
+
+        /**
+         * Parse {@code <id> <service> <zone> <target> [component,component,...]}.
+         */
+        public static Node parse(String line) {
+            String[] fields = line.trim().split("\\s+");
+            if (fields.length < 4 || fields.length > 5) {
+                throw new IllegalArgumentException("Expected '<id> <service> <zone> <target> [components]': " + line);
+            }
+            List<String> components = fields.length == 5 ? Arrays.asList(fields[4].split(",")) : List.of();
+            return new Node(fields[0], fields[1], fields[2], fields[3], components);
+        }
+    }
+
+    /** A channel and how many watched nodes use it; counted under the channels lock. */
+    private static final class SharedChannel {
+        final ManagedChannel channel;
+        int users;
+
+        SharedChannel(ManagedChannel channel) {
+            this.channel = channel;
+        }
+    }
+
+    /** A slice of the fleet; null fields match everything. */
+    private record GroupKey(String service, String zone) {
+    }
+
+    /**
+     * Watch over plaintext channels.
+     */
+    public FleetAggregator() {
+        this(target -> ManagedChannelBuilder.forTarget(target).usePlaintext().build());
+    }
+
+    /**
+     * @param channelFactory creates the channel for a target, e.g. with TLS or an in-process transport
+     */
+    public FleetAggregator(Function<String, ManagedChannel> channelFactory) {
+        this.channelFactory = channelFactory;
+        AtomicInteger threadNumber = new AtomicInteger();
+        callbackExecutor = Executors.newFixedThreadPool(Integer.getInteger("health.fleet.threads", 2), r -> {
+            Thread thread = new Thread(r, "health-fleet-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        reconnects = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "health-fleet-reconnect");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // Membership
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Start watching a node. It shows as UNKNOWN until its first update.
+     *
+     * @return false if a node with this id is already watched, or its target would need
+     *         a channel beyond health.fleet.maxChannels
+     */
+    public boolean add(Node node) {
+        if (closed || watchers.containsKey(node.id())) {
+            return false;
+        }
+        ManagedChannel channel = acquireChannel(node);
+        if (channel == null) {
+            return false;
+        }
+        Watcher watcher = new Watcher(node, channel);
+        if (watchers.putIfAbsent(node.id(), watcher) != null) {
+            releaseChannel(node.target());
+            return false;
+        }
+        update(watcher, FleetNode.newBuilder()
+                .setId(node.id())
+                .setService(node.service())
+                .setZone(node.zone())
+                .setTarget(node.target())
+                .setStatus(HealthCheckResponse.ServiceStatus.UNKNOWN)
+                .build());
+        watcher.start();
+        return true;
+    }
+
+    /**
+     * Stop watching a node and drop it from the fleet table. Its channel is shut down
+     * unless other nodes on the same target still use it.
+     */
+    public void remove(String id) {
+        Watcher watcher = watchers.remove(id);
+        if (watcher != null) {
+            watcher.stop();
+            releaseChannel(watcher.node.target());
+            synchronized (this) {
+                FleetNode row = table.remove(id);
+                if (row != null) {
+                    ranking.remove(row);
+                    tally(row, -1);
+                }
+            }
+        }
+    }
+
+    /**
+     * The target's channel with one more user, opening it if needed; null (and a warning)
+     * when that would exceed health.fleet.maxChannels.
+     */
+    private ManagedChannel acquireChannel(Node node) {
+        synchronized (channels) {
+            SharedChannel shared = channels.get(node.target());
+            if (shared == null) {
+                if (channels.size() >= maxChannels) {
+                    logger.warn("🛰️ Not watching {}: {} channels already open (health.fleet.maxChannels)",
+                            node.id(), channels.size());
+                    return null;
+                }
+                shared = new SharedChannel(channelFactory.apply(node.target()));
+                channels.put(node.target(), shared);
+            }
+            shared.users++;
+            return shared.channel;
+        }
+    }
+
+    /**
+     * Drop one user of the target's channel, shutting the channel down after its last one.
+     */
+    private void releaseChannel(String target) {
+        ManagedChannel unused = null;
+        synchronized (channels) {
+            SharedChannel shared = channels.get(target);
+            if (shared != null && --shared.users == 0) {
+                channels.remove(target);
+                unused = shared.channel;
+            }
+        }
+        if (unused != null) {
+            unused.shutdown();
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // Queries (in-memory, no calls to nodes)
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Summary of the nodes matching {@code service} and {@code zone} (null = any): one lookup.
+     */
+    public FleetSummary summary(String service, String zone) {
+        return summaries.getOrDefault(new GroupKey(service, zone), EMPTY);
+    }
+
+    /**
+     * Up to {@code n} matching nodes with the lowest health score, lowest first.
+     */
+    public List<FleetNode> worst(int n, String service, String zone) {
+        List<FleetNode> worst = new ArrayList<>(Math.min(n, 64));
+        for (FleetNode row : ranking) {
+            if (worst.size() >= n) {
+                break;
+            }
+            if ((service == null || service.equals(row.getService())) && (zone == null || zone.equals(row.getZone()))) {
+                worst.add(row);
+            }
+        }
+        return worst;
+    }
+
+    /**
+     * The node's latest row, or null if it isn't watched.
+     */
+    public FleetNode node(String id) {
+        return table.get(id);
+    }
+
+    /**
+     * Answer a GetFleetStatus request.
+     */
+    public FleetStatusResponse query(FleetStatusRequest request) {
+        String service = request.getService().isEmpty() ? null : request.getService();
+        String zone = request.getZone().isEmpty() ? null : request.getZone();
+        FleetStatusResponse.Builder response = FleetStatusResponse.newBuilder().setSummary(summary(service, zone));
+        if (request.getGroupByService()) {
+            for (String s : service != null ? Set.of(service) : services) {
+                FleetSummary group = summary(s, zone);
+                if (group.getNodes() > 0) {
+                    response.putServices(s, group);
+                }
+            }
+        }
+        if (request.getGroupByZone()) {
+            for (String z : zone != null ? Set.of(zone) : zones) {
+                FleetSummary group = summary(service, z);
+                if (group.getNodes() > 0) {
+                    response.putZones(z, group);
+                }
+            }
+        }
+        if (request.getWorst() > 0) {
+            response.addAllWorstNodes(worst(Math.min(request.getWorst(), MAX_WORST), service, zone));
+        }
+        return response.build();
+    }
+
+    public int getNodeCount() {
+        return table.size();
+    }
+
+    public int getChannelCount() {
+        synchronized (channels) {
+            return channels.size();
+        }
+    }
+
+    public int getConnectedCount() {
+        int connected = 0;
+        for (Watcher watcher : watchers.values()) {
+            if (watcher.connected) {
+                connected++;
+            }
+        }
+        return connected;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // Fleet table updates
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Replace a node's row and move it between the running counts.
+     */
+    private synchronized void update(Watcher source, FleetNode row) {
+        if (watchers.get(row.getId()) != source) {
+            return;     // removed (or replaced) while the update was in flight
+        }
+        FleetNode previous = table.put(row.getId(), row);
+        if (previous != null) {
+            ranking.remove(previous);
+            tally(previous, -1);
+        }
+        ranking.add(row);
+        tally(row, 1);
+    }
+
+    private void tally(FleetNode row, int delta) {
+        tally(new GroupKey(null, null), row, delta);
+        tally(new GroupKey(row.getService(), null), row, delta);
+        tally(new GroupKey(null, row.getZone()), row, delta);
+        tally(new GroupKey(row.getService(), row.getZone()), row, delta);
+        if (delta > 0) {
+            services.add(row.getService());
+            zones.add(row.getZone());
+        }
+    }
+
+    private void tally(GroupKey key, FleetNode row, int delta) {
+        Tally tally = tallies.computeIfAbsent(key, k -> new Tally());
+        tally.byStatus[Math.max(0, Math.min(row.getStatusValue(), tally.byStatus.length - 1))] += delta;
+        tally.scoreSum += delta * row.getHealthScore();
+        summaries.put(key, summarize(tally.byStatus, tally.scoreSum));
+    }
+
+    private static FleetSummary summarize(int[] byStatus, double scoreSum) {
+        int healthy = byStatus[HealthCheckResponse.ServiceStatus.HEALTHY_VALUE];
+        int degraded = byStatus[HealthCheckResponse.ServiceStatus.DEGRADED_VALUE];
+        int nodes = 0;
+        for (int count : byStatus) {
+            nodes += count;
+        }
+        HealthCheckResponse.ServiceStatus status;
+        if (nodes == 0) {
+            status = HealthCheckResponse.ServiceStatus.UNKNOWN;
+        } else if (healthy == nodes) {
+            status = HealthCheckResponse.ServiceStatus.HEALTHY;
+        } else if (healthy + degraded == 0) {
+            status = HealthCheckResponse.ServiceStatus.UNHEALTHY;     // nothing is serving
+        } else {
+            status = HealthCheckResponse.ServiceStatus.DEGRADED;
+        }
+        return FleetSummary.newBuilder()
+                .setStatus(status)
+                .setNodes(nodes)
+                .setHealthy(healthy)
+                .setDegraded(degraded)
+                .setUnhealthy(byStatus[HealthCheckResponse.ServiceStatus.UNHEALTHY_VALUE])
+                .setMaintenance(byStatus[HealthCheckResponse.ServiceStatus.MAINTENANCE_VALUE])
+                .setUnknown(byStatus[HealthCheckResponse.ServiceStatus.UNKNOWN_VALUE])
+                .setMeanHealthScore(nodes > 0 ? HealthScores.round(Math.max(0, scoreSum) / nodes) : 0)
+                .build();
+    }
+
+    /** Running counts for one slice of the fleet; guarded by the aggregator. */
+    private static final class Tally {
+        final int[] byStatus = new int[HealthCheckResponse.ServiceStatus.MAINTENANCE_VALUE + 1];
+        double scoreSum;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // Watch streams
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Keeps one node's WatchHealth stream open, reopening it with backoff when it ends.
+     */
+    private final class Watcher {
+        private final Node node;
+        private final HealthServiceGrpc.HealthServiceStub stub;
+        private final HealthWatchRequest request;
+        private volatile ClientCallStreamObserver<HealthWatchRequest> call;
+        private volatile boolean stopped;
+        private volatile boolean connected;
+        private int failures;   // reconnect thread and stream callbacks, never concurrently
+
+        Watcher(Node node, ManagedChannel channel) {
+            this.node = node;
+            this.stub = HealthServiceGrpc.newStub(channel).withExecutor(callbackExecutor);
+            this.request = HealthWatchRequest.newBuilder()
+                    .addAllComponents(node.components())
+                    .setIntervalSeconds(watchIntervalSeconds)
+                    .build();
+        }
+
+        void start() {
+            if (stopped || closed) {
+                return;
+            }
+            stub.watchHealth(request, new ClientResponseObserver<HealthWatchRequest, HealthCheckResponse>() {
+                private int updates;
+
+                @Override
+                public void beforeStart(ClientCallStreamObserver<HealthWatchRequest> requestStream) {
+                    call = requestStream;
+                }
+
+                @Override
+                public void onNext(HealthCheckResponse response) {
+                    // A draining node sends one update and ends the stream; only a stream that
+                    // keeps going resets the backoff
+                    if (++updates > 1) {
+                        failures = 0;
+                    }
+                    connected = true;
+                    update(Watcher.this, row(response.getOverallStatus(), scoreOf(response), true, response.getErrorMessage()));
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    connected = false;
+                    if (stopped || closed) {
+                        return;
+                    }
+                    Status status = Status.fromThrowable(t);
+                    logger.debug("🛰️ Watch of {} failed: {}", node.id(), status);
+                    update(Watcher.this, row(HealthCheckResponse.ServiceStatus.UNKNOWN, 0, false,
+                            status.getCode() + (status.getDescription() != null ? ": " + status.getDescription() : "")));
+                    reconnect();
+                }
+
+                @Override
+                public void onCompleted() {
+                    // The node ended the stream (draining); keep its last status until it is back
+                    connected = false;
+                    if (stopped || closed) {
+                        return;
+                    }
+                    FleetNode last = table.get(node.id());
+                    if (last != null) {
+                        update(Watcher.this, last.toBuilder().setConnected(false).setUpdatedAtMs(System.currentTimeMillis()).build());
+                    }
+                    reconnect();
+                }
+            });
+            if (stopped) {
+                stop();   // stopped while this stream was starting
+            }
+        }
+
+        void stop() {
+            stopped = true;
+            ClientCallStreamObserver<HealthWatchRequest> current = call;
+            if (current != null) {
+                current.cancel("No longer watched", null);
+            }
+        }
+
+        private void reconnect() {
+            failures++;
+            long backoffMs = Math.min(maxBackoffMs, MIN_BACKOFF_MS << Math.min(failures - 1, 20));
+            long delayMs = (long) (backoffMs * ThreadLocalRandom.current().nextDouble(0.8, 1.2));
+            try {
+                reconnects.schedule(this::start, delayMs, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // closing
+            }
+        }
+
+        private FleetNode row(HealthCheckResponse.ServiceStatus status, double score, boolean isConnected,
+                              String errorMessage) {
+            return FleetNode.newBuilder()
+                    .setId(node.id())
+                    .setService(node.service())
+                    .setZone(node.zone())
+                    .setTarget(node.target())
+                    .setStatus(status)
+                    .setHealthScore(score)
+                    .setConnected(isConnected)
+                    .setUpdatedAtMs(System.currentTimeMillis())
+                    .setErrorMessage(errorMessage)
+                    .build();
+        }
+    }
+
+    /**
+     * The node's health score, or one derived from its status for nodes that don't report one.
+     */
+    private static double scoreOf(HealthCheckResponse response) {
+        if (response.hasAvailability()) {
+            return response.getHealthScore();
+        }
+        return switch (response.getOverallStatus()) {
+            case HEALTHY -> 100;
+            case DEGRADED -> 50;
+            default -> 0;
+        };
+    }
+
+    /**
+     * Stop every watch and close every channel.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        reconnects.shutdownNow();
+        for (Watcher watcher : watchers.values()) {
+            watcher.stop();
+        }
+        int channelCount;
+        synchronized (channels) {
+            for (SharedChannel shared : channels.values()) {
+                shared.channel.shutdownNow();
+            }
+            channelCount = channels.size();
+        }
+        callbackExecutor.shutdown();
+        logger.info("🛰️ Fleet aggregator closed ({} nodes, {} channels)", watchers.size(), channelCount);
+    }
+}
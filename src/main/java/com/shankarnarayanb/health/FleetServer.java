@@ -0,0 +1,118 @@
+package com.shankarnarayanb.health;
+
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fleet aggregator server.
+ * Watches the HealthServer nodes listed in a file and serves FleetService from memory.
+ *
+ * Nodes file, one node per line ('#' starts a comment):
+ *   &lt;id&gt; &lt;service&gt; &lt;zone&gt; &lt;host:port&gt; [component,component,...]
+ */
+public class FleetServer {
+
+    private static final Logger logger = LoggerFactory.getLogger(FleetServer.class);
+    private static final int DEFAULT_PORT = 9190;
+
+    private Server server;
+    private FleetAggregator aggregator;
+
+    /**
+     * Start watching the nodes and serving on the specified port.
+     */
+    public void start(Path nodesFile, int port) throws IOException {
+        aggregator = new FleetAggregator();
+        int watched = 0;
+        for (String line : Files.readAllLines(nodesFile)) {
+            int comment = line.indexOf('#');
+            String entry = (comment >= 0 ? line.substring(0, comment) : line).trim();
+            if (!entry.isEmpty() && aggregator.add(FleetAggregator.Node.parse(entry))) {
+                watched++;
+            }
+        }
+        logger.info("Watching {} nodes over {} channels", watched, aggregator.getChannelCount());
+
+        server = ServerBuilder.forPort(port)
+                .addService(new FleetServiceImpl(aggregator))
+                .build()
+                .start();
+        logger.info("✅ Fleet aggregator started on port {}", port);
+
+        // Add shutdown hook to gracefully stop the server
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            System.err.println("*** Shutting down fleet aggregator since JVM is shutting down");
+            try {
+                FleetServer.this.stop();
+            } catch (InterruptedException e) {
+                e.printStackTrace(System.err);
+            }
+            System.err.println("*** Fleet aggregator shut down");
+        }));
+    }
+
+    /**
+     * Stop serving, then stop watching.
+     */
+    public void stop() throws InterruptedException {
+        if (server != null && !server.isShutdown()) {
+            server.shutdown().awaitTermination(30, TimeUnit.SECONDS);
+            aggregator.close();
+        }
+    }
+
+    /**
+     * Port the server is listening on (useful when started on port 0).
+     */
+    public int getPort() {
+        return server.getPort();
+    }
+
+    public FleetAggregator getAggregator() {
+        return aggregator;
+    }
+
+    /**
+     * Await termination on the main thread since the grpc library uses daemon threads.
+     */
+    public void blockUntilShutdown() throws InterruptedException {
+        if (server != null) {
+            server.awaitTermination();
+        }
+    }
+
+    /**
+     * Usage: FleetServer &lt;nodes-file&gt; [port]
+     */
+    public static void main(String[] args) throws InterruptedException {
+        if (args.length < 1) {
+            System.err.println("Usage: FleetServer <nodes-file> [port]");
+            System.exit(2);
+        }
+        int port = DEFAULT_PORT;
+        if (args.length > 1) {
+            try {
+                port = Integer.parseInt(args[1]);
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid port number '{}', using default port {}", args[1], DEFAULT_PORT);
+            }
+        }
+
+        FleetServer server = new FleetServer();
+        try {
+            server.start(Paths.get(args[0]), port);
+            server.blockUntilShutdown();
+        } catch (IOException | IllegalArgumentException e) {
+            logger.error("Failed to start fleet aggregator", e);
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.shankarnarayanb.health;
+
+import com.shankarnarayanb.health.v1.FleetServiceGrpc;
+import com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest;
+import com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * FleetService backed by a {@link FleetAggregator}: answers from the in-memory fleet
+ * table without calling any node.
+ */
+public class FleetServiceImpl extends FleetServiceGrpc.FleetServiceImplBase {
+
+    private final FleetAggregator aggregator;
+
+    public FleetServiceImpl(FleetAggregator aggregator) {
+        this.aggregator = aggregator;
+    }
+
+    @Override
+    public void getFleetStatus(FleetStatusRequest request, StreamObserver<FleetStatusResponse> responseObserver) {
+        if (request.getWorst() < 0) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("worst must not be negative")
+                    .asRuntimeException());
+            return;
+        }
+        responseObserver.onNext(aggregator.query(request));
+        responseObserver.onCompleted();
+    }
+}
@@ -1,18 +1,36 @@
 package com.shankarnarayanb.health;
 
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.shankarnarayanb.health.v1.HealthServiceGrpc;
 import com.shankarnarayanb.health.v1.HealthServiceProto.*;
 import io.grpc.Channel;
+import io.grpc.ClientInterceptors;
+import io.grpc.Context;
+import io.grpc.Deadline;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
+import io.grpc.Metadata;
+import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import io.grpc.stub.MetadataUtils;
 import io.grpc.stub.StreamObserver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 /**
  * A simple client for testing the Health gRPC Service.
@@ -21,18 +39,323 @@ import java.util.concurrent.TimeUnit;
 public class HealthClient {
     
     private static final Logger logger = LoggerFactory.getLogger(HealthClient.class);
+    private static final int DEFAULT_MAX_IN_FLIGHT = 1_000;
+    private static final int DEFAULT_MAX_PENDING = 10_000;
+    private static final long DEFAULT_DEADLINE_MS = 5_000;
     
+    private final Channel channel;
     private final HealthServiceGrpc.HealthServiceBlockingStub blockingStub;
     private final HealthServiceGrpc.HealthServiceStub asyncStub;
+    private final HealthServiceGrpc.HealthServiceFutureStub futureStub;
+    
+    // Bounded in-flight calls: callers never block, excess calls wait in 'pending' (up to
+    // maxPending, beyond which they fail fast). One thread at a time starts pending calls
+    // (dispatchRequests counts requests to go round again), so calls that complete
+    // synchronously don't start the next one on the same stack. Whoever takes a call out of
+    // 'pending' (the dispatcher, a cancel or the deadline timer) owns it, so each call
+    // leaves pendingCount exactly once.
+    private final Semaphore inFlightPermits;
+    private final int maxInFlight;
+    private final int maxPending;
+    private final Queue<PendingCall<?>> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicInteger dispatchRequests = new AtomicInteger();
+    private final long defaultDeadlineMs;
+    
+    // Load report from the trailers of the most recent completed call
+    private volatile LoadReport lastLoadReport;
     
     /**
      * Construct client for accessing server using the existing channel.
      */
     public HealthClient(Channel channel) {
+        this(channel, DEFAULT_MAX_IN_FLIGHT, DEFAULT_DEADLINE_MS);
+    }
+    
+    /**
+     * Construct client with a cap on concurrent async calls and a default per-call deadline.
+     */
+    public HealthClient(Channel channel, int maxInFlight, long defaultDeadlineMs) {
+        this(channel, maxInFlight, defaultDeadlineMs, Tracer.disabled());
+    }
+    
+    /**
+     * Construct client with a tracer. Every call carries a traceparent header when it is
+     * sampled by this tracer or made inside a sampled span (see {@link Tracer#withSpan}).
+     */
+    public HealthClient(Channel channel, int maxInFlight, long defaultDeadlineMs, Tracer tracer) {
+        this(channel, maxInFlight, DEFAULT_MAX_PENDING, defaultDeadlineMs, tracer);
+    }
+    
+    /**
+     * Construct client with a bound on calls waiting for an in-flight slot; calls beyond it
+     * complete exceptionally with RESOURCE_EXHAUSTED right away.
+     */
+    public HealthClient(Channel channel, int maxInFlight, int maxPending, long defaultDeadlineMs, Tracer tracer) {
+        channel = ClientInterceptors.intercept(channel, tracer.clientInterceptor(),
+                LoadReporter.clientInterceptor(report -> lastLoadReport = report));
+        this.channel = channel;
         // 'blocking' stubs are used for synchronous calls
         blockingStub = HealthServiceGrpc.newBlockingStub(channel);
         // 'async' stubs are used for asynchronous calls (including streaming)
         asyncStub = HealthServiceGrpc.newStub(channel);
+        // 'future' stubs back the CompletableFuture API
+        futureStub = HealthServiceGrpc.newFutureStub(channel);
+        
+        this.maxInFlight = maxInFlight;
+        this.maxPending = maxPending;
+        this.inFlightPermits = new Semaphore(maxInFlight);
+        this.defaultDeadlineMs = defaultDeadlineMs;
+    }
+    
+    // ═══════════════════════════════════════════════════════════════════════════
+    // Async API
+    // ═══════════════════════════════════════════════════════════════════════════
+    
+    /**
+     * Ping with the default deadline.
+     */
+    public CompletableFuture<PingResponse> ping() {
+        return ping(defaultDeadlineMs);
+    }
+    
+    /**
+     * Ping with a per-call deadline. Completes exceptionally with a StatusRuntimeException
+     * (DEADLINE_EXCEEDED, UNAVAILABLE, ...) on failure.
+     */
+    public CompletableFuture<PingResponse> ping(long deadlineMs) {
+        PingRequest request = PingRequest.getDefaultInstance();
+        return submit(stub -> stub.ping(request), deadlineMs);
+    }
+    
+    /**
+     * CheckHealth with the default deadline.
+     */
+    public CompletableFuture<HealthCheckResponse> checkHealth(HealthCheckRequest request) {
+        return checkHealth(request, defaultDeadlineMs);
+    }
+    
+    /**
+     * CheckHealth with a per-call deadline.
+     */
+    public CompletableFuture<HealthCheckResponse> checkHealth(HealthCheckRequest request, long deadlineMs) {
+        return submit(stub -> stub.checkHealth(request), deadlineMs);
+    }
+    
+    /**
+     * Resilient watch: reconnects with backoff, resumes from the last sequence number
+     * and honours subscriber demand. Close the publisher to stop reconnecting.
+     */
+    public HealthWatchPublisher watchHealth(HealthWatchRequest request) {
+        return new HealthWatchPublisher(channel, request);
+    }
+    
+    /**
+     * Out-of-band load reports every {@code intervalMs} (or the server's sampling interval if longer).
+     */
+    public void streamLoadReports(int intervalMs, StreamObserver<LoadReport> observer) {
+        asyncStub.streamLoadReports(LoadReportRequest.newBuilder().setIntervalMs(intervalMs).build(), observer);
+    }
+    
+    /**
+     * Start (or schedule) a maintenance window. {@code adminToken} may be null only when the
+     * server allows unauthenticated admin calls.
+     */
+    public CompletableFuture<MaintenanceWindow> setMaintenance(MaintenanceWindow window, String adminToken) {
+        SetMaintenanceRequest request = SetMaintenanceRequest.newBuilder().setWindow(window).build();
+        return submit(stub -> withAdminToken(stub, adminToken).setMaintenance(request), defaultDeadlineMs);
+    }
+    
+    /**
+     * End a maintenance window by id, or every window for a component when id is empty.
+     */
+    public CompletableFuture<MaintenanceWindowList> clearMaintenance(String id, String component, String adminToken) {
+        ClearMaintenanceRequest request = ClearMaintenanceRequest.newBuilder()
+                .setId(id)
+                .setComponent(component)
+                .build();
+        return submit(stub -> withAdminToken(stub, adminToken).clearMaintenance(request), defaultDeadlineMs);
+    }
+    
+    /**
+     * Current and scheduled maintenance windows.
+     */
+    public CompletableFuture<MaintenanceWindowList> listMaintenance(String adminToken) {
+        ListMaintenanceRequest request = ListMaintenanceRequest.getDefaultInstance();
+        return submit(stub -> withAdminToken(stub, adminToken).listMaintenance(request), defaultDeadlineMs);
+    }
+    
+    private static HealthServiceGrpc.HealthServiceFutureStub withAdminToken(
+            HealthServiceGrpc.HealthServiceFutureStub stub, String adminToken) {
+        if (adminToken == null) {
+            return stub;
+        }
+        Metadata headers = new Metadata();
+        headers.put(MaintenanceSchedule.ADMIN_TOKEN_HEADER, adminToken);
+        return stub.withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
+    }
+    
+    /**
+     * Server load as reported in the trailers of the last completed call, or null if none yet.
+     */
+    public LoadReport getLastLoadReport() {
+        return lastLoadReport;
+    }
+    
+    /**
+     * Number of async calls currently on the wire.
+     */
+    public int getInFlightCount() {
+        return maxInFlight - inFlightPermits.availablePermits();
+    }
+    
+    /**
+     * Number of async calls waiting for an in-flight slot.
+     */
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+    
+    /**
+     * Queue a call and start it as soon as an in-flight permit is free.
+     * The deadline runs from submission: a call still queued when it passes completes with
+     * DEADLINE_EXCEEDED without being started, and a started call gets what is left of it.
+     * Fails fast with RESOURCE_EXHAUSTED when maxPending calls are already waiting.
+     */
+    private <T> CompletableFuture<T> submit(
+            Function<HealthServiceGrpc.HealthServiceFutureStub, ListenableFuture<T>> call, long deadlineMs) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        if (pendingCount.incrementAndGet() > maxPending) {
+            pendingCount.decrementAndGet();
+            result.completeExceptionally(Status.RESOURCE_EXHAUSTED
+                    .withDescription("HealthClient queue full: " + maxPending + " calls waiting")
+                    .asRuntimeException());
+            return result;
+        }
+        // Calls may start on another caller's thread; keep the submitter's context for trace propagation
+        PendingCall<T> entry = new PendingCall<>(call, result,
+                Deadline.after(deadlineMs, TimeUnit.MILLISECONDS), Context.current());
+        pending.add(entry);
+        // Cancelled (or otherwise completed) while queued: give the slot back now
+        result.whenComplete((value, error) -> {
+            if (!entry.started) {
+                unqueue(entry);
+            }
+        });
+        dispatch();
+        if (!entry.started) {
+            CompletableFuture.delayedExecutor(entry.deadline.timeRemaining(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS)
+                    .execute(() -> {
+                        if (unqueue(entry)) {
+                            result.completeExceptionally(queuedPastDeadline());
+                        }
+                    });
+        }
+        return result;
+    }
+    
+    /**
+     * Take a call out of the queue before the dispatcher gets to it. Returns false if it
+     * was already started (or taken).
+     */
+    private boolean unqueue(PendingCall<?> entry) {
+        if (!pending.remove(entry)) {
+            return false;
+        }
+        pendingCount.decrementAndGet();
+        return true;
+    }
+    
+    private static StatusRuntimeException queuedPastDeadline() {
+        return Status.DEADLINE_EXCEEDED
+                .withDescription("deadline exceeded while waiting for a HealthClient in-flight slot")
+                .asRuntimeException();
+    }
+    
+    /**
+     * A submitted call waiting for an in-flight permit. Run by the dispatcher holding one.
+     */
+    private final class PendingCall<T> implements Runnable {
+        private final Function<HealthServiceGrpc.HealthServiceFutureStub, ListenableFuture<T>> call;
+        private final CompletableFuture<T> result;
+        private final Deadline deadline;
+        private final Context context;
+        private volatile boolean started;
+        
+        PendingCall(Function<HealthServiceGrpc.HealthServiceFutureStub, ListenableFuture<T>> call,
+                    CompletableFuture<T> result, Deadline deadline, Context context) {
+            this.call = call;
+            this.result = result;
+            this.deadline = deadline;
+            this.context = context;
+        }
+        
+        @Override
+        public void run() {
+            started = true;
+            if (result.isDone()) {          // cancelled while queued
+                releaseAndDispatch();
+                return;
+            }
+            if (deadline.isExpired()) {     // the deadline timer hasn't fired yet
+                result.completeExceptionally(queuedPastDeadline());
+                releaseAndDispatch();
+                return;
+            }
+            ListenableFuture<T> future;
+            Context previous = context.attach();
+            try {
+                future = call.apply(futureStub.withDeadline(deadline));
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+                releaseAndDispatch();
+                return;
+            } finally {
+                context.detach(previous);
+            }
+            result.whenComplete((value, error) -> {
+                if (result.isCancelled()) {
+                    future.cancel(true);
+                }
+            });
+            Futures.addCallback(future, new FutureCallback<T>() {
+                @Override
+                public void onSuccess(T value) {
+                    releaseAndDispatch();
+                    result.complete(value);
+                }
+                
+                @Override
+                public void onFailure(Throwable t) {
+                    releaseAndDispatch();
+                    result.completeExceptionally(t);
+                }
+            }, MoreExecutors.directExecutor());
+        }
+    }
+    
+    private void releaseAndDispatch() {
+        inFlightPermits.release();
+        dispatch();
+    }
+    
+    private void dispatch() {
+        if (dispatchRequests.getAndIncrement() != 0) {
+            return;     // another thread (or an outer frame of this one) is dispatching and will go round again
+        }
+        int requests = 1;
+        do {
+            while (!pending.isEmpty() && inFlightPermits.tryAcquire()) {
+                PendingCall<?> next = pending.poll();
+                if (next == null) {
+                    inFlightPermits.release();
+                    break;
+                }
+                pendingCount.decrementAndGet();
+                next.run();
+            }
+            requests = dispatchRequests.addAndGet(-requests);
+        } while (requests != 0);
     }
     
     /**
@@ -75,6 +398,9 @@ public class HealthClient {
             
             logger.info("✅ Health check completed!");
             logger.info("   Overall Status: {}", response.getOverallStatus());
+            logger.info("   Health Score: {} (availability 1m={}% 5m={}% 1h={}%)", response.getHealthScore(),
+                       response.getAvailability().getLast1M(), response.getAvailability().getLast5M(),
+                       response.getAvailability().getLast1H());
             logger.info("   Duration: {}ms", response.getTotalCheckDurationMs());
             
             if (!response.getErrorMessage().isEmpty()) {
@@ -83,9 +409,9 @@ public class HealthClient {
             
             logger.info("   Component Details:");
             response.getComponentsMap().forEach((name, health) -> {
-                logger.info("     📊 {}: Available={}, Functional={}, ResponseTime={}ms",
+                logger.info("     📊 {}: Available={}, Functional={}, ResponseTime={}ms, Score={}",
                            name, health.getAvailable(), health.getFunctional(), 
-                           health.getResponseTimeMs());
+                           health.getResponseTimeMs(), health.getHealthScore());
                 
                 if (!health.getErrorDetails().isEmpty()) {
                     logger.warn("        Error: {}", health.getErrorDetails());
@@ -105,6 +431,28 @@ public class HealthClient {
         }
     }
     
+    /**
+     * Test the async API - many concurrent pings driven from a single thread.
+     */
+    public void testAsyncPing(int count) {
+        logger.info("⚡ Testing async Ping with {} concurrent calls...", count);
+        
+        long start = System.nanoTime();
+        List<CompletableFuture<PingResponse>> futures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            futures.add(ping());
+        }
+        
+        long failures = futures.stream()
+                .map(f -> f.handle((response, error) -> error == null))
+                .map(CompletableFuture::join)
+                .filter(success -> !success)
+                .count();
+        
+        logger.info("✅ {} async pings completed in {}ms ({} failed)",
+                   count, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), failures);
+    }
+    
     /**
      * Test the WatchHealth method - streaming health updates.
      */
@@ -232,6 +580,9 @@ public class HealthClient {
             client.testHealthCheck();
             System.out.println();
             
+            client.testAsyncPing(100);
+            System.out.println();
+            
             // Test streaming (choose one method)
             logger.info("Choose streaming test method: [1] Async or [2] Blocking Iterator");
             client.testHealthWatch();  // Async version
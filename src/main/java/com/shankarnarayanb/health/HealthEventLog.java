@@ -0,0 +1,312 @@
+package com.shankarnarayanb.health;
+
+import com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth;
+import com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Append-only health event log written through memory-mapped segment files.
+ *
+ * Every component check result is stored as a fixed-size record so that the
+ * log can be restored on startup and scanned by offline tooling without any
+ * parsing. Callers only enqueue events; a single background thread owns the
+ * mapped buffer, so writes never block the health check path.
+ *
+ * Segment layout:
+ *   [header: RECORD_SIZE bytes][record 1][record 2]...[record N]
+ *
+ * Record layout (RECORD_SIZE bytes, little endian):
+ *   0  long   timestamp (epoch ms, 0 marks the end of written data)
+ *   8  long   response time (ms)
+ *   16 byte   ServiceStatus number
+ *   17 byte   flags (available, functional, transition)
+ *   18 byte   component name length
+ *   19 byte   reserved
+ *   20 bytes  component name (UTF-8, truncated to MAX_NAME_BYTES on a character boundary)
+ */
+public class HealthEventLog implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(HealthEventLog.class);
+
+    static final int RECORD_SIZE = 64;
+    static final int MAGIC = 0x4845564C;    // "HEVL"
+    static final int FORMAT_VERSION = 1;
+    static final int MAX_NAME_BYTES = RECORD_SIZE - 20;
+    static final String SEGMENT_PREFIX = "health-events-";
+    static final String SEGMENT_SUFFIX = ".log";
+
+    static final byte FLAG_AVAILABLE = 1;
+    static final byte FLAG_FUNCTIONAL = 1 << 1;
+    static final byte FLAG_TRANSITION = 1 << 2;
+
+    /** Pseudo component name used for overall status records. */
+    public static final String OVERALL = "_overall";
+
+    static final int DEFAULT_RECORDS_PER_SEGMENT = 16_384;   // 1 MiB segments
+    static final int DEFAULT_MAX_SEGMENTS = 8;
+    private static final int QUEUE_CAPACITY = 8_192;
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final int maxSegments;
+    private final BlockingQueue<HealthEvent> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final Map<String, HealthEvent> lastKnown;
+    private final BackgroundWriter writer;
+
+    // Owned by the writer thread after construction
+    private final List<HealthEvent> batch = new ArrayList<>(256);
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+    private long segmentIndex;
+
+    /**
+     * A single decoded log record.
+     */
+    public record HealthEvent(long timestampMs, String component, HealthCheckResponse.ServiceStatus status,
+                              boolean available, boolean functional, long responseTimeMs, boolean transition) {
+    }
+
+    public HealthEventLog(Path directory) throws IOException {
+        this(directory, DEFAULT_RECORDS_PER_SEGMENT, DEFAULT_MAX_SEGMENTS);
+    }
+
+    public HealthEventLog(Path directory, int recordsPerSegment, int maxSegments) throws IOException {
+        this.directory = directory;
+        this.recordsPerSegment = recordsPerSegment;
+        this.maxSegments = Math.max(1, maxSegments);
+
+        Files.createDirectories(directory);
+        this.lastKnown = Collections.unmodifiableMap(HealthEventLogReader.lastKnownState(directory));
+        openTailSegment();
+
+        writer = new BackgroundWriter("health-event-log-writer", "health event log", this::drain).start();
+
+        logger.info("Health event log opened at {} (segment {}, {} components restored)",
+                directory.toAbsolutePath(), segmentIndex, lastKnown.size());
+    }
+
+    /**
+     * Last recorded state per component as found on disk when the log was opened.
+     */
+    public Map<String, HealthEvent> getRestoredState() {
+        return lastKnown;
+    }
+
+    /**
+     * Enqueue a component result. Never blocks; events are dropped if the writer falls behind.
+     */
+    public void append(String component, ComponentHealth health, boolean transition) {
+        offer(new HealthEvent(System.currentTimeMillis(), component, HealthServiceImpl.statusOf(health),
+                health.getAvailable(), health.getFunctional(), health.getResponseTimeMs(), transition));
+    }
+
+    /**
+     * Enqueue an overall status record.
+     */
+    public void appendOverall(HealthCheckResponse.ServiceStatus status, long durationMs, boolean transition) {
+        offer(new HealthEvent(System.currentTimeMillis(), OVERALL, status,
+                status != HealthCheckResponse.ServiceStatus.UNHEALTHY,
+                status == HealthCheckResponse.ServiceStatus.HEALTHY, durationMs, transition));
+    }
+
+    /**
+     * Events waiting for the writer thread.
+     */
+    public int getPendingEvents() {
+        return queue.size();
+    }
+
+    public long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
+    private void offer(HealthEvent event) {
+        if (!queue.offer(event)) {
+            droppedEvents.incrementAndGet();
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // Writer thread
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    private int drain() throws IOException {
+        int written = 0;
+        try {
+            queue.drainTo(batch, 256);
+            for (HealthEvent event : batch) {
+                write(event);
+                written++;
+            }
+            return written;
+        } finally {
+            droppedEvents.addAndGet(batch.size() - written);   // the rest of a batch whose write failed
+            batch.clear();
+        }
+    }
+
+    private void write(HealthEvent event) throws IOException {
+        if (segment.remaining() < RECORD_SIZE) {
+            rotate();
+        }
+        int position = segment.position();
+        byte[] name = event.component().getBytes(StandardCharsets.UTF_8);
+        int nameLength = storedNameLength(name);
+
+        byte flags = 0;
+        if (event.available()) flags |= FLAG_AVAILABLE;
+        if (event.functional()) flags |= FLAG_FUNCTIONAL;
+        if (event.transition()) flags |= FLAG_TRANSITION;
+
+        // Body first, timestamp last: a record is only visible to readers once its timestamp is set
+        segment.putLong(position + 8, event.responseTimeMs());
+        segment.put(position + 16, (byte) event.status().getNumber());
+        segment.put(position + 17, flags);
+        segment.put(position + 18, (byte) nameLength);
+        segment.put(position + 20, name, 0, nameLength);
+        segment.putLong(position, event.timestampMs());
+        segment.position(position + RECORD_SIZE);
+    }
+
+    private void openTailSegment() throws IOException {
+        List<Path> segments = HealthEventLogReader.listSegments(directory);
+        if (segments.isEmpty()) {
+            openSegment(0);
+            return;
+        }
+        Path tail = segments.get(segments.size() - 1);
+        long index = HealthEventLogReader.segmentIndex(tail);
+        if (HealthEventLogReader.recordCapacity(tail) != recordsPerSegment) {
+            // Segment size changed between runs - start a fresh segment rather than remapping
+            openSegment(index + 1);
+            return;
+        }
+        openSegment(index);
+        int position = RECORD_SIZE;
+        while (position + RECORD_SIZE <= segment.limit() && segment.getLong(position) != 0) {
+            position += RECORD_SIZE;
+        }
+        segment.position(position);
+    }
+
+    /**
+     * Open and map segment {@code index}, then switch to it. The current segment is only
+     * released once the new one is mapped, so a failure (a full disk, no address space)
+     * leaves the log on the segment it had, and the next write tries again.
+     */
+    private void openSegment(long index) throws IOException {
+        Path path = directory.resolve(HealthEventLogReader.segmentFileName(index));
+        boolean exists = Files.exists(path);
+        FileChannel nextChannel =
+                FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer next;
+        try {
+            next = nextChannel.map(FileChannel.MapMode.READ_WRITE, 0, (long) RECORD_SIZE * (recordsPerSegment + 1));
+        } catch (IOException | RuntimeException e) {
+            nextChannel.close();
+            throw e;
+        }
+        next.order(HealthEventLogReader.BYTE_ORDER);
+        if (!exists || next.getInt(0) != MAGIC) {
+            next.putInt(0, MAGIC);
+            next.putInt(4, FORMAT_VERSION);
+            next.putInt(8, RECORD_SIZE);
+            next.putInt(12, recordsPerSegment);
+            next.putLong(16, System.currentTimeMillis());
+        }
+        next.position(RECORD_SIZE);
+
+        try {
+            closeSegment();
+        } catch (IOException e) {
+            logger.warn("Failed to close health event log segment {}", segmentIndex, e);
+        }
+        channel = nextChannel;
+        segment = next;
+        segmentIndex = index;
+        try {
+            enforceRetention();
+        } catch (IOException e) {
+            logger.warn("Failed to delete expired health event log segments", e);
+        }
+    }
+
+    /**
+     * How many bytes of a UTF-8 component name go into a record: at most
+     * {@link #MAX_NAME_BYTES}, cut back so a multi-byte character isn't split.
+     */
+    static int storedNameLength(byte[] name) {
+        int nameLength = Math.min(name.length, MAX_NAME_BYTES);
+        while (nameLength < name.length && nameLength > 0 && (name[nameLength] & 0xC0) == 0x80) {
+            nameLength--;   // don't cut a multi-byte character in half
+        }
+        return nameLength;
+    }
+
+    private void rotate() throws IOException {
+        logger.debug("Rotating health event log segment {}", segmentIndex);
+        openSegment(segmentIndex + 1);
+    }
+
+    private void closeSegment() throws IOException {
+        MappedByteBuffer closing = segment;
+        FileChannel closingChannel = channel;
+        segment = null;
+        channel = null;
+        try {
+            if (closing != null) {
+                closing.force();
+            }
+        } finally {
+            if (closingChannel != null) {
+                closingChannel.close();
+            }
+        }
+    }
+
+    private void enforceRetention() throws IOException {
+        List<Path> segments = HealthEventLogReader.listSegments(directory);
+        for (int i = 0; i < segments.size() - maxSegments; i++) {
+            Files.deleteIfExists(segments.get(i));
+            logger.debug("Deleted expired health event log segment {}", segments.get(i).getFileName());
+        }
+    }
+
+    /**
+     * Stop the writer after flushing queued events, then force the tail segment to disk.
+     * If the writer doesn't stop in time the segment is left to it (and the OS).
+     */
+    @Override
+    public void close() {
+        if (!writer.close(TimeUnit.SECONDS.toMillis(5))) {
+            logger.warn("Health event log writer did not stop within 5s; leaving segment {} open", segmentIndex);
+        } else {
+            try {
+                closeSegment();
+            } catch (IOException e) {
+                logger.warn("Failed to close health event log segment", e);
+            }
+        }
+        if (droppedEvents.get() > 0) {
+            logger.warn("Health event log dropped {} events while the writer was behind", droppedEvents.get());
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.shankarnarayanb.health;
+
+import com.shankarnarayanb.health.HealthEventLog.HealthEvent;
+import com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Read-only access to {@link HealthEventLog} segments.
+ *
+ * Used on startup to restore the last known state and as an offline tool for
+ * post-mortem analysis. Segments are mapped read-only and walked record by
+ * record; no per-record parsing beyond fixed offsets is needed.
+ *
+ * Usage:
+ *   java -cp ... com.shankarnarayanb.health.HealthEventLogReader [dir] [component] [fromEpochMs] [toEpochMs]
+ */
+public final class HealthEventLogReader {
+
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private HealthEventLogReader() {
+    }
+
+    /**
+     * Visit every record in all retained segments, oldest first.
+     */
+    public static void scan(Path directory, Consumer<HealthEvent> visitor) throws IOException {
+        scan(directory, null, Long.MIN_VALUE, Long.MAX_VALUE, visitor);
+    }
+
+    /**
+     * Visit records matching an optional component name and a timestamp range, oldest first.
+     * The component name is compared on raw bytes, so non-matching records are never decoded.
+     */
+    public static void scan(Path directory, String component, long fromMs, long toMs,
+                            Consumer<HealthEvent> visitor) throws IOException {
+        byte[] filter = component != null ? component.getBytes(StandardCharsets.UTF_8) : null;
+
+        for (Path path : listSegments(directory)) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                buffer.order(BYTE_ORDER);
+                if (buffer.limit() < HealthEventLog.RECORD_SIZE || buffer.getInt(0) != HealthEventLog.MAGIC) {
+                    continue;
+                }
+                for (int position = HealthEventLog.RECORD_SIZE;
+                     position + HealthEventLog.RECORD_SIZE <= buffer.limit();
+                     position += HealthEventLog.RECORD_SIZE) {
+                    long timestamp = buffer.getLong(position);
+                    if (timestamp == 0) {
+                        break;
+                    }
+                    if (timestamp < fromMs || timestamp > toMs) {
+                        continue;
+                    }
+                    if (filter != null && !nameEquals(buffer, position, filter)) {
+                        continue;
+                    }
+                    visitor.accept(decode(buffer, position));
+                }
+            }
+        }
+    }
+
+    /**
+     * Latest record per component across all retained segments.
+     */
+    static Map<String, HealthEvent> lastKnownState(Path directory) throws IOException {
+        Map<String, HealthEvent> state = new HashMap<>();
+        if (Files.isDirectory(directory)) {
+            scan(directory, event -> state.put(event.component(), event));
+        }
+        return state;
+    }
+
+    static List<Path> listSegments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(p -> {
+                        String name = p.getFileName().toString();
+                        return name.startsWith(HealthEventLog.SEGMENT_PREFIX)
+                                && name.endsWith(HealthEventLog.SEGMENT_SUFFIX);
+                    })
+                    .sorted()   // zero-padded indexes sort lexicographically
+                    .collect(Collectors.toList());
+        }
+    }
+
+    static String segmentFileName(long index) {
+        return String.format("%s%020d%s", HealthEventLog.SEGMENT_PREFIX, index, HealthEventLog.SEGMENT_SUFFIX);
+    }
+
+    static long segmentIndex(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(HealthEventLog.SEGMENT_PREFIX.length(),
+                name.length() - HealthEventLog.SEGMENT_SUFFIX.length()));
+    }
+
+    static int recordCapacity(Path segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            return (int) (channel.size() / HealthEventLog.RECORD_SIZE) - 1;
+        }
+    }
+
+    private static boolean nameEquals(MappedByteBuffer buffer, int position, byte[] name) {
+        int length = buffer.get(position + 18) & 0xFF;
+        if (length != HealthEventLog.storedNameLength(name)) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(position + 20 + i) != name[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static HealthEvent decode(MappedByteBuffer buffer, int position) {
+        byte flags = buffer.get(position + 17);
+        int nameLength = buffer.get(position + 18) & 0xFF;
+        byte[] name = new byte[nameLength];
+        buffer.get(position + 20, name, 0, nameLength);
+
+        HealthCheckResponse.ServiceStatus status = HealthCheckResponse.ServiceStatus.forNumber(buffer.get(position + 16));
+        return new HealthEvent(
+                buffer.getLong(position),
+                new String(name, StandardCharsets.UTF_8),
+                status != null ? status : HealthCheckResponse.ServiceStatus.UNKNOWN,
+                (flags & HealthEventLog.FLAG_AVAILABLE) != 0,
+                (flags & HealthEventLog.FLAG_FUNCTIONAL) != 0,
+                buffer.getLong(position + 8),
+                (flags & HealthEventLog.FLAG_TRANSITION) != 0);
+    }
+
+    /**
+     * Dump the log for post-mortem analysis.
+     */
+    public static void main(String[] args) throws IOException {
+        Path directory = Paths.get(args.length > 0 ? args[0] : HealthServer.DEFAULT_EVENT_LOG_DIR);
+        String component = args.length > 1 && !args[1].equals("*") ? args[1] : null;
+        long from = args.length > 2 ? Long.parseLong(args[2]) : Long.MIN_VALUE;
+        long to = args.length > 3 ? Long.parseLong(args[3]) : Long.MAX_VALUE;
+
+        long[] count = new long[1];
+        scan(directory, component, from, to, event -> {
+            count[0]++;
+            System.out.printf("%tFT%<tT.%<tL  %-24s %-10s available=%-5s functional=%-5s %6dms%s%n",
+                    event.timestampMs(), event.component(), event.status(),
+                    event.available(), event.functional(), event.responseTimeMs(),
+                    event.transition() ? "  <- transition" : "");
+        });
+        System.out.printf("%d records%n", count[0]);
+    }
+}
@@ -0,0 +1,409 @@
+package com.shankarnarayanb.health;
+
+import com.shankarnarayanb.health.v1.HealthServiceGrpc;
+import com.shankarnarayanb.health.v1.HealthServiceProto.*;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ClientInterceptors;
+import io.grpc.Context;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * Open-loop load generator for the Health gRPC Service.
+ *
+ * Requests are issued on a fixed arrival schedule regardless of how fast the
+ * server answers. Latency is measured from each request's intended start time,
+ * not from when it was actually sent, so a stalled server is charged for every
+ * request it delayed (coordinated omission correction). Raw service time from
+ * the actual send (when HealthClient starts the call, after any wait for an
+ * in-flight slot) is recorded alongside for comparison. Failed calls are counted
+ * by status code and kept in their own histogram, so fast rejections don't pull
+ * the success percentiles down.
+ *
+ * Usage (all options optional):
+ *   --target=localhost:9090 --ping-rate=1000 --check-rate=100 --watch-streams=1000
+ *   --watch-interval=1 --duration=60 --warmup=10 --channels=4 --deadline-ms=5000
+ */
+public class HealthLoadGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(HealthLoadGenerator.class);
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final long DRAIN_GRACE_MS = 1_000;
+
+    // Set by the dispatcher for each call; the interceptor stamps it when the call really starts
+    private static final Context.Key<long[]> SENT_NANOS = Context.key("load-sent-nanos");
+    private static final ClientInterceptor SEND_TIME = new ClientInterceptor() {
+        @Override
+        public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+                                                                   CallOptions callOptions, Channel next) {
+            long[] sent = SENT_NANOS.get();
+            if (sent != null) {
+                sent[0] = System.nanoTime();
+            }
+            return next.newCall(method, callOptions);
+        }
+    };
+
+    private final List<ManagedChannel> channels = new ArrayList<>();
+    private final List<HealthClient> clients = new ArrayList<>();
+    private final List<Thread> dispatchers = new ArrayList<>();
+    private final List<MethodStats> stats = new ArrayList<>();
+    private final WatchStats watchStats = new WatchStats();
+    private final long deadlineMs;
+    private volatile boolean running = true;
+
+    /**
+     * Latency recorders for one RPC method: successful calls, and failed calls apart.
+     * Recorders are lock-free for writers; the reporting thread swaps out interval histograms.
+     */
+    static final class MethodStats {
+        final String name;
+        final Recorder corrected = new Recorder(HIGHEST_TRACKABLE_NANOS, 3);
+        final Recorder serviceTime = new Recorder(HIGHEST_TRACKABLE_NANOS, 3);
+        final Recorder errorCorrected = new Recorder(HIGHEST_TRACKABLE_NANOS, 3);
+        final Histogram correctedTotal = new Histogram(HIGHEST_TRACKABLE_NANOS, 3);
+        final Histogram serviceTimeTotal = new Histogram(HIGHEST_TRACKABLE_NANOS, 3);
+        final Histogram errorTotal = new Histogram(HIGHEST_TRACKABLE_NANOS, 3);
+        final Map<Status.Code, LongAdder> errorsByCode = new ConcurrentHashMap<>();
+        final Map<String, LongAdder> exhaustedByCause = new ConcurrentHashMap<>();
+        final AtomicLong outstanding = new AtomicLong();
+        Histogram correctedInterval;
+        Histogram serviceTimeInterval;
+        Histogram errorInterval;
+
+        MethodStats(String name) {
+            this.name = name;
+        }
+
+        /**
+         * @param sentNanos when the call actually started, or 0 if it never did (rejected while queued)
+         */
+        void record(long intendedStartNanos, long sentNanos, long completedNanos, Throwable error) {
+            long correctedNanos = Math.min(completedNanos - intendedStartNanos, HIGHEST_TRACKABLE_NANOS);
+            if (error != null) {
+                Status status = Status.fromThrowable(error);
+                errorsByCode.computeIfAbsent(status.getCode(), c -> new LongAdder()).increment();
+                if (status.getCode() == Status.Code.RESOURCE_EXHAUSTED) {
+                    exhaustedByCause.computeIfAbsent(exhaustedCause(status.getDescription()), c -> new LongAdder())
+                            .increment();
+                }
+                errorCorrected.recordValue(correctedNanos);
+                return;
+            }
+            corrected.recordValue(correctedNanos);
+            serviceTime.recordValue(Math.min(completedNanos - sentNanos, HIGHEST_TRACKABLE_NANOS));
+        }
+
+        /**
+         * Move the current interval into the running totals; only called from the reporting thread.
+         */
+        Histogram rollInterval(boolean keep) {
+            correctedInterval = corrected.getIntervalHistogram(correctedInterval);
+            serviceTimeInterval = serviceTime.getIntervalHistogram(serviceTimeInterval);
+            errorInterval = errorCorrected.getIntervalHistogram(errorInterval);
+            if (keep) {
+                correctedTotal.add(correctedInterval);
+                serviceTimeTotal.add(serviceTimeInterval);
+                errorTotal.add(errorInterval);
+            }
+            return correctedInterval;
+        }
+
+        long errorCount() {
+            long total = 0;
+            for (LongAdder count : errorsByCode.values()) {
+                total += count.sum();
+            }
+            return total;
+        }
+    }
+
+    /**
+     * Counters for the WatchHealth streams.
+     */
+    static final class WatchStats {
+        final Recorder timeToFirstUpdate = new Recorder(HIGHEST_TRACKABLE_NANOS, 3);
+        final AtomicLong openStreams = new AtomicLong();
+        final AtomicLong updates = new AtomicLong();
+        final AtomicLong errors = new AtomicLong();
+    }
+
+    public HealthLoadGenerator(String target, int channelCount, int maxInFlight, long deadlineMs) {
+        this.deadlineMs = deadlineMs;
+        for (int i = 0; i < channelCount; i++) {
+            ManagedChannel channel = ManagedChannelBuilder.forTarget(target)
+                    .usePlaintext()
+                    .build();
+            channels.add(channel);
+            clients.add(new HealthClient(ClientInterceptors.intercept(channel, SEND_TIME), maxInFlight, deadlineMs));
+        }
+    }
+
+    /**
+     * Start a dispatcher thread that issues calls at a fixed rate.
+     * The schedule is absolute: if the dispatcher falls behind it catches up
+     * immediately instead of silently lowering the offered load.
+     */
+    public void startOpenLoop(String name, int ratePerSecond,
+                              Function<HealthClient, CompletableFuture<?>> call) {
+        if (ratePerSecond <= 0) {
+            return;
+        }
+        MethodStats methodStats = new MethodStats(name);
+        stats.add(methodStats);
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+
+        Thread dispatcher = new Thread(() -> {
+            long start = System.nanoTime();
+            long sequence = 0;
+            while (running) {
+                long intendedStart = start + sequence * intervalNanos;
+                long now;
+                while ((now = System.nanoTime()) < intendedStart) {
+                    LockSupport.parkNanos(intendedStart - now);
+                }
+                HealthClient client = clients.get((int) (sequence % clients.size()));
+                sequence++;
+                long[] sent = new long[1];
+                methodStats.outstanding.incrementAndGet();
+                CompletableFuture<?> future;
+                Context previous = Context.current().withValue(SENT_NANOS, sent).attach();
+                try {
+                    future = call.apply(client);
+                } finally {
+                    Context.current().detach(previous);
+                }
+                future.whenComplete((response, error) -> {
+                    methodStats.record(intendedStart, sent[0], System.nanoTime(), error);
+                    methodStats.outstanding.decrementAndGet();
+                });
+            }
+        }, "load-" + name);
+        dispatcher.setDaemon(true);
+        dispatchers.add(dispatcher);
+        dispatcher.start();
+    }
+
+    /**
+     * Open long-lived WatchHealth streams spread across the channels.
+     */
+    public void startWatchStreams(int count, int intervalSeconds) {
+        for (int i = 0; i < count; i++) {
+            HealthServiceGrpc.HealthServiceStub stub = HealthServiceGrpc.newStub(channels.get(i % channels.size()));
+            HealthWatchRequest request = HealthWatchRequest.newBuilder()
+                    .addComponents("database")
+                    .addComponents("cache")
+                    .setIntervalSeconds(intervalSeconds)
+                    .build();
+            long opened = System.nanoTime();
+            watchStats.openStreams.incrementAndGet();
+            stub.watchHealth(request, new StreamObserver<HealthCheckResponse>() {
+                private boolean first = true;
+
+                @Override
+                public void onNext(HealthCheckResponse response) {
+                    if (first) {
+                        first = false;
+                        watchStats.timeToFirstUpdate.recordValue(
+                                Math.min(System.nanoTime() - opened, HIGHEST_TRACKABLE_NANOS));
+                    }
+                    watchStats.updates.incrementAndGet();
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    watchStats.openStreams.decrementAndGet();
+                    if (running) {
+                        watchStats.errors.incrementAndGet();
+                    }
+                }
+
+                @Override
+                public void onCompleted() {
+                    watchStats.openStreams.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    /**
+     * Print one line per method every second; discard the warmup period from the totals.
+     * At the end, stop issuing calls and wait (up to the deadline) for those still in flight,
+     * so their latencies make it into the totals too.
+     */
+    public void run(int warmupSeconds, int durationSeconds) throws InterruptedException {
+        long totalSeconds = warmupSeconds + durationSeconds;
+        long lastUpdates = 0;
+        for (int second = 1; second <= totalSeconds; second++) {
+            Thread.sleep(1000);
+            boolean measuring = second > warmupSeconds;
+            StringBuilder line = new StringBuilder(measuring ? "[run " : "[warmup ").append(second).append("s]");
+            for (MethodStats method : stats) {
+                Histogram interval = method.rollInterval(measuring);
+                line.append(String.format("  %s: %d/s p99=%.2fms errors=%d/s",
+                        method.name, interval.getTotalCount(), nanosToMillis(interval.getValueAtPercentile(99)),
+                        method.errorInterval.getTotalCount()));
+            }
+            long updates = watchStats.updates.get();
+            line.append(String.format("  watch: %d open, %d updates/s", watchStats.openStreams.get(), updates - lastUpdates));
+            lastUpdates = updates;
+            logger.info(line.toString());
+        }
+        running = false;
+        for (Thread dispatcher : dispatchers) {
+            dispatcher.join(1000);
+        }
+        long giveUpAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs + DRAIN_GRACE_MS);
+        for (MethodStats method : stats) {
+            while (method.outstanding.get() > 0 && System.nanoTime() < giveUpAt) {
+                Thread.sleep(10);
+            }
+            method.rollInterval(durationSeconds > 0);
+        }
+    }
+
+    public void printReport(int durationSeconds) {
+        System.out.println();
+        System.out.println("╔══════════════════════════════════════════════════════════════╗");
+        System.out.println("║                    📈 LOAD TEST RESULTS                      ║");
+        System.out.println("╚══════════════════════════════════════════════════════════════╝");
+        for (MethodStats method : stats) {
+            printHistogram(method.name + " (corrected, from intended start)", method.correctedTotal, durationSeconds);
+            printHistogram(method.name + " (service time, from send)", method.serviceTimeTotal, durationSeconds);
+            System.out.printf("  errors: %d %s%n", method.errorCount(), new TreeMap<>(method.errorsByCode));
+            new TreeMap<>(method.exhaustedByCause).forEach((cause, count) ->
+                    System.out.printf("  RESOURCE_EXHAUSTED x%d: %s%n", count.sum(), cause));
+            if (method.errorTotal.getTotalCount() > 0) {
+                printHistogram(method.name + " errors (corrected, from intended start)", method.errorTotal, 0);
+            }
+            System.out.println();
+        }
+        Histogram firstUpdate = watchStats.timeToFirstUpdate.getIntervalHistogram();
+        System.out.printf("WatchHealth: %d streams open, %d updates, %d errors%n",
+                watchStats.openStreams.get(), watchStats.updates.get(), watchStats.errors.get());
+        if (firstUpdate.getTotalCount() > 0) {
+            printHistogram("WatchHealth time to first update", firstUpdate, 0);
+        }
+    }
+
+    /**
+     * Which limit turned a call away, going by the status description, with a hint on
+     * how to get it out of the way when measuring capacity.
+     */
+    static String exhaustedCause(String description) {
+        String text = description != null ? description : "";
+        if (text.contains("client rate limit")) {
+            return "server admission rate limit (all load comes from one client; run the server with"
+                    + " -Dhealth.admission.enabled=false or a higher health.admission.ratePerSecond)";
+        }
+        if (text.contains("concurrent health checks")) {
+            return "server admission concurrency cap (raise -Dhealth.admission.maxConcurrentChecks"
+                    + " or run with -Dhealth.admission.enabled=false)";
+        }
+        if (text.contains("lane is full")) {
+            return "server lane full (" + text + "; see -Dhealth.lane.*.maxCalls)";
+        }
+        if (text.contains("HealthClient queue full")) {
+            return "load generator backlog (" + text + "; the server isn't keeping up with the offered rate)";
+        }
+        return text.isEmpty() ? "no description" : text;
+    }
+
+    private static void printHistogram(String title, Histogram histogram, int durationSeconds) {
+        System.out.println(title);
+        if (durationSeconds > 0) {
+            System.out.printf("  throughput: %.1f req/s (%d requests)%n",
+                    histogram.getTotalCount() / (double) durationSeconds, histogram.getTotalCount());
+        }
+        System.out.printf("  p50=%.3fms  p99=%.3fms  p99.9=%.3fms  max=%.3fms%n",
+                nanosToMillis(histogram.getValueAtPercentile(50)),
+                nanosToMillis(histogram.getValueAtPercentile(99)),
+                nanosToMillis(histogram.getValueAtPercentile(99.9)),
+                nanosToMillis(histogram.getMaxValue()));
+    }
+
+    private static double nanosToMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    public void shutdown() throws InterruptedException {
+        running = false;
+        for (Thread dispatcher : dispatchers) {
+            dispatcher.join(1000);
+        }
+        for (ManagedChannel channel : channels) {
+            channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Main method to run a load test against a running HealthServer.
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        String target = options.getOrDefault("target", "localhost:9090");
+        int pingRate = Integer.parseInt(options.getOrDefault("ping-rate", "1000"));
+        int checkRate = Integer.parseInt(options.getOrDefault("check-rate", "100"));
+        int watchStreams = Integer.parseInt(options.getOrDefault("watch-streams", "100"));
+        int watchInterval = Integer.parseInt(options.getOrDefault("watch-interval", "1"));
+        int duration = Integer.parseInt(options.getOrDefault("duration", "60"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "10"));
+        int channelCount = Integer.parseInt(options.getOrDefault("channels", "4"));
+        int maxInFlight = Integer.parseInt(options.getOrDefault("max-in-flight", "10000"));
+        long deadlineMs = Long.parseLong(options.getOrDefault("deadline-ms", "5000"));
+
+        logger.info("🚀 Load test against {}: ping {}/s, check {}/s, {} watch streams, {}s warmup + {}s run",
+                target, pingRate, checkRate, watchStreams, warmup, duration);
+
+        HealthCheckRequest checkRequest = HealthCheckRequest.newBuilder()
+                .setIncludeDependencies(true)
+                .build();
+
+        HealthLoadGenerator generator = new HealthLoadGenerator(target, channelCount, maxInFlight, deadlineMs);
+        try {
+            generator.startWatchStreams(watchStreams, watchInterval);
+            generator.startOpenLoop("Ping", pingRate, HealthClient::ping);
+            generator.startOpenLoop("CheckHealth", checkRate, client -> client.checkHealth(checkRequest));
+            generator.run(warmup, duration);
+            generator.printReport(duration);
+        } finally {
+            generator.shutdown();
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int eq = arg.indexOf('=');
+                options.put(arg.substring(2, eq), arg.substring(eq + 1));
+            } else {
+                logger.warn("Ignoring unrecognized argument '{}'", arg);
+            }
+        }
+        return options;
+    }
+}
@@ -0,0 +1,206 @@
+package com.shankarnarayanb.health;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process health check metrics.
+ *
+ * Writers (the check and RPC paths) record into HdrHistogram {@link Recorder}s
+ * and {@link LongAdder}s, which are lock-free and do not allocate per record.
+ * Readers call {@link #snapshot()} or {@link #collect}, which swap out each
+ * recorder's pending samples and fold them into a cumulative histogram; the hot
+ * path never waits on a reader. Either reader sees every sample: the interval in a
+ * snapshot is the cumulative histogram's growth since the previous snapshot, so
+ * a Prometheus scrape in between doesn't take samples away from it. All latencies
+ * are in nanoseconds.
+ */
+public class HealthMetrics {
+
+    /** Latencies above this are clamped rather than rejected. */
+    static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    /**
+     * Upper bound on distinct component names, so arbitrary names in client
+     * requests can't grow the metrics without limit.
+     */
+    private static final int MAX_COMPONENTS = 256;
+    static final String OVERFLOW_COMPONENT = "_other";
+
+    public enum Outcome { SUCCESS, FAILURE, TIMEOUT }
+
+    private final Map<String, ComponentMetrics> components = new ConcurrentHashMap<>();
+    private final Map<String, LatencyRecorder> methods = new ConcurrentHashMap<>();
+    private final LatencyRecorder watchFanOut = new LatencyRecorder();
+    private final LongAdder watchDeliveries = new LongAdder();
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // Recording (hot path)
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    public void recordComponentCheck(String component, long durationNanos, Outcome outcome) {
+        ComponentMetrics metrics = component(component);
+        metrics.latency.record(durationNanos);
+        switch (outcome) {
+            case SUCCESS:
+                metrics.successes.increment();
+                break;
+            case FAILURE:
+                metrics.failures.increment();
+                break;
+            case TIMEOUT:
+                metrics.timeouts.increment();
+                break;
+        }
+    }
+
+    public void recordCacheHit(String component) {
+        component(component).cacheHits.increment();
+    }
+
+    public void recordMethod(String method, long durationNanos) {
+        LatencyRecorder recorder = methods.get(method);
+        if (recorder == null) {
+            recorder = methods.computeIfAbsent(method, m -> new LatencyRecorder());
+        }
+        recorder.record(durationNanos);
+    }
+
+    /**
+     * Record one watch group evaluation: total time to check and fan out, and how many streams received it.
+     */
+    public void recordWatchFanOut(long durationNanos, int delivered) {
+        watchFanOut.record(durationNanos);
+        watchDeliveries.add(delivered);
+    }
+
+    private ComponentMetrics component(String name) {
+        ComponentMetrics metrics = components.get(name);
+        if (metrics != null) {
+            return metrics;
+        }
+        if (components.size() >= MAX_COMPONENTS) {
+            name = OVERFLOW_COMPONENT;
+        }
+        return components.computeIfAbsent(name, n -> new ComponentMetrics());
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // Snapshots (exporters)
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Interval histogram (since the previous snapshot, whatever collected in between) plus
+     * cumulative histogram (since start).
+     */
+    public record LatencySnapshot(Histogram interval, Histogram cumulative) {
+    }
+
+    public record ComponentSnapshot(LatencySnapshot latency, long successes, long failures,
+                                    long timeouts, long cacheHits) {
+    }
+
+    public record Snapshot(long timestampMs, Map<String, ComponentSnapshot> components,
+                           Map<String, LatencySnapshot> methods, LatencySnapshot watchFanOut,
+                           long watchDeliveries) {
+    }
+
+    /**
+     * Take a consistent-enough view of all metrics. Snapshots are serialized with
+     * each other, but never block recording threads.
+     */
+    public synchronized Snapshot snapshot() {
+        Map<String, ComponentSnapshot> componentSnapshots = new LinkedHashMap<>();
+        components.forEach((name, metrics) -> componentSnapshots.put(name, new ComponentSnapshot(
+                metrics.latency.snapshot(),
+                metrics.successes.sum(),
+                metrics.failures.sum(),
+                metrics.timeouts.sum(),
+                metrics.cacheHits.sum())));
+
+        Map<String, LatencySnapshot> methodSnapshots = new LinkedHashMap<>();
+        methods.forEach((name, recorder) -> methodSnapshots.put(name, recorder.snapshot()));
+
+        return new Snapshot(System.currentTimeMillis(),
+                Collections.unmodifiableMap(componentSnapshots),
+                Collections.unmodifiableMap(methodSnapshots),
+                watchFanOut.snapshot(),
+                watchDeliveries.sum());
+    }
+
+    /**
+     * Callback for allocation-free export. Histograms passed in are live cumulative
+     * histograms and are only valid for the duration of the callback.
+     */
+    public interface Visitor {
+        void component(String name, Histogram latency, long successes, long failures, long timeouts, long cacheHits);
+
+        void method(String name, Histogram latency);
+
+        void watchFanOut(Histogram latency, long deliveries);
+    }
+
+    /**
+     * Fold pending intervals and walk the cumulative metrics without copying them.
+     * Serialized with {@link #snapshot()}; recording threads are never blocked.
+     */
+    public synchronized void collect(Visitor visitor) {
+        components.forEach((name, metrics) -> visitor.component(name, metrics.latency.fold(),
+                metrics.successes.sum(), metrics.failures.sum(), metrics.timeouts.sum(), metrics.cacheHits.sum()));
+        methods.forEach((name, recorder) -> visitor.method(name, recorder.fold()));
+        visitor.watchFanOut(watchFanOut.fold(), watchDeliveries.sum());
+    }
+
+    /**
+     * A Recorder plus the cumulative histogram its intervals are folded into, and the
+     * cumulative histogram as of the previous snapshot.
+     */
+    static final class LatencyRecorder {
+        private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        private final Histogram cumulative = new Histogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        private final Histogram atLastSnapshot = new Histogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        private Histogram interval;
+
+        void record(long durationNanos) {
+            recorder.recordValue(Math.max(0, Math.min(durationNanos, HIGHEST_TRACKABLE_NANOS)));
+        }
+
+        /**
+         * Only called under the owner's snapshot lock; the recycled interval
+         * histogram is handed back to the recorder, so only the returned copies are allocated.
+         */
+        LatencySnapshot snapshot() {
+            Histogram folded = fold();
+            Histogram sinceLastSnapshot = folded.copy();
+            sinceLastSnapshot.subtract(atLastSnapshot);
+            atLastSnapshot.reset();
+            atLastSnapshot.add(folded);
+            return new LatencySnapshot(sinceLastSnapshot, folded.copy());
+        }
+
+        /**
+         * Swap out the interval and add it to the cumulative histogram, which is returned live.
+         */
+        Histogram fold() {
+            interval = recorder.getIntervalHistogram(interval);
+            cumulative.add(interval);
+            return cumulative;
+        }
+    }
+
+    static final class ComponentMetrics {
+        final LatencyRecorder latency = new LatencyRecorder();
+        final LongAdder successes = new LongAdder();
+        final LongAdder failures = new LongAdder();
+        final LongAdder timeouts = new LongAdder();
+        final LongAdder cacheHits = new LongAdder();
+    }
+}
@@ -0,0 +1,203 @@
+package com.shankarnarayanb.health;
+
+import com.shankarnarayanb.health.v1.HealthServiceProto.Availability;
+import com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth;
+import com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse.ServiceStatus;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Numeric health scores and rolling availability, for weighted routing where a
+ * healthy/unhealthy flag is too coarse.
+ *
+ * Check outcomes go into a ring of 5-second buckets covering the last hour, with a
+ * running total per reported window (1m, 5m, 1h). When time moves past a bucket its
+ * counts are subtracted from the windows it leaves, so reading availability never
+ * rescans the ring.
+ *
+ * A component's score is 0 while it is unavailable, otherwise
+ *
+ *   100 * (0.7 * success rate over 5 minutes + 0.3 * latency factor)
+ *
+ * where a DEGRADED check counts as half a success, and the latency factor is 1 within
+ * the component's latency objective and threshold / percentile beyond it. The node's
+ * score is folded from its component scores by {@link StatusPolicy.Evaluation}.
+ */
+public class HealthScores {
+
+    private static final long BUCKET_MS = 5_000;
+    private static final int BUCKETS = (int) (TimeUnit.HOURS.toMillis(1) / BUCKET_MS);
+    private static final int[] WINDOW_BUCKETS = {
+            (int) (TimeUnit.MINUTES.toMillis(1) / BUCKET_MS),
+            (int) (TimeUnit.MINUTES.toMillis(5) / BUCKET_MS),
+            BUCKETS,
+    };
+    private static final int SCORE_WINDOW = 1;   // 5 minutes
+
+    static final double SUCCESS_WEIGHT = 0.7;
+    static final double LATENCY_WEIGHT = 0.3;
+
+    /** Same bound as the check metrics, so arbitrary component names can't grow this without limit. */
+    private static final int MAX_COMPONENTS = 256;
+
+    private final LatencySlo latencySlo;
+    private final Map<String, Window> components = new ConcurrentHashMap<>();
+    private final Window node = new Window();
+
+    /**
+     * @param latencySlo objectives the latency factor is measured against
+     */
+    public HealthScores(LatencySlo latencySlo) {
+        this.latencySlo = latencySlo;
+    }
+
+    /**
+     * Record a fresh (not cached) component check.
+     */
+    public void recordComponent(String component, ServiceStatus status, long nowMs) {
+        Window window = components.get(component);
+        if (window == null) {
+            if (components.size() >= MAX_COMPONENTS) {
+                return;
+            }
+            window = components.computeIfAbsent(component, c -> new Window());
+        }
+        window.record(status, nowMs);
+    }
+
+    /**
+     * Record one evaluation of the node's overall status.
+     */
+    public void recordNode(ServiceStatus status, long nowMs) {
+        node.record(status, nowMs);
+    }
+
+    /**
+     * The result with its current score and availability filled in; {@code health}
+     * carries the status being reported.
+     */
+    public ComponentHealth apply(String component, ComponentHealth health, long nowMs) {
+        Window window = components.get(component);
+        if (window == null) {
+            return health;
+        }
+        Window.Snapshot snapshot = window.snapshot(nowMs);
+        return health.toBuilder()
+                .setHealthScore(score(component, HealthServiceImpl.statusOf(health), snapshot, nowMs))
+                .setAvailability(snapshot.availability())
+                .build();
+    }
+
+    public Availability nodeAvailability(long nowMs) {
+        return node.snapshot(nowMs).availability();
+    }
+
+    private double score(String component, ServiceStatus status, Window.Snapshot snapshot, long nowMs) {
+        if (status == ServiceStatus.UNHEALTHY) {
+            return 0;
+        }
+        double successRate = snapshot.successRate(SCORE_WINDOW);
+        if (Double.isNaN(successRate)) {
+            successRate = status == ServiceStatus.HEALTHY ? 1.0 : 0.5;
+        }
+        double latencyFactor = 1.0;
+        LatencySlo.Verdict verdict = latencySlo.verdict(component, nowMs);
+        if (verdict != null && verdict.samples() > 0 && verdict.percentileNanos() > verdict.thresholdNanos()) {
+            latencyFactor = verdict.thresholdNanos() / (double) verdict.percentileNanos();
+        }
+        return round(100 * (SUCCESS_WEIGHT * successRate + LATENCY_WEIGHT * latencyFactor));
+    }
+
+    static double round(double score) {
+        return Math.round(score * 10) / 10.0;
+    }
+
+    /**
+     * Bucketed outcome counts with a running sum per window. Checks of one component are
+     * infrequent, so a lock per window is enough.
+     */
+    private static final class Window {
+        private final int[] total = new int[BUCKETS];
+        private final int[] available = new int[BUCKETS];
+        private final int[] credit = new int[BUCKETS];     // 2 per HEALTHY check, 1 per DEGRADED
+
+        private final long[] windowTotal = new long[WINDOW_BUCKETS.length];
+        private final long[] windowAvailable = new long[WINDOW_BUCKETS.length];
+        private final long[] windowCredit = new long[WINDOW_BUCKETS.length];
+        private long currentBucket = -1;
+
+        record Snapshot(long[] total, long[] available, long[] credit) {
+            Availability availability() {
+                return Availability.newBuilder()
+                        .setLast1M(percent(0))
+                        .setLast5M(percent(1))
+                        .setLast1H(percent(2))
+                        .build();
+            }
+
+            private double percent(int window) {
+                return total[window] > 0 ? round(100.0 * available[window] / total[window]) : 100;
+            }
+
+            double successRate(int window) {
+                return total[window] > 0 ? credit[window] / (2.0 * total[window]) : Double.NaN;
+            }
+        }
+
+        synchronized void record(ServiceStatus status, long nowMs) {
+            int slot = advance(nowMs);
+            int isAvailable = status != ServiceStatus.UNHEALTHY && status != ServiceStatus.MAINTENANCE ? 1 : 0;
+            int points = status == ServiceStatus.HEALTHY ? 2 : status == ServiceStatus.DEGRADED ? 1 : 0;
+            total[slot]++;
+            available[slot] += isAvailable;
+            credit[slot] += points;
+            for (int w = 0; w < WINDOW_BUCKETS.length; w++) {
+                windowTotal[w]++;
+                windowAvailable[w] += isAvailable;
+                windowCredit[w] += points;
+            }
+        }
+
+        synchronized Snapshot snapshot(long nowMs) {
+            advance(nowMs);
+            return new Snapshot(windowTotal.clone(), windowAvailable.clone(), windowCredit.clone());
+        }
+
+        /**
+         * Move the ring forward to {@code nowMs}, dropping expired buckets from the window sums.
+         *
+         * @return the slot of the current bucket
+         */
+        private int advance(long nowMs) {
+            long bucket = nowMs / BUCKET_MS;
+            if (currentBucket < 0 || bucket - currentBucket >= BUCKETS) {
+                // First use, or idle for over an hour: nothing in the ring is still in any window
+                Arrays.fill(total, 0);
+                Arrays.fill(available, 0);
+                Arrays.fill(credit, 0);
+                Arrays.fill(windowTotal, 0);
+                Arrays.fill(windowAvailable, 0);
+                Arrays.fill(windowCredit, 0);
+                currentBucket = bucket;
+            }
+            while (currentBucket < bucket) {
+                currentBucket++;
+                for (int w = 0; w < WINDOW_BUCKETS.length; w++) {
+                    // The bucket that falls out of window w as currentBucket enters it
+                    int leaving = (int) Math.floorMod(currentBucket - WINDOW_BUCKETS[w], (long) BUCKETS);
+                    windowTotal[w] -= total[leaving];
+                    windowAvailable[w] -= available[leaving];
+                    windowCredit[w] -= credit[leaving];
+                }
+                int slot = (int) (currentBucket % BUCKETS);
+                total[slot] = 0;
+                available[slot] = 0;
+                credit[slot] = 0;
+            }
+            return (int) (currentBucket % BUCKETS);
+        }
+    }
+}
@@ -1,12 +1,30 @@
 package com.shankarnarayanb.health;
 
+import com.google.common.util.concurrent.MoreExecutors;
+import com.shankarnarayanb.health.v1.HealthServiceGrpc;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
 import io.grpc.Server;
 import io.grpc.ServerBuilder;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallExecutorSupplier;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * gRPC Health Service Server
@@ -16,9 +34,42 @@ public class HealthServer {
     
     private static final Logger logger = LoggerFactory.getLogger(HealthServer.class);
     private static final int DEFAULT_PORT = 9090;
+    static final String DEFAULT_EVENT_LOG_DIR = "health-events";
+    private static final int DEFAULT_METRICS_PORT = 9464;
+    private static final long DEFAULT_DRAIN_PROPAGATION_DELAY_MS = 5_000;
+    // Check lane threads beyond the admission concurrency cap, so rejected checks are still
+    // answered right away while every admitted one is running
+    private static final int SPARE_CHECK_THREADS = 2;
+    
+    // Set on calls whose lane is full when they arrive; the lane interceptor fails them.
+    // Any value a client sends is removed before the lane is chosen.
+    private static final Metadata.Key<String> LANE_FULL =
+            Metadata.Key.of("x-health-lane-full", Metadata.ASCII_STRING_MARSHALLER);
     
     private Server server;
     private HealthServiceImpl healthService;
+    private HealthEventLog eventLog;
+    private final RpcMetricsInterceptor rpcMetrics = new RpcMetricsInterceptor();
+    private PrometheusEndpoint metricsEndpoint;
+    private Tracer tracer;
+    private Lane pingLane;
+    private Lane checkLane;
+    private Lane serverLane;
+    private OverloadMonitor overloadMonitor;
+    private LoadReporter loadReporter;
+    private final ServerInterceptor[] innerInterceptors;
+    
+    public HealthServer() {
+        this(new ServerInterceptor[0]);
+    }
+    
+    /**
+     * @param innerInterceptors extra interceptors that run right before the service, after
+     *        every built-in one (tests use them to slow calls down)
+     */
+    HealthServer(ServerInterceptor... innerInterceptors) {
+        this.innerInterceptors = innerInterceptors;
+    }
     
     /**
      * Start the gRPC server on the specified port.
@@ -26,15 +77,99 @@ public class HealthServer {
     public void start(int port) throws IOException {
         logger.info("Starting Health gRPC Server on port {}", port);
         
+        // Open the persistent event log (restores the last known state), unless disabled
+        if (Boolean.parseBoolean(System.getProperty("health.eventlog.enabled", "true"))) {
+            eventLog = new HealthEventLog(
+                    Paths.get(System.getProperty("health.eventlog.dir", DEFAULT_EVENT_LOG_DIR)),
+                    Integer.getInteger("health.eventlog.segmentRecords", HealthEventLog.DEFAULT_RECORDS_PER_SEGMENT),
+                    Integer.getInteger("health.eventlog.maxSegments", HealthEventLog.DEFAULT_MAX_SEGMENTS));
+        }
+        
+        // Trace spans, off unless health.trace.exporter=memory|file (health.trace.sampleRate)
+        tracer = Tracer.fromSystemProperties();
+        
+        // Priority lanes: every method runs on a bounded lane of its own, so Ping (liveness) never
+        // queues behind CheckHealth dependency probes. The server's default executor is direct:
+        // it only looks up the method and picks the lane, so nothing waits for it. A call that
+        // arrives while its lane already has maxCalls calls open is failed with RESOURCE_EXHAUSTED
+        // before it queues. The CheckHealth lane's queue depth and lag are watched for overload;
+        // watch evaluations run on the service's own watch lane (health.lane.watch.threads).
+        //
+        // The CheckHealth lane is sized from the limits that guard it, so each can still trip:
+        // more threads than admitted concurrent checks, and room to queue beyond the overload
+        // queue depth threshold.
+        AdmissionController admissionController = new AdmissionController();
+        long maxQueueDepth = OverloadMonitor.configuredMaxQueueDepth();
+        int checkThreads = Integer.getInteger("health.server.threads", admissionController.isEnabled()
+                ? admissionController.getMaxConcurrentChecks() + SPARE_CHECK_THREADS
+                : Math.max(4, 2 * Runtime.getRuntime().availableProcessors()));
+        checkLane = new Lane("grpc-check", checkThreads, Integer.getInteger("health.lane.check.maxCalls",
+                (int) Math.min(Integer.MAX_VALUE, checkThreads + 2 * maxQueueDepth)));
+        if (admissionController.isEnabled() && checkThreads <= admissionController.getMaxConcurrentChecks()) {
+            logger.warn("health.server.threads={} is not above health.admission.maxConcurrentChecks={}: "
+                    + "excess checks will queue instead of being rejected",
+                    checkThreads, admissionController.getMaxConcurrentChecks());
+        }
+        if (checkLane.maxCalls - checkThreads <= maxQueueDepth) {
+            logger.warn("health.lane.check.maxCalls={} leaves no room to queue more than "
+                    + "health.overload.maxQueueDepth={} checks: queue depth will never report overload",
+                    checkLane.maxCalls, maxQueueDepth);
+        }
+        // WatchHealth and StreamLoadReports streams stay open on this lane, so it admits more calls
+        serverLane = new Lane("grpc-server", Integer.getInteger("health.lane.server.threads", 2),
+                Integer.getInteger("health.lane.server.maxCalls", 10_000));
+        pingLane = Boolean.getBoolean("health.lane.ping.inline")
+                ? new Lane("grpc-ping", MoreExecutors.directExecutor())
+                : new Lane("grpc-ping", Integer.getInteger("health.lane.ping.threads", 1),
+                        Integer.getInteger("health.lane.ping.maxCalls", 1_000));
+        overloadMonitor = new OverloadMonitor(checkLane.pool, rpcMetrics::getUnaryInFlight);
+        
+        // Per-node load reports (trailers on every RPC plus the StreamLoadReports stream)
+        loadReporter = new LoadReporter(rpcMetrics);
+        
         // Create the service implementation
-        healthService = new HealthServiceImpl();
+        healthService = HealthServiceImpl.builder()
+                .admissionController(admissionController)
+                .eventLog(eventLog)
+                .tracer(tracer)
+                .overloadMonitor(overloadMonitor)
+                .loadReporter(loadReporter)
+                .build();
         
-        // Build and start the server
+        // Build and start the server; every call passes through the admission, admin token, metrics, tracing and load report interceptors
         server = ServerBuilder.forPort(port)
-                .addService(healthService)
+                .directExecutor()
+                .callExecutor(new ServerCallExecutorSupplier() {
+                    @Override
+                    public <ReqT, RespT> Executor getExecutor(ServerCall<ReqT, RespT> call, Metadata metadata) {
+                        return laneFor(call.getMethodDescriptor()).admit(metadata);
+                    }
+                })
+                .intercept(laneInterceptor())
+                .addService(ServerInterceptors.intercept(healthService, withInner(
+                        healthService.getAdmissionController().serverInterceptor(),
+                        healthService.getMaintenanceSchedule().serverInterceptor(),
+                        rpcMetrics, tracer.serverInterceptor(), loadReporter.serverInterceptor())))
                 .build()
                 .start();
         
+        // Prometheus scrape endpoint (disable with -Dhealth.metrics.port=-1)
+        int metricsPort = Integer.getInteger("health.metrics.port", DEFAULT_METRICS_PORT);
+        if (metricsPort >= 0) {
+            metricsEndpoint = new PrometheusEndpoint(healthService, rpcMetrics);
+            for (Lane lane : new Lane[] {pingLane, checkLane, serverLane}) {
+                if (lane.pool != null) {
+                    metricsEndpoint.addQueueDepth(lane.name, () -> lane.pool.getQueue().size());
+                }
+                metricsEndpoint.addLaneRejections(lane.name, lane.rejected::sum);
+            }
+            if (eventLog != null) {
+                metricsEndpoint.addGauge("health_event_log_pending", "Events waiting to be written to the event log",
+                        eventLog::getPendingEvents);
+            }
+            metricsEndpoint.start(metricsPort);
+        }
+        
         logger.info("✅ Health gRPC Server started successfully on port {}", port);
         logger.info("Health Service is ready to accept requests!");
         
@@ -51,23 +186,212 @@ public class HealthServer {
     }
     
     /**
-     * Stop the server gracefully.
+     * Stop the server gracefully, draining it first:
+     * 1. report MAINTENANCE to new CheckHealth calls and push it to every watcher
+     * 2. keep serving for health.drain.propagationDelayMs (default 5000) so load
+     *    balancers and clients have time to move traffic away
+     * 3. end watch and load report streams with a clean onCompleted
+     * 4. stop accepting calls, let in-flight ones finish, then release resources
      */
     public void stop() throws InterruptedException {
-        if (server != null) {
+        if (server != null && !server.isShutdown()) {
             logger.info("Stopping Health gRPC Server...");
             
-            // Shutdown the health service first
-            if (healthService != null) {
-                healthService.shutdown();
+            // Drain: announce MAINTENANCE and wait for it to propagate
+            long propagationDelayMs = Long.getLong("health.drain.propagationDelayMs", DEFAULT_DRAIN_PROPAGATION_DELAY_MS);
+            healthService.drain(propagationDelayMs);
+            if (propagationDelayMs > 0) {
+                logger.info("Draining for {}ms before closing streams", propagationDelayMs);
+                Thread.sleep(propagationDelayMs);
             }
             
-            // Shutdown the server
+            // End the long-lived streams cleanly so clients don't see a transport error
+            healthService.completeWatchStreams();
+            loadReporter.close();
+            
+            // Stop accepting calls and let in-flight ones finish
             server.shutdown().awaitTermination(30, TimeUnit.SECONDS);
+            
+            // Then shut down the health service, metrics and executors
+            healthService.shutdown();
+            if (metricsEndpoint != null) {
+                metricsEndpoint.close();
+            }
+            overloadMonitor.close();
+            pingLane.shutdown();
+            checkLane.shutdown();
+            serverLane.shutdown();
+            
+            // Flush and close the event log last so in-flight results are persisted
+            if (eventLog != null) {
+                eventLog.close();
+            }
+            if (tracer != null && tracer.getExporter() != null) {
+                tracer.getExporter().close();
+            }
             logger.info("Health gRPC Server stopped successfully");
         }
     }
     
+    /**
+     * The inner interceptors followed by {@code interceptors}; ServerInterceptors runs the last
+     * one first, so the inner ones run last.
+     */
+    private ServerInterceptor[] withInner(ServerInterceptor... interceptors) {
+        ServerInterceptor[] all = new ServerInterceptor[innerInterceptors.length + interceptors.length];
+        System.arraycopy(innerInterceptors, 0, all, 0, innerInterceptors.length);
+        System.arraycopy(interceptors, 0, all, innerInterceptors.length, interceptors.length);
+        return all;
+    }
+    
+    /**
+     * Lane for a method's calls. Never the server's default executor, which is direct.
+     */
+    private Lane laneFor(MethodDescriptor<?, ?> method) {
+        if (method == HealthServiceGrpc.getPingMethod()) {
+            return pingLane;
+        }
+        if (method == HealthServiceGrpc.getCheckHealthMethod()) {
+            return checkLane;
+        }
+        return serverLane;   // WatchHealth joins, load report streams, maintenance admin RPCs
+    }
+    
+    /**
+     * Fails calls marked by {@link Lane#admit} without running them, and gives the others'
+     * lane slot back when they finish. Registered on the server builder so it runs before
+     * every service's own interceptors.
+     */
+    private ServerInterceptor laneInterceptor() {
+        return new ServerInterceptor() {
+            @Override
+            public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+                    ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+                String full = headers.get(LANE_FULL);
+                if (full != null) {
+                    call.close(Status.RESOURCE_EXHAUSTED.withDescription("Server busy: " + full + " lane is full"),
+                            new Metadata());
+                    return new ServerCall.Listener<>() {
+                    };
+                }
+                Lane lane = laneFor(call.getMethodDescriptor());
+                AtomicBoolean released = new AtomicBoolean();
+                Runnable release = () -> {
+                    if (released.compareAndSet(false, true)) {
+                        lane.release();
+                    }
+                };
+                ServerCall.Listener<ReqT> listener;
+                try {
+                    listener = next.startCall(call, headers);
+                } catch (RuntimeException | Error e) {
+                    release.run();
+                    throw e;
+                }
+                return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(listener) {
+                    @Override
+                    public void onComplete() {
+                        try {
+                            super.onComplete();
+                        } finally {
+                            release.run();
+                        }
+                    }
+                    
+                    @Override
+                    public void onCancel() {
+                        try {
+                            super.onCancel();
+                        } finally {
+                            release.run();
+                        }
+                    }
+                };
+            }
+        };
+    }
+    
+    /**
+     * A fixed pool for one group of methods, admitting at most maxCalls calls at a time (from
+     * {@link #admit} until they complete or are cancelled); further calls are shed. Under
+     * overload work queues up visibly (and is reported) instead of spawning threads without
+     * limit. gRPC keeps at most one task per call in the pool's queue, so a queue bounded at
+     * maxCalls never has to reject the later messages of a call it already admitted.
+     */
+    private static final class Lane {
+        final String name;
+        final Executor executor;
+        final ThreadPoolExecutor pool;    // null for an inline lane
+        final int maxCalls;
+        final AtomicInteger calls = new AtomicInteger();
+        final LongAdder rejected = new LongAdder();
+        
+        Lane(String name, int threads, int maxCalls) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            this.name = name;
+            this.maxCalls = Math.max(1, maxCalls);
+            this.pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(this.maxCalls), r -> {
+                        Thread thread = new Thread(r, name + "-" + threadNumber.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            this.executor = pool;
+        }
+        
+        Lane(String name, Executor inline) {
+            this.name = name;
+            this.executor = inline;
+            this.pool = null;
+            this.maxCalls = Integer.MAX_VALUE;
+        }
+        
+        /**
+         * The executor for a new call, or a direct one with the call marked for shedding when full.
+         */
+        Executor admit(Metadata headers) {
+            headers.discardAll(LANE_FULL);
+            if (calls.incrementAndGet() > maxCalls) {
+                calls.decrementAndGet();
+                rejected.increment();
+                headers.put(LANE_FULL, name);
+                return MoreExecutors.directExecutor();
+            }
+            return executor;
+        }
+        
+        void release() {
+            calls.decrementAndGet();
+        }
+        
+        void shutdown() {
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+    }
+    
+    /**
+     * Port the server is listening on (useful when started on port 0).
+     */
+    public int getPort() {
+        return server.getPort();
+    }
+    
+    /**
+     * Per-method RPC latency, in-flight and status code metrics.
+     */
+    public RpcMetricsInterceptor getRpcMetrics() {
+        return rpcMetrics;
+    }
+    
+    /**
+     * The service behind this server (null until started).
+     */
+    HealthServiceImpl getHealthService() {
+        return healthService;
+    }
+    
     /**
      * Await termination on the main thread since the grpc library uses daemon threads.
      */
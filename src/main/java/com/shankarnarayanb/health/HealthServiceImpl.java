@@ -2,15 +2,23 @@ package com.shankarnarayanb.health;
 
 import com.shankarnarayanb.health.v1.HealthServiceGrpc;
 import com.shankarnarayanb.health.v1.HealthServiceProto.*;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * ╔══════════════════════════════════════════════════════════════════════════════╗
@@ -37,6 +45,14 @@ public class HealthServiceImpl extends HealthServiceGrpc.HealthServiceImplBase {
     private static final String SERVICE_VERSION = "1.0.0";
     private static final int DEFAULT_WATCH_INTERVAL_SECONDS = 30;
     private static final int DEFAULT_HEALTH_CHECK_TIMEOUT_SECONDS = 10;
+    private static final long DEFAULT_MAX_STALE_MS = 30_000;
+
+    /** Same bound as the check metrics, so arbitrary component names can't grow this without limit. */
+    private static final int MAX_COMPONENTS = 256;
+
+    /** Components checked when a request names none. */
+    private static final List<String> DEFAULT_COMPONENTS =
+            List.of("database", "cache", "external-api", JvmHealthChecker.COMPONENT);
 
     // ═══════════════════════════════════════════════════════════════════════════
     // 🔧 INSTANCE VARIABLES AND INITIALIZATION
@@ -45,8 +61,92 @@ public class HealthServiceImpl extends HealthServiceGrpc.HealthServiceImplBase {
     /**
      * Scheduler for the streaming health watch functionality.
      * Used to periodically send health updates to watching clients.
+     * Created on the first watch, so startup doesn't pay for it.
+     * This is the watch lane: group evaluations and their fan-out run on its
+     * health.lane.watch.threads (default 2) threads, apart from the RPC lanes.
+     */
+    private volatile ScheduledExecutorService watchScheduler;
+    private final int watchThreads = Math.max(1, Integer.getInteger("health.lane.watch.threads", 2));
+
+    /**
+     * Active watch groups keyed by component set and interval.
+     * Each group runs one scheduled check and fans the result out to all of its subscribers.
+     */
+    private final Map<String, WatchGroup> watchGroups = new ConcurrentHashMap<>();
+
+    /**
+     * Persistent event log for check results (null when persistence is disabled).
+     */
+    private final HealthEventLog eventLog;
+
+    /**
+     * Last observed status per component (and overall), used to flag transitions.
+     * Seeded from the event log so the first check after a restart is compared
+     * against the state before the restart rather than against nothing.
+     * Holds at most MAX_COMPONENTS names; results of others aren't tracked or logged.
      */
-    private final ScheduledExecutorService watchScheduler = Executors.newScheduledThreadPool(2);
+    private final Map<String, HealthCheckResponse.ServiceStatus> lastKnownStatus = new ConcurrentHashMap<>();
+
+    /**
+     * Latency histograms and outcome counters for checks, RPCs and watch fan-out.
+     */
+    private final HealthMetrics metrics = new HealthMetrics();
+
+    /**
+     * Latest component results: the fallback for checks that aren't admitted, and reused
+     * for admitted ones only when health.check.cacheTtlMs is set.
+     */
+    private final ComponentResultCache resultCache = new ComponentResultCache();
+
+    /**
+     * Sampled, asynchronous per-request log (replaces per-request INFO logging).
+     */
+    private final AccessLog accessLog = new AccessLog();
+
+    // 🧵 Trace spans per RPC, component and dependency (sampled; NOOP spans when not)
+    private final Tracer tracer;
+
+    // ☕ The service's own JVM (GC, heap after GC, threads, deadlocks), sampled in the background
+    // once the "jvm" component is first checked
+    private volatile JvmHealthChecker jvmHealthChecker;
+
+    // 🔥 Server saturation (executor queue, in-flight RPCs, executor lag); null when not wired
+    private final OverloadMonitor overloadMonitor;
+
+    // ⚖️ Per-node load reports for weighted load balancing; null when not wired
+    private final LoadReporter loadReporter;
+
+    // 🚦 Per-client token buckets and a concurrency cap for CheckHealth; rejected calls get
+    // cached results (up to health.admission.maxStaleMs old) or RESOURCE_EXHAUSTED
+    private final AdmissionController admissionController;
+    private final long maxStaleNanos = TimeUnit.MILLISECONDS.toNanos(
+            Long.getLong("health.admission.maxStaleMs", DEFAULT_MAX_STALE_MS));
+
+    // 🐢 Per-component latency objectives (e.g. p99 over 1 minute); breaches warn and cap at DEGRADED
+    private final LatencySlo latencySlo = new LatencySlo();
+
+    // 📈 Per-component EWMA latency baselines; checks far outside them are flagged as anomalies
+    private final LatencyAnomalyDetector latencyAnomalies = new LatencyAnomalyDetector();
+
+    // 💯 0-100 health scores and rolling 1m/5m/1h availability, per component and for the node
+    private final HealthScores healthScores = new HealthScores(latencySlo);
+
+    // 🧮 Criticality, weights and quorum rules that fold component results into the overall status
+    private final StatusPolicy statusPolicy = new StatusPolicy();
+
+    // 🔁 Hysteresis and flap damping: component statuses change only once the new one sticks
+    private final FlapDamper flapDamper = new FlapDamper();
+
+    // 🛠️ Scheduled and ad-hoc maintenance windows (admin RPCs); components in a window aren't probed
+    private final MaintenanceSchedule maintenance = new MaintenanceSchedule();
+
+    // 🚪 Set once the server starts draining: from then on every answer is MAINTENANCE,
+    // and once watch streams are closed new watchers get that answer and an immediate end
+    private volatile MaintenanceInfo draining;
+    private volatile boolean watchStreamsClosed;
+    // Numbers the handoff given to watchers that join after their streams were closed, so a
+    // client reconnecting to this node again recognizes it as already seen and backs off
+    private final long drainEpoch = WatchGroup.newEpoch();
 
     /**
      * Constructor - Initialize any resources needed for health checking.
@@ -54,11 +154,122 @@ public class HealthServiceImpl extends HealthServiceGrpc.HealthServiceImplBase {
      * cache clients, etc. here.
      */
     public HealthServiceImpl() {
+        this(builder());
+    }
+
+    /**
+     * Optional collaborators for the service; anything not set is left out.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private HealthEventLog eventLog;
+        private Tracer tracer = Tracer.disabled();
+        private OverloadMonitor overloadMonitor;
+        private LoadReporter loadReporter;
+        private AdmissionController admissionController;
+
+        private Builder() {
+        }
+
+        /**
+         * Admission control for CheckHealth (default: one configured from system properties).
+         */
+        public Builder admissionController(AdmissionController admissionController) {
+            this.admissionController = admissionController;
+            return this;
+        }
+
+        /**
+         * Persistent event log whose restored state seeds the last known status.
+         */
+        public Builder eventLog(HealthEventLog eventLog) {
+            this.eventLog = eventLog;
+            return this;
+        }
+
+        /**
+         * Tracer for check spans (default: disabled).
+         */
+        public Builder tracer(Tracer tracer) {
+            this.tracer = tracer != null ? tracer : Tracer.disabled();
+            return this;
+        }
+
+        /**
+         * Folds server overload into the overall status.
+         */
+        public Builder overloadMonitor(OverloadMonitor overloadMonitor) {
+            this.overloadMonitor = overloadMonitor;
+            return this;
+        }
+
+        /**
+         * Serves StreamLoadReports.
+         */
+        public Builder loadReporter(LoadReporter loadReporter) {
+            this.loadReporter = loadReporter;
+            return this;
+        }
+
+        public HealthServiceImpl build() {
+            return new HealthServiceImpl(this);
+        }
+    }
+
+    private HealthServiceImpl(Builder builder) {
+        this.eventLog = builder.eventLog;
+        this.tracer = builder.tracer;
+        this.overloadMonitor = builder.overloadMonitor;
+        this.loadReporter = builder.loadReporter;
+        this.admissionController = builder.admissionController != null
+                ? builder.admissionController
+                : new AdmissionController();
+        if (eventLog != null) {
+            restore(eventLog.getRestoredState());
+        }
+
         logger.info("🏥 Health Service Implementation initialized");
         logger.info("   Version: {}", SERVICE_VERSION);
         logger.info("   Ready to accept health check requests");
     }
 
+    /**
+     * Seed the last known status from the event log, and keep recent component results
+     * as the cached fallback for checks that aren't admitted, so a node that just
+     * restarted answers those from its state before the restart instead of rejecting them.
+     */
+    private void restore(Map<String, HealthEventLog.HealthEvent> restored) {
+        long nowMs = System.currentTimeMillis();
+        long nowNanos = System.nanoTime();
+        for (Map.Entry<String, HealthEventLog.HealthEvent> entry : restored.entrySet()) {
+            String component = entry.getKey();
+            HealthEventLog.HealthEvent event = entry.getValue();
+            if (!isTracked(component)) {
+                continue;
+            }
+            lastKnownStatus.put(component, event.status());
+            logger.info("   Restored {} = {} (recorded {})",
+                    component, event.status(), new java.util.Date(event.timestampMs()));
+
+            long ageNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, nowMs - event.timestampMs()));
+            if (component.equals(HealthEventLog.OVERALL) || ageNanos > maxStaleNanos) {
+                continue;
+            }
+            // The log doesn't record dependencies, so the same result stands for both variants
+            ComponentResultCache.Result result = new ComponentResultCache.Result(ComponentHealth.newBuilder()
+                    .setAvailable(event.available())
+                    .setFunctional(event.functional())
+                    .setResponseTimeMs(event.responseTimeMs())
+                    .setLastCheckInfo("Restored from the event log, checked at " + event.timestampMs())
+                    .build(), nowNanos - ageNanos);
+            resultCache.seed(component, false, result);
+            resultCache.seed(component, true, result);
+        }
+    }
+
     // ═══════════════════════════════════════════════════════════════════════════
     // 🎯 CORE gRPC SERVICE METHODS (Implementation of proto service definition)
     // ═══════════════════════════════════════════════════════════════════════════
@@ -74,7 +285,8 @@ public class HealthServiceImpl extends HealthServiceGrpc.HealthServiceImplBase {
      */
     @Override
     public void ping(PingRequest request, StreamObserver<PingResponse> responseObserver) {
-        logger.info("🏓 Received ping request");
+        long startNanos = System.nanoTime();
+        logger.debug("🏓 Received ping request");
 
         try {
             // Build response using protobuf builder pattern
@@ -88,11 +300,13 @@ public class HealthServiceImpl extends HealthServiceGrpc.HealthServiceImplBase {
             responseObserver.onNext(response);      // Send the data
             responseObserver.onCompleted();         // Signal completion
 
-            logger.info("✅ Ping response sent successfully");
+            accessLog.record(AccessLog.Method.PING, 0, System.nanoTime() - startNanos, 0);
 
         } catch (Exception e) {
             logger.error("❌ Error processing ping request", e);
             responseObserver.onError(e);            // Send error to client
+        } finally {
+            metrics.recordMethod("Ping", System.nanoTime() - startNanos);
         }
     }
 
@@ -108,39 +322,62 @@ public class HealthServiceImpl extends HealthServiceGrpc.HealthServiceImplBase {
     @Override
     public void checkHealth(HealthCheckRequest request, StreamObserver<HealthCheckResponse> responseObserver) {
         long startTime = System.currentTimeMillis();
-        logger.info("🏥 Received health check request");
-        logger.info("   Components requested: {}", request.getComponentsList());
-        logger.info("   Include dependencies: {}", request.getIncludeDependencies());
-        logger.info("   Timeout: {}s", request.getTimeoutSeconds());
+        long startNanos = System.nanoTime();
+        // Per-request detail is DEBUG only; the sampled access log covers normal operation
+        if (logger.isDebugEnabled()) {
+            logger.debug("🏥 Received health check request: components={}, includeDependencies={}, timeout={}s",
+                    request.getComponentsList(), request.getIncludeDependencies(), request.getTimeoutSeconds());
+        }
 
-        try {
-            // STEP 1: Determine which components to check
-            Map<String, ComponentHealth> componentHealthMap = checkRequestedComponents(request);
+        // A draining node, or one in a node-wide maintenance window, answers MAINTENANCE without checking anything
+        MaintenanceInfo drainInfo = draining;
+        MaintenanceWindow nodeWindow = drainInfo == null ? maintenance.activeNodeWindow(startTime) : null;
+        if (drainInfo != null || nodeWindow != null) {
+            if (nodeWindow != null) {
+                recordOverall(HealthCheckResponse.ServiceStatus.MAINTENANCE, 0);
+            }
+            responseObserver.onNext(maintenanceResponse(drainInfo != null ? drainInfo : nodeWindow.getInfo()));
+            responseObserver.onCompleted();
+            long elapsedNanos = System.nanoTime() - startNanos;
+            metrics.recordMethod("CheckHealth", elapsedNanos);
+            accessLog.record(AccessLog.Method.CHECK_HEALTH, HealthCheckResponse.ServiceStatus.MAINTENANCE_VALUE,
+                    elapsedNanos, 0);
+            return;
+        }
 
-            // STEP 2: Determine overall service status based on component health
-            HealthCheckResponse.ServiceStatus overallStatus = determineOverallStatus(componentHealthMap);
+        // STEP 0: Admission control - shed excess load before doing any checking
+        AdmissionController.Decision decision =
+                admissionController.tryAdmit(AdmissionController.currentClient(), request.getIncludeDependencies());
+        if (decision != AdmissionController.Decision.ADMITTED) {
+            rejectCheckHealth(request, decision, responseObserver, startNanos);
+            return;
+        }
 
-            // STEP 3: Calculate check duration
+        try {
+            // STEP 1: Determine which components to check (as children of this RPC's span, if sampled),
+            // skipping those in a maintenance window
+            Map<String, MaintenanceWindow> inMaintenance = componentsInMaintenance(request, startTime);
+            StatusPolicy.Evaluation evaluation = statusPolicy.newEvaluation();
+            Map<String, ComponentHealth> componentHealthMap =
+                    checkRequestedComponents(request, inMaintenance, evaluation, Tracer.current());
+
+            // STEP 2: Determine overall service status based on component health, latency objectives,
+            // maintenance and server load, and build the response around it
             long duration = System.currentTimeMillis() - startTime;
+            HealthCheckResponse response =
+                    buildResponse(componentHealthMap, inMaintenance, evaluation, startTime, duration).build();
+            HealthCheckResponse.ServiceStatus overallStatus = response.getOverallStatus();
 
-            // STEP 4: Build comprehensive response
-            HealthCheckResponse.Builder responseBuilder = HealthCheckResponse.newBuilder()
-                    .setOverallStatus(overallStatus)
-                    .putAllComponents(componentHealthMap)   // Map becomes protobuf map
-                    .setTotalCheckDurationMs(duration);
-
-            // STEP 5: Add error message if service is unhealthy
-            if (overallStatus == HealthCheckResponse.ServiceStatus.UNHEALTHY) {
-                responseBuilder.setErrorMessage("One or more critical components are unhealthy");
-            }
-
-            HealthCheckResponse response = responseBuilder.build();
+            // STEP 3: Record results and status transitions
+            recordResults(componentHealthMap, overallStatus, duration);
+            recordMaintenance(inMaintenance);
 
-            // STEP 6: Send response to client
+            // STEP 4: Send response to client
             responseObserver.onNext(response);
             responseObserver.onCompleted();
 
-            logger.info("✅ Health check completed in {}ms with status: {}", duration, overallStatus);
+            accessLog.record(AccessLog.Method.CHECK_HEALTH, overallStatus.getNumber(),
+                    System.nanoTime() - startNanos, componentHealthMap.size());
 
         } catch (Exception e) {
             long duration = System.currentTimeMillis() - startTime;
@@ -155,6 +392,9 @@ public class HealthServiceImpl extends HealthServiceGrpc.HealthServiceImplBase {
 
             responseObserver.onNext(errorResponse);
             responseObserver.onCompleted();
+        } finally {
+            admissionController.release();
+            metrics.recordMethod("CheckHealth", System.nanoTime() - startNanos);
         }
     }
 
@@ -173,36 +413,117 @@ public class HealthServiceImpl extends HealthServiceGrpc.HealthServiceImplBase {
                 ? request.getIntervalSeconds()
                 : DEFAULT_WATCH_INTERVAL_SECONDS;
 
-        logger.info("👀 Starting health watch stream");
-        logger.info("   Components to watch: {}", request.getComponentsList());
-        logger.info("   Interval: {}s", intervalSeconds);
+        ServerCallStreamObserver<HealthCheckResponse> subscriber =
+                (ServerCallStreamObserver<HealthCheckResponse>) responseObserver;
+        String key = WatchGroup.keyOf(request, intervalSeconds);
+
+        // Too late to join: the server is about to stop, so hand over the final state and end
+        MaintenanceInfo drainInfo = draining;
+        if (drainInfo != null && watchStreamsClosed) {
+            responseObserver.onNext(maintenanceResponse(drainInfo).toBuilder()
+                    .setWatchEpoch(drainEpoch)
+                    .setSequenceNumber(1)
+                    .build());
+            responseObserver.onCompleted();
+            return;
+        }
 
-        // Schedule periodic health checks using the scheduler
-        watchScheduler.scheduleAtFixedRate(() -> {
-            try {
-                // Create a health check request based on the watch request
-                HealthCheckRequest healthRequest = buildHealthCheckRequest(request);
+        logger.debug("👀 Starting health watch stream for group {}", key);
+
+        // Join (or create) the group for this component set and interval.
+        // compute() serializes joins and leaves for the same key.
+        WatchGroup group = watchGroups.compute(key, (k, existing) -> {
+            WatchGroup g = existing != null ? existing : new WatchGroup(k, request, intervalSeconds);
+            g.add(subscriber);
+            if (existing == null) {
+                g.setTask(watchScheduler().scheduleAtFixedRate(
+                        () -> evaluateWatchGroup(g), 0, intervalSeconds, TimeUnit.SECONDS));
+                logger.debug("Created watch group {}", k);
+            }
+            return g;
+        });
 
-                // Perform health check and get result
-                HealthCheckResponse healthUpdate = performHealthCheckSync(healthRequest);
+        subscriber.setOnCancelHandler(() -> leaveWatchGroup(key, subscriber));
+        accessLog.record(AccessLog.Method.WATCH_HEALTH, 0, 0, group.getSubscriberCount());
 
-                // Send update to watching client
-                responseObserver.onNext(healthUpdate);
+        // A reconnecting client gets the current state immediately instead of waiting a full interval
+        group.catchUp(subscriber, request);
 
-                logger.debug("📡 Sent health update to watching client: {}",
-                        healthUpdate.getOverallStatus());
+        // NOTE: We don't call responseObserver.onCompleted() here!
+        // The stream stays open and keeps receiving group updates until:
+        // 1. Client disconnects (cancel handler removes it from the group)
+        // 2. Server drains (completeWatchStreams() ends every stream cleanly)
+    }
 
-            } catch (Exception e) {
-                logger.error("❌ Error in health watch periodic check", e);
-                responseObserver.onError(e);  // This will end the stream
-            }
-        }, 0, intervalSeconds, TimeUnit.SECONDS);
+    /**
+     * ⚖️ STREAM LOAD REPORTS METHOD - Out-of-band Load Reporting
+     *
+     * Purpose: Push CPU, memory, in-flight, QPS and error rate to load balancers on a cadence.
+     * Use case: Weighted round-robin clients that weigh nodes by real load, not a healthy flag.
+     * The same report is attached as a trailer to every RPC.
+     *
+     * gRPC Pattern: Server-side streaming RPC
+     */
+    @Override
+    public void streamLoadReports(LoadReportRequest request, StreamObserver<LoadReport> responseObserver) {
+        if (loadReporter == null) {
+            responseObserver.onError(Status.UNIMPLEMENTED
+                    .withDescription("Load reporting is not enabled on this server")
+                    .asRuntimeException());
+            return;
+        }
+        loadReporter.stream(request, (ServerCallStreamObserver<LoadReport>) responseObserver);
+    }
 
-        // NOTE: We don't call responseObserver.onCompleted() here!
-        // The stream stays open and keeps sending updates until:
-        // 1. Client disconnects
-        // 2. An error occurs
-        // 3. Server shuts down
+    /**
+     * 🛠️ MAINTENANCE ADMIN METHODS - Set, Clear and List Maintenance Windows
+     *
+     * Purpose: Announce planned work on a component or the whole node.
+     * While a window is active the affected components are not probed at all, and
+     * responses report MAINTENANCE with the window's start, end and reason.
+     * Watchers are re-evaluated right away instead of at their next tick.
+     *
+     * gRPC Pattern: Unary RPCs
+     */
+    @Override
+    public void setMaintenance(SetMaintenanceRequest request, StreamObserver<MaintenanceWindow> responseObserver) {
+        MaintenanceWindow stored;
+        try {
+            stored = maintenance.set(request.getWindow(), System.currentTimeMillis());
+        } catch (IllegalArgumentException e) {
+            responseObserver.onError(Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException());
+            return;
+        } catch (IllegalStateException e) {
+            responseObserver.onError(Status.RESOURCE_EXHAUSTED.withDescription(e.getMessage()).asRuntimeException());
+            return;
+        }
+        responseObserver.onNext(stored);
+        responseObserver.onCompleted();
+        refreshWatchGroupsAt(stored.getInfo().getStartTime());
+        if (stored.getInfo().getEstimatedEndTime() != 0) {
+            refreshWatchGroupsAt(stored.getInfo().getEstimatedEndTime());
+        }
+    }
+
+    @Override
+    public void clearMaintenance(ClearMaintenanceRequest request,
+                                 StreamObserver<MaintenanceWindowList> responseObserver) {
+        List<MaintenanceWindow> removed =
+                maintenance.clear(request.getId(), request.getComponent(), System.currentTimeMillis());
+        responseObserver.onNext(MaintenanceWindowList.newBuilder().addAllWindows(removed).build());
+        responseObserver.onCompleted();
+        if (!removed.isEmpty()) {
+            refreshWatchGroups();
+        }
+    }
+
+    @Override
+    public void listMaintenance(ListMaintenanceRequest request,
+                                StreamObserver<MaintenanceWindowList> responseObserver) {
+        responseObserver.onNext(MaintenanceWindowList.newBuilder()
+                .addAllWindows(maintenance.list(System.currentTimeMillis()))
+                .build());
+        responseObserver.onCompleted();
     }
 
     // ═══════════════════════════════════════════════════════════════════════════
@@ -211,28 +532,165 @@ public class HealthServiceImpl extends HealthServiceGrpc.HealthServiceImplBase {
 
     /**
      * Check the components requested by the client.
-     * This method orchestrates the checking of individual components.
+     * This method orchestrates the checking of individual components, folding each
+     * result into {@code evaluation} as it arrives.
      */
-    private Map<String, ComponentHealth> checkRequestedComponents(HealthCheckRequest request) {
+    private Map<String, ComponentHealth> checkRequestedComponents(HealthCheckRequest request,
+                                                                  Map<String, MaintenanceWindow> inMaintenance,
+                                                                  StatusPolicy.Evaluation evaluation,
+                                                                  Span parentSpan) {
         Map<String, ComponentHealth> componentHealthMap = new HashMap<>();
+        long timeoutNanos = TimeUnit.SECONDS.toNanos(request.getTimeoutSeconds() > 0
+                ? request.getTimeoutSeconds()
+                : DEFAULT_HEALTH_CHECK_TIMEOUT_SECONDS);
+
+        // Check specific components requested by client, or all default components if none,
+        // reporting each at its stable (damped) status with its current score
+        for (String component : componentsOf(request)) {
+            if (inMaintenance.containsKey(component)) {
+                evaluation.addMaintenance(component);
+            } else {
+                ComponentHealth checked =
+                        checkComponentCached(component, request.getIncludeDependencies(), timeoutNanos, parentSpan);
+                long nowMs = System.currentTimeMillis();
+                ComponentHealth health =
+                        healthScores.apply(component, flapDamper.apply(component, checked, nowMs), nowMs);
+                componentHealthMap.put(component, health);
+                evaluation.add(component, health);
+            }
+        }
+
+        return componentHealthMap;
+    }
+
+    private static List<String> componentsOf(HealthCheckRequest request) {
+        return request.getComponentsList().isEmpty() ? DEFAULT_COMPONENTS : request.getComponentsList();
+    }
 
-        if (!request.getComponentsList().isEmpty()) {
-            // Check specific components requested by client
-            for (String component : request.getComponentsList()) {
-                componentHealthMap.put(component,
-                        checkSingleComponentHealth(component, request.getIncludeDependencies()));
+    /**
+     * Answer a CheckHealth that was not admitted. If every requested component has a
+     * cached result that is not too stale, reply with those (marked with a warning);
+     * otherwise fail fast with RESOURCE_EXHAUSTED so the client backs off.
+     */
+    private void rejectCheckHealth(HealthCheckRequest request, AdmissionController.Decision decision,
+                                   StreamObserver<HealthCheckResponse> responseObserver, long startNanos) {
+        String reason = decision == AdmissionController.Decision.RATE_LIMITED
+                ? "client rate limit exceeded"
+                : "too many concurrent health checks";
+        long now = System.nanoTime();
+        long oldestNanos = now;
+        long nowMs = System.currentTimeMillis();
+        Map<String, MaintenanceWindow> inMaintenance = componentsInMaintenance(request, nowMs);
+        Map<String, ComponentHealth> cachedResults = new HashMap<>();
+        StatusPolicy.Evaluation evaluation = statusPolicy.newEvaluation();
+        for (String component : componentsOf(request)) {
+            if (inMaintenance.containsKey(component)) {
+                evaluation.addMaintenance(component);
+                continue;
             }
+            ComponentResultCache.Result cached = resultCache.latest(component, request.getIncludeDependencies());
+            if (cached == null || cached.ageNanos(now) > maxStaleNanos) {
+                cachedResults = null;
+                break;
+            }
+            ComponentHealth health =
+                    healthScores.apply(component, flapDamper.apply(component, cached.health(), nowMs), nowMs);
+            cachedResults.put(component, health);
+            evaluation.add(component, health);
+            oldestNanos = Math.min(oldestNanos, cached.checkedAtNanos());
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        metrics.recordMethod("CheckHealth", elapsedNanos);
+        if (cachedResults == null) {
+            logger.debug("🚦 Rejected health check from {}: {}", AdmissionController.currentClient(), reason);
+            accessLog.record(AccessLog.Method.CHECK_HEALTH, 0, elapsedNanos, 0);
+            responseObserver.onError(Status.RESOURCE_EXHAUSTED
+                    .withDescription("Health check rejected: " + reason)
+                    .asRuntimeException());
+            return;
+        }
+
+        admissionController.recordServedFromCache();
+        HealthCheckResponse response = buildResponse(cachedResults, inMaintenance, evaluation, nowMs,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                .addWarnings("Served cached results (" + reason + "); up to "
+                        + TimeUnit.NANOSECONDS.toMillis(now - oldestNanos) + "ms old")
+                .build();
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+        accessLog.record(AccessLog.Method.CHECK_HEALTH, response.getOverallStatusValue(), elapsedNanos,
+                cachedResults.size());
+    }
+
+    /**
+     * Serve a component result from the cache if reuse is on and it is fresh, otherwise
+     * run the check and record its latency and outcome. A check that outlives the request
+     * timeout is counted as a timeout.
+     */
+    private ComponentHealth checkComponentCached(String componentName, boolean includeDependencies,
+                                                 long timeoutNanos, Span parentSpan) {
+        ComponentResultCache.Result cached = resultCache.fresh(componentName, includeDependencies, System.nanoTime());
+        if (cached != null) {
+            metrics.recordCacheHit(componentName);
+            tracer.startChild(parentSpan, "component.cached", componentName)
+                    .setStatus(statusOf(cached.health()).name())
+                    .end();
+            return cached.health();
+        }
+
+        JfrEvents.ComponentCheck checkEvent = new JfrEvents.ComponentCheck();
+        checkEvent.begin();
+
+        Span span = tracer.startChild(parentSpan, "component", componentName);
+        long startNanos = System.nanoTime();
+        ComponentHealth health = checkSingleComponentHealth(componentName, includeDependencies, span);
+        long endNanos = System.nanoTime();
+        checkEvent.end();
+
+        HealthMetrics.Outcome outcome;
+        if (endNanos - startNanos > timeoutNanos) {
+            outcome = HealthMetrics.Outcome.TIMEOUT;
+        } else if (health.getAvailable() && health.getFunctional()) {
+            outcome = HealthMetrics.Outcome.SUCCESS;
         } else {
-            // No specific components requested - check all default components
-            componentHealthMap.put("database",
-                    checkSingleComponentHealth("database", request.getIncludeDependencies()));
-            componentHealthMap.put("cache",
-                    checkSingleComponentHealth("cache", request.getIncludeDependencies()));
-            componentHealthMap.put("external-api",
-                    checkSingleComponentHealth("external-api", request.getIncludeDependencies()));
+            outcome = HealthMetrics.Outcome.FAILURE;
+        }
+        metrics.recordComponentCheck(componentName, endNanos - startNanos, outcome);
+        flapDamper.observe(componentName, statusOf(health), System.currentTimeMillis());
+        healthScores.recordComponent(componentName, statusOf(health), System.currentTimeMillis());
+        // A component may know its dependency's latency better than the wall time of the check itself
+        long latencyNanos = Math.max(endNanos - startNanos, TimeUnit.MILLISECONDS.toNanos(health.getResponseTimeMs()));
+        latencySlo.record(componentName, latencyNanos, System.currentTimeMillis());
+        String anomaly = latencyAnomalies.record(componentName, latencyNanos);
+        if (anomaly != null) {
+            health = health.toBuilder()
+                    .setLastCheckInfo(health.hasLastCheckInfo() ? anomaly + "; " + health.getLastCheckInfo() : anomaly)
+                    .build();
+        }
+        span.setStatus(outcome == HealthMetrics.Outcome.TIMEOUT ? outcome.name() : statusOf(health).name()).end();
+
+        if (checkEvent.shouldCommit()) {
+            checkEvent.component = componentName;
+            checkEvent.includeDependencies = includeDependencies;
+            checkEvent.outcome = outcome.name();
+            checkEvent.status = statusOf(health).name();
+            checkEvent.commit();
         }
 
-        return componentHealthMap;
+        JfrEvents.CacheRefresh refreshEvent = new JfrEvents.CacheRefresh();
+        refreshEvent.begin();
+        ComponentResultCache.Result previous = resultCache.latest(componentName, includeDependencies);
+        resultCache.put(componentName, includeDependencies, new ComponentResultCache.Result(health, endNanos));
+        refreshEvent.end();
+        // Every check stores its result (rejected checks fall back on it), whether or not reuse is on
+        if (refreshEvent.shouldCommit()) {
+            refreshEvent.component = componentName;
+            refreshEvent.hadPrevious = previous != null;
+            refreshEvent.previousAgeNanos = previous != null ? previous.ageNanos(endNanos) : 0;
+            refreshEvent.commit();
+        }
+        return health;
     }
 
     /**
@@ -246,7 +704,7 @@ public class HealthServiceImpl extends HealthServiceGrpc.HealthServiceImplBase {
      * - File system access and disk space
      * - Memory usage and CPU load
      */
-    private ComponentHealth checkSingleComponentHealth(String componentName, boolean includeDependencies) {
+    private ComponentHealth checkSingleComponentHealth(String componentName, boolean includeDependencies, Span span) {
         logger.debug("🔍 Checking health of component: {}", componentName);
 
         try {
@@ -255,13 +713,16 @@ public class HealthServiceImpl extends HealthServiceGrpc.HealthServiceImplBase {
             // Route to specific component health check implementation
             switch (componentName.toLowerCase()) {
                 case "database":
-                    return checkDatabaseComponentHealth(healthBuilder, includeDependencies);
+                    return checkDatabaseComponentHealth(healthBuilder, includeDependencies, span);
 
                 case "cache":
-                    return checkCacheComponentHealth(healthBuilder, includeDependencies);
+                    return checkCacheComponentHealth(healthBuilder, includeDependencies, span);
 
                 case "external-api":
-                    return checkExternalApiComponentHealth(healthBuilder, includeDependencies);
+                    return checkExternalApiComponentHealth(healthBuilder, includeDependencies, span);
+
+                case JvmHealthChecker.COMPONENT:
+                    return getJvmHealthChecker().check();
 
                 default:
                     return checkUnknownComponentHealth(componentName, healthBuilder);
@@ -279,30 +740,149 @@ public class HealthServiceImpl extends HealthServiceGrpc.HealthServiceImplBase {
         }
     }
 
+    /**
+     * The one place a response is assembled from component results, for CheckHealth, its
+     * admission fallback and watch evaluations alike: the overall status (policy, including
+     * maintenance windows, then latency objectives and server load), score, availability,
+     * warnings and, when UNHEALTHY, the reason.
+     */
+    private HealthCheckResponse.Builder buildResponse(Map<String, ComponentHealth> componentHealthMap,
+                                                      Map<String, MaintenanceWindow> inMaintenance,
+                                                      StatusPolicy.Evaluation evaluation,
+                                                      long nowMs, long durationMs) {
+        List<String> latencyWarnings = latencySlo.warnings(componentHealthMap.keySet(), nowMs);
+        HealthCheckResponse.ServiceStatus overallStatus =
+                applyOverload(applyLatencySlo(determineOverallStatus(evaluation), latencyWarnings));
+
+        HealthCheckResponse.Builder responseBuilder = HealthCheckResponse.newBuilder()
+                .setOverallStatus(overallStatus)
+                .putAllComponents(componentHealthMap)   // Map becomes protobuf map
+                .setTotalCheckDurationMs(durationMs)
+                .setHealthScore(nodeScore(overallStatus, evaluation))
+                .setAvailability(healthScores.nodeAvailability(System.currentTimeMillis()))
+                .addAllWarnings(evaluation.getWarnings())
+                .addAllWarnings(latencyWarnings);
+        addMaintenance(responseBuilder, inMaintenance);
+        addOverloadWarnings(responseBuilder);
+
+        // Add error message if service is unhealthy
+        if (overallStatus == HealthCheckResponse.ServiceStatus.UNHEALTHY) {
+            responseBuilder.setErrorMessage(evaluation.unhealthyReason());
+        }
+        return responseBuilder;
+    }
+
     /**
      * Determine overall service status based on individual component health.
      * Business logic: How do you want to aggregate component health into overall status?
+     *
+     * The {@link StatusPolicy} decides: critical components can make the service UNHEALTHY
+     * on their own, optional ones only warn, replicas count through quorum rules, and the
+     * rest are weighed against each other. Components in maintenance windows go through the
+     * same rules as planned outages. The results were folded in as they arrived.
+     */
+    private static HealthCheckResponse.ServiceStatus determineOverallStatus(StatusPolicy.Evaluation evaluation) {
+        return evaluation.status();
+    }
+
+    /**
+     * The node's 0-100 score: folded from its components, or 0 when it can't serve.
+     */
+    private static double nodeScore(HealthCheckResponse.ServiceStatus overallStatus,
+                                    StatusPolicy.Evaluation evaluation) {
+        if (overallStatus == HealthCheckResponse.ServiceStatus.UNHEALTHY
+                || overallStatus == HealthCheckResponse.ServiceStatus.MAINTENANCE) {
+            return 0;
+        }
+        return evaluation.score();
+    }
+
+    /**
+     * A component over its latency objective makes the service at best DEGRADED.
+     */
+    private static HealthCheckResponse.ServiceStatus applyLatencySlo(HealthCheckResponse.ServiceStatus status,
+                                                                     List<String> latencyWarnings) {
+        if (!latencyWarnings.isEmpty() && status == HealthCheckResponse.ServiceStatus.HEALTHY) {
+            return HealthCheckResponse.ServiceStatus.DEGRADED;
+        }
+        return status;
+    }
+
+    /**
+     * A saturated server is at best DEGRADED, however healthy its components are,
+     * so load balancers shift traffic to cooler nodes.
      */
-    private HealthCheckResponse.ServiceStatus determineOverallStatus(Map<String, ComponentHealth> componentHealth) {
-        boolean allHealthy = true;
-        boolean anyAvailable = false;
+    private HealthCheckResponse.ServiceStatus applyOverload(HealthCheckResponse.ServiceStatus status) {
+        if (overloadMonitor != null && overloadMonitor.isOverloaded()
+                && status == HealthCheckResponse.ServiceStatus.HEALTHY) {
+            return HealthCheckResponse.ServiceStatus.DEGRADED;
+        }
+        return status;
+    }
 
-        for (ComponentHealth health : componentHealth.values()) {
-            if (health.getAvailable()) {
-                anyAvailable = true;
+    /**
+     * Requested components with an active maintenance window, in request order; empty (and
+     * allocation-free) when none are in maintenance.
+     */
+    private Map<String, MaintenanceWindow> componentsInMaintenance(HealthCheckRequest request, long nowMs) {
+        Map<String, MaintenanceWindow> inMaintenance = Collections.emptyMap();
+        for (String component : componentsOf(request)) {
+            MaintenanceWindow window = maintenance.activeWindow(component, nowMs);
+            if (window != null) {
+                if (inMaintenance.isEmpty()) {
+                    inMaintenance = new LinkedHashMap<>();
+                }
+                inMaintenance.put(component, window);
             }
-            if (!health.getFunctional()) {
-                allHealthy = false;
+        }
+        return inMaintenance;
+    }
+
+    /**
+     * Report each component in maintenance straight from its window, and the first window as maintenance_info.
+     */
+    private static void addMaintenance(HealthCheckResponse.Builder responseBuilder,
+                                       Map<String, MaintenanceWindow> inMaintenance) {
+        for (Map.Entry<String, MaintenanceWindow> entry : inMaintenance.entrySet()) {
+            MaintenanceInfo info = entry.getValue().getInfo();
+            if (!responseBuilder.hasMaintenanceInfo()) {
+                responseBuilder.setMaintenanceInfo(info);
             }
+            responseBuilder.putComponents(entry.getKey(), ComponentHealth.newBuilder()
+                    .setAvailable(false)
+                    .setFunctional(false)
+                    .setErrorDetails("In maintenance: " + info.getReason())
+                    .setLastCheckInfo("Maintenance window " + entry.getValue().getId() + " from " + info.getStartTime()
+                            + (info.getEstimatedEndTime() != 0 ? " until " + info.getEstimatedEndTime() : " until cleared")
+                            + "; not probed")
+                    .build());
         }
+    }
 
-        // Business logic for status determination:
-        if (allHealthy) {
+    private static HealthCheckResponse maintenanceResponse(MaintenanceInfo info) {
+        return HealthCheckResponse.newBuilder()
+                .setOverallStatus(HealthCheckResponse.ServiceStatus.MAINTENANCE)
+                .setMaintenanceInfo(info)
+                .setErrorMessage(info.getReason())
+                .build();
+    }
+
+    private void addOverloadWarnings(HealthCheckResponse.Builder responseBuilder) {
+        if (overloadMonitor != null) {
+            responseBuilder.addAllWarnings(overloadMonitor.getWarnings());
+        }
+    }
+
+    /**
+     * Map a component's availability flags onto the service status scale.
+     */
+    static HealthCheckResponse.ServiceStatus statusOf(ComponentHealth health) {
+        if (health.getAvailable() && health.getFunctional()) {
             return HealthCheckResponse.ServiceStatus.HEALTHY;
-        } else if (anyAvailable) {
-            return HealthCheckResponse.ServiceStatus.DEGRADED;  // Some components working
+        } else if (health.getAvailable()) {
+            return HealthCheckResponse.ServiceStatus.DEGRADED;
         } else {
-            return HealthCheckResponse.ServiceStatus.UNHEALTHY;  // Nothing working
+            return HealthCheckResponse.ServiceStatus.UNHEALTHY;
         }
     }
 
@@ -310,6 +890,156 @@ public class HealthServiceImpl extends HealthServiceGrpc.HealthServiceImplBase {
     // 🔧 HELPER AND UTILITY METHODS
     // ═══════════════════════════════════════════════════════════════════════════
 
+    /**
+     * Track status transitions and hand results to the event log.
+     * Only enqueues - the log's writer thread does the actual I/O.
+     */
+    private void recordResults(Map<String, ComponentHealth> componentHealthMap,
+                               HealthCheckResponse.ServiceStatus overallStatus, long durationMs) {
+        for (Map.Entry<String, ComponentHealth> entry : componentHealthMap.entrySet()) {
+            if (!isTracked(entry.getKey())) {
+                continue;
+            }
+            HealthCheckResponse.ServiceStatus status = statusOf(entry.getValue());
+            boolean transition = lastKnownStatus.put(entry.getKey(), status) != status;
+            if (transition) {
+                logger.info("🔀 Component {} is now {}", entry.getKey(), status);
+            }
+            if (eventLog != null) {
+                eventLog.append(entry.getKey(), entry.getValue(), transition);
+            }
+        }
+
+        recordOverall(overallStatus, durationMs);
+    }
+
+    private void recordOverall(HealthCheckResponse.ServiceStatus overallStatus, long durationMs) {
+        healthScores.recordNode(overallStatus, System.currentTimeMillis());
+        boolean transition = lastKnownStatus.put(HealthEventLog.OVERALL, overallStatus) != overallStatus;
+        if (eventLog != null) {
+            eventLog.appendOverall(overallStatus, durationMs, transition);
+        }
+    }
+
+    /**
+     * Whether a component's status is (or can still be) tracked; the overall status always is.
+     */
+    private boolean isTracked(String component) {
+        return lastKnownStatus.size() < MAX_COMPONENTS || lastKnownStatus.containsKey(component)
+                || component.equals(HealthEventLog.OVERALL);
+    }
+
+    /**
+     * Components in maintenance weren't checked, so only their status is tracked, not results.
+     */
+    private void recordMaintenance(Map<String, MaintenanceWindow> inMaintenance) {
+        for (String component : inMaintenance.keySet()) {
+            if (isTracked(component) && lastKnownStatus.put(component, HealthCheckResponse.ServiceStatus.MAINTENANCE)
+                    != HealthCheckResponse.ServiceStatus.MAINTENANCE) {
+                logger.info("🛠️ Component {} is now MAINTENANCE", component);
+            }
+        }
+    }
+
+    /**
+     * Run one scheduled evaluation for a watch group and publish it to every subscriber.
+     * Errors are logged and the tick skipped; the stream stays open for the next tick.
+     */
+    private void evaluateWatchGroup(WatchGroup group) {
+        JfrEvents.WatchGroupEvaluation event = new JfrEvents.WatchGroupEvaluation();
+        event.begin();
+        // Scheduled evaluations have no incoming RPC, so each sampled one starts its own trace
+        Span span = tracer.startRoot("watch.evaluate", group.getKey());
+        long startNanos = System.nanoTime();
+        try {
+            // Create a health check request based on the watch request
+            HealthCheckRequest healthRequest = buildHealthCheckRequest(group.getRequest());
+
+            // Perform health check once for the whole group
+            HealthCheckResponse healthUpdate = performHealthCheckSync(healthRequest, span);
+            MaintenanceInfo drainInfo = draining;
+            if (drainInfo != null) {
+                // Drain started while this tick was checking; don't overwrite MAINTENANCE with a stale result
+                healthUpdate = maintenanceResponse(drainInfo);
+            }
+            long checkedNanos = System.nanoTime();
+
+            // Fan out to all watching clients
+            int delivered = group.publish(healthUpdate);
+            long endNanos = System.nanoTime();
+            metrics.recordWatchFanOut(endNanos - startNanos, delivered);
+            span.setStatus(healthUpdate.getOverallStatus().name()).end();
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.group = group.getKey();
+                event.subscribers = group.getSubscriberCount();
+                event.delivered = delivered;
+                event.checkNanos = checkedNanos - startNanos;
+                event.fanOutNanos = endNanos - checkedNanos;
+                event.messageBytes = healthUpdate.getSerializedSize();
+                event.status = healthUpdate.getOverallStatus().name();
+                event.commit();
+            }
+
+            logger.debug("📡 Sent health update {} to {}/{} watchers of {}",
+                    healthUpdate.getOverallStatus(), delivered, group.getSubscriberCount(), group.getKey());
+
+        } catch (Exception e) {
+            logger.error("❌ Error in health watch periodic check for group {}", group.getKey(), e);
+            span.setStatus("ERROR").end();
+        }
+    }
+
+    /**
+     * Evaluate every watch group at {@code epochMs} (now if it has passed), so watchers see a
+     * maintenance window start and end on time rather than at their next tick.
+     */
+    private void refreshWatchGroupsAt(long epochMs) {
+        long delayMs = epochMs - System.currentTimeMillis();
+        ScheduledExecutorService scheduler = watchScheduler;
+        if (delayMs <= 0 || scheduler == null) {
+            refreshWatchGroups();
+            return;
+        }
+        try {
+            scheduler.schedule(this::refreshWatchGroups, delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // shutting down
+        }
+    }
+
+    /**
+     * Evaluate every watch group now, off its schedule, e.g. after maintenance changes.
+     */
+    private void refreshWatchGroups() {
+        ScheduledExecutorService scheduler = watchScheduler;
+        if (scheduler == null) {
+            return;
+        }
+        for (WatchGroup group : watchGroups.values()) {
+            try {
+                scheduler.execute(() -> evaluateWatchGroup(group));
+            } catch (RejectedExecutionException e) {
+                return;     // shutting down
+            }
+        }
+    }
+
+    /**
+     * Remove a cancelled subscriber and stop the group's task once it is empty.
+     */
+    private void leaveWatchGroup(String key, ServerCallStreamObserver<HealthCheckResponse> subscriber) {
+        watchGroups.computeIfPresent(key, (k, group) -> {
+            if (group.remove(subscriber)) {
+                group.cancel();
+                logger.debug("Removed empty watch group {}", k);
+                return null;
+            }
+            return group;
+        });
+    }
+
     /**
      * Convert a HealthWatchRequest into a HealthCheckRequest for reuse of logic.
      */
@@ -325,18 +1055,28 @@ public class HealthServiceImpl extends HealthServiceGrpc.HealthServiceImplBase {
      * Perform a synchronous health check and return the result.
      * This is a wrapper around the async checkHealth method for internal use.
      */
-    private HealthCheckResponse performHealthCheckSync(HealthCheckRequest request) {
+    private HealthCheckResponse performHealthCheckSync(HealthCheckRequest request, Span parentSpan) {
+        MaintenanceInfo drainInfo = draining;
+        if (drainInfo != null) {
+            return maintenanceResponse(drainInfo);
+        }
         long startTime = System.currentTimeMillis();
+        MaintenanceWindow nodeWindow = maintenance.activeNodeWindow(startTime);
+        if (nodeWindow != null) {
+            recordOverall(HealthCheckResponse.ServiceStatus.MAINTENANCE, 0);
+            return maintenanceResponse(nodeWindow.getInfo());
+        }
 
-        Map<String, ComponentHealth> componentHealthMap = checkRequestedComponents(request);
-        HealthCheckResponse.ServiceStatus overallStatus = determineOverallStatus(componentHealthMap);
+        Map<String, MaintenanceWindow> inMaintenance = componentsInMaintenance(request, startTime);
+        StatusPolicy.Evaluation evaluation = statusPolicy.newEvaluation();
+        Map<String, ComponentHealth> componentHealthMap =
+                checkRequestedComponents(request, inMaintenance, evaluation, parentSpan);
         long duration = System.currentTimeMillis() - startTime;
-
-        return HealthCheckResponse.newBuilder()
-                .setOverallStatus(overallStatus)
-                .putAllComponents(componentHealthMap)
-                .setTotalCheckDurationMs(duration)
-                .build();
+        HealthCheckResponse response =
+                buildResponse(componentHealthMap, inMaintenance, evaluation, startTime, duration).build();
+        recordResults(componentHealthMap, response.getOverallStatus(), duration);
+        recordMaintenance(inMaintenance);
+        return response;
     }
 
     // ═══════════════════════════════════════════════════════════════════════════
@@ -348,7 +1088,8 @@ public class HealthServiceImpl extends HealthServiceGrpc.HealthServiceImplBase {
      * 🗄️ DATABASE HEALTH CHECK
      * TODO: Implement actual database connectivity and query testing
      */
-    private ComponentHealth checkDatabaseComponentHealth(ComponentHealth.Builder healthBuilder, boolean includeDependencies) {
+    private ComponentHealth checkDatabaseComponentHealth(ComponentHealth.Builder healthBuilder, boolean includeDependencies,
+                                                   Span span) {
         // ⚠️ PLACEHOLDER IMPLEMENTATION - Replace with real database checks!
 
         // Example of what you might implement:
@@ -373,6 +1114,7 @@ public class HealthServiceImpl extends HealthServiceGrpc.HealthServiceImplBase {
 
         // Add dependency information if requested
         if (includeDependencies) {
+            Span dependencySpan = tracer.startChild(span, "dependency", "postgresql-primary");
             DependentComponent dbDependency = DependentComponent.newBuilder()
                     .setName("postgresql-primary")
                     .setAvailable(true)  // TODO: Check actual dependency
@@ -380,6 +1122,8 @@ public class HealthServiceImpl extends HealthServiceGrpc.HealthServiceImplBase {
                     .setLastSuccessfulCheck(System.currentTimeMillis())
                     .build();
 
+            dependencySpan.setStatus(dbDependency.getAvailable() ? "AVAILABLE" : "UNAVAILABLE").end();
+
             healthBuilder.addDependencies(dbDependency);
         }
 
@@ -390,7 +1134,8 @@ public class HealthServiceImpl extends HealthServiceGrpc.HealthServiceImplBase {
      * 🗃️ CACHE HEALTH CHECK
      * TODO: Implement actual cache (Redis/Memcached) connectivity testing
      */
-    private ComponentHealth checkCacheComponentHealth(ComponentHealth.Builder healthBuilder, boolean includeDependencies) {
+    private ComponentHealth checkCacheComponentHealth(ComponentHealth.Builder healthBuilder, boolean includeDependencies,
+                                                   Span span) {
         // ⚠️ PLACEHOLDER IMPLEMENTATION - Replace with real cache checks!
 
         // Example of what you might implement:
@@ -414,6 +1159,7 @@ public class HealthServiceImpl extends HealthServiceGrpc.HealthServiceImplBase {
         }
 
         if (includeDependencies) {
+            Span dependencySpan = tracer.startChild(span, "dependency", "redis-cluster");
             DependentComponent cacheDependency = DependentComponent.newBuilder()
                     .setName("redis-cluster")
                     .setAvailable(true)  // TODO: Check actual dependency
@@ -421,6 +1167,8 @@ public class HealthServiceImpl extends HealthServiceGrpc.HealthServiceImplBase {
                     .setLastSuccessfulCheck(System.currentTimeMillis())
                     .build();
 
+            dependencySpan.setStatus(cacheDependency.getAvailable() ? "AVAILABLE" : "UNAVAILABLE").end();
+
             healthBuilder.addDependencies(cacheDependency);
         }
 
@@ -431,7 +1179,8 @@ public class HealthServiceImpl extends HealthServiceGrpc.HealthServiceImplBase {
      * 🌐 EXTERNAL API HEALTH CHECK
      * TODO: Implement actual external service dependency checks
      */
-    private ComponentHealth checkExternalApiComponentHealth(ComponentHealth.Builder healthBuilder, boolean includeDependencies) {
+    private ComponentHealth checkExternalApiComponentHealth(ComponentHealth.Builder healthBuilder, boolean includeDependencies,
+                                                   Span span) {
         // ⚠️ PLACEHOLDER IMPLEMENTATION - Replace with real external API checks!
 
         // Example of what you might implement:
@@ -455,6 +1204,7 @@ public class HealthServiceImpl extends HealthServiceGrpc.HealthServiceImplBase {
         }
 
         if (includeDependencies) {
+            Span dependencySpan = tracer.startChild(span, "dependency", "payment-service-api");
             DependentComponent apiDependency = DependentComponent.newBuilder()
                     .setName("payment-service-api")
                     .setAvailable(true)      // TODO: Check actual dependency
@@ -462,6 +1212,8 @@ public class HealthServiceImpl extends HealthServiceGrpc.HealthServiceImplBase {
                     .setLastSuccessfulCheck(System.currentTimeMillis())
                     .build();
 
+            dependencySpan.setStatus(apiDependency.getAvailable() ? "AVAILABLE" : "UNAVAILABLE").end();
+
             healthBuilder.addDependencies(apiDependency);
         }
 
@@ -550,10 +1302,202 @@ public class HealthServiceImpl extends HealthServiceGrpc.HealthServiceImplBase {
         return 150L;  // Placeholder - 150ms
     }
 
+    /**
+     * Metrics for exporters. Snapshots never block the check path.
+     */
+    public HealthMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Last observed status per component, plus {@link HealthEventLog#OVERALL}.
+     */
+    public Map<String, HealthCheckResponse.ServiceStatus> getLastKnownStatus() {
+        return Collections.unmodifiableMap(lastKnownStatus);
+    }
+
+    public AccessLog getAccessLog() {
+        return accessLog;
+    }
+
+    public Tracer getTracer() {
+        return tracer;
+    }
+
+    /**
+     * The JVM self-health checker, started on first use.
+     */
+    public JvmHealthChecker getJvmHealthChecker() {
+        JvmHealthChecker checker = jvmHealthChecker;
+        if (checker == null) {
+            synchronized (this) {
+                checker = jvmHealthChecker;
+                if (checker == null) {
+                    checker = new JvmHealthChecker();
+                    jvmHealthChecker = checker;
+                }
+            }
+        }
+        return checker;
+    }
+
+    private ScheduledExecutorService watchScheduler() {
+        ScheduledExecutorService scheduler = watchScheduler;
+        if (scheduler == null) {
+            synchronized (this) {
+                scheduler = watchScheduler;
+                if (scheduler == null) {
+                    AtomicInteger threadNumber = new AtomicInteger();
+                    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(watchThreads, r -> {
+                        Thread thread = new Thread(r, "health-watch-" + threadNumber.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    // Pending maintenance refreshes must not hold up shutdown
+                    executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+                    scheduler = executor;
+                    watchScheduler = scheduler;
+                }
+            }
+        }
+        return scheduler;
+    }
+
+    /**
+     * Admission control for CheckHealth; its interceptor must be installed to identify clients.
+     */
+    public AdmissionController getAdmissionController() {
+        return admissionController;
+    }
+
+    /**
+     * Per-component latency objectives and their current verdicts.
+     */
+    public LatencySlo getLatencySlo() {
+        return latencySlo;
+    }
+
+    /**
+     * Health scores and rolling availability.
+     */
+    public HealthScores getHealthScores() {
+        return healthScores;
+    }
+
+    /**
+     * Per-component latency baselines and anomaly counts.
+     */
+    public LatencyAnomalyDetector getLatencyAnomalyDetector() {
+        return latencyAnomalies;
+    }
+
+    /**
+     * Per-component hysteresis and flap damping state.
+     */
+    public FlapDamper getFlapDamper() {
+        return flapDamper;
+    }
+
+    /**
+     * Criticality, weight and quorum rules for the overall status.
+     */
+    public StatusPolicy getStatusPolicy() {
+        return statusPolicy;
+    }
+
+    /**
+     * Maintenance windows; its interceptor guards the admin RPCs with health.admin.token.
+     */
+    public MaintenanceSchedule getMaintenanceSchedule() {
+        return maintenance;
+    }
+
+    /**
+     * Load reporter, or null when none was wired in.
+     */
+    public LoadReporter getLoadReporter() {
+        return loadReporter;
+    }
+
+    /**
+     * Server saturation monitor, or null when none was wired in.
+     */
+    public OverloadMonitor getOverloadMonitor() {
+        return overloadMonitor;
+    }
+
+    public int getWatchGroupCount() {
+        return watchGroups.size();
+    }
+
+    public int getWatchSubscriberCount() {
+        int total = 0;
+        for (WatchGroup group : watchGroups.values()) {
+            total += group.getSubscriberCount();
+        }
+        return total;
+    }
+
+    /**
+     * Tasks waiting in the watch scheduler; grows when group evaluations can't keep up.
+     */
+    public int getWatchSchedulerQueueDepth() {
+        ScheduledExecutorService scheduler = watchScheduler;
+        return scheduler != null ? ((ScheduledThreadPoolExecutor) scheduler).getQueue().size() : 0;
+    }
+
     // ═══════════════════════════════════════════════════════════════════════════
     // 🔄 LIFECYCLE AND CLEANUP METHODS
     // ═══════════════════════════════════════════════════════════════════════════
 
+    /**
+     * 🚪 Start draining: report MAINTENANCE from now on and push it to every watcher at once,
+     * so load balancers and clients move away before the server stops accepting calls.
+     * Watch streams stay open (and keep receiving MAINTENANCE) until {@link #completeWatchStreams()}.
+     *
+     * @param propagationDelayMs how long the caller will wait before stopping, used as the
+     *                           estimated end of the maintenance window
+     */
+    public void drain(long propagationDelayMs) {
+        long now = System.currentTimeMillis();
+        MaintenanceInfo info = MaintenanceInfo.newBuilder()
+                .setStartTime(now)
+                .setEstimatedEndTime(now + propagationDelayMs)
+                .setReason("Server draining for shutdown")
+                .build();
+        draining = info;
+
+        recordOverall(HealthCheckResponse.ServiceStatus.MAINTENANCE, 0);
+
+        HealthCheckResponse update = maintenanceResponse(info);
+        int delivered = 0;
+        for (WatchGroup group : watchGroups.values()) {
+            delivered += group.publishFinal(update);
+        }
+        logger.info("🚪 Draining: sent MAINTENANCE to {}/{} watchers", delivered, getWatchSubscriberCount());
+    }
+
+    /**
+     * End every open watch stream with onCompleted (after {@link #drain(long)}), so clients see
+     * a clean end of stream instead of a transport error when the server goes away.
+     */
+    public void completeWatchStreams() {
+        watchStreamsClosed = true;
+        int completed = 0;
+        for (String key : watchGroups.keySet()) {
+            WatchGroup group = watchGroups.remove(key);
+            if (group != null) {
+                group.cancel();
+                completed += group.complete();
+            }
+        }
+        logger.info("🚪 Completed {} watch streams", completed);
+    }
+
+    public boolean isDraining() {
+        return draining != null;
+    }
+
     /**
      * Gracefully shutdown the health service and clean up resources.
      * Called when the gRPC server is shutting down.
@@ -561,17 +1505,27 @@ public class HealthServiceImpl extends HealthServiceGrpc.HealthServiceImplBase {
     public void shutdown() {
         logger.info("🔄 Shutting down health service...");
 
-        // Shutdown the watch scheduler
-        watchScheduler.shutdown();
-        try {
-            if (!watchScheduler.awaitTermination(60, TimeUnit.SECONDS)) {
-                logger.warn("⚠️ Watch scheduler did not terminate gracefully, forcing shutdown");
-                watchScheduler.shutdownNow();
+        // Shutdown the watch scheduler (if any watch ever started it)
+        ScheduledExecutorService scheduler = watchScheduler;
+        if (scheduler != null) {
+            scheduler.shutdown();
+            try {
+                if (!scheduler.awaitTermination(60, TimeUnit.SECONDS)) {
+                    logger.warn("⚠️ Watch scheduler did not terminate gracefully, forcing shutdown");
+                    scheduler.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                logger.warn("⚠️ Interrupted while waiting for scheduler shutdown");
+                scheduler.shutdownNow();
+                Thread.currentThread().interrupt();
             }
-        } catch (InterruptedException e) {
-            logger.warn("⚠️ Interrupted while waiting for scheduler shutdown");
-            watchScheduler.shutdownNow();
-            Thread.currentThread().interrupt();
+        }
+
+        // Flush the access log and stop JVM sampling
+        accessLog.close();
+        JvmHealthChecker checker = jvmHealthChecker;
+        if (checker != null) {
+            checker.close();
         }
 
         // TODO: Add cleanup for any other resources (database connections, etc.)
@@ -0,0 +1,295 @@
+package com.shankarnarayanb.health;
+
+import com.shankarnarayanb.health.v1.HealthServiceGrpc;
+import com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse;
+import com.shankarnarayanb.health.v1.HealthServiceProto.HealthWatchRequest;
+import io.grpc.Channel;
+import io.grpc.Status;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Resilient WatchHealth client exposed as a {@link Flow.Publisher}.
+ *
+ * Each subscription owns one logical watch that survives server restarts and
+ * network failures: on error or stream completion it reconnects with jittered
+ * exponential backoff and resumes from the last sequence number it delivered.
+ * Sequence numbers are compared within a watch epoch only; an update from a new
+ * epoch (another replica, a restarted server) starts the count afresh. The backoff
+ * resets only once an update is actually delivered, so a draining server that
+ * hands back an already-seen update and ends the stream is retried with backoff.
+ * Subscriber demand is forwarded to gRPC's inbound flow control, so a slow
+ * subscriber slows the stream down instead of buffering updates in memory.
+ * Failures that another attempt can't fix (UNIMPLEMENTED, PERMISSION_DENIED,
+ * INVALID_ARGUMENT, UNAUTHENTICATED) end the subscription with onError instead.
+ */
+public class HealthWatchPublisher implements Flow.Publisher<HealthCheckResponse>, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(HealthWatchPublisher.class);
+    private static final long DEFAULT_INITIAL_BACKOFF_MS = 250;
+    private static final long DEFAULT_MAX_BACKOFF_MS = 30_000;
+    private static final Set<Status.Code> NON_RETRYABLE = EnumSet.of(Status.Code.UNIMPLEMENTED,
+            Status.Code.PERMISSION_DENIED, Status.Code.INVALID_ARGUMENT, Status.Code.UNAUTHENTICATED);
+
+    private final HealthServiceGrpc.HealthServiceStub asyncStub;
+    private final HealthWatchRequest request;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    private final ScheduledExecutorService reconnectScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "health-watch-reconnect");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicLong gapCount = new AtomicLong();
+    private final Set<WatchSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private volatile boolean closed;
+
+    public HealthWatchPublisher(Channel channel, HealthWatchRequest request) {
+        this(channel, request, DEFAULT_INITIAL_BACKOFF_MS, DEFAULT_MAX_BACKOFF_MS);
+    }
+
+    public HealthWatchPublisher(Channel channel, HealthWatchRequest request, long initialBackoffMs, long maxBackoffMs) {
+        this.asyncStub = HealthServiceGrpc.newStub(channel);
+        this.request = request;
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super HealthCheckResponse> subscriber) {
+        WatchSubscription subscription = new WatchSubscription(subscriber);
+        subscriptions.add(subscription);
+        subscriber.onSubscribe(subscription);
+        if (closed) {
+            subscription.close();
+        } else {
+            subscription.connect();
+        }
+    }
+
+    /**
+     * Stop reconnecting, cancel every active watch call and complete its subscriber.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        reconnectScheduler.shutdownNow();
+        subscriptions.forEach(WatchSubscription::close);
+    }
+
+    /**
+     * Number of times a subscription observed a skipped sequence number (missed updates).
+     */
+    public long getGapCount() {
+        return gapCount.get();
+    }
+
+    /**
+     * Full-jitter exponential backoff: uniform in [0, min(max, initial * 2^attempt)].
+     */
+    long backoffMillis(int attempt) {
+        long ceiling = initialBackoffMs << Math.min(attempt, 20);
+        ceiling = Math.min(maxBackoffMs, ceiling);
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    /**
+     * One subscriber's view of the watch, spanning any number of underlying gRPC calls.
+     */
+    private final class WatchSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super HealthCheckResponse> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicBoolean finished = new AtomicBoolean();
+
+        private volatile ClientCallStreamObserver<HealthWatchRequest> call;
+        private volatile boolean cancelled;
+        private volatile long lastSequence;
+        private volatile long lastEpoch;
+        private int attempt;
+
+        WatchSubscription(Flow.Subscriber<? super HealthCheckResponse> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                finish(new IllegalArgumentException("Flow.Subscription.request(n) requires n > 0"));
+                return;
+            }
+            // Guarded with connect() so demand is forwarded to exactly one call, exactly once
+            synchronized (this) {
+                long previous = demand.getAndAccumulate(n, (current, add) -> {
+                    long sum = current + add;
+                    return sum < 0 ? Long.MAX_VALUE : sum;   // saturate on overflow
+                });
+                ClientCallStreamObserver<HealthWatchRequest> current = call;
+                if (current != null && previous != Long.MAX_VALUE) {
+                    current.request(toGrpcRequest(n));
+                }
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            subscriptions.remove(this);
+            ClientCallStreamObserver<HealthWatchRequest> current = call;
+            if (current != null) {
+                current.cancel("Subscriber cancelled", null);
+            }
+        }
+
+        /**
+         * Publisher closed: cancel the call, whose onError completes the subscriber, or
+         * complete it here if no call is open (between reconnects).
+         */
+        void close() {
+            cancelled = true;
+            ClientCallStreamObserver<HealthWatchRequest> current = call;
+            if (current != null) {
+                current.cancel("Publisher closed", null);
+            } else {
+                finish(null);
+            }
+        }
+
+        /**
+         * Deliver the terminal signal, at most once.
+         */
+        private void finish(Throwable cause) {
+            if (!finished.compareAndSet(false, true)) {
+                return;
+            }
+            subscriptions.remove(this);
+            if (cause != null) {
+                subscriber.onError(cause);
+            } else {
+                subscriber.onComplete();
+            }
+        }
+
+        void connect() {
+            if (cancelled) {
+                return;
+            }
+            HealthWatchRequest resumeRequest = request.toBuilder()
+                    .setResumeAfterSequence(lastSequence)
+                    .setResumeEpoch(lastEpoch)
+                    .build();
+            ClientCallStreamObserver<?>[] started = new ClientCallStreamObserver<?>[1];
+            asyncStub.watchHealth(resumeRequest, new ClientResponseObserver<HealthWatchRequest, HealthCheckResponse>() {
+                private ClientCallStreamObserver<HealthWatchRequest> stream;
+
+                @Override
+                public void beforeStart(ClientCallStreamObserver<HealthWatchRequest> requestStream) {
+                    // Manual flow control: only pull as many messages as the subscriber asked for
+                    requestStream.disableAutoRequestWithInitial(0);
+                    stream = requestStream;
+                    started[0] = requestStream;
+                }
+
+                @Override
+                public void onNext(HealthCheckResponse response) {
+                    if (cancelled) {
+                        return;
+                    }
+                    long sequence = response.getSequenceNumber();
+                    if (response.getWatchEpoch() != lastEpoch) {
+                        // Numbered by another group (failover, restart): not comparable with what we saw
+                        lastEpoch = response.getWatchEpoch();
+                        lastSequence = 0;
+                    } else if (lastSequence != 0 && sequence <= lastSequence) {
+                        // Duplicate of something already delivered (e.g. catch-up after resume)
+                        stream.request(1);
+                        return;
+                    }
+                    if (lastSequence != 0 && sequence > lastSequence + 1) {
+                        gapCount.incrementAndGet();
+                        logger.debug("Watch gap detected: {} -> {}", lastSequence, sequence);
+                    }
+                    lastSequence = sequence;
+                    attempt = 0;
+                    if (demand.get() != Long.MAX_VALUE) {
+                        demand.decrementAndGet();
+                    }
+                    subscriber.onNext(response);
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    Status.Code code = Status.fromThrowable(t).getCode();
+                    if (NON_RETRYABLE.contains(code) && !cancelled) {
+                        // Another attempt would fail the same way: give up and tell the subscriber
+                        call = null;
+                        cancelled = true;
+                        logger.warn("Health watch failed with {}, not reconnecting", code);
+                        finish(t);
+                        return;
+                    }
+                    scheduleReconnect(t);
+                }
+
+                @Override
+                public void onCompleted() {
+                    // Server closed the stream (e.g. draining) - reconnect to whoever serves next
+                    scheduleReconnect(null);
+                }
+            });
+
+            // The call has started: from now on request(n) goes straight to it.
+            // Guarded with request() so outstanding demand is forwarded exactly once.
+            @SuppressWarnings("unchecked")
+            ClientCallStreamObserver<HealthWatchRequest> stream = (ClientCallStreamObserver<HealthWatchRequest>) started[0];
+            synchronized (this) {
+                call = stream;
+                long outstanding = demand.get();
+                if (outstanding > 0) {
+                    stream.request(toGrpcRequest(outstanding));
+                }
+            }
+            if (cancelled) {
+                stream.cancel("Subscriber cancelled", null);
+            }
+        }
+
+        private void scheduleReconnect(Throwable cause) {
+            call = null;
+            if (cancelled) {
+                if (closed) {
+                    finish(null);
+                }
+                return;
+            }
+            long delay = backoffMillis(attempt++);
+            logger.info("Health watch disconnected ({}), reconnecting in {}ms from sequence {}",
+                    cause != null ? cause.getMessage() : "stream completed", delay, lastSequence);
+            try {
+                reconnectScheduler.schedule(this::connect, delay, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // Publisher closed - surface the last failure to the subscriber
+                finish(cause);
+            }
+        }
+
+        private int toGrpcRequest(long n) {
+            return (int) Math.min(n, Integer.MAX_VALUE);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.shankarnarayanb.health;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Keeps the most recent finished spans in a fixed-size ring, for inspection
+ * from tests, a debugger or an admin endpoint. Older spans are overwritten.
+ */
+public class InMemorySpanExporter implements SpanExporter {
+
+    static final int DEFAULT_CAPACITY = 4_096;
+
+    private final Span[] ring;
+    private long written;
+
+    public InMemorySpanExporter() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public InMemorySpanExporter(int capacity) {
+        this.ring = new Span[Math.max(1, capacity)];
+    }
+
+    @Override
+    public synchronized void export(Span span) {
+        ring[(int) (written % ring.length)] = span;
+        written++;
+    }
+
+    /**
+     * Retained spans, oldest first.
+     */
+    public synchronized List<Span> getSpans() {
+        int retained = (int) Math.min(written, ring.length);
+        List<Span> spans = new ArrayList<>(retained);
+        for (long i = written - retained; i < written; i++) {
+            spans.add(ring[(int) (i % ring.length)]);
+        }
+        return spans;
+    }
+
+    /**
+     * Retained spans belonging to one trace (32 hex characters), oldest first.
+     */
+    public List<Span> getTrace(String traceId) {
+        List<Span> trace = new ArrayList<>();
+        for (Span span : getSpans()) {
+            if (span.getTraceId().equals(traceId)) {
+                trace.add(span);
+            }
+        }
+        return trace;
+    }
+
+    /**
+     * Total spans exported, including those since overwritten.
+     */
+    public synchronized long getExportedCount() {
+        return written;
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(ring, null);
+        written = 0;
+    }
+}
@@ -0,0 +1,98 @@
+package com.shankarnarayanb.health;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JDK Flight Recorder events for the health check path.
+ *
+ * Events are created, begun and ended unconditionally; fields are only filled
+ * in when {@code shouldCommit()} is true. With JFR off the JIT removes the
+ * event objects entirely, and with JFR on each event is a few stores into a
+ * thread-local buffer, so they are safe to leave enabled in production.
+ * Stack traces are disabled to keep the per-event cost flat.
+ *
+ * Record with: -XX:StartFlightRecording=filename=health.jfr
+ * Inspect with: jfr print --events health.ComponentCheck health.jfr
+ */
+final class JfrEvents {
+
+    private JfrEvents() {
+    }
+
+    @Name("health.ComponentCheck")
+    @Label("Component Check")
+    @Category({"Health", "Checks"})
+    @Description("One component health check (cache misses only)")
+    @StackTrace(false)
+    static final class ComponentCheck extends Event {
+        @Label("Component")
+        String component;
+
+        @Label("Include Dependencies")
+        boolean includeDependencies;
+
+        @Label("Outcome")
+        String outcome;
+
+        @Label("Status")
+        String status;
+    }
+
+    @Name("health.WatchGroupEvaluation")
+    @Label("Watch Group Evaluation")
+    @Category({"Health", "Watch"})
+    @Description("One scheduled evaluation of a watch group and its fan-out to subscribers")
+    @StackTrace(false)
+    static final class WatchGroupEvaluation extends Event {
+        @Label("Group")
+        String group;
+
+        @Label("Subscribers")
+        int subscribers;
+
+        @Label("Delivered")
+        int delivered;
+
+        @Label("Check Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long checkNanos;
+
+        @Label("Serialize And Fan-Out Time")
+        @Description("Time to serialize the update and enqueue it on every subscriber stream")
+        @Timespan(Timespan.NANOSECONDS)
+        long fanOutNanos;
+
+        @Label("Message Size")
+        @DataAmount
+        int messageBytes;
+
+        @Label("Status")
+        String status;
+    }
+
+    @Name("health.CacheRefresh")
+    @Label("Result Cache Refresh")
+    @Category({"Health", "Checks"})
+    @Description("A fresh component result replaced the cached one; the duration covers the cache store only, "
+            + "the check itself is a ComponentCheck event")
+    @StackTrace(false)
+    static final class CacheRefresh extends Event {
+        @Label("Component")
+        String component;
+
+        @Label("Had Previous Result")
+        boolean hadPrevious;
+
+        @Label("Previous Result Age")
+        @Description("Age of the replaced cached result; 0 when there was none")
+        @Timespan(Timespan.NANOSECONDS)
+        long previousAgeNanos;
+    }
+}
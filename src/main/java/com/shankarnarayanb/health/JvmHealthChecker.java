@@ -0,0 +1,218 @@
+package com.shankarnarayanb.health;
+
+import com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Health of the service's own JVM, reported as the "jvm" component.
+ *
+ * A background thread samples the platform MXBeans on a fixed cadence; health
+ * checks only read the latest sample, so the check itself is free. The component
+ * turns DEGRADED (available but not functional) when any of these trip:
+ *
+ *   - GC time ratio: share of wall time spent in collections over the window
+ *   - Heap after GC: occupancy of the old generation right after its last collection
+ *     (young pools are left out: a survivor space is routinely full after a minor GC)
+ *   - Live threads above a ceiling
+ *   - Deadlocked threads
+ *
+ * DEGRADED lets load balancers drain the node while it can still answer,
+ * instead of it looking HEALTHY until a GC death spiral stalls it.
+ *
+ * Thresholds come from system properties:
+ * health.jvm.sampleIntervalMs (5000), health.jvm.windowSeconds (60),
+ * health.jvm.maxGcTimeRatio (0.10), health.jvm.maxHeapAfterGcRatio (0.85),
+ * health.jvm.maxThreads (2000).
+ */
+public class JvmHealthChecker implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(JvmHealthChecker.class);
+
+    public static final String COMPONENT = "jvm";
+
+    private final long sampleIntervalMs = Long.getLong("health.jvm.sampleIntervalMs", 5_000);
+    private final long windowNanos = TimeUnit.SECONDS.toNanos(Long.getLong("health.jvm.windowSeconds", 60));
+    private final double maxGcTimeRatio = Double.parseDouble(System.getProperty("health.jvm.maxGcTimeRatio", "0.10"));
+    private final double maxHeapAfterGcRatio =
+            Double.parseDouble(System.getProperty("health.jvm.maxHeapAfterGcRatio", "0.85"));
+    private final int maxThreads = Integer.getInteger("health.jvm.maxThreads", 2_000);
+
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private final List<MemoryPoolMXBean> heapPools = new ArrayList<>();   // old generation only
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    // Ring of (time, cumulative GC time) samples covering the window; sampler thread only
+    private final long[] sampleNanos;
+    private final long[] sampleGcMillis;
+    private int samples;
+    private int next;
+
+    private final ScheduledExecutorService sampler;
+    private volatile Sample latest;
+
+    /**
+     * One published observation. Ratios are 0.0 - 1.0; heapAfterGcRatio is -1 when no
+     * old generation pool reports post-collection usage.
+     */
+    public record Sample(long timestampMs, double gcTimeRatio, double heapAfterGcRatio, int liveThreads,
+                         int deadlockedThreads, long sampleNanos) {
+    }
+
+    public JvmHealthChecker() {
+        heapPools.addAll(oldGenerationPools(ManagementFactory.getMemoryPoolMXBeans()));
+        int slots = (int) Math.max(2, windowNanos / TimeUnit.MILLISECONDS.toNanos(Math.max(1, sampleIntervalMs)) + 1);
+        sampleNanos = new long[slots];
+        sampleGcMillis = new long[slots];
+
+        sampleNow();
+        sampler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "health-jvm-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sampler.scheduleAtFixedRate(this::sampleSafely, sampleIntervalMs, sampleIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Latest published sample.
+     */
+    public Sample getLatest() {
+        return latest;
+    }
+
+    /**
+     * Build the "jvm" component from the latest sample.
+     */
+    public ComponentHealth check() {
+        Sample sample = latest;
+        List<String> problems = new ArrayList<>(4);
+        if (sample.gcTimeRatio() > maxGcTimeRatio) {
+            problems.add(String.format(Locale.ROOT, "GC time %.1f%% over %.1f%%",
+                    sample.gcTimeRatio() * 100, maxGcTimeRatio * 100));
+        }
+        if (sample.heapAfterGcRatio() > maxHeapAfterGcRatio) {
+            problems.add(String.format(Locale.ROOT, "heap after GC %.1f%% over %.1f%%",
+                    sample.heapAfterGcRatio() * 100, maxHeapAfterGcRatio * 100));
+        }
+        if (sample.liveThreads() > maxThreads) {
+            problems.add("live threads " + sample.liveThreads() + " over " + maxThreads);
+        }
+        if (sample.deadlockedThreads() > 0) {
+            problems.add(sample.deadlockedThreads() + " deadlocked threads");
+        }
+
+        ComponentHealth.Builder builder = ComponentHealth.newBuilder()
+                .setAvailable(true)
+                .setFunctional(problems.isEmpty())
+                .setResponseTimeMs(TimeUnit.NANOSECONDS.toMillis(sample.sampleNanos()))
+                .setLastCheckInfo(String.format(Locale.ROOT,
+                        "gcTimeRatio=%.3f heapAfterGcRatio=%.3f threads=%d deadlocked=%d sampledAt=%d",
+                        sample.gcTimeRatio(), sample.heapAfterGcRatio(), sample.liveThreads(),
+                        sample.deadlockedThreads(), sample.timestampMs()));
+        if (!problems.isEmpty()) {
+            builder.setErrorDetails(String.join("; ", problems));
+        }
+        return builder.build();
+    }
+
+    /**
+     * The heap pools whose post-GC occupancy means live data: the old generation
+     * ("Tenured Gen", "PS Old Gen", "G1 Old Gen", "ZGC Old Generation", ...), or for
+     * single-generation collectors (ZGC, Shenandoah) every heap pool that isn't young.
+     */
+    static List<MemoryPoolMXBean> oldGenerationPools(List<MemoryPoolMXBean> pools) {
+        List<MemoryPoolMXBean> old = new ArrayList<>();
+        List<MemoryPoolMXBean> notYoung = new ArrayList<>();
+        for (MemoryPoolMXBean pool : pools) {
+            if (pool.getType() != MemoryType.HEAP || !pool.isCollectionUsageThresholdSupported()) {
+                continue;
+            }
+            String name = pool.getName().toLowerCase(Locale.ROOT);
+            if (name.contains("old") || name.contains("tenured")) {
+                old.add(pool);
+            } else if (!name.contains("eden") && !name.contains("survivor") && !name.contains("young")) {
+                notYoung.add(pool);
+            }
+        }
+        return old.isEmpty() ? notYoung : old;
+    }
+
+    private void sampleSafely() {
+        try {
+            sampleNow();
+        } catch (RuntimeException e) {
+            logger.warn("JVM health sample failed", e);
+        }
+    }
+
+    private void sampleNow() {
+        long startNanos = System.nanoTime();
+
+        long gcMillis = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            gcMillis += Math.max(0, collector.getCollectionTime());
+        }
+        sampleNanos[next] = startNanos;
+        sampleGcMillis[next] = gcMillis;
+        next = (next + 1) % sampleNanos.length;
+        samples = Math.min(samples + 1, sampleNanos.length);
+        int oldest = samples < sampleNanos.length ? 0 : next;
+
+        double gcTimeRatio = 0;
+        long elapsedNanos = startNanos - sampleNanos[oldest];
+        if (samples > 1 && elapsedNanos > 0) {
+            gcTimeRatio = TimeUnit.MILLISECONDS.toNanos(gcMillis - sampleGcMillis[oldest]) / (double) elapsedNanos;
+        }
+
+        double heapAfterGcRatio = -1;
+        for (MemoryPoolMXBean pool : heapPools) {
+            MemoryUsage afterGc = pool.getCollectionUsage();
+            if (afterGc != null && afterGc.getMax() > 0) {
+                heapAfterGcRatio = Math.max(heapAfterGcRatio, afterGc.getUsed() / (double) afterGc.getMax());
+            }
+        }
+
+        long[] deadlocked = findDeadlockedThreads();
+
+        Sample sample = new Sample(System.currentTimeMillis(), gcTimeRatio, heapAfterGcRatio,
+                threads.getThreadCount(), deadlocked != null ? deadlocked.length : 0, System.nanoTime() - startNanos);
+        Sample previous = latest;
+        latest = sample;
+        if (sample.deadlockedThreads() > 0 && (previous == null || previous.deadlockedThreads() == 0)) {
+            logger.error("🔒 Detected {} deadlocked threads", sample.deadlockedThreads());
+        }
+    }
+
+    /**
+     * Deadlocked thread ids, or null if there are none or the VM can't tell
+     * (deadlock detection is optional, e.g. in native images).
+     */
+    private long[] findDeadlockedThreads() {
+        try {
+            return threads.isSynchronizerUsageSupported()
+                    ? threads.findDeadlockedThreads()
+                    : threads.findMonitorDeadlockedThreads();
+        } catch (UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void close() {
+        sampler.shutdownNow();
+    }
+}
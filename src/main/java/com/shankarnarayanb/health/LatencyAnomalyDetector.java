@@ -0,0 +1,104 @@
+package com.shankarnarayanb.health;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flags component checks whose latency is unusual for that component right now.
+ *
+ * Each component keeps an exponentially weighted moving mean and variance of its
+ * check latency - three numbers, updated in constant time per check - so the
+ * baseline follows slow shifts such as day and night traffic without any fixed
+ * threshold. A check more than {@code k} standard deviations away from the
+ * baseline is an anomaly. It is compared before being folded in, and the first
+ * {@code warmupSamples} checks only build the baseline.
+ *
+ * The standard deviation has a floor (health.anomaly.minStddevMs), so a component
+ * whose latency has been nearly constant doesn't flag every millisecond of jitter.
+ *
+ * Configured with system properties: health.anomaly.alpha (0.05),
+ * health.anomaly.sigmas (3.0), health.anomaly.warmupSamples (20),
+ * health.anomaly.minStddevMs (1).
+ */
+public class LatencyAnomalyDetector {
+
+    /** Same bound as the check metrics, so arbitrary component names can't grow this without limit. */
+    private static final int MAX_COMPONENTS = 256;
+
+    private final double alpha = Double.parseDouble(System.getProperty("health.anomaly.alpha", "0.05"));
+    private final double sigmas = Double.parseDouble(System.getProperty("health.anomaly.sigmas", "3.0"));
+    private final long warmupSamples = Long.getLong("health.anomaly.warmupSamples", 20);
+    private final double minStddevNanos = TimeUnit.MILLISECONDS.toNanos(Long.getLong("health.anomaly.minStddevMs", 1));
+
+    private final Map<String, Baseline> baselines = new ConcurrentHashMap<>();
+
+    /**
+     * A component's baseline as of its last check.
+     */
+    public record Snapshot(double meanNanos, double stddevNanos, long samples, long anomalies) {
+    }
+
+    /**
+     * Visitor for exporters.
+     */
+    public interface Visitor {
+        void component(String name, Snapshot snapshot);
+    }
+
+    /**
+     * Fold a fresh check's latency into the component's baseline.
+     *
+     * @return a description of the anomaly, or null if the latency was within range
+     */
+    public String record(String component, long latencyNanos) {
+        Baseline baseline = baselines.get(component);
+        if (baseline == null) {
+            if (baselines.size() >= MAX_COMPONENTS) {
+                return null;
+            }
+            baseline = baselines.computeIfAbsent(component, c -> new Baseline());
+        }
+        return baseline.record(latencyNanos);
+    }
+
+    public void collect(Visitor visitor) {
+        baselines.forEach((component, baseline) -> visitor.component(component, baseline.snapshot()));
+    }
+
+    private final class Baseline {
+        private double mean;
+        private double variance;
+        private long samples;
+        private long anomalies;
+
+        synchronized String record(long latencyNanos) {
+            double x = latencyNanos;
+            if (samples++ == 0) {
+                mean = x;
+                return null;
+            }
+
+            double stddev = Math.max(Math.sqrt(variance), minStddevNanos);
+            double deviation = (x - mean) / stddev;
+            String anomaly = null;
+            if (samples > warmupSamples && Math.abs(deviation) > sigmas) {
+                anomalies++;
+                anomaly = String.format(Locale.ROOT, "Latency anomaly: %.1fms is %.1f sigma %s the %.1fms average (sd %.1fms)",
+                        x / 1e6, Math.abs(deviation), deviation > 0 ? "above" : "below", mean / 1e6, stddev / 1e6);
+            }
+
+            // Exponentially weighted mean and variance, updated in place
+            double diff = x - mean;
+            double increment = alpha * diff;
+            mean += increment;
+            variance = (1 - alpha) * (variance + diff * increment);
+            return anomaly;
+        }
+
+        synchronized Snapshot snapshot() {
+            return new Snapshot(mean, Math.sqrt(variance), samples, anomalies);
+        }
+    }
+}
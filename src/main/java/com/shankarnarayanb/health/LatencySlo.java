@@ -0,0 +1,189 @@
+package com.shankarnarayanb.health;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Per-component latency objectives over a sliding window.
+ *
+ * Every fresh check result's latency (the slower of the measured check time and the
+ * component's own response_time_ms) goes into a ring of HdrHistograms, one per slice
+ * of the window. A component breaches its objective when the configured percentile
+ * over the whole window is above its threshold and the window holds enough samples
+ * that one slow check can't trip it. Breaches turn into response warnings and cap the
+ * overall status at DEGRADED, so traffic moves away before the dependency fails.
+ *
+ * Verdicts are cached per component and recomputed when a sample arrives or the
+ * window slides by a slice, so reading them on every response is cheap.
+ *
+ * Configured with system properties: health.slo.percentile (99.0),
+ * health.slo.windowSeconds (60), health.slo.minSamples (5), health.slo.defaultMs
+ * (1000, 0 = no objective) and health.slo.ms.&lt;component&gt; per component.
+ */
+public class LatencySlo {
+
+    private static final int SLICES = 6;
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    /** Same bound as the check metrics, so arbitrary component names can't grow this without limit. */
+    private static final int MAX_COMPONENTS = 256;
+
+    private final double percentile = Double.parseDouble(System.getProperty("health.slo.percentile", "99.0"));
+    private final long windowMs = TimeUnit.SECONDS.toMillis(Long.getLong("health.slo.windowSeconds", 60));
+    private final long sliceMs = Math.max(1, windowMs / SLICES);
+    private final int minSamples = Integer.getInteger("health.slo.minSamples", 5);
+    private final long defaultThresholdMs = Long.getLong("health.slo.defaultMs", 1_000);
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    /**
+     * Latest evaluation of one component's window.
+     */
+    public record Verdict(long thresholdNanos, long percentileNanos, long samples, boolean breached) {
+    }
+
+    /**
+     * Record the latency of a fresh (not cached) check result.
+     */
+    public void record(String component, long latencyNanos, long nowMs) {
+        Window window = window(component);
+        if (window != null) {
+            window.record(latencyNanos, nowMs);
+        }
+    }
+
+    /**
+     * One warning per component in {@code components} that breaches its objective;
+     * an empty, shared list when none do.
+     */
+    public List<String> warnings(Collection<String> components, long nowMs) {
+        List<String> warnings = Collections.emptyList();
+        for (String component : components) {
+            Window window = windows.get(component);
+            if (window == null) {
+                continue;
+            }
+            Verdict verdict = window.verdict(nowMs);
+            if (verdict.breached()) {
+                if (warnings.isEmpty()) {
+                    warnings = new ArrayList<>(2);
+                }
+                warnings.add(String.format(Locale.ROOT, "%s p%s latency %dms over %dms objective (%d checks in %ds)",
+                        component, formatPercentile(), TimeUnit.NANOSECONDS.toMillis(verdict.percentileNanos()),
+                        TimeUnit.NANOSECONDS.toMillis(verdict.thresholdNanos()), verdict.samples(),
+                        TimeUnit.MILLISECONDS.toSeconds(windowMs)));
+            }
+        }
+        return warnings;
+    }
+
+    /**
+     * The component's current verdict, or null if it has no objective or hasn't been checked.
+     */
+    public Verdict verdict(String component, long nowMs) {
+        Window window = windows.get(component);
+        return window != null ? window.verdict(nowMs) : null;
+    }
+
+    /**
+     * Visit the current verdict of every component with an objective, for exporters.
+     */
+    public void forEachVerdict(long nowMs, BiConsumer<String, Verdict> visitor) {
+        windows.forEach((component, window) -> visitor.accept(component, window.verdict(nowMs)));
+    }
+
+    public double getPercentile() {
+        return percentile;
+    }
+
+    private String formatPercentile() {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+
+    /**
+     * The component's window, created on first use; null if it has no objective or
+     * too many components are tracked.
+     */
+    private Window window(String component) {
+        Window window = windows.get(component);
+        if (window != null || windows.size() >= MAX_COMPONENTS) {
+            return window;
+        }
+        long thresholdMs = Long.getLong("health.slo.ms." + component, defaultThresholdMs);
+        if (thresholdMs <= 0) {
+            return null;
+        }
+        return windows.computeIfAbsent(component, c -> new Window(TimeUnit.MILLISECONDS.toNanos(thresholdMs)));
+    }
+
+    /**
+     * Ring of per-slice histograms covering the window. Records are rare (cache misses
+     * only), so one lock per component is enough.
+     */
+    private final class Window {
+        private final long thresholdNanos;
+        private final Histogram[] slices = new Histogram[SLICES];
+        private final long[] sliceIndex = new long[SLICES];
+        private final Histogram merged = new Histogram(HealthMetrics.HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+
+        private volatile Verdict verdict;
+        private volatile long verdictSlice = -1;
+
+        Window(long thresholdNanos) {
+            this.thresholdNanos = thresholdNanos;
+            for (int i = 0; i < SLICES; i++) {
+                slices[i] = new Histogram(HealthMetrics.HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+                sliceIndex[i] = -1;
+            }
+            verdict = new Verdict(thresholdNanos, 0, 0, false);
+        }
+
+        synchronized void record(long latencyNanos, long nowMs) {
+            long index = nowMs / sliceMs;
+            int slot = (int) (index % SLICES);
+            if (sliceIndex[slot] != index) {
+                slices[slot].reset();
+                sliceIndex[slot] = index;
+            }
+            slices[slot].recordValue(Math.max(0, Math.min(latencyNanos, HealthMetrics.HIGHEST_TRACKABLE_NANOS)));
+            evaluate(index);
+        }
+
+        Verdict verdict(long nowMs) {
+            long index = nowMs / sliceMs;
+            if (verdictSlice != index) {
+                synchronized (this) {
+                    if (verdictSlice != index) {
+                        evaluate(index);
+                    }
+                }
+            }
+            return verdict;
+        }
+
+        /**
+         * Merge the slices still inside the window; caller holds the lock.
+         */
+        private void evaluate(long index) {
+            merged.reset();
+            for (int i = 0; i < SLICES; i++) {
+                if (sliceIndex[i] > index - SLICES) {
+                    merged.add(slices[i]);
+                }
+            }
+            long samples = merged.getTotalCount();
+            long value = samples > 0 ? merged.getValueAtPercentile(percentile) : 0;
+            verdict = new Verdict(thresholdNanos, value, samples, samples >= minSamples && value > thresholdNanos);
+            verdictSlice = index;
+        }
+    }
+}
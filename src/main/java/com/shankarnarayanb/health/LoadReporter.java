@@ -0,0 +1,258 @@
+package com.shankarnarayanb.health;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport;
+import com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.ForwardingServerCall;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Per-node load reports for weighted load balancing, modelled on ORCA.
+ *
+ * A background thread samples process CPU, heap use, in-flight RPCs, QPS and
+ * error rate once per interval and publishes a {@link LoadReport} together with
+ * its serialized bytes. The report then reaches clients two ways:
+ *
+ *   - per-call: the server interceptor attaches the current bytes as the binary
+ *     trailer {@code health-load-report-bin} on every RPC (no per-call encoding)
+ *   - out-of-band: StreamLoadReports pushes the report on a fixed cadence
+ *
+ * The sampling interval comes from health.loadreport.intervalMs (default 1000).
+ * The first sample is taken on the sampler thread, off the startup path; until
+ * then calls carry no trailer and streams send nothing.
+ */
+public class LoadReporter implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadReporter.class);
+
+    public static final Metadata.Key<byte[]> TRAILER =
+            Metadata.Key.of("health-load-report-bin", Metadata.BINARY_BYTE_MARSHALLER);
+
+    private final RpcMetricsInterceptor rpcMetrics;
+    private final long intervalMs = Math.max(100, Long.getLong("health.loadreport.intervalMs", 1_000));
+    private final OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+    private final ScheduledExecutorService scheduler;
+    private final Map<ServerCallStreamObserver<LoadReport>, ScheduledFuture<?>> streams = new ConcurrentHashMap<>();
+
+    // Sampler thread only
+    private long lastSampleNanos;
+    private long lastStarted;
+    private long lastCompleted;
+    private long lastErrors;
+
+    private volatile LoadReport latest;
+    private volatile byte[] latestBytes;
+
+    public LoadReporter(RpcMetricsInterceptor rpcMetrics) {
+        this.rpcMetrics = rpcMetrics;
+        this.lastSampleNanos = System.nanoTime();
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "health-load-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::sampleSafely, 0, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * The most recent report, or null before the first sample.
+     */
+    public LoadReport getLatest() {
+        return latest;
+    }
+
+    public int getStreamCount() {
+        return streams.size();
+    }
+
+    private void sampleSafely() {
+        try {
+            sample();
+        } catch (RuntimeException e) {
+            logger.warn("Load report sample failed", e);
+        }
+    }
+
+    private void sample() {
+        long now = System.nanoTime();
+        long started = rpcMetrics.getStartedCount();
+        long completed = rpcMetrics.getCompletedCount();
+        long errors = rpcMetrics.getErrorCount();
+        double seconds = Math.max(1e-3, (now - lastSampleNanos) / 1e9);
+
+        double completedPerSecond = (completed - lastCompleted) / seconds;
+        double eps = (errors - lastErrors) / seconds;
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+
+        LoadReport report = LoadReport.newBuilder()
+                .setCpuUtilization(processCpuLoad())
+                .setMemUtilization(heap.getMax() > 0 ? heap.getUsed() / (double) heap.getMax() : 0)
+                .setInFlightRequests(rpcMetrics.getUnaryInFlight())
+                .setQps((started - lastStarted) / seconds)
+                .setEps(eps)
+                .setErrorRate(completedPerSecond > 0 ? Math.min(1.0, eps / completedPerSecond) : 0)
+                .setTimestampMs(System.currentTimeMillis())
+                .build();
+
+        lastSampleNanos = now;
+        lastStarted = started;
+        lastCompleted = completed;
+        lastErrors = errors;
+        latestBytes = report.toByteArray();
+        latest = report;
+    }
+
+    private double processCpuLoad() {
+        if (os instanceof com.sun.management.OperatingSystemMXBean hotspot) {
+            double load = hotspot.getProcessCpuLoad();
+            if (load >= 0) {
+                return load;
+            }
+        }
+        // Fallback: system load average spread over the cores, capped at 1
+        double loadAverage = os.getSystemLoadAverage();
+        return loadAverage >= 0 ? Math.min(1.0, loadAverage / os.getAvailableProcessors()) : 0;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // Out-of-band stream
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Serve StreamLoadReports: send the current report now and then every interval
+     * (never faster than the sampling interval) until the client cancels.
+     */
+    public void stream(LoadReportRequest request, ServerCallStreamObserver<LoadReport> observer) {
+        long streamIntervalMs = Math.max(intervalMs, request.getIntervalMs());
+        observer.setOnCancelHandler(() -> {
+            ScheduledFuture<?> task = streams.remove(observer);
+            if (task != null) {
+                task.cancel(false);
+            }
+        });
+        streams.put(observer, scheduler.scheduleAtFixedRate(
+                () -> send(observer), 0, streamIntervalMs, TimeUnit.MILLISECONDS));
+        if (observer.isCancelled()) {      // cancelled before the task was registered
+            ScheduledFuture<?> task = streams.remove(observer);
+            if (task != null) {
+                task.cancel(false);
+            }
+        }
+    }
+
+    private void send(ServerCallStreamObserver<LoadReport> observer) {
+        synchronized (observer) {
+            // Slow readers skip a report rather than buffering; the next one supersedes it
+            LoadReport report = latest;
+            if (report == null || observer.isCancelled() || !observer.isReady()) {
+                return;
+            }
+            try {
+                observer.onNext(report);
+            } catch (RuntimeException e) {
+                logger.debug("Failed to send load report", e);
+            }
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // Per-call trailers
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Server interceptor that adds the current report to every call's trailers.
+     */
+    public ServerInterceptor serverInterceptor() {
+        return new ServerInterceptor() {
+            @Override
+            public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+                    ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+                return next.startCall(new ForwardingServerCall.SimpleForwardingServerCall<>(call) {
+                    @Override
+                    public void close(Status status, Metadata trailers) {
+                        byte[] bytes = latestBytes;
+                        if (bytes != null) {
+                            trailers.put(TRAILER, bytes);
+                        }
+                        super.close(status, trailers);
+                    }
+                }, headers);
+            }
+        };
+    }
+
+    /**
+     * Client interceptor that hands every load report found in call trailers to {@code listener}.
+     */
+    public static ClientInterceptor clientInterceptor(Consumer<LoadReport> listener) {
+        return new ClientInterceptor() {
+            @Override
+            public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+                    MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+                return new ForwardingClientCall.SimpleForwardingClientCall<>(next.newCall(method, callOptions)) {
+                    @Override
+                    public void start(Listener<RespT> responseListener, Metadata headers) {
+                        super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<>(responseListener) {
+                            @Override
+                            public void onClose(Status status, Metadata trailers) {
+                                byte[] bytes = trailers.get(TRAILER);
+                                if (bytes != null) {
+                                    try {
+                                        listener.accept(LoadReport.parseFrom(bytes));
+                                    } catch (InvalidProtocolBufferException e) {
+                                        logger.debug("Ignoring malformed load report trailer", e);
+                                    }
+                                }
+                                super.onClose(status, trailers);
+                            }
+                        }, headers);
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Stop sampling and complete any open report streams.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        streams.forEach((observer, task) -> {
+            task.cancel(false);
+            synchronized (observer) {
+                try {
+                    observer.onCompleted();
+                } catch (RuntimeException e) {
+                    logger.debug("Failed to complete load report stream", e);
+                }
+            }
+        });
+        streams.clear();
+    }
+}
@@ -0,0 +1,256 @@
+package com.shankarnarayanb.health;
+
+import com.shankarnarayanb.health.v1.HealthServiceGrpc;
+import com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceInfo;
+import com.shankarnarayanb.health.v1.HealthServiceProto.MaintenanceWindow;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Scheduled and ad-hoc maintenance windows, per component or for the whole node.
+ *
+ * Windows are set through the admin RPCs and kept in memory only. The current set
+ * is an immutable list published through a volatile field, so the check path looks
+ * windows up without locking; changes are serialized and republish the list.
+ * Expired windows are dropped on the next change and ignored until then.
+ *
+ * A window is active from its start_time until its estimated_end_time (0 means
+ * until cleared). While a component's window is active its check is skipped; while
+ * a node-wide window (empty component) is active nothing is checked at all.
+ *
+ * Admin calls require the {@code x-health-admin-token} header to match the
+ * health.admin.token system property. Without a token they are rejected, unless
+ * health.admin.allowUnauthenticated=true opens them, which is only appropriate on
+ * a trusted network.
+ */
+public class MaintenanceSchedule {
+
+    private static final Logger logger = LoggerFactory.getLogger(MaintenanceSchedule.class);
+
+    public static final Metadata.Key<String> ADMIN_TOKEN_HEADER =
+            Metadata.Key.of("x-health-admin-token", Metadata.ASCII_STRING_MARSHALLER);
+
+    /** Upper bound on stored windows, so a misbehaving automation can't grow the list without limit. */
+    static final int MAX_WINDOWS = 1_000;
+
+    private final byte[] adminToken;
+    private final boolean allowUnauthenticated = Boolean.getBoolean("health.admin.allowUnauthenticated");
+    private final AtomicLong nextId = new AtomicLong();
+    private volatile List<MaintenanceWindow> windows = Collections.emptyList();
+
+    public MaintenanceSchedule() {
+        String token = System.getProperty("health.admin.token");
+        this.adminToken = token != null && !token.isEmpty() ? token.getBytes(StandardCharsets.UTF_8) : null;
+        if (adminToken == null && allowUnauthenticated) {
+            logger.warn("Maintenance admin RPCs are open to any caller (health.admin.allowUnauthenticated=true)");
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // Lookups (check path, lock-free)
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    /**
+     * The active node-wide window, or null.
+     */
+    public MaintenanceWindow activeNodeWindow(long nowMs) {
+        return activeWindow("", nowMs);
+    }
+
+    /**
+     * The active window for {@code component} (not counting node-wide ones), or null.
+     * When several overlap, the one that ends last wins.
+     */
+    public MaintenanceWindow activeWindow(String component, long nowMs) {
+        MaintenanceWindow found = null;
+        for (MaintenanceWindow window : windows) {
+            if (window.getComponent().equalsIgnoreCase(component) && isActive(window, nowMs)
+                    && (found == null || endsAfter(window, found))) {
+                found = window;
+            }
+        }
+        return found;
+    }
+
+    public int getActiveCount(long nowMs) {
+        int active = 0;
+        for (MaintenanceWindow window : windows) {
+            if (isActive(window, nowMs)) {
+                active++;
+            }
+        }
+        return active;
+    }
+
+    /**
+     * Active and scheduled windows, in the order they were set.
+     */
+    public List<MaintenanceWindow> list(long nowMs) {
+        List<MaintenanceWindow> current = new ArrayList<>();
+        for (MaintenanceWindow window : windows) {
+            if (!isExpired(window, nowMs)) {
+                current.add(window);
+            }
+        }
+        return current;
+    }
+
+    static boolean isActive(MaintenanceWindow window, long nowMs) {
+        return window.getInfo().getStartTime() <= nowMs && !isExpired(window, nowMs);
+    }
+
+    private static boolean isExpired(MaintenanceWindow window, long nowMs) {
+        long end = window.getInfo().getEstimatedEndTime();
+        return end != 0 && end <= nowMs;
+    }
+
+    private static boolean endsAfter(MaintenanceWindow a, MaintenanceWindow b) {
+        long endA = a.getInfo().getEstimatedEndTime();
+        long endB = b.getInfo().getEstimatedEndTime();
+        return endB != 0 && (endA == 0 || endA > endB);
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // Changes (admin RPCs)
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Add a window, or replace the one with the same id. A start_time of 0 means now.
+     *
+     * @return the stored window, with its id and start time filled in
+     * @throws IllegalArgumentException if the window ends before it starts or has already ended
+     * @throws IllegalStateException    if {@link #MAX_WINDOWS} windows are already stored
+     */
+    public synchronized MaintenanceWindow set(MaintenanceWindow window, long nowMs) {
+        MaintenanceInfo info = window.getInfo();
+        long start = info.getStartTime() > 0 ? info.getStartTime() : nowMs;
+        long end = info.getEstimatedEndTime();
+        if (end != 0 && end <= Math.max(start, nowMs)) {
+            throw new IllegalArgumentException("estimated_end_time must be in the future and after start_time");
+        }
+
+        MaintenanceWindow stored = window.toBuilder()
+                .setId(window.getId().isEmpty() ? "mw-" + nextId.incrementAndGet() : window.getId())
+                .setComponent(window.getComponent().trim())
+                .setInfo(info.toBuilder()
+                        .setStartTime(start)
+                        .setReason(info.getReason().isEmpty() ? "Scheduled maintenance" : info.getReason()))
+                .build();
+
+        Map<String, MaintenanceWindow> next = current(nowMs);
+        if (!next.containsKey(stored.getId()) && next.size() >= MAX_WINDOWS) {
+            throw new IllegalStateException("Too many maintenance windows (limit " + MAX_WINDOWS + ")");
+        }
+        next.put(stored.getId(), stored);
+        publish(next.values());
+
+        logger.info("🛠️ Maintenance window {} for {}: {} from {} until {}", stored.getId(),
+                stored.getComponent().isEmpty() ? "the node" : stored.getComponent(), stored.getInfo().getReason(),
+                new java.util.Date(start), end != 0 ? new java.util.Date(end) : "cleared");
+        return stored;
+    }
+
+    /**
+     * Remove the window with {@code id}, or, when id is empty, every window for
+     * {@code component} (empty component = node-wide windows).
+     *
+     * @return the windows removed
+     */
+    public synchronized List<MaintenanceWindow> clear(String id, String component, long nowMs) {
+        Map<String, MaintenanceWindow> next = current(nowMs);
+        List<MaintenanceWindow> removed = new ArrayList<>();
+        next.values().removeIf(window -> {
+            boolean match = id.isEmpty()
+                    ? window.getComponent().equalsIgnoreCase(component.trim())
+                    : window.getId().equals(id);
+            if (match) {
+                removed.add(window);
+            }
+            return match;
+        });
+        publish(next.values());
+
+        for (MaintenanceWindow window : removed) {
+            logger.info("🛠️ Cleared maintenance window {} for {}", window.getId(),
+                    window.getComponent().isEmpty() ? "the node" : window.getComponent());
+        }
+        return removed;
+    }
+
+    /**
+     * Unexpired windows keyed by id, as a mutable copy; caller holds the lock.
+     */
+    private Map<String, MaintenanceWindow> current(long nowMs) {
+        Map<String, MaintenanceWindow> map = new LinkedHashMap<>();
+        for (MaintenanceWindow window : windows) {
+            if (!isExpired(window, nowMs)) {
+                map.put(window.getId(), window);
+            }
+        }
+        return map;
+    }
+
+    private void publish(Collection<MaintenanceWindow> next) {
+        windows = Collections.unmodifiableList(new ArrayList<>(next));
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // Admin authorization
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    static boolean isAdminMethod(MethodDescriptor<?, ?> method) {
+        return method == HealthServiceGrpc.getSetMaintenanceMethod()
+                || method == HealthServiceGrpc.getClearMaintenanceMethod()
+                || method == HealthServiceGrpc.getListMaintenanceMethod();
+    }
+
+    /**
+     * Server interceptor that rejects admin calls without the configured token with
+     * PERMISSION_DENIED, and every admin call when no token is configured (unless
+     * unauthenticated admin calls are allowed). Other methods pass through.
+     */
+    public ServerInterceptor serverInterceptor() {
+        return new ServerInterceptor() {
+            @Override
+            public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+                    ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+                if (!isAdminMethod(call.getMethodDescriptor())) {
+                    return next.startCall(call, headers);
+                }
+                if (adminToken == null) {
+                    if (allowUnauthenticated) {
+                        return next.startCall(call, headers);
+                    }
+                    return deny(call, "Admin RPCs are disabled: the server has no health.admin.token");
+                }
+                String token = headers.get(ADMIN_TOKEN_HEADER);
+                if (token == null || !MessageDigest.isEqual(adminToken, token.getBytes(StandardCharsets.UTF_8))) {
+                    return deny(call, "Missing or wrong admin token");
+                }
+                return next.startCall(call, headers);
+            }
+        };
+    }
+
+    private static <ReqT, RespT> ServerCall.Listener<ReqT> deny(ServerCall<ReqT, RespT> call, String description) {
+        call.close(Status.PERMISSION_DENIED.withDescription(description), new Metadata());
+        return new ServerCall.Listener<>() {
+        };
+    }
+}
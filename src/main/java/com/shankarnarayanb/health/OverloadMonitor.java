@@ -0,0 +1,207 @@
+package com.shankarnarayanb.health;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Tracks whether the server itself is saturated, independently of its components.
+ *
+ * Three signals are sampled on a short cadence:
+ *
+ *   - queue depth of the gRPC serving executor
+ *   - unary RPCs in flight (open watch streams are idle most of the time)
+ *   - executor lag: how long a probe task submitted to the serving executor
+ *     waits before it runs (the equivalent of event loop lag for a thread pool)
+ *
+ * The monitor enters the overloaded state after {@code enterSamples} consecutive
+ * samples with any signal above its threshold, and leaves it only after
+ * {@code exitSamples} consecutive samples with every signal below half its
+ * threshold. The gap between the two keeps readiness from flapping while a node
+ * hovers around a limit, which would otherwise make load balancers oscillate.
+ *
+ * Thresholds come from system properties:
+ * health.overload.maxQueueDepth (1000), health.overload.maxInFlight (1000),
+ * health.overload.maxLagMs (250), health.overload.sampleIntervalMs (100),
+ * health.overload.enterSamples (3), health.overload.exitSamples (20).
+ */
+public class OverloadMonitor implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(OverloadMonitor.class);
+    private static final double EXIT_RATIO = 0.5;
+
+    private final ThreadPoolExecutor executor;
+    private final LongSupplier inFlight;
+
+    private final long maxQueueDepth = configuredMaxQueueDepth();
+    private final long maxInFlight = Long.getLong("health.overload.maxInFlight", 1_000);
+    private final long maxLagNanos = TimeUnit.MILLISECONDS.toNanos(Long.getLong("health.overload.maxLagMs", 250));
+    private final int enterSamples = Integer.getInteger("health.overload.enterSamples", 3);
+    private final int exitSamples = Integer.getInteger("health.overload.exitSamples", 20);
+
+    private final ScheduledExecutorService sampler;
+
+    // Probe state: written by the sampler, cleared by the probe task
+    private volatile long probeSubmittedNanos;
+    private volatile long lastProbeLagNanos;
+
+    // Sampler thread only
+    private int breachStreak;
+    private int clearStreak;
+
+    // Published to readers
+    private volatile boolean overloaded;
+    private volatile long queueDepth;
+    private volatile long inFlightCount;
+    private volatile long lagNanos;
+    private volatile List<String> warnings = Collections.emptyList();
+
+    /**
+     * @param executor the executor gRPC dispatches calls onto
+     * @param inFlight RPCs in flight, e.g. {@link RpcMetricsInterceptor#getUnaryInFlight()}
+     */
+    public OverloadMonitor(ThreadPoolExecutor executor, LongSupplier inFlight) {
+        this.executor = executor;
+        this.inFlight = inFlight;
+        long intervalMs = Long.getLong("health.overload.sampleIntervalMs", 100);
+        sampler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "health-overload-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // First sample after a second, so startup class loading isn't mistaken for overload
+        sampler.scheduleAtFixedRate(this::sampleSafely, Math.max(intervalMs, 1_000), intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * The queue depth above which the executor counts as overloaded, for sizing the executor.
+     */
+    static long configuredMaxQueueDepth() {
+        return Long.getLong("health.overload.maxQueueDepth", 1_000);
+    }
+
+    /**
+     * True while the server should report itself DEGRADED.
+     */
+    public boolean isOverloaded() {
+        return overloaded;
+    }
+
+    /**
+     * Human-readable description of each signal over its limit; empty when none are.
+     * The list is immutable and only rebuilt by the sampler.
+     */
+    public List<String> getWarnings() {
+        return warnings;
+    }
+
+    public long getQueueDepth() {
+        return queueDepth;
+    }
+
+    public long getInFlight() {
+        return inFlightCount;
+    }
+
+    public long getLagNanos() {
+        return lagNanos;
+    }
+
+    private void sampleSafely() {
+        try {
+            sample();
+        } catch (RuntimeException e) {
+            logger.warn("Overload sample failed", e);
+        }
+    }
+
+    private void sample() {
+        long now = System.nanoTime();
+
+        // A probe still waiting counts as lag so far; otherwise use the last completed probe
+        long submitted = probeSubmittedNanos;
+        long lag = submitted != 0 ? Math.max(now - submitted, lastProbeLagNanos) : lastProbeLagNanos;
+        if (submitted == 0) {
+            submitProbe(now);
+        }
+
+        long depth = executor.getQueue().size();
+        long calls = inFlight.getAsLong();
+        queueDepth = depth;
+        inFlightCount = calls;
+        lagNanos = lag;
+
+        boolean breach = depth > maxQueueDepth || calls > maxInFlight || lag > maxLagNanos;
+        boolean clear = depth < maxQueueDepth * EXIT_RATIO && calls < maxInFlight * EXIT_RATIO
+                && lag < maxLagNanos * EXIT_RATIO;
+
+        breachStreak = breach ? breachStreak + 1 : 0;
+        clearStreak = clear ? clearStreak + 1 : 0;
+
+        boolean wasOverloaded = overloaded;
+        if (!wasOverloaded && breachStreak >= enterSamples) {
+            overloaded = true;
+        } else if (wasOverloaded && clearStreak >= exitSamples) {
+            overloaded = false;
+        }
+
+        if (breach || overloaded) {
+            warnings = describe(depth, calls, lag);
+        } else if (!warnings.isEmpty()) {
+            warnings = Collections.emptyList();
+        }
+
+        if (overloaded != wasOverloaded) {
+            if (overloaded) {
+                logger.warn("🔥 Server overloaded, reporting DEGRADED: {}", warnings);
+            } else {
+                logger.info("✅ Server load back to normal (queue={}, inFlight={}, lag={}ms)",
+                        depth, calls, TimeUnit.NANOSECONDS.toMillis(lag));
+            }
+        }
+    }
+
+    private void submitProbe(long now) {
+        probeSubmittedNanos = now;
+        try {
+            executor.execute(() -> {
+                lastProbeLagNanos = System.nanoTime() - probeSubmittedNanos;
+                probeSubmittedNanos = 0;
+            });
+        } catch (RejectedExecutionException e) {
+            probeSubmittedNanos = 0;   // executor shutting down
+        }
+    }
+
+    private List<String> describe(long depth, long calls, long lag) {
+        List<String> list = new ArrayList<>(3);
+        if (depth >= maxQueueDepth * EXIT_RATIO) {
+            list.add("Server executor queue depth " + depth + " (limit " + maxQueueDepth + ")");
+        }
+        if (calls >= maxInFlight * EXIT_RATIO) {
+            list.add("Unary RPCs in flight " + calls + " (limit " + maxInFlight + ")");
+        }
+        if (lag >= maxLagNanos * EXIT_RATIO) {
+            list.add("Server executor lag " + TimeUnit.NANOSECONDS.toMillis(lag) + "ms (limit "
+                    + TimeUnit.NANOSECONDS.toMillis(maxLagNanos) + "ms)");
+        }
+        if (list.isEmpty()) {
+            list.add("Server recovering from overload");
+        }
+        return Collections.unmodifiableList(list);
+    }
+
+    @Override
+    public void close() {
+        sampler.shutdownNow();
+    }
+}
@@ -0,0 +1,537 @@
+package com.shankarnarayanb.health;
+
+import com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.grpc.Status;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.LongSupplier;
+
+/**
+ * Prometheus text exposition endpoint embedded in the HealthServer.
+ *
+ * Served by the JDK's HttpServer on a single thread, which owns one growable
+ * byte buffer that is reused across scrapes. Histograms are read in place via
+ * the metrics {@code collect} visitors rather than copied, and numbers are
+ * written straight into the buffer, so a scrape allocates very little
+ * regardless of the number of series.
+ *
+ * Latency histograms are exposed as Prometheus histograms (cumulative _bucket
+ * counts, _sum, _count) rather than summaries: quantiles computed here would cover
+ * everything since the process started, while buckets let the server take them over
+ * any window, e.g. histogram_quantile(0.99, rate(..._bucket[5m])). Bucket counts
+ * come from the 2-significant-digit HdrHistograms, so a value within about 1% of a
+ * bucket bound may be counted in the neighbouring bucket.
+ */
+public class PrometheusEndpoint implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PrometheusEndpoint.class);
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final String[] BUCKET_LABELS = {
+            "0.0005", "0.001", "0.0025", "0.005", "0.01", "0.025", "0.05",
+            "0.1", "0.25", "0.5", "1", "2.5", "5", "10", "30"};
+    private static final long[] BUCKET_NANOS = new long[BUCKET_LABELS.length];
+
+    static {
+        for (int i = 0; i < BUCKET_LABELS.length; i++) {
+            BUCKET_NANOS[i] = Math.round(Double.parseDouble(BUCKET_LABELS[i]) * 1_000_000_000L);
+        }
+    }
+
+    private final HealthServiceImpl healthService;
+    private final RpcMetricsInterceptor rpcMetrics;
+    private final List<Gauge> gauges = new ArrayList<>();
+    private final List<Gauge> queueDepths = new ArrayList<>();
+    private final List<Gauge> laneRejections = new ArrayList<>();
+    private final ExpositionBuffer buffer = new ExpositionBuffer(64 * 1024);
+    private final ExpositionBuffer[] families = new ExpositionBuffer[6];
+    private HttpServer httpServer;
+    private ExecutorService executor;
+
+    private record Gauge(String name, String help, LongSupplier value) {
+    }
+
+    public PrometheusEndpoint(HealthServiceImpl healthService, RpcMetricsInterceptor rpcMetrics) {
+        this.healthService = healthService;
+        this.rpcMetrics = rpcMetrics;
+        for (int i = 0; i < families.length; i++) {
+            families[i] = new ExpositionBuffer(16 * 1024);
+        }
+    }
+
+    /**
+     * Register an extra gauge, e.g. an executor queue depth. Must be called before {@link #start(int)}.
+     */
+    public PrometheusEndpoint addGauge(String name, String help, LongSupplier value) {
+        gauges.add(new Gauge(name, help, value));
+        return this;
+    }
+
+    /**
+     * Register an extra executor under health_executor_queue_depth. Must be called before {@link #start(int)}.
+     */
+    public PrometheusEndpoint addQueueDepth(String executor, LongSupplier depth) {
+        queueDepths.add(new Gauge(executor, null, depth));
+        return this;
+    }
+
+    /**
+     * Register a serving lane's shed-call count under health_lane_rejected_total. Must be called before {@link #start(int)}.
+     */
+    public PrometheusEndpoint addLaneRejections(String lane, LongSupplier rejected) {
+        laneRejections.add(new Gauge(lane, null, rejected));
+        return this;
+    }
+
+    public void start(int port) throws IOException {
+        executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "prometheus-endpoint");
+            thread.setDaemon(true);
+            return thread;
+        });
+        httpServer = HttpServer.create(new InetSocketAddress(port), 0);
+        httpServer.createContext("/metrics", this::handle);
+        httpServer.setExecutor(executor);   // single thread: the buffer needs no locking
+        httpServer.start();
+        logger.info("📈 Prometheus metrics available at http://localhost:{}/metrics", port);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            render(buffer);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, buffer.size());
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(buffer.bytes(), 0, buffer.size());
+            }
+        } catch (RuntimeException e) {
+            logger.error("Failed to render metrics", e);
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // Rendering
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    void render(ExpositionBuffer out) {
+        out.reset();
+
+        // Component status as last observed by the check path
+        header(out, "health_component_status", "gauge",
+                "Last observed component status (0=UNKNOWN 1=HEALTHY 2=DEGRADED 3=UNHEALTHY 4=MAINTENANCE)");
+        for (Map.Entry<String, HealthCheckResponse.ServiceStatus> entry : healthService.getLastKnownStatus().entrySet()) {
+            if (!HealthEventLog.OVERALL.equals(entry.getKey())) {
+                out.append("health_component_status{component=\"").appendLabelValue(entry.getKey()).append("\"} ")
+                        .append(entry.getValue().getNumber()).newline();
+            }
+        }
+        HealthCheckResponse.ServiceStatus overall = healthService.getLastKnownStatus().get(HealthEventLog.OVERALL);
+        header(out, "health_overall_status", "gauge", "Last observed overall status");
+        out.append("health_overall_status ").append(overall != null ? overall.getNumber() : 0).newline();
+
+        renderCheckMetrics(out);
+        renderRpcMetrics(out);
+
+        header(out, "health_watch_groups", "gauge", "Active WatchHealth groups");
+        out.append("health_watch_groups ").append(healthService.getWatchGroupCount()).newline();
+        header(out, "health_watch_streams", "gauge", "Open WatchHealth streams");
+        out.append("health_watch_streams ").append(healthService.getWatchSubscriberCount()).newline();
+
+        header(out, "health_executor_queue_depth", "gauge", "Tasks waiting in internal executors and queues");
+        out.append("health_executor_queue_depth{executor=\"watch-scheduler\"} ")
+                .append(healthService.getWatchSchedulerQueueDepth()).newline();
+        out.append("health_executor_queue_depth{executor=\"access-log\"} ")
+                .append(healthService.getAccessLog().getBacklog()).newline();
+        for (Gauge queue : queueDepths) {
+            out.append("health_executor_queue_depth{executor=\"").appendLabelValue(queue.name()).append("\"} ")
+                    .append(queue.value().getAsLong()).newline();
+        }
+
+        if (!laneRejections.isEmpty()) {
+            header(out, "health_lane_rejected_total", "counter", "Calls shed because their serving lane was full");
+            for (Gauge lane : laneRejections) {
+                out.append("health_lane_rejected_total{lane=\"").appendLabelValue(lane.name()).append("\"} ")
+                        .append(lane.value().getAsLong()).newline();
+            }
+        }
+
+        AdmissionController admission = healthService.getAdmissionController();
+        header(out, "health_admission_rejected_total", "counter", "CheckHealth calls not admitted, by reason");
+        out.append("health_admission_rejected_total{reason=\"rate_limited\"} ")
+                .append(admission.getRateLimitedCount()).newline();
+        out.append("health_admission_rejected_total{reason=\"concurrency_limited\"} ")
+                .append(admission.getConcurrencyLimitedCount()).newline();
+        header(out, "health_admission_served_from_cache_total", "counter",
+                "Rejected CheckHealth calls answered with cached results");
+        out.append("health_admission_served_from_cache_total ").append(admission.getServedFromCacheCount()).newline();
+
+        long nowMs = System.currentTimeMillis();
+        LatencySlo slo = healthService.getLatencySlo();
+        header(out, "health_component_latency_slo_seconds", "gauge",
+                "Component check latency at the objective percentile over the sliding window");
+        slo.forEachVerdict(nowMs, (component, verdict) ->
+                out.append("health_component_latency_slo_seconds{component=\"").appendLabelValue(component)
+                        .append("\"} ").appendNanosAsSeconds(verdict.percentileNanos()).newline());
+        header(out, "health_component_latency_slo_breached", "gauge",
+                "1 while a component is over its latency objective");
+        slo.forEachVerdict(nowMs, (component, verdict) ->
+                out.append("health_component_latency_slo_breached{component=\"").appendLabelValue(component)
+                        .append("\"} ").append(verdict.breached() ? 1 : 0).newline());
+
+        ExpositionBuffer baselineMeans = family(0);
+        ExpositionBuffer baselineStddevs = family(1);
+        ExpositionBuffer anomalies = family(2);
+        healthService.getLatencyAnomalyDetector().collect((component, baseline) -> {
+            baselineMeans.append("health_component_latency_ewma_seconds{component=\"").appendLabelValue(component)
+                    .append("\"} ").appendNanosAsSeconds(Math.round(baseline.meanNanos())).newline();
+            baselineStddevs.append("health_component_latency_ewma_stddev_seconds{component=\"")
+                    .appendLabelValue(component)
+                    .append("\"} ").appendNanosAsSeconds(Math.round(baseline.stddevNanos())).newline();
+            anomalies.append("health_component_latency_anomalies_total{component=\"").appendLabelValue(component)
+                    .append("\"} ").append(baseline.anomalies()).newline();
+        });
+        header(out, "health_component_latency_ewma_seconds", "gauge", "Moving average of component check latency");
+        out.append(baselineMeans);
+        header(out, "health_component_latency_ewma_stddev_seconds", "gauge",
+                "Moving standard deviation of component check latency");
+        out.append(baselineStddevs);
+        header(out, "health_component_latency_anomalies_total", "counter",
+                "Component checks whose latency was far outside the moving baseline");
+        out.append(anomalies);
+
+        FlapDamper damper = healthService.getFlapDamper();
+        header(out, "health_component_flap_penalty", "gauge", "Decayed flap damping penalty per component");
+        damper.forEachState(nowMs, (component, state) ->
+                out.append("health_component_flap_penalty{component=\"").appendLabelValue(component)
+                        .append("\"} ").append(Math.round(state.penalty())).newline());
+        header(out, "health_component_flap_suppressed", "gauge",
+                "1 while a flapping component is held at its status");
+        damper.forEachState(nowMs, (component, state) ->
+                out.append("health_component_flap_suppressed{component=\"").appendLabelValue(component)
+                        .append("\"} ").append(state.suppressed() ? 1 : 0).newline());
+
+        header(out, "health_maintenance_windows_active", "gauge", "Maintenance windows in effect now");
+        out.append("health_maintenance_windows_active ")
+                .append(healthService.getMaintenanceSchedule().getActiveCount(nowMs)).newline();
+
+        OverloadMonitor overload = healthService.getOverloadMonitor();
+        if (overload != null) {
+            header(out, "health_server_executor_lag_seconds", "gauge",
+                    "Time a probe task waited in the gRPC serving executor");
+            out.append("health_server_executor_lag_seconds ").appendNanosAsSeconds(overload.getLagNanos()).newline();
+            header(out, "health_server_overloaded", "gauge", "1 while the server reports itself DEGRADED due to load");
+            out.append("health_server_overloaded ").append(overload.isOverloaded() ? 1 : 0).newline();
+        }
+
+        for (Gauge gauge : gauges) {
+            header(out, gauge.name(), "gauge", gauge.help());
+            out.append(gauge.name()).append(' ').append(gauge.value().getAsLong()).newline();
+        }
+    }
+
+    private void renderCheckMetrics(ExpositionBuffer out) {
+        ExpositionBuffer latency = family(0);
+        ExpositionBuffer outcomes = family(1);
+        ExpositionBuffer cacheHits = family(2);
+        ExpositionBuffer fanOut = family(3);
+        ExpositionBuffer deliveries = family(4);
+
+        // One pass over the metrics, each series family written to its own reused buffer
+        healthService.getMetrics().collect(new HealthMetrics.Visitor() {
+            @Override
+            public void component(String name, Histogram histogram, long successes, long failures,
+                                  long timeouts, long hits) {
+                histogram(latency, "health_component_check_duration_seconds", "component", name, histogram);
+                outcomeLine(outcomes, name, "success", successes);
+                outcomeLine(outcomes, name, "failure", failures);
+                outcomeLine(outcomes, name, "timeout", timeouts);
+                cacheHits.append("health_component_cache_hits_total{component=\"").appendLabelValue(name)
+                        .append("\"} ").append(hits).newline();
+            }
+
+            @Override
+            public void method(String name, Histogram histogram) {
+                // Handler-level method timings are covered by the interceptor's grpc_server_* series
+            }
+
+            @Override
+            public void watchFanOut(Histogram histogram, long deliveryCount) {
+                histogram(fanOut, "health_watch_fanout_duration_seconds", null, null, histogram);
+                deliveries.append("health_watch_deliveries_total ").append(deliveryCount).newline();
+            }
+        });
+
+        header(out, "health_component_check_duration_seconds", "histogram", "Component check latency");
+        out.append(latency);
+        header(out, "health_component_checks_total", "counter", "Component checks by outcome");
+        out.append(outcomes);
+        header(out, "health_component_cache_hits_total", "counter", "Component results served from cache");
+        out.append(cacheHits);
+        header(out, "health_watch_fanout_duration_seconds", "histogram", "Watch group evaluation and fan-out time");
+        out.append(fanOut);
+        header(out, "health_watch_deliveries_total", "counter", "Watch updates delivered to streams");
+        out.append(deliveries);
+    }
+
+    private static void outcomeLine(ExpositionBuffer out, String component, String outcome, long value) {
+        out.append("health_component_checks_total{component=\"").appendLabelValue(component)
+                .append("\",outcome=\"").append(outcome).append("\"} ").append(value).newline();
+    }
+
+    private void renderRpcMetrics(ExpositionBuffer out) {
+        if (rpcMetrics == null) {
+            return;
+        }
+        ExpositionBuffer latency = family(0);
+        ExpositionBuffer started = family(1);
+        ExpositionBuffer inFlight = family(2);
+        ExpositionBuffer received = family(3);
+        ExpositionBuffer sent = family(4);
+        ExpositionBuffer handled = family(5);
+
+        rpcMetrics.collect(new RpcMetricsInterceptor.Visitor() {
+            @Override
+            public void method(String name, Histogram histogram, long startedCount, long inFlightCount,
+                               long messagesReceived, long messagesSent) {
+                histogram(latency, "grpc_server_handling_seconds", "grpc_method", name, histogram);
+                methodLine(started, "grpc_server_started_total", name).append(startedCount).newline();
+                methodLine(inFlight, "grpc_server_in_flight", name).append(inFlightCount).newline();
+                methodLine(received, "grpc_server_msg_received_total", name).append(messagesReceived).newline();
+                methodLine(sent, "grpc_server_msg_sent_total", name).append(messagesSent).newline();
+            }
+
+            @Override
+            public void statusCode(String name, Status.Code code, long count) {
+                handled.append("grpc_server_handled_total{grpc_method=\"").appendLabelValue(name)
+                        .append("\",grpc_code=\"").append(code.name()).append("\"} ")
+                        .append(count).newline();
+            }
+        });
+
+        header(out, "grpc_server_handling_seconds", "histogram", "RPC latency from call start to close");
+        out.append(latency);
+        header(out, "grpc_server_started_total", "counter", "RPCs started");
+        out.append(started);
+        header(out, "grpc_server_in_flight", "gauge", "RPCs currently in flight");
+        out.append(inFlight);
+        header(out, "grpc_server_msg_received_total", "counter", "Request messages received");
+        out.append(received);
+        header(out, "grpc_server_msg_sent_total", "counter", "Response messages sent");
+        out.append(sent);
+        header(out, "grpc_server_handled_total", "counter", "RPCs completed by status code");
+        out.append(handled);
+    }
+
+    /**
+     * Scratch buffer for one metric family, cleared for reuse.
+     */
+    private ExpositionBuffer family(int index) {
+        ExpositionBuffer scratch = families[index];
+        scratch.reset();
+        return scratch;
+    }
+
+    private static ExpositionBuffer methodLine(ExpositionBuffer out, String metric, String method) {
+        return out.append(metric).append("{grpc_method=\"").appendLabelValue(method).append("\"} ");
+    }
+
+    private static void header(ExpositionBuffer out, String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).newline();
+        out.append("# TYPE ").append(name).append(' ').append(type).newline();
+    }
+
+    /**
+     * Write a histogram from a cumulative nanosecond histogram, in seconds.
+     */
+    private static void histogram(ExpositionBuffer out, String name, String label, String labelValue, Histogram h) {
+        long count = h.getTotalCount();
+        for (int i = 0; i <= BUCKET_NANOS.length; i++) {
+            out.append(name).append("_bucket{");
+            if (label != null) {
+                out.append(label).append("=\"").appendLabelValue(labelValue).append("\",");
+            }
+            if (i < BUCKET_NANOS.length) {
+                out.append("le=\"").append(BUCKET_LABELS[i]).append("\"} ")
+                        .append(h.getCountBetweenValues(0, BUCKET_NANOS[i])).newline();
+            } else {
+                out.append("le=\"+Inf\"} ").append(count).newline();
+            }
+        }
+        out.append(name).append("_sum");
+        labels(out, label, labelValue);
+        out.appendNanosAsSeconds((long) (h.getMean() * count)).newline();
+        out.append(name).append("_count");
+        labels(out, label, labelValue);
+        out.append(count).newline();
+    }
+
+    private static void labels(ExpositionBuffer out, String label, String labelValue) {
+        if (label != null) {
+            out.append('{').append(label).append("=\"").appendLabelValue(labelValue).append("\"}");
+        }
+        out.append(' ');
+    }
+
+    @Override
+    public void close() {
+        if (httpServer != null) {
+            httpServer.stop(0);
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Growable byte buffer for the text format, reused across scrapes.
+     * Numbers are written digit by digit to avoid intermediate strings.
+     */
+    static final class ExpositionBuffer {
+        private byte[] bytes;
+        private int size;
+        private final byte[] digits = new byte[20];
+
+        ExpositionBuffer(int initialCapacity) {
+            bytes = new byte[initialCapacity];
+        }
+
+        void reset() {
+            size = 0;
+        }
+
+        int size() {
+            return size;
+        }
+
+        byte[] bytes() {
+            return bytes;
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+            }
+        }
+
+        ExpositionBuffer append(ExpositionBuffer other) {
+            ensure(other.size);
+            System.arraycopy(other.bytes, 0, bytes, size, other.size);
+            size += other.size;
+            return this;
+        }
+
+        ExpositionBuffer append(char c) {
+            ensure(1);
+            bytes[size++] = (byte) c;
+            return this;
+        }
+
+        /**
+         * Append ASCII text (metric names, fixed label values).
+         */
+        ExpositionBuffer append(String s) {
+            ensure(s.length());
+            for (int i = 0; i < s.length(); i++) {
+                bytes[size++] = (byte) s.charAt(i);
+            }
+            return this;
+        }
+
+        /**
+         * Append a label value with Prometheus escaping, encoding non-ASCII as UTF-8
+         * (a surrogate pair as one 4-byte sequence, an unpaired surrogate as '?').
+         */
+        ExpositionBuffer appendLabelValue(String s) {
+            for (int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+                if (c == '\\' || c == '"') {
+                    append('\\').append(c);
+                } else if (c == '\n') {
+                    append("\\n");
+                } else if (c < 0x80) {
+                    append(c);
+                } else if (!Character.isSurrogate(c)) {
+                    appendUtf8(c);
+                } else if (Character.isHighSurrogate(c) && i + 1 < s.length()
+                        && Character.isLowSurrogate(s.charAt(i + 1))) {
+                    appendUtf8(Character.toCodePoint(c, s.charAt(++i)));
+                } else {
+                    append('?');
+                }
+            }
+            return this;
+        }
+
+        private void appendUtf8(int codePoint) {
+            ensure(4);
+            if (codePoint < 0x800) {
+                bytes[size++] = (byte) (0xC0 | codePoint >> 6);
+            } else if (codePoint < 0x10000) {
+                bytes[size++] = (byte) (0xE0 | codePoint >> 12);
+                bytes[size++] = (byte) (0x80 | (codePoint >> 6 & 0x3F));
+            } else {
+                bytes[size++] = (byte) (0xF0 | codePoint >> 18);
+                bytes[size++] = (byte) (0x80 | (codePoint >> 12 & 0x3F));
+                bytes[size++] = (byte) (0x80 | (codePoint >> 6 & 0x3F));
+            }
+            bytes[size++] = (byte) (0x80 | (codePoint & 0x3F));
+        }
+
+        ExpositionBuffer append(long value) {
+            if (value < 0) {
+                append('-');
+                if (value == Long.MIN_VALUE) {
+                    return append("9223372036854775808");
+                }
+                value = -value;
+            }
+            int n = 0;
+            do {
+                digits[n++] = (byte) ('0' + value % 10);
+                value /= 10;
+            } while (value > 0);
+            ensure(n);
+            while (n > 0) {
+                bytes[size++] = digits[--n];
+            }
+            return this;
+        }
+
+        /**
+         * Write nanoseconds as decimal seconds with nine fractional digits.
+         */
+        ExpositionBuffer appendNanosAsSeconds(long nanos) {
+            if (nanos < 0) {
+                // The integer part alone would drop the sign of values between -1s and 0
+                append('-');
+            }
+            append(Math.abs(nanos / 1_000_000_000L)).append('.');
+            long fraction = Math.abs(nanos % 1_000_000_000L);
+            ensure(9);
+            for (int i = 8; i >= 0; i--) {
+                bytes[size + i] = (byte) ('0' + fraction % 10);
+                fraction /= 10;
+            }
+            size += 9;
+            return this;
+        }
+
+        ExpositionBuffer newline() {
+            return append('\n');
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.shankarnarayanb.health;
+
+import io.grpc.ForwardingServerCall;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import org.HdrHistogram.Histogram;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Server interceptor that gives a uniform view of every RPC: latency from call
+ * start to close, in-flight calls, messages in each direction and status codes.
+ *
+ * Per call it costs two small wrapper objects, a map lookup on the method name,
+ * two nanoTime reads and a few LongAdder/Recorder updates.
+ */
+public class RpcMetricsInterceptor implements ServerInterceptor {
+
+    private static final Status.Code[] CODES = Status.Code.values();
+
+    private final Map<String, MethodMetrics> methods = new ConcurrentHashMap<>();
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+            ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+
+        String methodName = call.getMethodDescriptor().getFullMethodName();
+        MethodMetrics metrics = methods.get(methodName);
+        if (metrics == null) {
+            boolean unary = call.getMethodDescriptor().getType() == MethodDescriptor.MethodType.UNARY;
+            metrics = methods.computeIfAbsent(methodName, m -> new MethodMetrics(unary));
+        }
+        CallTracker<ReqT, RespT> tracker = new CallTracker<>(call, metrics);
+        metrics.inFlight.increment();
+        metrics.started.increment();
+
+        ServerCall.Listener<ReqT> delegate;
+        try {
+            delegate = next.startCall(tracker, headers);
+        } catch (RuntimeException e) {
+            tracker.finish(Status.fromThrowable(e).getCode());
+            throw e;
+        }
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<ReqT>(delegate) {
+            @Override
+            public void onMessage(ReqT message) {
+                tracker.metrics.messagesReceived.increment();
+                super.onMessage(message);
+            }
+
+            @Override
+            public void onCancel() {
+                tracker.finish(Status.Code.CANCELLED);
+                super.onCancel();
+            }
+        };
+    }
+
+    /**
+     * Total in-flight calls across all methods.
+     */
+    public long getInFlight() {
+        long total = 0;
+        for (MethodMetrics metrics : methods.values()) {
+            total += metrics.inFlight.sum();
+        }
+        return total;
+    }
+
+    /**
+     * In-flight unary calls only; long-lived streams (WatchHealth) are left out, so the
+     * count reflects work queued or running rather than idle subscriptions.
+     */
+    public long getUnaryInFlight() {
+        long total = 0;
+        for (MethodMetrics metrics : methods.values()) {
+            if (metrics.unary) {
+                total += metrics.inFlight.sum();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Calls started across all methods since startup.
+     */
+    public long getStartedCount() {
+        long total = 0;
+        for (MethodMetrics metrics : methods.values()) {
+            total += metrics.started.sum();
+        }
+        return total;
+    }
+
+    /**
+     * Calls finished with any status since startup.
+     */
+    public long getCompletedCount() {
+        long total = 0;
+        for (MethodMetrics metrics : methods.values()) {
+            for (LongAdder count : metrics.statusCodes) {
+                total += count.sum();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Calls finished with an error since startup. CANCELLED is not counted: it is how
+     * clients normally end watch streams.
+     */
+    public long getErrorCount() {
+        long total = 0;
+        for (MethodMetrics metrics : methods.values()) {
+            for (Status.Code code : CODES) {
+                if (code != Status.Code.OK && code != Status.Code.CANCELLED) {
+                    total += metrics.statusCodes[code.value()].sum();
+                }
+            }
+        }
+        return total;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // Snapshots
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    public record MethodSnapshot(HealthMetrics.LatencySnapshot latency, long started, long inFlight,
+                                 long messagesReceived, long messagesSent, Map<Status.Code, Long> statusCodes) {
+    }
+
+    /**
+     * Per-method view keyed by full method name; never blocks in-flight calls.
+     */
+    public synchronized Map<String, MethodSnapshot> snapshot() {
+        Map<String, MethodSnapshot> snapshot = new LinkedHashMap<>();
+        methods.forEach((name, metrics) -> {
+            Map<Status.Code, Long> codes = new LinkedHashMap<>();
+            for (Status.Code code : CODES) {
+                long count = metrics.statusCodes[code.value()].sum();
+                if (count > 0) {
+                    codes.put(code, count);
+                }
+            }
+            snapshot.put(name, new MethodSnapshot(
+                    metrics.latency.snapshot(),
+                    metrics.started.sum(),
+                    metrics.inFlight.sum(),
+                    metrics.messagesReceived.sum(),
+                    metrics.messagesSent.sum(),
+                    Collections.unmodifiableMap(codes)));
+        });
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /**
+     * Callback for allocation-free export; the histogram is live and only valid during the callback.
+     */
+    public interface Visitor {
+        void method(String name, Histogram latency, long started, long inFlight,
+                    long messagesReceived, long messagesSent);
+
+        void statusCode(String name, Status.Code code, long count);
+    }
+
+    /**
+     * Walk per-method metrics without copying histograms. Serialized with {@link #snapshot()}.
+     */
+    public synchronized void collect(Visitor visitor) {
+        methods.forEach((name, metrics) -> {
+            visitor.method(name, metrics.latency.fold(), metrics.started.sum(), metrics.inFlight.sum(),
+                    metrics.messagesReceived.sum(), metrics.messagesSent.sum());
+            for (Status.Code code : CODES) {
+                long count = metrics.statusCodes[code.value()].sum();
+                if (count > 0) {
+                    visitor.statusCode(name, code, count);
+                }
+            }
+        });
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // Internals
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    static final class MethodMetrics {
+        final boolean unary;
+        final HealthMetrics.LatencyRecorder latency = new HealthMetrics.LatencyRecorder();
+        final LongAdder started = new LongAdder();
+        final LongAdder inFlight = new LongAdder();
+        final LongAdder messagesReceived = new LongAdder();
+        final LongAdder messagesSent = new LongAdder();
+        final LongAdder[] statusCodes = new LongAdder[CODES.length];
+
+        MethodMetrics(boolean unary) {
+            this.unary = unary;
+            for (int i = 0; i < statusCodes.length; i++) {
+                statusCodes[i] = new LongAdder();
+            }
+        }
+    }
+
+    /**
+     * Wraps the server call to count outbound messages and observe the final status.
+     * Close and cancel can race; only the first one is recorded.
+     */
+    private static final class CallTracker<ReqT, RespT>
+            extends ForwardingServerCall.SimpleForwardingServerCall<ReqT, RespT> {
+
+        final MethodMetrics metrics;
+        private final long startNanos = System.nanoTime();
+        private final AtomicBoolean finished = new AtomicBoolean();
+
+        CallTracker(ServerCall<ReqT, RespT> delegate, MethodMetrics metrics) {
+            super(delegate);
+            this.metrics = metrics;
+        }
+
+        @Override
+        public void sendMessage(RespT message) {
+            metrics.messagesSent.increment();
+            super.sendMessage(message);
+        }
+
+        @Override
+        public void close(Status status, Metadata trailers) {
+            finish(status.getCode());
+            super.close(status, trailers);
+        }
+
+        void finish(Status.Code code) {
+            if (finished.compareAndSet(false, true)) {
+                metrics.latency.record(System.nanoTime() - startNanos);
+                metrics.statusCodes[code.value()].increment();
+                metrics.inFlight.decrement();
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.shankarnarayanb.health;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One timed operation in a trace: an RPC, a component check or a dependency check.
+ *
+ * Only sampled operations get a real span; everything else shares {@link #NOOP},
+ * whose methods do nothing, so an unsampled request allocates no tracing objects.
+ * A span is owned by the thread that started it and is exported once, on {@link #end()}.
+ */
+public final class Span {
+
+    /** Shared placeholder for unsampled operations. */
+    public static final Span NOOP = new Span(null, 0, 0, 0, 0, "", null);
+
+    private final Tracer tracer;
+    private final long traceIdHigh;
+    private final long traceIdLow;
+    private final long spanId;
+    private final long parentSpanId;
+    private final String name;
+    private final String detail;
+    private final long startEpochMicros;
+    private final long startNanos;
+    private long durationNanos = -1;
+    private String status = "OK";
+
+    Span(Tracer tracer, long traceIdHigh, long traceIdLow, long spanId, long parentSpanId,
+         String name, String detail) {
+        this.tracer = tracer;
+        this.traceIdHigh = traceIdHigh;
+        this.traceIdLow = traceIdLow;
+        this.spanId = spanId;
+        this.parentSpanId = parentSpanId;
+        this.name = name;
+        this.detail = detail;
+        if (tracer != null) {
+            this.startNanos = System.nanoTime();
+            this.startEpochMicros = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+        } else {
+            this.startNanos = 0;
+            this.startEpochMicros = 0;
+        }
+    }
+
+    public boolean isSampled() {
+        return tracer != null;
+    }
+
+    /**
+     * Set the final status, e.g. a gRPC status code or a component health status.
+     */
+    public Span setStatus(String status) {
+        if (tracer != null) {
+            this.status = status;
+        }
+        return this;
+    }
+
+    /**
+     * Stop the clock and hand the span to the exporter. Later calls are ignored.
+     */
+    public void end() {
+        if (tracer != null && durationNanos < 0) {
+            durationNanos = System.nanoTime() - startNanos;
+            tracer.export(this);
+        }
+    }
+
+    public long getTraceIdHigh() {
+        return traceIdHigh;
+    }
+
+    public long getTraceIdLow() {
+        return traceIdLow;
+    }
+
+    public long getSpanId() {
+        return spanId;
+    }
+
+    /**
+     * Parent span id, or 0 for a root span.
+     */
+    public long getParentSpanId() {
+        return parentSpanId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Optional detail such as the component or dependency name; may be null.
+     */
+    public String getDetail() {
+        return detail;
+    }
+
+    public long getStartEpochMicros() {
+        return startEpochMicros;
+    }
+
+    /**
+     * Duration in nanoseconds, or -1 while the span is still open.
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * W3C trace id: 32 lowercase hex characters.
+     */
+    public String getTraceId() {
+        return Tracer.hex(traceIdHigh) + Tracer.hex(traceIdLow);
+    }
+
+    @Override
+    public String toString() {
+        return "Span{" + name + (detail != null ? " " + detail : "")
+                + " trace=" + getTraceId() + " span=" + Tracer.hex(spanId)
+                + " parent=" + Tracer.hex(parentSpanId) + " " + durationNanos + "ns " + status + "}";
+    }
+}
@@ -0,0 +1,19 @@
+package com.shankarnarayanb.health;
+
+/**
+ * Destination for finished spans.
+ *
+ * {@link #export(Span)} is called on the thread that ended the span, so
+ * implementations must be thread-safe and must not block.
+ */
+public interface SpanExporter extends AutoCloseable {
+
+    void export(Span span);
+
+    /**
+     * Flush anything buffered and release resources.
+     */
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,376 @@
+package com.shankarnarayanb.health;
+
+import com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth;
+import com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rules that turn component results into the overall status.
+ *
+ * Components differ in how much they matter:
+ *
+ *   - CRITICAL: unavailable makes the service UNHEALTHY, not functional makes it DEGRADED
+ *   - NORMAL (default): any failure makes the service DEGRADED; it is UNHEALTHY only once
+ *     the unavailable components carry at least health.status.unhealthyWeight of the
+ *     total weight (1.0 by default, i.e. nothing works)
+ *   - OPTIONAL: failures only add a warning
+ *
+ * A quorum rule groups interchangeable components (replicas) into one unit that is up
+ * while at least k members are: {@code -Dhealth.quorum.db=2:db-1,db-2,db-3}. The group
+ * then takes part like a single component named after the rule, with its own
+ * criticality and weight; its members' own settings are ignored. Only members present
+ * in a response count, so a request naming one replica needs just that one.
+ *
+ * Criticality and weight come from health.criticality.&lt;name&gt; and
+ * health.weight.&lt;name&gt; (default 1.0), for components and quorum groups alike.
+ * Like the quorum rules they are checked when the policy is built, so a typo fails
+ * startup instead of every check.
+ *
+ * A component in a maintenance window is a planned outage and goes through the same
+ * rules: where its being unavailable would make the service UNHEALTHY the service is
+ * MAINTENANCE instead, where it would make it DEGRADED it does so with a warning, and
+ * an optional one only warns. A real outage still outranks planned work. A quorum
+ * group is in maintenance when it is short of its quorum only because of members in
+ * maintenance.
+ *
+ * Results are folded into an {@link Evaluation} as they arrive, in constant time
+ * each, so the status is ready without rescanning the result map. The same pass
+ * folds component health scores into the node's: their weighted mean, capped by the
+ * lowest critical one (optional components don't count; a quorum group scores the
+ * mean of its members).
+ */
+public class StatusPolicy {
+
+    public enum Criticality { CRITICAL, NORMAL, OPTIONAL }
+
+    /** Same bound as the check metrics, so arbitrary component names can't grow this without limit. */
+    private static final int MAX_COMPONENTS = 256;
+    private static final Rule DEFAULT_RULE = new Rule(Criticality.NORMAL, 1.0, -1);
+
+    private final double unhealthyWeight = Double.parseDouble(System.getProperty("health.status.unhealthyWeight", "1.0"));
+    private final List<Quorum> quorums = new ArrayList<>();
+    private final Map<String, Rule> rules = new ConcurrentHashMap<>();
+
+    private record Rule(Criticality criticality, double weight, int quorum) {
+    }
+
+    private record Quorum(String name, int required, Rule rule) {
+    }
+
+    public StatusPolicy() {
+        Map<String, Integer> memberOf = new HashMap<>();
+        for (String property : System.getProperties().stringPropertyNames()) {
+            if (property.startsWith("health.criticality.")) {
+                configuredRule(property.substring("health.criticality.".length()));
+                continue;
+            }
+            if (property.startsWith("health.weight.")) {
+                configuredRule(property.substring("health.weight.".length()));
+                continue;
+            }
+            if (!property.startsWith("health.quorum.")) {
+                continue;
+            }
+            String name = property.substring("health.quorum.".length());
+            String spec = System.getProperty(property);
+            int colon = spec.indexOf(':');
+            if (name.isEmpty() || colon < 0) {
+                throw new IllegalArgumentException(property + " must look like <k>:<component>,<component>,...");
+            }
+            int required;
+            try {
+                required = Integer.parseInt(spec.substring(0, colon).trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(property + " must look like <k>:<component>,<component>,...");
+            }
+            List<String> members = new ArrayList<>();
+            for (String member : spec.substring(colon + 1).split(",")) {
+                if (!member.isBlank()) {
+                    members.add(member.trim());
+                }
+            }
+            if (required < 1 || required > members.size()) {
+                throw new IllegalArgumentException(property + ": quorum " + required + " of "
+                        + members.size() + " components is not satisfiable");
+            }
+            int index = quorums.size();
+            quorums.add(new Quorum(name, required, configuredRule(name)));
+            for (String member : members) {
+                Integer previous = memberOf.putIfAbsent(member, index);
+                if (previous != null) {
+                    throw new IllegalArgumentException(member + " is in quorum groups "
+                            + quorums.get(previous).name() + " and " + name);
+                }
+                rules.put(member, new Rule(Criticality.NORMAL, 0, index));
+            }
+        }
+    }
+
+    /**
+     * Start folding the results of one check.
+     */
+    public Evaluation newEvaluation() {
+        return new Evaluation();
+    }
+
+    public Criticality criticalityOf(String component) {
+        Rule rule = ruleFor(component);
+        return rule.quorum() >= 0 ? quorums.get(rule.quorum()).rule().criticality() : rule.criticality();
+    }
+
+    private Rule ruleFor(String component) {
+        Rule rule = rules.get(component);
+        if (rule != null) {
+            return rule;
+        }
+        rule = configuredRule(component);
+        if (rules.size() < MAX_COMPONENTS) {
+            rules.putIfAbsent(component, rule);
+        }
+        return rule;
+    }
+
+    private static Rule configuredRule(String name) {
+        String criticality = System.getProperty("health.criticality." + name);
+        String weight = System.getProperty("health.weight." + name);
+        if (criticality == null && weight == null) {
+            return DEFAULT_RULE;
+        }
+        return new Rule(
+                criticality != null ? parseCriticality(name, criticality) : Criticality.NORMAL,
+                weight != null ? parseWeight(name, weight) : 1.0,
+                -1);
+    }
+
+    private static Criticality parseCriticality(String name, String value) {
+        try {
+            return Criticality.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("health.criticality." + name + " must be one of "
+                    + Arrays.toString(Criticality.values()) + ", not '" + value + "'");
+        }
+    }
+
+    private static double parseWeight(String name, String value) {
+        double weight;
+        try {
+            weight = Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("health.weight." + name + " must be a number, not '" + value + "'");
+        }
+        if (!(weight >= 0) || Double.isInfinite(weight)) {
+            throw new IllegalArgumentException("health.weight." + name + " must be a finite number >= 0, not " + value);
+        }
+        return weight;
+    }
+
+    /**
+     * The component's health score, or one derived from its status when it has none.
+     */
+    private static double scoreOf(ComponentHealth health) {
+        if (health.hasAvailability()) {
+            return health.getHealthScore();
+        }
+        return health.getAvailable() ? (health.getFunctional() ? 100 : 50) : 0;
+    }
+
+    /**
+     * Running tally for one check. Not thread-safe: one check feeds it from one thread.
+     */
+    public final class Evaluation {
+        private double totalWeight;
+        private double unavailableWeight;
+        private double maintenanceWeight;
+        private boolean degraded;
+        private String criticalUnavailable;
+        private String criticalInMaintenance;
+        private List<String> warnings = Collections.emptyList();
+        private double weightedScore;
+        private double scoredWeight;
+        private double lowestCriticalScore = 100;
+
+        // Per quorum group, allocated when the first member arrives
+        private int[] seen;
+        private int[] available;
+        private int[] healthy;
+        private int[] inMaintenance;
+        private double[] scores;
+
+        private Evaluation() {
+        }
+
+        /**
+         * Fold in one component's result.
+         */
+        public void add(String component, ComponentHealth health) {
+            Rule rule = ruleFor(component);
+            if (rule.quorum() >= 0) {
+                allocateQuorums();
+                seen[rule.quorum()]++;
+                scores[rule.quorum()] += scoreOf(health);
+                if (health.getAvailable()) {
+                    available[rule.quorum()]++;
+                    if (health.getFunctional()) {
+                        healthy[rule.quorum()]++;
+                    }
+                }
+                return;
+            }
+            apply(component, rule, health.getAvailable(), health.getAvailable() && health.getFunctional(),
+                    scoreOf(health));
+        }
+
+        /**
+         * Fold in a component that was not probed because it is in a maintenance window.
+         */
+        public void addMaintenance(String component) {
+            Rule rule = ruleFor(component);
+            if (rule.quorum() >= 0) {
+                allocateQuorums();
+                seen[rule.quorum()]++;
+                inMaintenance[rule.quorum()]++;
+                return;
+            }
+            applyMaintenance(component, rule, 0);
+        }
+
+        private void allocateQuorums() {
+            if (seen == null) {
+                seen = new int[quorums.size()];
+                available = new int[quorums.size()];
+                healthy = new int[quorums.size()];
+                inMaintenance = new int[quorums.size()];
+                scores = new double[quorums.size()];
+            }
+        }
+
+        private void applyMaintenance(String name, Rule rule, double score) {
+            if (rule.criticality() == Criticality.OPTIONAL) {
+                warn("Optional component " + name + " is in maintenance");
+                return;
+            }
+            totalWeight += rule.weight();
+            maintenanceWeight += rule.weight();
+            weightedScore += rule.weight() * score;
+            scoredWeight += rule.weight();
+            if (rule.criticality() == Criticality.CRITICAL) {
+                lowestCriticalScore = Math.min(lowestCriticalScore, score);
+                if (criticalInMaintenance == null) {
+                    criticalInMaintenance = name;
+                }
+            } else {
+                warn("Component " + name + " is in maintenance");
+            }
+            degraded = true;
+        }
+
+        private void apply(String name, Rule rule, boolean isAvailable, boolean isHealthy, double score) {
+            if (rule.criticality() == Criticality.OPTIONAL) {
+                if (!isHealthy) {
+                    warn("Optional component " + name + " is " + (isAvailable ? "degraded" : "unavailable"));
+                }
+                return;
+            }
+            totalWeight += rule.weight();
+            weightedScore += rule.weight() * score;
+            scoredWeight += rule.weight();
+            if (rule.criticality() == Criticality.CRITICAL) {
+                lowestCriticalScore = Math.min(lowestCriticalScore, score);
+            }
+            if (!isAvailable) {
+                unavailableWeight += rule.weight();
+                if (rule.criticality() == Criticality.CRITICAL && criticalUnavailable == null) {
+                    criticalUnavailable = name;
+                }
+            }
+            degraded |= !isHealthy;
+        }
+
+        /**
+         * The overall status of everything added so far. Call after the last result.
+         */
+        public HealthCheckResponse.ServiceStatus status() {
+            foldQuorums();
+            if (criticalUnavailable != null
+                    || (totalWeight > 0 && unavailableWeight >= totalWeight * unhealthyWeight)) {
+                return HealthCheckResponse.ServiceStatus.UNHEALTHY;
+            }
+            if (criticalInMaintenance != null
+                    || (maintenanceWeight > 0 && unavailableWeight + maintenanceWeight >= totalWeight * unhealthyWeight)) {
+                return HealthCheckResponse.ServiceStatus.MAINTENANCE;
+            }
+            return degraded ? HealthCheckResponse.ServiceStatus.DEGRADED : HealthCheckResponse.ServiceStatus.HEALTHY;
+        }
+
+        /**
+         * The node's health score, 0-100, from everything added so far.
+         */
+        public double score() {
+            foldQuorums();
+            double mean = scoredWeight > 0 ? weightedScore / scoredWeight : 100;
+            return HealthScores.round(Math.min(mean, lowestCriticalScore));
+        }
+
+        private void foldQuorums() {
+            if (seen != null) {
+                for (int i = 0; i < quorums.size(); i++) {
+                    if (seen[i] > 0) {
+                        applyQuorum(quorums.get(i), seen[i], available[i], healthy[i], inMaintenance[i],
+                                scores[i] / seen[i]);
+                    }
+                }
+                seen = null;
+            }
+        }
+
+        private void applyQuorum(Quorum quorum, int members, int up, int healthyMembers, int maintenanceMembers,
+                                 double score) {
+            int required = Math.min(quorum.required(), members);
+            String inMaintenanceNote = maintenanceMembers > 0 ? ", " + maintenanceMembers + " in maintenance" : "";
+            if (healthyMembers < members && healthyMembers >= required) {
+                warn("Quorum " + quorum.name() + ": " + healthyMembers + " of " + members + " healthy (need "
+                        + required + inMaintenanceNote + ")");
+            }
+            if (up < required && up + maintenanceMembers >= required) {
+                applyMaintenance("quorum " + quorum.name() + " (" + up + " of " + members + " available"
+                        + inMaintenanceNote + ", need " + required + ")", quorum.rule(), score);
+                return;
+            }
+            apply("quorum " + quorum.name() + " (" + up + " of " + members + " available, need " + required + ")",
+                    quorum.rule(), up >= required, healthyMembers >= required, score);
+        }
+
+        /**
+         * Why the status is UNHEALTHY, for the response's error message.
+         */
+        public String unhealthyReason() {
+            if (criticalUnavailable != null) {
+                return "Critical component " + criticalUnavailable + " is unavailable";
+            }
+            return "Too many components are unavailable";
+        }
+
+        /**
+         * Failures and maintenance that did not decide the status (optional components, quorums
+         * still met, components whose maintenance only degrades the service).
+         */
+        public List<String> getWarnings() {
+            return warnings;
+        }
+
+        private void warn(String warning) {
+            if (warnings.isEmpty()) {
+                warnings = new ArrayList<>(2);
+            }
+            warnings.add(warning);
+        }
+    }
+}
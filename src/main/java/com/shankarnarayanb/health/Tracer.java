@@ -0,0 +1,286 @@
+package com.shankarnarayanb.health;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.ForwardingServerCall;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Minimal in-process tracer: head-based sampling, W3C {@code traceparent}
+ * propagation over gRPC metadata, and a pluggable {@link SpanExporter}.
+ *
+ * The sampling decision is made once per trace, at the root. A server call that
+ * arrives with a {@code traceparent} header follows the caller's decision; one
+ * without it samples locally at the configured rate. Unsampled calls get
+ * {@link Span#NOOP} and no extra gRPC context or call wrappers.
+ *
+ * The current span is carried in the gRPC {@link Context}, so service code can
+ * pick it up with {@link #current()} and pass it down explicitly to child spans.
+ */
+public class Tracer {
+
+    static final Metadata.Key<String> TRACEPARENT =
+            Metadata.Key.of("traceparent", Metadata.ASCII_STRING_MARSHALLER);
+    private static final Context.Key<Span> SPAN_KEY = Context.keyWithDefault("health-span", Span.NOOP);
+
+    static final double DEFAULT_SAMPLE_RATE = 0.01;
+    static final String DEFAULT_TRACE_FILE = "health-traces.jsonl";
+
+    private static final Tracer DISABLED = new Tracer(0, null);
+
+    private final double sampleRate;
+    private final SpanExporter exporter;
+
+    /**
+     * @param sampleRate fraction of new traces to sample, 0.0 - 1.0
+     * @param exporter   where finished spans go; null disables tracing
+     */
+    public Tracer(double sampleRate, SpanExporter exporter) {
+        this.sampleRate = exporter != null ? sampleRate : 0;
+        this.exporter = exporter;
+    }
+
+    /**
+     * A tracer that never samples. Its client interceptor still forwards a sampled
+     * span found in the current context.
+     */
+    public static Tracer disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Build a tracer from system properties:
+     * health.trace.exporter (memory | file | none, default none), health.trace.sampleRate
+     * (default 0.01) and health.trace.file (default health-traces.jsonl).
+     *
+     * Tracing is off unless an exporter is chosen: a memory ring nobody reads only costs
+     * allocation. Even off, sampled traceparent headers from callers are still forwarded.
+     */
+    public static Tracer fromSystemProperties() throws IOException {
+        double sampleRate = Double.parseDouble(
+                System.getProperty("health.trace.sampleRate", String.valueOf(DEFAULT_SAMPLE_RATE)));
+        String exporterName = System.getProperty("health.trace.exporter", "none");
+        switch (exporterName) {
+            case "none":
+                return DISABLED;
+            case "file":
+                return new Tracer(sampleRate, new FileSpanExporter(
+                        Paths.get(System.getProperty("health.trace.file", DEFAULT_TRACE_FILE))));
+            case "memory":
+                return new Tracer(sampleRate, new InMemorySpanExporter());
+            default:
+                throw new IllegalArgumentException("Unknown health.trace.exporter: " + exporterName);
+        }
+    }
+
+    public boolean isEnabled() {
+        return exporter != null;
+    }
+
+    /**
+     * The exporter, or null when tracing is disabled.
+     */
+    public SpanExporter getExporter() {
+        return exporter;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // Span creation
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Start a new trace, subject to sampling.
+     */
+    public Span startRoot(String name, String detail) {
+        if (!sample()) {
+            return Span.NOOP;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new Span(this, random.nextLong(), nonZeroId(random), nonZeroId(random), 0, name, detail);
+    }
+
+    /**
+     * Start a child of {@code parent}; unsampled parents yield {@link Span#NOOP}.
+     */
+    public Span startChild(Span parent, String name, String detail) {
+        if (!parent.isSampled() || exporter == null) {
+            return Span.NOOP;
+        }
+        return new Span(this, parent.getTraceIdHigh(), parent.getTraceIdLow(),
+                nonZeroId(ThreadLocalRandom.current()), parent.getSpanId(), name, detail);
+    }
+
+    /**
+     * The span attached to the current gRPC context, or {@link Span#NOOP}.
+     */
+    public static Span current() {
+        return SPAN_KEY.get();
+    }
+
+    /**
+     * A context carrying {@code span}, for work that should run as its child.
+     */
+    public static Context withSpan(Span span) {
+        return Context.current().withValue(SPAN_KEY, span);
+    }
+
+    void export(Span span) {
+        exporter.export(span);
+    }
+
+    private boolean sample() {
+        return sampleRate >= 1.0 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    private static long nonZeroId(ThreadLocalRandom random) {
+        long id;
+        do {
+            id = random.nextLong();
+        } while (id == 0);
+        return id;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // traceparent: 00-<32 hex trace id>-<16 hex parent span id>-<2 hex flags>
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    static String traceparent(Span span) {
+        return "00-" + hex(span.getTraceIdHigh()) + hex(span.getTraceIdLow()) + "-" + hex(span.getSpanId()) + "-01";
+    }
+
+    /**
+     * Continue a trace from an incoming header. Returns null if the header is malformed,
+     * {@link Span#NOOP} if the caller did not sample it.
+     */
+    Span continueTrace(String header, String name, String detail) {
+        if (header.length() != 55 || header.charAt(2) != '-' || header.charAt(35) != '-' || header.charAt(52) != '-') {
+            return null;
+        }
+        try {
+            long traceIdHigh = Long.parseUnsignedLong(header, 3, 19, 16);
+            long traceIdLow = Long.parseUnsignedLong(header, 19, 35, 16);
+            long parentSpanId = Long.parseUnsignedLong(header, 36, 52, 16);
+            int flags = Integer.parseInt(header, 53, 55, 16);
+            if ((traceIdHigh == 0 && traceIdLow == 0) || parentSpanId == 0) {
+                return null;
+            }
+            if ((flags & 1) == 0 || exporter == null) {
+                return Span.NOOP;
+            }
+            return new Span(this, traceIdHigh, traceIdLow, nonZeroId(ThreadLocalRandom.current()),
+                    parentSpanId, name, detail);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    static String hex(long value) {
+        String digits = Long.toHexString(value);
+        return digits.length() == 16 ? digits : "0000000000000000".substring(digits.length()) + digits;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // gRPC interceptors
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Server interceptor that opens one span per sampled RPC, attaches it to the call's
+     * context and ends it with the call's status code.
+     */
+    public ServerInterceptor serverInterceptor() {
+        return new ServerInterceptor() {
+            @Override
+            public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+                    ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+                if (exporter == null) {
+                    return next.startCall(call, headers);
+                }
+                String methodName = call.getMethodDescriptor().getFullMethodName();
+                String header = headers.get(TRACEPARENT);
+                Span span = header != null ? continueTrace(header, methodName, null) : null;
+                if (span == null) {
+                    span = startRoot(methodName, null);
+                }
+                if (!span.isSampled()) {
+                    return next.startCall(call, headers);
+                }
+
+                Span rpcSpan = span;
+                AtomicBoolean ended = new AtomicBoolean();
+                ServerCall<ReqT, RespT> tracedCall = new ForwardingServerCall.SimpleForwardingServerCall<>(call) {
+                    @Override
+                    public void close(Status status, Metadata trailers) {
+                        if (ended.compareAndSet(false, true)) {
+                            rpcSpan.setStatus(status.getCode().name()).end();
+                        }
+                        super.close(status, trailers);
+                    }
+                };
+                ServerCall.Listener<ReqT> delegate = Contexts.interceptCall(
+                        Context.current().withValue(SPAN_KEY, rpcSpan), tracedCall, headers, next);
+                return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(delegate) {
+                    @Override
+                    public void onCancel() {
+                        if (ended.compareAndSet(false, true)) {
+                            rpcSpan.setStatus(Status.Code.CANCELLED.name()).end();
+                        }
+                        super.onCancel();
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Client interceptor that sends {@code traceparent} for sampled calls. If the current
+     * context holds a sampled span the call joins that trace; otherwise a new trace is
+     * sampled at this tracer's rate. Unsampled calls are sent untouched.
+     */
+    public ClientInterceptor clientInterceptor() {
+        return new ClientInterceptor() {
+            @Override
+            public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+                    MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+                Span parent = current();
+                Span span = parent.isSampled()
+                        ? startChild(parent, method.getFullMethodName(), "client")
+                        : startRoot(method.getFullMethodName(), "client");
+                Span propagated = span.isSampled() ? span : parent;
+                if (!propagated.isSampled()) {
+                    return next.newCall(method, callOptions);
+                }
+
+                return new ForwardingClientCall.SimpleForwardingClientCall<>(next.newCall(method, callOptions)) {
+                    @Override
+                    public void start(Listener<RespT> responseListener, Metadata headers) {
+                        headers.put(TRACEPARENT, traceparent(propagated));
+                        super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<>(responseListener) {
+                            @Override
+                            public void onClose(Status status, Metadata trailers) {
+                                span.setStatus(status.getCode().name()).end();
+                                super.onClose(status, trailers);
+                            }
+                        }, headers);
+                    }
+                };
+            }
+        };
+    }
+}
@@ -0,0 +1,212 @@
+package com.shankarnarayanb.health;
+
+import com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse;
+import com.shankarnarayanb.health.v1.HealthServiceProto.HealthWatchRequest;
+import io.grpc.stub.ServerCallStreamObserver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A set of WatchHealth subscribers that asked for the same components at the same interval.
+ *
+ * The group evaluates health once per tick and fans the result out to every
+ * subscriber, instead of running one check per stream. Each update carries a
+ * sequence number so that clients can detect gaps after reconnecting, and the
+ * group's random epoch. Sequence numbers count from 1 within an epoch; a client
+ * that reconnects to another replica (or a restarted server) sees a new epoch
+ * and starts comparing afresh instead of discarding updates as already seen.
+ */
+class WatchGroup {
+
+    private static final Logger logger = LoggerFactory.getLogger(WatchGroup.class);
+
+    private final String key;
+    private final HealthWatchRequest request;
+    private final int intervalSeconds;
+    private final Set<ServerCallStreamObserver<HealthCheckResponse>> subscribers = new CopyOnWriteArraySet<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final long epoch = newEpoch();
+
+    private volatile HealthCheckResponse latest;
+    private volatile ScheduledFuture<?> task;
+
+    WatchGroup(String key, HealthWatchRequest request, int intervalSeconds) {
+        this.key = key;
+        this.request = request;
+        this.intervalSeconds = intervalSeconds;
+    }
+
+    /**
+     * A random, non-zero epoch (0 means "none" on the wire).
+     */
+    static long newEpoch() {
+        long epoch;
+        do {
+            epoch = ThreadLocalRandom.current().nextLong();
+        } while (epoch == 0);
+        return epoch;
+    }
+
+    /**
+     * Group key: sorted component list plus interval, so equivalent requests share a group.
+     */
+    static String keyOf(HealthWatchRequest request, int intervalSeconds) {
+        List<String> components = new ArrayList<>(request.getComponentsList());
+        components.sort(null);
+        return String.join(",", components) + "@" + intervalSeconds;
+    }
+
+    String getKey() {
+        return key;
+    }
+
+    HealthWatchRequest getRequest() {
+        return request;
+    }
+
+    long getEpoch() {
+        return epoch;
+    }
+
+    int getIntervalSeconds() {
+        return intervalSeconds;
+    }
+
+    int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    Set<ServerCallStreamObserver<HealthCheckResponse>> getSubscribers() {
+        return subscribers;
+    }
+
+    HealthCheckResponse getLatest() {
+        return latest;
+    }
+
+    void setTask(ScheduledFuture<?> task) {
+        this.task = task;
+    }
+
+    void add(ServerCallStreamObserver<HealthCheckResponse> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * @return true if the group has no subscribers left
+     */
+    boolean remove(ServerCallStreamObserver<HealthCheckResponse> subscriber) {
+        subscribers.remove(subscriber);
+        return subscribers.isEmpty();
+    }
+
+    void cancel() {
+        ScheduledFuture<?> current = task;
+        if (current != null) {
+            current.cancel(false);
+        }
+    }
+
+    /**
+     * Stamp a freshly evaluated response with the next sequence number and send it to all subscribers.
+     * Synchronized so updates published off the schedule (drain, maintenance changes) can't reach
+     * subscribers out of sequence order.
+     *
+     * @return the number of subscribers the update was delivered to
+     */
+    int publish(HealthCheckResponse update) {
+        return publish(update, false);
+    }
+
+    /**
+     * Publish the last update before the streams end (drain): it goes to every subscriber,
+     * even one whose transport buffer is full, since no later update will supersede it.
+     */
+    int publishFinal(HealthCheckResponse update) {
+        return publish(update, true);
+    }
+
+    private synchronized int publish(HealthCheckResponse update, boolean evenIfNotReady) {
+        HealthCheckResponse stamped = update.toBuilder()
+                .setSequenceNumber(sequence.incrementAndGet())
+                .setWatchEpoch(epoch)
+                .build();
+        latest = stamped;
+
+        int delivered = 0;
+        for (ServerCallStreamObserver<HealthCheckResponse> subscriber : subscribers) {
+            if (send(subscriber, stamped, evenIfNotReady)) {
+                delivered++;
+            }
+        }
+        return delivered;
+    }
+
+    /**
+     * End every subscriber's stream with onCompleted, e.g. when the server drains.
+     *
+     * @return the number of streams completed
+     */
+    int complete() {
+        int completed = 0;
+        for (ServerCallStreamObserver<HealthCheckResponse> subscriber : subscribers) {
+            synchronized (subscriber) {
+                if (subscriber.isCancelled()) {
+                    continue;
+                }
+                try {
+                    subscriber.onCompleted();
+                    completed++;
+                } catch (RuntimeException e) {
+                    logger.debug("Failed to complete watch subscriber in group {}: {}", key, e.getMessage());
+                }
+            }
+        }
+        subscribers.clear();
+        return completed;
+    }
+
+    /**
+     * Send the latest state to a (re)joining subscriber if it hasn't seen it yet: it resumes
+     * from another epoch, or from an earlier sequence number in this one.
+     */
+    void catchUp(ServerCallStreamObserver<HealthCheckResponse> subscriber, HealthWatchRequest request) {
+        synchronized (subscriber) {
+            // Read under the subscriber lock so a concurrent publish can't be overtaken by an older update
+            HealthCheckResponse current = latest;
+            if (current != null && (request.getResumeEpoch() != epoch
+                    || current.getSequenceNumber() > request.getResumeAfterSequence())) {
+                send(subscriber, current, false);
+            }
+        }
+    }
+
+    /**
+     * Slow subscribers whose transport buffer is full skip this update rather than
+     * buffering unboundedly - health is a state stream, so the next update supersedes it.
+     */
+    private boolean send(ServerCallStreamObserver<HealthCheckResponse> subscriber, HealthCheckResponse update,
+                         boolean evenIfNotReady) {
+        synchronized (subscriber) {
+            if (subscriber.isCancelled() || (!evenIfNotReady && !subscriber.isReady())) {
+                return false;
+            }
+            try {
+                subscriber.onNext(update);
+                return true;
+            } catch (RuntimeException e) {
+                logger.debug("Dropping watch subscriber in group {}: {}", key, e.getMessage());
+                subscribers.remove(subscriber);
+                return false;
+            }
+        }
+    }
+}
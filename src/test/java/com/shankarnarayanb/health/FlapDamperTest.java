@@ -0,0 +1,170 @@
+package com.shankarnarayanb.health;
+
+import com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth;
+import com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse.ServiceStatus;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Hysteresis and flap damping in {@link FlapDamper}, driven with explicit clock values
+ * under the default settings: 2 checks down, 3 up, penalty 1000 per change, suppress
+ * at 2000, reuse below 750, 60s half-life.
+ */
+public class FlapDamperTest {
+
+    private static final String COMPONENT = "database";
+    private static final long HALF_LIFE_MS = 60_000;
+
+    private final FlapDamper damper = new FlapDamper();
+
+    @Test
+    public void firstResultIsReportedAsIs() {
+        damper.observe(COMPONENT, ServiceStatus.UNHEALTHY, 0);
+        ComponentHealth unhealthy = health(ServiceStatus.UNHEALTHY);
+        assertSame(unhealthy, damper.apply(COMPONENT, unhealthy, 0));
+    }
+
+    @Test
+    public void worseStatusNeedsDownChecksInARow() {
+        damper.observe(COMPONENT, ServiceStatus.HEALTHY, 0);
+
+        damper.observe(COMPONENT, ServiceStatus.UNHEALTHY, 1);
+        ComponentHealth held = damper.apply(COMPONENT, health(ServiceStatus.UNHEALTHY), 1);
+        assertEquals(ServiceStatus.HEALTHY, HealthServiceImpl.statusOf(held));
+        assertTrue(held.getLastCheckInfo(),
+                held.getLastCheckInfo().startsWith("Holding HEALTHY: last check UNHEALTHY (1 of 2"));
+
+        damper.observe(COMPONENT, ServiceStatus.UNHEALTHY, 2);
+        assertEquals(ServiceStatus.UNHEALTHY, reported(ServiceStatus.UNHEALTHY, 2));
+    }
+
+    @Test
+    public void betterStatusNeedsUpChecksInARow() {
+        damper.observe(COMPONENT, ServiceStatus.UNHEALTHY, 0);
+        observe(ServiceStatus.HEALTHY, 2, 1);
+        assertEquals(ServiceStatus.UNHEALTHY, reported(ServiceStatus.HEALTHY, 2));
+
+        // A result equal to the stable status breaks the streak
+        damper.observe(COMPONENT, ServiceStatus.UNHEALTHY, 3);
+        observe(ServiceStatus.HEALTHY, 2, 4);
+        assertEquals(ServiceStatus.UNHEALTHY, reported(ServiceStatus.HEALTHY, 5));
+
+        damper.observe(COMPONENT, ServiceStatus.HEALTHY, 6);
+        assertEquals(ServiceStatus.HEALTHY, reported(ServiceStatus.HEALTHY, 6));
+        assertEquals(1000, state(6).penalty(), 1e-9);
+    }
+
+    @Test
+    public void flappingIsSuppressedButWorseStillGetsThrough() {
+        // No time passes, so nothing decays: two changes reach the suppress limit
+        damper.observe(COMPONENT, ServiceStatus.HEALTHY, 0);
+        observe(ServiceStatus.UNHEALTHY, 2, 0);
+        observe(ServiceStatus.HEALTHY, 3, 0);
+        FlapDamper.State state = state(0);
+        assertEquals(ServiceStatus.HEALTHY, state.stable());
+        assertEquals(2000, state.penalty(), 1e-9);
+        assertTrue(state.suppressed());
+
+        // A worse status is reported even while suppressed
+        observe(ServiceStatus.UNHEALTHY, 2, 0);
+        assertEquals(ServiceStatus.UNHEALTHY, reported(ServiceStatus.UNHEALTHY, 0));
+        assertEquals(3000, state(0).penalty(), 1e-9);
+
+        // ... but recovering is not, however many healthy results come in
+        observe(ServiceStatus.HEALTHY, 10, 1);
+        ComponentHealth held = damper.apply(COMPONENT, health(ServiceStatus.HEALTHY), 1);
+        assertEquals(ServiceStatus.UNHEALTHY, HealthServiceImpl.statusOf(held));
+        assertTrue(held.getLastCheckInfo(), held.getLastCheckInfo().startsWith("Flapping: holding UNHEALTHY"));
+    }
+
+    @Test
+    public void recoveriesAreReportedAgainOncePenaltyDecaysBelowReuse() {
+        damper.observe(COMPONENT, ServiceStatus.HEALTHY, 0);
+        observe(ServiceStatus.UNHEALTHY, 2, 0);
+        observe(ServiceStatus.HEALTHY, 3, 0);
+        observe(ServiceStatus.UNHEALTHY, 2, 0);    // penalty 3000, suppressed at UNHEALTHY
+        observe(ServiceStatus.HEALTHY, 3, 1);
+
+        // 3000 decays to the reuse limit of 750 after two half-lives
+        long reuseAtMs = 2 * HALF_LIFE_MS;
+        assertTrue(state(reuseAtMs - 1_000).suppressed());
+        assertEquals(ServiceStatus.UNHEALTHY, reported(ServiceStatus.HEALTHY, reuseAtMs - 1_000));
+        FlapDamper.State decayed = state(reuseAtMs + 1_000);
+        assertFalse(decayed.suppressed());
+        assertTrue(decayed.penalty() < 750);
+
+        // The healthy streak built up while suppressed now carries the recovery through
+        damper.observe(COMPONENT, ServiceStatus.HEALTHY, reuseAtMs + 1_000);
+        assertEquals(ServiceStatus.HEALTHY, reported(ServiceStatus.HEALTHY, reuseAtMs + 1_000));
+        assertFalse(state(reuseAtMs + 1_000).suppressed());
+    }
+
+    @Test
+    public void suppressionIsBoundedByMaxSuppressTime() {
+        // Caps the penalty at 750 * 2^(90s / 60s) ~ 2121, which decays below reuse in 90s
+        System.setProperty("health.damping.maxSuppressSeconds", "90");
+        try {
+            FlapDamper bounded = new FlapDamper();
+            bounded.observe(COMPONENT, ServiceStatus.HEALTHY, 0);
+            for (ServiceStatus status : new ServiceStatus[] {ServiceStatus.UNHEALTHY, ServiceStatus.HEALTHY,
+                    ServiceStatus.UNHEALTHY}) {
+                for (int i = 0; i < 3; i++) {
+                    bounded.observe(COMPONENT, status, 0);
+                }
+            }
+            Map<String, FlapDamper.State> states = new HashMap<>();
+            bounded.forEachState(0, states::put);
+            assertEquals(750 * Math.pow(2, 1.5), states.get(COMPONENT).penalty(), 1e-6);
+            bounded.forEachState(89_000, states::put);
+            assertTrue(states.get(COMPONENT).suppressed());
+            bounded.forEachState(91_000, states::put);
+            assertFalse(states.get(COMPONENT).suppressed());
+        } finally {
+            System.clearProperty("health.damping.maxSuppressSeconds");
+        }
+    }
+
+    @Test
+    public void disabledDamperPassesResultsThrough() {
+        System.setProperty("health.damping.enabled", "false");
+        try {
+            FlapDamper disabled = new FlapDamper();
+            disabled.observe(COMPONENT, ServiceStatus.HEALTHY, 0);
+            disabled.observe(COMPONENT, ServiceStatus.UNHEALTHY, 1);
+            ComponentHealth unhealthy = health(ServiceStatus.UNHEALTHY);
+            assertSame(unhealthy, disabled.apply(COMPONENT, unhealthy, 1));
+        } finally {
+            System.clearProperty("health.damping.enabled");
+        }
+    }
+
+    private void observe(ServiceStatus status, int times, long nowMs) {
+        for (int i = 0; i < times; i++) {
+            damper.observe(COMPONENT, status, nowMs);
+        }
+    }
+
+    private ServiceStatus reported(ServiceStatus checked, long nowMs) {
+        return HealthServiceImpl.statusOf(damper.apply(COMPONENT, health(checked), nowMs));
+    }
+
+    private FlapDamper.State state(long nowMs) {
+        Map<String, FlapDamper.State> states = new HashMap<>();
+        damper.forEachState(nowMs, states::put);
+        return states.get(COMPONENT);
+    }
+
+    private static ComponentHealth health(ServiceStatus status) {
+        return ComponentHealth.newBuilder()
+                .setAvailable(status != ServiceStatus.UNHEALTHY)
+                .setFunctional(status == ServiceStatus.HEALTHY)
+                .build();
+    }
+}
@@ -0,0 +1,367 @@
+package com.shankarnarayanb.health;
+
+import com.shankarnarayanb.health.v1.HealthServiceGrpc;
+import com.shankarnarayanb.health.v1.HealthServiceProto.Availability;
+import com.shankarnarayanb.health.v1.HealthServiceProto.FleetNode;
+import com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusRequest;
+import com.shankarnarayanb.health.v1.HealthServiceProto.FleetStatusResponse;
+import com.shankarnarayanb.health.v1.HealthServiceProto.FleetSummary;
+import com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse;
+import com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse.ServiceStatus;
+import com.shankarnarayanb.health.v1.HealthServiceProto.HealthWatchRequest;
+import io.grpc.ManagedChannel;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import io.grpc.testing.GrpcCleanupRule;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link FleetAggregator} against in-process nodes: channel sharing with nodes that
+ * answer WatchHealth with one HEALTHY update and keep the stream open, and summaries,
+ * worst nodes and queries with scripted nodes whose status the test changes.
+ */
+public class FleetAggregatorTest {
+
+    @Rule
+    public final GrpcCleanupRule grpcCleanup = new GrpcCleanupRule();
+
+    private final List<ManagedChannel> opened = new CopyOnWriteArrayList<>();
+    private final Map<String, ScriptedNode> scripted = new HashMap<>();
+    private FleetAggregator fleet;
+
+    @Before
+    public void setUp() throws Exception {
+        for (String target : new String[] {"node-a", "node-b"}) {
+            grpcCleanup.register(InProcessServerBuilder.forName(target)
+                    .directExecutor()
+                    .addService(new HealthyNode())
+                    .build()
+                    .start());
+        }
+        fleet = new FleetAggregator(target -> {
+            ManagedChannel channel = InProcessChannelBuilder.forName(target).directExecutor().build();
+            opened.add(channel);
+            return grpcCleanup.register(channel);
+        });
+    }
+
+    @After
+    public void tearDown() {
+        fleet.close();
+    }
+
+    @Test
+    public void nodesOnOneTargetShareAChannelUntilTheLastIsRemoved() throws Exception {
+        assertTrue(fleet.add(node("a-1", "node-a")));
+        assertTrue(fleet.add(node("a-2", "node-a")));
+        assertTrue(fleet.add(node("b-1", "node-b")));
+        awaitConnected("a-1", "a-2", "b-1");
+        assertEquals(2, fleet.getChannelCount());
+        assertEquals(2, opened.size());
+        ManagedChannel channelA = opened.get(0);
+
+        fleet.remove("a-1");
+        assertFalse(channelA.isShutdown());
+        assertEquals(2, fleet.getChannelCount());
+
+        fleet.remove("a-2");
+        assertTrue(channelA.isShutdown());
+        assertTrue(channelA.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(1, fleet.getChannelCount());
+        assertFalse(opened.get(1).isShutdown());
+    }
+
+    @Test
+    public void reAddingARemovedNodeOpensAFreshChannel() throws Exception {
+        assertTrue(fleet.add(node("a-1", "node-a")));
+        awaitConnected("a-1");
+        fleet.remove("a-1");
+        assertEquals(0, fleet.getChannelCount());
+
+        assertTrue(fleet.add(node("a-1", "node-a")));
+        awaitConnected("a-1");
+        assertEquals(2, opened.size());
+        assertTrue(opened.get(0).isShutdown());
+        assertFalse(opened.get(1).isShutdown());
+    }
+
+    @Test
+    public void rejectedDuplicateDoesNotKeepTheChannelOpen() throws Exception {
+        assertTrue(fleet.add(node("a-1", "node-a")));
+        assertFalse(fleet.add(node("a-1", "node-a")));
+        awaitConnected("a-1");
+
+        fleet.remove("a-1");
+        assertEquals(0, fleet.getChannelCount());
+        assertTrue(opened.get(0).isShutdown());
+    }
+
+    @Test
+    public void summariesWorstAndQueryFollowUpdates() throws Exception {
+        addScriptedFleet();
+
+        FleetSummary fleetSummary = fleet.summary(null, null);
+        assertSummary(fleetSummary, ServiceStatus.HEALTHY, 5, 5, 0, 0, 0);
+        assertEquals(100, fleetSummary.getMeanHealthScore(), 0);
+
+        push("c-1", ServiceStatus.DEGRADED, 60);
+        push("s-2", ServiceStatus.UNHEALTHY, 0);
+
+        fleetSummary = fleet.summary(null, null);
+        assertSummary(fleetSummary, ServiceStatus.DEGRADED, 5, 3, 1, 1, 0);
+        assertEquals(72, fleetSummary.getMeanHealthScore(), 0);
+        FleetSummary checkout = fleet.summary("checkout", null);
+        assertSummary(checkout, ServiceStatus.DEGRADED, 3, 2, 1, 0, 0);
+        assertEquals(86.7, checkout.getMeanHealthScore(), 0);
+        assertSummary(fleet.summary(null, "zone-b"), ServiceStatus.DEGRADED, 2, 1, 0, 1, 0);
+        assertSummary(fleet.summary("search", "zone-b"), ServiceStatus.UNHEALTHY, 1, 0, 0, 1, 0);
+        assertSummary(fleet.summary("search", "zone-a"), ServiceStatus.HEALTHY, 1, 1, 0, 0, 0);
+        assertSummary(fleet.summary("billing", null), ServiceStatus.UNKNOWN, 0, 0, 0, 0, 0);
+
+        assertEquals(List.of("s-2", "c-1"), ids(fleet.worst(2, null, null)));
+        assertEquals(List.of("c-1", "c-2", "c-3"), ids(fleet.worst(10, "checkout", null)));
+        assertEquals(List.of("c-1"), ids(fleet.worst(1, null, "zone-a")));
+
+        FleetStatusResponse byZone = fleet.query(FleetStatusRequest.newBuilder()
+                .setService("checkout")
+                .setGroupByZone(true)
+                .setWorst(1)
+                .build());
+        assertEquals(checkout, byZone.getSummary());
+        assertEquals(2, byZone.getZonesCount());
+        assertSummary(byZone.getZonesOrThrow("zone-a"), ServiceStatus.DEGRADED, 2, 1, 1, 0, 0);
+        assertSummary(byZone.getZonesOrThrow("zone-b"), ServiceStatus.HEALTHY, 1, 1, 0, 0, 0);
+        assertEquals(0, byZone.getServicesCount());
+        assertEquals(List.of("c-1"), ids(byZone.getWorstNodesList()));
+
+        FleetStatusResponse byService = fleet.query(FleetStatusRequest.newBuilder()
+                .setZone("zone-b")
+                .setGroupByService(true)
+                .build());
+        assertSummary(byService.getServicesOrThrow("checkout"), ServiceStatus.HEALTHY, 1, 1, 0, 0, 0);
+        assertSummary(byService.getServicesOrThrow("search"), ServiceStatus.UNHEALTHY, 1, 0, 0, 1, 0);
+        assertEquals(0, byService.getWorstNodesCount());
+
+        // Recovered nodes move back up the ranking; ties are ordered by id
+        push("c-1", ServiceStatus.HEALTHY, 100);
+        push("s-2", ServiceStatus.HEALTHY, 100);
+        assertSummary(fleet.summary(null, null), ServiceStatus.HEALTHY, 5, 5, 0, 0, 0);
+        assertEquals(List.of("c-1", "c-2"), ids(fleet.worst(2, null, null)));
+    }
+
+    @Test
+    public void disconnectedNodesCountAsUnknownUntilTheyAreBack() throws Exception {
+        addScriptedFleet();
+
+        scripted.get("s-2").goDown();
+        FleetNode down = awaitRow("s-2", row -> row.getStatus() == ServiceStatus.UNKNOWN);
+        assertFalse(down.getConnected());
+        assertEquals(0, down.getHealthScore(), 0);
+        assertTrue(down.getErrorMessage(), down.getErrorMessage().startsWith("UNAVAILABLE"));
+        FleetSummary summary = fleet.summary(null, null);
+        assertSummary(summary, ServiceStatus.DEGRADED, 5, 4, 0, 0, 1);
+        assertEquals(80, summary.getMeanHealthScore(), 0);
+        assertSummary(fleet.summary("search", "zone-b"), ServiceStatus.UNHEALTHY, 1, 0, 0, 0, 1);
+        assertEquals(List.of("s-2"), ids(fleet.worst(1, null, null)));
+
+        // A draining node ends its stream: it keeps its last status, marked disconnected
+        scripted.get("c-2").drain();
+        FleetNode drained = awaitRow("c-2", row -> !row.getConnected());
+        assertEquals(ServiceStatus.HEALTHY, drained.getStatus());
+        assertSummary(fleet.summary(null, null), ServiceStatus.DEGRADED, 5, 4, 0, 0, 1);
+
+        // Reconnected after backoff
+        scripted.get("s-2").serve(ServiceStatus.DEGRADED, 50);
+        FleetNode back = awaitRow("s-2", row -> row.getStatus() == ServiceStatus.DEGRADED, 10);
+        assertTrue(back.getConnected());
+        assertSummary(fleet.summary(null, null), ServiceStatus.DEGRADED, 5, 4, 1, 0, 0);
+    }
+
+    @Test
+    public void removedNodesLeaveEverySummaryAndTheRanking() throws Exception {
+        addScriptedFleet();
+        push("s-1", ServiceStatus.UNHEALTHY, 0);
+
+        fleet.remove("s-1");
+        fleet.remove("s-2");
+        assertNull(fleet.node("s-1"));
+        assertEquals(3, fleet.getNodeCount());
+        assertSummary(fleet.summary(null, null), ServiceStatus.HEALTHY, 3, 3, 0, 0, 0);
+        assertSummary(fleet.summary("search", null), ServiceStatus.UNKNOWN, 0, 0, 0, 0, 0);
+        assertSummary(fleet.summary(null, "zone-a"), ServiceStatus.HEALTHY, 2, 2, 0, 0, 0);
+        assertEquals(List.of("c-1", "c-2", "c-3"), ids(fleet.worst(10, null, null)));
+        FleetStatusResponse byService = fleet.query(FleetStatusRequest.newBuilder().setGroupByService(true).build());
+        assertEquals(List.of("checkout"), List.copyOf(byService.getServicesMap().keySet()));
+
+        // Updates from a removed node's stream no longer land
+        scripted.get("s-2").serve(ServiceStatus.UNHEALTHY, 0);
+        assertNull(fleet.node("s-2"));
+        assertSummary(fleet.summary(null, null), ServiceStatus.HEALTHY, 3, 3, 0, 0, 0);
+
+        // Removing the last node of a service and zone clears their slices too
+        fleet.remove("c-2");
+        assertSummary(fleet.summary(null, "zone-b"), ServiceStatus.UNKNOWN, 0, 0, 0, 0, 0);
+        FleetStatusResponse byZone = fleet.query(FleetStatusRequest.newBuilder().setGroupByZone(true).build());
+        assertEquals(List.of("zone-a"), List.copyOf(byZone.getZonesMap().keySet()));
+    }
+
+    /**
+     * Five nodes, each on its own target: checkout c-1 (zone-a), c-2 (zone-b), c-3 (zone-a)
+     * and search s-1 (zone-a), s-2 (zone-b), all HEALTHY with score 100.
+     */
+    private void addScriptedFleet() throws Exception {
+        String[][] nodes = {
+                {"c-1", "checkout", "zone-a"}, {"c-2", "checkout", "zone-b"}, {"c-3", "checkout", "zone-a"},
+                {"s-1", "search", "zone-a"}, {"s-2", "search", "zone-b"}};
+        for (String[] node : nodes) {
+            String target = "scripted-" + node[0];
+            ScriptedNode scriptedNode = new ScriptedNode();
+            scripted.put(node[0], scriptedNode);
+            grpcCleanup.register(InProcessServerBuilder.forName(target)
+                    .directExecutor()
+                    .addService(scriptedNode)
+                    .build()
+                    .start());
+            assertTrue(fleet.add(new FleetAggregator.Node(node[0], node[1], node[2], target, List.of())));
+        }
+        for (String[] node : nodes) {
+            awaitRow(node[0], row -> row.getConnected() && row.getStatus() == ServiceStatus.HEALTHY);
+        }
+    }
+
+    private void push(String id, ServiceStatus status, double score) throws InterruptedException {
+        scripted.get(id).serve(status, score);
+        awaitRow(id, row -> row.getStatus() == status && row.getHealthScore() == score);
+    }
+
+    private FleetNode awaitRow(String id, Predicate<FleetNode> condition) throws InterruptedException {
+        return awaitRow(id, condition, 5);
+    }
+
+    private FleetNode awaitRow(String id, Predicate<FleetNode> condition, int timeoutSeconds)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        while (true) {
+            FleetNode row = fleet.node(id);
+            if (row != null && condition.test(row)) {
+                return row;
+            }
+            assertTrue("Timed out waiting for " + id + ", last row " + row, System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static void assertSummary(FleetSummary summary, ServiceStatus status, int nodes, int healthy,
+                                      int degraded, int unhealthy, int unknown) {
+        assertEquals(summary.toString(), status, summary.getStatus());
+        assertEquals(summary.toString(), nodes, summary.getNodes());
+        assertEquals(summary.toString(), healthy, summary.getHealthy());
+        assertEquals(summary.toString(), degraded, summary.getDegraded());
+        assertEquals(summary.toString(), unhealthy, summary.getUnhealthy());
+        assertEquals(summary.toString(), unknown, summary.getUnknown());
+    }
+
+    private static List<String> ids(List<FleetNode> rows) {
+        return rows.stream().map(FleetNode::getId).toList();
+    }
+
+    private static FleetAggregator.Node node(String id, String target) {
+        return new FleetAggregator.Node(id, "checkout", "zone-1", target, List.of());
+    }
+
+    private void awaitConnected(String... ids) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        for (String id : ids) {
+            while (fleet.node(id) == null || !fleet.node(id).getConnected()) {
+                assertTrue("No update from " + id, System.nanoTime() < deadline);
+                Thread.sleep(10);
+            }
+        }
+    }
+
+    /**
+     * A node whose status the test sets. Every open watch stream gets each new status;
+     * a new stream gets the current one, or fails with UNAVAILABLE while the node is down.
+     */
+    private static final class ScriptedNode extends HealthServiceGrpc.HealthServiceImplBase {
+        private final List<ServerCallStreamObserver<HealthCheckResponse>> streams = new CopyOnWriteArrayList<>();
+        private HealthCheckResponse current = update(ServiceStatus.HEALTHY, 100);
+        private boolean down;
+
+        @Override
+        public synchronized void watchHealth(HealthWatchRequest request,
+                                             StreamObserver<HealthCheckResponse> responseObserver) {
+            ServerCallStreamObserver<HealthCheckResponse> stream =
+                    (ServerCallStreamObserver<HealthCheckResponse>) responseObserver;
+            if (down) {
+                stream.onError(Status.UNAVAILABLE.withDescription("node is down").asRuntimeException());
+                return;
+            }
+            stream.setOnCancelHandler(() -> streams.remove(stream));
+            streams.add(stream);
+            if (current != null) {
+                stream.onNext(current);
+            }
+        }
+
+        synchronized void serve(ServiceStatus status, double score) {
+            down = false;
+            current = update(status, score);
+            for (ServerCallStreamObserver<HealthCheckResponse> stream : streams) {
+                stream.onNext(current);
+            }
+        }
+
+        synchronized void goDown() {
+            down = true;
+            for (ServerCallStreamObserver<HealthCheckResponse> stream : streams) {
+                stream.onError(Status.UNAVAILABLE.withDescription("node is down").asRuntimeException());
+            }
+            streams.clear();
+        }
+
+        /** End every stream; later streams stay open without updates. */
+        synchronized void drain() {
+            current = null;
+            for (ServerCallStreamObserver<HealthCheckResponse> stream : streams) {
+                stream.onCompleted();
+            }
+            streams.clear();
+        }
+
+        private static HealthCheckResponse update(ServiceStatus status, double score) {
+            return HealthCheckResponse.newBuilder()
+                    .setOverallStatus(status)
+                    .setHealthScore(score)
+                    .setAvailability(Availability.getDefaultInstance())
+                    .build();
+        }
+    }
+
+    private static final class HealthyNode extends HealthServiceGrpc.HealthServiceImplBase {
+        @Override
+        public void watchHealth(HealthWatchRequest request, StreamObserver<HealthCheckResponse> responseObserver) {
+            responseObserver.onNext(HealthCheckResponse.newBuilder()
+                    .setOverallStatus(HealthCheckResponse.ServiceStatus.HEALTHY)
+                    .build());
+        }
+    }
+}
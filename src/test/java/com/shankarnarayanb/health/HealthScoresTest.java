@@ -0,0 +1,151 @@
+package com.shankarnarayanb.health;
+
+import com.shankarnarayanb.health.v1.HealthServiceProto.Availability;
+import com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth;
+import com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse.ServiceStatus;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Rolling availability and scores in {@link HealthScores}, with the clock driven across
+ * 5-second bucket, window and one-hour ring boundaries.
+ */
+public class HealthScoresTest {
+
+    private static final long BUCKET_MS = 5_000;
+    private static final long MINUTE_MS = TimeUnit.MINUTES.toMillis(1);
+    private static final long HOUR_MS = TimeUnit.HOURS.toMillis(1);
+
+    private final HealthScores scores = new HealthScores(new LatencySlo());
+
+    @Test
+    public void nothingRecordedReportsFullAvailability() {
+        assertAvailability(100, 100, 100, scores.nodeAvailability(0));
+    }
+
+    @Test
+    public void bucketsLeaveEachWindowWhenItMovesPastThem() {
+        scores.recordNode(ServiceStatus.UNHEALTHY, 0);
+        scores.recordNode(ServiceStatus.HEALTHY, 30_000);
+
+        assertAvailability(50, 50, 50, scores.nodeAvailability(MINUTE_MS - 1));
+        // Bucket 0 leaves the 1 minute window as bucket 12 enters it
+        assertAvailability(100, 50, 50, scores.nodeAvailability(MINUTE_MS));
+        assertAvailability(100, 50, 50, scores.nodeAvailability(5 * MINUTE_MS - 1));
+        assertAvailability(100, 100, 50, scores.nodeAvailability(5 * MINUTE_MS));
+        assertAvailability(100, 100, 50, scores.nodeAvailability(HOUR_MS - 1));
+        // ... and the hour as the ring wraps onto its slot
+        assertAvailability(100, 100, 100, scores.nodeAvailability(HOUR_MS));
+        assertAvailability(100, 100, 100, scores.nodeAvailability(HOUR_MS + 30_000));
+    }
+
+    @Test
+    public void ringWrapsCleanlyWhileRecording() {
+        // One unavailable check a minute for two hours: each window keeps its share
+        for (long nowMs = 0; nowMs < 2 * HOUR_MS; nowMs += BUCKET_MS) {
+            scores.recordNode(nowMs % MINUTE_MS == 0 ? ServiceStatus.UNHEALTHY : ServiceStatus.HEALTHY, nowMs);
+        }
+        double expected = HealthScores.round(100.0 * 11 / 12);
+        assertAvailability(expected, expected, expected, scores.nodeAvailability(2 * HOUR_MS - 1));
+    }
+
+    @Test
+    public void idleForOverAnHourStartsAfresh() {
+        scores.recordNode(ServiceStatus.UNHEALTHY, 0);
+        scores.recordNode(ServiceStatus.UNHEALTHY, 10 * MINUTE_MS);
+        assertAvailability(100, 100, 100, scores.nodeAvailability(10 * MINUTE_MS + 2 * HOUR_MS));
+
+        scores.recordNode(ServiceStatus.HEALTHY, 10 * MINUTE_MS + 2 * HOUR_MS);
+        assertAvailability(100, 100, 100, scores.nodeAvailability(10 * MINUTE_MS + 2 * HOUR_MS));
+    }
+
+    @Test
+    public void matchesARescanOfEveryRecordedCheck() {
+        Random random = new Random(42);
+        List<long[]> checks = new ArrayList<>();     // {nowMs, available}
+        long nowMs = 0;
+        for (int i = 0; i < 5_000; i++) {
+            int step = random.nextInt(100);
+            nowMs += step < 80 ? random.nextInt(10_000)
+                    : step < 98 ? random.nextInt((int) (10 * MINUTE_MS))
+                    : HOUR_MS + random.nextInt((int) HOUR_MS);          // occasionally idle past the ring
+            ServiceStatus status = ServiceStatus.forNumber(1 + random.nextInt(4));
+            scores.recordNode(status, nowMs);
+            checks.add(new long[] {nowMs, status == ServiceStatus.HEALTHY || status == ServiceStatus.DEGRADED ? 1 : 0});
+
+            long readAtMs = nowMs + random.nextInt((int) (2 * MINUTE_MS));
+            Availability availability = scores.nodeAvailability(readAtMs);
+            assertEquals("1m at " + readAtMs, rescan(checks, readAtMs, MINUTE_MS), availability.getLast1M(), 0);
+            assertEquals("5m at " + readAtMs, rescan(checks, readAtMs, 5 * MINUTE_MS), availability.getLast5M(), 0);
+            assertEquals("1h at " + readAtMs, rescan(checks, readAtMs, HOUR_MS), availability.getLast1H(), 0);
+            nowMs = readAtMs;       // the clock only moves forward
+        }
+    }
+
+    @Test
+    public void componentScoreWeighsSuccessRateAndLatency() {
+        for (int i = 0; i < 3; i++) {
+            scores.recordComponent("cache", ServiceStatus.HEALTHY, i * 1_000);
+        }
+        scores.recordComponent("cache", ServiceStatus.DEGRADED, 3_000);
+        // Success rate (2 + 2 + 2 + 1) / 8, latency within objective
+        assertEquals(HealthScores.round(100 * (0.7 * 7 / 8 + 0.3)), score("cache", ServiceStatus.HEALTHY, 3_000), 0);
+        assertEquals(0, score("cache", ServiceStatus.UNHEALTHY, 3_000), 0);
+        // The success rate is taken over 5 minutes; with nothing in it the reported status decides
+        assertEquals(100, score("cache", ServiceStatus.HEALTHY, 3_000 + 5 * MINUTE_MS), 0);
+        assertEquals(HealthScores.round(100 * (0.7 * 0.5 + 0.3)),
+                score("cache", ServiceStatus.DEGRADED, 3_000 + 5 * MINUTE_MS), 0);
+    }
+
+    @Test
+    public void slowComponentLosesTheLatencyShare() {
+        LatencySlo latencySlo = new LatencySlo();
+        HealthScores slowScores = new HealthScores(latencySlo);
+        for (int i = 0; i < 10; i++) {
+            slowScores.recordComponent("api", ServiceStatus.HEALTHY, i);
+            latencySlo.record("api", TimeUnit.SECONDS.toNanos(4), i);
+        }
+        // p99 of 4s against the default 1s objective: a quarter of the latency share
+        double score = slowScores.apply("api", ComponentHealth.newBuilder().setAvailable(true).setFunctional(true)
+                .build(), 10).getHealthScore();
+        assertEquals(100 * (0.7 + 0.3 / 4), score, 1.0);
+    }
+
+    private double score(String component, ServiceStatus status, long nowMs) {
+        ComponentHealth health = ComponentHealth.newBuilder()
+                .setAvailable(status != ServiceStatus.UNHEALTHY)
+                .setFunctional(status == ServiceStatus.HEALTHY)
+                .build();
+        return scores.apply(component, health, nowMs).getHealthScore();
+    }
+
+    /**
+     * Availability percentage over the buckets ending with the one {@code nowMs} is in.
+     */
+    private static double rescan(List<long[]> checks, long nowMs, long windowMs) {
+        long bucket = nowMs / BUCKET_MS;
+        long firstBucket = bucket - windowMs / BUCKET_MS + 1;
+        long total = 0;
+        long available = 0;
+        for (long[] check : checks) {
+            long checkBucket = check[0] / BUCKET_MS;
+            if (checkBucket >= firstBucket && checkBucket <= bucket) {
+                total++;
+                available += check[1];
+            }
+        }
+        return total > 0 ? HealthScores.round(100.0 * available / total) : 100;
+    }
+
+    private static void assertAvailability(double last1m, double last5m, double last1h, Availability availability) {
+        assertEquals("1m", last1m, availability.getLast1M(), 0);
+        assertEquals("5m", last5m, availability.getLast5M(), 0);
+        assertEquals("1h", last1h, availability.getLast1H(), 0);
+    }
+}
@@ -0,0 +1,183 @@
+package com.shankarnarayanb.health;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.shankarnarayanb.health.v1.HealthServiceGrpc;
+import com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckRequest;
+import com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse;
+import com.shankarnarayanb.health.v1.HealthServiceProto.HealthWatchRequest;
+import com.shankarnarayanb.health.v1.HealthServiceProto.PingRequest;
+import io.grpc.Context;
+import io.grpc.ForwardingServerCall;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Saturates the CheckHealth lane with checks whose responses can't be sent (a slow
+ * client) and checks that both guards still trip with the default lane sizing: the
+ * admission concurrency cap, and the overload monitor's queue depth signal.
+ */
+public class HealthServerLaneTest {
+
+    private static final int MAX_CONCURRENT_CHECKS = 4;
+    private static final int MAX_QUEUE_DEPTH = 10;
+    private static final Map<String, String> PROPERTIES = Map.of(
+            "health.admission.maxConcurrentChecks", String.valueOf(MAX_CONCURRENT_CHECKS),
+            "health.admission.ratePerSecond", "1000000",
+            "health.admission.burst", "1000000",
+            "health.overload.maxQueueDepth", String.valueOf(MAX_QUEUE_DEPTH),
+            "health.overload.sampleIntervalMs", "20",
+            "health.eventlog.enabled", "false",
+            "health.metrics.port", "-1",
+            "health.drain.propagationDelayMs", "0");
+
+    private final CountDownLatch releaseResponses = new CountDownLatch(1);
+    private HealthServer server;
+    private ManagedChannel channel;
+
+    @BeforeClass
+    public static void setProperties() {
+        PROPERTIES.forEach(System::setProperty);
+    }
+
+    @AfterClass
+    public static void clearProperties() {
+        PROPERTIES.keySet().forEach(System::clearProperty);
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        server = new HealthServer(new StallCheckResponses());
+        server.start(0);
+        channel = ManagedChannelBuilder.forAddress("localhost", server.getPort()).usePlaintext().build();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        releaseResponses.countDown();
+        channel.shutdownNow();
+        server.stop();
+    }
+
+    @Test
+    public void saturatedCheckLaneTripsConcurrencyLimitAndOverload() throws Exception {
+        HealthServiceGrpc.HealthServiceFutureStub stub = HealthServiceGrpc.newFutureStub(channel);
+        List<ListenableFuture<HealthCheckResponse>> checks = new ArrayList<>();
+
+        // Admitted checks hold their concurrency slots while their responses are stalled
+        for (int i = 0; i < MAX_CONCURRENT_CHECKS; i++) {
+            checks.add(stub.checkHealth(HealthCheckRequest.getDefaultInstance()));
+        }
+        AdmissionController admission = healthService().getAdmissionController();
+        awaitTrue("admitted checks running", () -> admission.getConcurrentChecks() == MAX_CONCURRENT_CHECKS);
+
+        // The spare lane threads still reach admission control, which turns the rest away (and
+        // then get stuck sending the rejections)
+        for (int i = 0; i < 2 * MAX_QUEUE_DEPTH; i++) {
+            checks.add(stub.checkHealth(HealthCheckRequest.getDefaultInstance()));
+        }
+        awaitTrue("concurrency-limited checks", () -> admission.getConcurrencyLimitedCount() > 0);
+
+        // Once every lane thread is stuck, checks queue past the overload threshold
+        OverloadMonitor overloadMonitor = healthService().getOverloadMonitor();
+        awaitTrue("overload", overloadMonitor::isOverloaded);
+        assertTrue(overloadMonitor.getQueueDepth() > MAX_QUEUE_DEPTH);
+
+        // Ping has its own lane, and watchers are told the node is DEGRADED by load
+        assertTrue(HealthServiceGrpc.newBlockingStub(channel).withDeadlineAfter(1, TimeUnit.SECONDS)
+                .ping(PingRequest.getDefaultInstance()).getSuccess());
+        assertDegradedByOverload();
+
+        releaseResponses.countDown();
+        for (ListenableFuture<HealthCheckResponse> check : checks) {
+            try {
+                check.get(10, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                assertEquals(Status.Code.RESOURCE_EXHAUSTED, Status.fromThrowable(e).getCode());
+            }
+        }
+        assertEquals(0, admission.getConcurrentChecks());
+    }
+
+    private void assertDegradedByOverload() {
+        try (Context.CancellableContext context = Context.current().withCancellation()) {
+            context.run(() -> {
+                Iterator<HealthCheckResponse> updates = HealthServiceGrpc.newBlockingStub(channel)
+                        .withDeadlineAfter(10, TimeUnit.SECONDS)
+                        .watchHealth(HealthWatchRequest.newBuilder().setIntervalSeconds(1).build());
+                HealthCheckResponse update = updates.next();
+                assertEquals(HealthCheckResponse.ServiceStatus.DEGRADED, update.getOverallStatus());
+                assertTrue(update.getWarningsList().toString(),
+                        update.getWarningsList().stream().anyMatch(warning -> warning.contains("queue depth")));
+            });
+        }
+    }
+
+    private HealthServiceImpl healthService() {
+        return server.getHealthService();
+    }
+
+    private static void awaitTrue(String what, BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertTrue("Timed out waiting for " + what, System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Holds CheckHealth responses and rejections on their lane thread until the test
+     * releases them.
+     */
+    private final class StallCheckResponses implements ServerInterceptor {
+        @Override
+        public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+                ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+            if (call.getMethodDescriptor() != HealthServiceGrpc.getCheckHealthMethod()) {
+                return next.startCall(call, headers);
+            }
+            return next.startCall(new ForwardingServerCall.SimpleForwardingServerCall<>(call) {
+                @Override
+                public void sendMessage(RespT message) {
+                    awaitRelease();
+                    super.sendMessage(message);
+                }
+
+                @Override
+                public void close(Status status, Metadata trailers) {
+                    awaitRelease();
+                    super.close(status, trailers);
+                }
+            }, headers);
+        }
+
+        private void awaitRelease() {
+            try {
+                releaseResponses.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
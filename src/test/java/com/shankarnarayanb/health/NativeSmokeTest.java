@@ -0,0 +1,201 @@
+package com.shankarnarayanb.health;
+
+import com.shankarnarayanb.health.v1.HealthServiceGrpc;
+import com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckRequest;
+import com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse;
+import com.shankarnarayanb.health.v1.HealthServiceProto.HealthWatchRequest;
+import com.shankarnarayanb.health.v1.HealthServiceProto.LoadReport;
+import com.shankarnarayanb.health.v1.HealthServiceProto.LoadReportRequest;
+import com.shankarnarayanb.health.v1.HealthServiceProto.PingRequest;
+import io.grpc.Context;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.StatusRuntimeException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Smoke test for a packaged server, run by the native profile against the native
+ * image and by the appcds profile against {@code java -XX:ArchiveClassesAtExit=... -jar}
+ * (any launcher works).
+ *
+ * Starts the server as a child process on a free port and checks that it:
+ *
+ *   - answers Ping within 10 seconds (and reports how long that took)
+ *   - answers CheckHealth for the default components
+ *   - streams a first WatchHealth update and a first load report
+ *   - serves /metrics on its Prometheus port, including the calls above
+ *   - exits within 15 seconds of SIGTERM
+ *
+ * It also reports resident memory after those calls (Linux only). Server output
+ * goes to the file named by -Dhealth.smoke.log (default native-smoke-test.log in a
+ * temp directory).
+ *
+ * Usage: NativeSmokeTest &lt;launcher&gt; [launcher args...]; the port is appended last.
+ * Exits with status 1 on the first failed check.
+ */
+public class NativeSmokeTest {
+
+    private static final long READY_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final long EXIT_TIMEOUT_SECONDS = 15;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println("Usage: NativeSmokeTest <launcher> [launcher args...]");
+            System.exit(2);
+        }
+
+        int port = freePort();
+        int metricsPort = freePort();
+        Path workDir = Files.createTempDirectory("health-smoke");
+        Path log = Paths.get(System.getProperty("health.smoke.log",
+                workDir.resolve("native-smoke-test.log").toString())).toAbsolutePath();
+
+        List<String> command = new ArrayList<>(Arrays.asList(args));
+        command.addAll(1, List.of(
+                "-Dhealth.eventlog.dir=" + workDir.resolve("events"),
+                "-Dhealth.metrics.port=" + metricsPort,
+                "-Dhealth.drain.propagationDelayMs=0"));
+        command.add(String.valueOf(port));
+
+        long startNanos = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        ManagedChannel channel = ManagedChannelBuilder.forAddress("localhost", port).usePlaintext().build();
+        try {
+            HealthServiceGrpc.HealthServiceBlockingStub stub = HealthServiceGrpc.newBlockingStub(channel);
+
+            long readyNanos = awaitPing(stub, process, startNanos);
+            System.out.printf("✅ Ping answered %d ms after launch%n",
+                    TimeUnit.NANOSECONDS.toMillis(readyNanos - startNanos));
+
+            HealthCheckResponse health = stub.withDeadlineAfter(10, TimeUnit.SECONDS)
+                    .checkHealth(HealthCheckRequest.newBuilder().setIncludeDependencies(true).build());
+            check(health.getOverallStatus() != HealthCheckResponse.ServiceStatus.UNKNOWN
+                    && health.containsComponents("database"), "CheckHealth returned " + health);
+            System.out.println("✅ CheckHealth: " + health.getOverallStatus() + " " + health.getComponentsMap().keySet());
+
+            try (Context.CancellableContext context = Context.current().withCancellation()) {
+                HealthCheckResponse update = context.call(() -> stub.withDeadlineAfter(10, TimeUnit.SECONDS)
+                        .watchHealth(HealthWatchRequest.newBuilder().setIntervalSeconds(1).build())
+                        .next());
+                check(update.getSequenceNumber() > 0, "WatchHealth update without a sequence number");
+                System.out.println("✅ WatchHealth: first update " + update.getOverallStatus());
+            }
+
+            try (Context.CancellableContext context = Context.current().withCancellation()) {
+                LoadReport report = context.call(() -> stub.withDeadlineAfter(10, TimeUnit.SECONDS)
+                        .streamLoadReports(LoadReportRequest.getDefaultInstance())
+                        .next());
+                System.out.println("✅ StreamLoadReports: first report " + report.getSerializedSize() + " bytes");
+            }
+
+            String metrics = scrape(metricsPort);
+            check(metrics.contains("health_component_status{component=\"database\"}")
+                    && metrics.contains("grpc_server_handled_total{") && metrics.contains("CheckHealth"),
+                    "/metrics is missing component status or RPC counters");
+            System.out.println("✅ /metrics: " + metrics.length() + " bytes");
+
+            long rssKb = residentKb(process.pid());
+            if (rssKb >= 0) {
+                System.out.printf("📏 RSS after smoke calls: %.1f MB%n", rssKb / 1024.0);
+            }
+        } catch (StatusRuntimeException e) {
+            fail("RPC failed: " + e.getStatus(), process, log);
+        } catch (IllegalStateException | IOException e) {
+            fail(e.getMessage(), process, log);
+        } finally {
+            channel.shutdownNow();
+        }
+
+        process.destroy();
+        if (!process.waitFor(EXIT_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            fail("Server did not exit within " + EXIT_TIMEOUT_SECONDS + "s of SIGTERM", process, log);
+        }
+        System.out.println("✅ Server exited after SIGTERM (status " + process.exitValue() + ")");
+        System.out.println("Native smoke test passed; server log: " + log);
+    }
+
+    private static long awaitPing(HealthServiceGrpc.HealthServiceBlockingStub stub, Process process, long startNanos)
+            throws InterruptedException {
+        while (true) {
+            check(process.isAlive(), "Server exited during startup");
+            try {
+                if (stub.withDeadlineAfter(1, TimeUnit.SECONDS).ping(PingRequest.getDefaultInstance()).getSuccess()) {
+                    return System.nanoTime();
+                }
+            } catch (StatusRuntimeException e) {
+                // Not listening yet
+            }
+            check(System.nanoTime() - startNanos < READY_TIMEOUT_NANOS, "No successful Ping within 10s");
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * GET /metrics from the server's Prometheus endpoint.
+     */
+    private static String scrape(int metricsPort) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection)
+                new URL("http://localhost:" + metricsPort + "/metrics").openConnection();
+        connection.setConnectTimeout(5_000);
+        connection.setReadTimeout(5_000);
+        try {
+            check(connection.getResponseCode() == 200, "/metrics answered HTTP " + connection.getResponseCode());
+            try (InputStream in = connection.getInputStream()) {
+                return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * VmRSS of a process from /proc, or -1 where that isn't available.
+     */
+    private static long residentKb(long pid) {
+        try {
+            for (String line : Files.readAllLines(Paths.get("/proc", String.valueOf(pid), "status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D", ""));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // Not Linux, or the process is gone
+        }
+        return -1;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalStateException(message);
+        }
+    }
+
+    private static void fail(String message, Process process, Path log) {
+        System.err.println("❌ " + message);
+        System.err.println("Server log: " + log);
+        process.destroyForcibly();
+        System.exit(1);
+    }
+}
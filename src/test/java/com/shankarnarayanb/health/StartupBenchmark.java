@@ -0,0 +1,180 @@
+package com.shankarnarayanb.health;
+
+import com.shankarnarayanb.health.v1.HealthServiceGrpc;
+import com.shankarnarayanb.health.v1.HealthServiceProto.PingRequest;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.StatusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup benchmark: time from {@code main} to the first successful Ping.
+ *
+ * A single run starts a {@link HealthServer} in this JVM, pings it until the
+ * call succeeds, prints one result line and exits:
+ *
+ *   STARTUP jvmToMainMs=.. mainToListeningMs=.. mainToFirstPingMs=.. jvmToFirstPingMs=..
+ *
+ * JVM start to main comes from the runtime MXBean's start time, so it is only
+ * millisecond-accurate. With {@code --runs=N} (N &gt; 1) each run is a fresh child
+ * JVM with the same JVM options and class path, and the summary reports min,
+ * median and max - pass {@code -XX:SharedArchiveFile=...} to compare with and
+ * without an AppCDS archive.
+ *
+ * Usage: --runs=1 --port=0 (port 0 picks a free port). Metrics are served
+ * on a free port and the drain delay is 0 unless set explicitly.
+ */
+public class StartupBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupBenchmark.class);
+    private static final String RESULT_PREFIX = "STARTUP ";
+    private static final long PING_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    public static void main(String[] args) throws Exception {
+        long mainNanos = System.nanoTime();
+        long mainEpochMs = System.currentTimeMillis();
+
+        int runs = 1;
+        int port = 0;
+        for (String arg : args) {
+            if (arg.startsWith("--runs=")) {
+                runs = Integer.parseInt(arg.substring("--runs=".length()));
+            } else if (arg.startsWith("--port=")) {
+                port = Integer.parseInt(arg.substring("--port=".length()));
+            } else {
+                logger.warn("Ignoring unrecognized argument '{}'", arg);
+            }
+        }
+
+        if (runs > 1) {
+            forkRuns(runs, port);
+            return;
+        }
+        System.exit(runOnce(mainNanos, mainEpochMs, port) ? 0 : 1);
+    }
+
+    /**
+     * Start the server, ping until it answers, print the result line and stop the server.
+     */
+    private static boolean runOnce(long mainNanos, long mainEpochMs, int port) throws Exception {
+        long jvmStartMs = ManagementFactory.getRuntimeMXBean().getStartTime();
+        setDefault("health.metrics.port", "0");
+        setDefault("health.drain.propagationDelayMs", "0");
+
+        HealthServer server = new HealthServer();
+        server.start(port);
+        long listeningNanos = System.nanoTime();
+
+        ManagedChannel channel = ManagedChannelBuilder.forAddress("localhost", server.getPort())
+                .usePlaintext()
+                .build();
+        try {
+            HealthServiceGrpc.HealthServiceBlockingStub stub = HealthServiceGrpc.newBlockingStub(channel);
+            PingRequest request = PingRequest.getDefaultInstance();
+            while (true) {
+                try {
+                    if (stub.withDeadlineAfter(1, TimeUnit.SECONDS).ping(request).getSuccess()) {
+                        break;
+                    }
+                } catch (StatusRuntimeException e) {
+                    logger.debug("Ping not answered yet: {}", e.getStatus());
+                }
+                if (System.nanoTime() - mainNanos > PING_TIMEOUT_NANOS) {
+                    logger.error("No successful Ping within {}s", TimeUnit.NANOSECONDS.toSeconds(PING_TIMEOUT_NANOS));
+                    return false;
+                }
+                Thread.sleep(1);
+            }
+            long firstPingNanos = System.nanoTime();
+
+            System.out.println(String.format(Locale.ROOT,
+                    RESULT_PREFIX + "jvmToMainMs=%d mainToListeningMs=%.1f mainToFirstPingMs=%.1f jvmToFirstPingMs=%.1f",
+                    mainEpochMs - jvmStartMs,
+                    (listeningNanos - mainNanos) / 1e6,
+                    (firstPingNanos - mainNanos) / 1e6,
+                    (mainEpochMs - jvmStartMs) + (firstPingNanos - mainNanos) / 1e6));
+            return true;
+        } finally {
+            channel.shutdownNow();
+            server.stop();
+        }
+    }
+
+    /**
+     * Run the benchmark in fresh JVMs, one after another, and summarize.
+     */
+    private static void forkRuns(int runs, int port) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+        command.addAll(Arrays.asList("-cp", System.getProperty("java.class.path"),
+                StartupBenchmark.class.getName(), "--runs=1", "--port=" + port));
+
+        List<double[]> results = new ArrayList<>();
+        for (int run = 1; run <= runs; run++) {
+            Process process = new ProcessBuilder(command)
+                    .redirectError(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            String result = null;
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.startsWith(RESULT_PREFIX)) {
+                        result = line;
+                    }
+                }
+            }
+            if (process.waitFor() != 0 || result == null) {
+                logger.error("Run {} failed (exit code {})", run, process.exitValue());
+                continue;
+            }
+            System.out.println("run " + run + ": " + result.substring(RESULT_PREFIX.length()));
+            results.add(parse(result));
+        }
+
+        if (results.isEmpty()) {
+            return;
+        }
+        String[] names = {"jvmToMainMs", "mainToListeningMs", "mainToFirstPingMs", "jvmToFirstPingMs"};
+        System.out.println();
+        System.out.println("📊 Startup over " + results.size() + " runs (min / median / max ms):");
+        for (int i = 0; i < names.length; i++) {
+            double[] values = new double[results.size()];
+            for (int run = 0; run < values.length; run++) {
+                values[run] = results.get(run)[i];
+            }
+            Arrays.sort(values);
+            System.out.println(String.format(Locale.ROOT, "   %-18s %8.1f %8.1f %8.1f",
+                    names[i], values[0], values[values.length / 2], values[values.length - 1]));
+        }
+    }
+
+    private static double[] parse(String line) {
+        String[] fields = line.substring(RESULT_PREFIX.length()).split(" ");
+        double[] values = new double[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            values[i] = Double.parseDouble(fields[i].substring(fields[i].indexOf('=') + 1));
+        }
+        return values;
+    }
+
+    private static void setDefault(String property, String value) {
+        if (System.getProperty(property) == null) {
+            System.setProperty(property, value);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.shankarnarayanb.health;
+
+import com.shankarnarayanb.health.v1.HealthServiceProto.ComponentHealth;
+import com.shankarnarayanb.health.v1.HealthServiceProto.HealthCheckResponse.ServiceStatus;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Overall status from component results under criticality, weight and quorum rules,
+ * including components in maintenance windows.
+ */
+public class StatusPolicyTest {
+
+    private enum State { UP, DEGRADED, DOWN, MAINTENANCE }
+
+    private record Case(String description, Map<String, String> properties, Map<String, State> results,
+                        ServiceStatus expected, String expectedWarning) {
+    }
+
+    private static final List<Case> CASES = List.of(
+            new Case("all components healthy",
+                    Map.of(), results("a", State.UP, "b", State.UP), ServiceStatus.HEALTHY, null),
+            new Case("one normal component down",
+                    Map.of(), results("a", State.DOWN, "b", State.UP), ServiceStatus.DEGRADED, null),
+            new Case("every normal component down",
+                    Map.of(), results("a", State.DOWN, "b", State.DOWN), ServiceStatus.UNHEALTHY, null),
+            new Case("critical component down",
+                    Map.of("health.criticality.a", "CRITICAL"),
+                    results("a", State.DOWN, "b", State.UP), ServiceStatus.UNHEALTHY, null),
+            new Case("critical component up but not functional",
+                    Map.of("health.criticality.a", "critical"),
+                    results("a", State.DEGRADED, "b", State.UP), ServiceStatus.DEGRADED, null),
+            new Case("optional component down only warns",
+                    Map.of("health.criticality.a", "OPTIONAL"),
+                    results("a", State.DOWN, "b", State.UP), ServiceStatus.HEALTHY, "Optional component a"),
+            new Case("heavy component down crosses the unhealthy weight",
+                    Map.of("health.status.unhealthyWeight", "0.5", "health.weight.a", "3"),
+                    results("a", State.DOWN, "b", State.UP), ServiceStatus.UNHEALTHY, null),
+            new Case("light component down stays under the unhealthy weight",
+                    Map.of("health.status.unhealthyWeight", "0.5", "health.weight.a", "3"),
+                    results("a", State.UP, "b", State.DOWN), ServiceStatus.DEGRADED, null),
+            new Case("zero-weight component down never makes it unhealthy",
+                    Map.of("health.weight.a", "0"),
+                    results("a", State.DOWN, "b", State.UP), ServiceStatus.DEGRADED, null),
+            new Case("quorum met with one replica down",
+                    Map.of("health.quorum.db", "2:db-1,db-2,db-3"),
+                    results("db-1", State.DOWN, "db-2", State.UP, "db-3", State.UP),
+                    ServiceStatus.HEALTHY, "Quorum db: 2 of 3 healthy"),
+            new Case("quorum lost on a critical group",
+                    Map.of("health.quorum.db", "2:db-1,db-2,db-3", "health.criticality.db", "CRITICAL"),
+                    results("db-1", State.DOWN, "db-2", State.DOWN, "db-3", State.UP, "cache", State.UP),
+                    ServiceStatus.UNHEALTHY, null),
+            new Case("quorum lost on a normal group",
+                    Map.of("health.quorum.db", "2:db-1,db-2,db-3"),
+                    results("db-1", State.DOWN, "db-2", State.DOWN, "db-3", State.UP, "cache", State.UP),
+                    ServiceStatus.DEGRADED, null),
+            new Case("members' own criticality is ignored inside a quorum",
+                    Map.of("health.quorum.db", "2:db-1,db-2,db-3", "health.criticality.db-1", "CRITICAL"),
+                    results("db-1", State.DOWN, "db-2", State.UP, "db-3", State.UP),
+                    ServiceStatus.HEALTHY, "Quorum db"),
+            new Case("quorum only counts members present in the response",
+                    Map.of("health.quorum.db", "2:db-1,db-2,db-3", "health.criticality.db", "CRITICAL"),
+                    results("db-1", State.UP), ServiceStatus.HEALTHY, null),
+            new Case("quorum short only because of members in maintenance",
+                    Map.of("health.quorum.db", "2:db-1,db-2,db-3", "health.criticality.db", "CRITICAL"),
+                    results("db-1", State.DOWN, "db-2", State.MAINTENANCE, "db-3", State.UP, "cache", State.UP),
+                    ServiceStatus.MAINTENANCE, null),
+            new Case("quorum short even counting members in maintenance",
+                    Map.of("health.quorum.db", "3:db-1,db-2,db-3", "health.criticality.db", "CRITICAL"),
+                    results("db-1", State.DOWN, "db-2", State.MAINTENANCE, "db-3", State.UP),
+                    ServiceStatus.UNHEALTHY, null),
+            new Case("quorum met around a member in maintenance",
+                    Map.of("health.quorum.db", "2:db-1,db-2,db-3", "health.criticality.db", "CRITICAL"),
+                    results("db-1", State.MAINTENANCE, "db-2", State.UP, "db-3", State.UP),
+                    ServiceStatus.HEALTHY, "1 in maintenance"),
+            new Case("critical component in maintenance",
+                    Map.of("health.criticality.a", "CRITICAL"),
+                    results("a", State.MAINTENANCE, "b", State.UP), ServiceStatus.MAINTENANCE, null),
+            new Case("normal component in maintenance degrades with a warning",
+                    Map.of(), results("a", State.MAINTENANCE, "b", State.UP),
+                    ServiceStatus.DEGRADED, "Component a is in maintenance"),
+            new Case("every normal component in maintenance",
+                    Map.of(), results("a", State.MAINTENANCE, "b", State.MAINTENANCE), ServiceStatus.MAINTENANCE, null),
+            new Case("maintenance plus outages reaching the unhealthy weight",
+                    Map.of(), results("a", State.MAINTENANCE, "b", State.DOWN), ServiceStatus.MAINTENANCE, null),
+            new Case("optional component in maintenance only warns",
+                    Map.of("health.criticality.a", "OPTIONAL"),
+                    results("a", State.MAINTENANCE, "b", State.UP),
+                    ServiceStatus.HEALTHY, "Optional component a is in maintenance"),
+            new Case("real critical outage outranks critical maintenance",
+                    Map.of("health.criticality.a", "CRITICAL", "health.criticality.b", "CRITICAL"),
+                    results("a", State.MAINTENANCE, "b", State.DOWN), ServiceStatus.UNHEALTHY, null),
+            new Case("real outage of everything else outranks maintenance",
+                    Map.of("health.status.unhealthyWeight", "0.5"),
+                    results("a", State.MAINTENANCE, "b", State.DOWN, "c", State.DOWN), ServiceStatus.UNHEALTHY, null));
+
+    private final List<String> setProperties = new ArrayList<>();
+
+    @After
+    public void clearProperties() {
+        setProperties.forEach(System::clearProperty);
+        setProperties.clear();
+    }
+
+    @Test
+    public void statusFollowsTheRules() {
+        List<String> failures = new ArrayList<>();
+        for (Case testCase : CASES) {
+            setProperties(testCase.properties());
+            StatusPolicy.Evaluation evaluation = new StatusPolicy().newEvaluation();
+            testCase.results().forEach((component, state) -> {
+                if (state == State.MAINTENANCE) {
+                    evaluation.addMaintenance(component);
+                } else {
+                    evaluation.add(component, health(state));
+                }
+            });
+            ServiceStatus status = evaluation.status();
+            if (status != testCase.expected()) {
+                failures.add(testCase.description() + ": expected " + testCase.expected() + " but was " + status
+                        + " " + evaluation.getWarnings());
+            } else if (testCase.expectedWarning() != null && evaluation.getWarnings().stream()
+                    .noneMatch(warning -> warning.contains(testCase.expectedWarning()))) {
+                failures.add(testCase.description() + ": no warning containing '" + testCase.expectedWarning()
+                        + "' in " + evaluation.getWarnings());
+            }
+            clearProperties();
+        }
+        if (!failures.isEmpty()) {
+            fail(String.join("\n", failures));
+        }
+    }
+
+    @Test
+    public void quorumGroupCriticalityAppliesToItsMembers() {
+        setProperties(Map.of("health.quorum.db", "2:db-1,db-2", "health.criticality.db", "CRITICAL",
+                "health.criticality.db-1", "OPTIONAL"));
+        StatusPolicy policy = new StatusPolicy();
+        assertEquals(StatusPolicy.Criticality.CRITICAL, policy.criticalityOf("db-1"));
+        assertEquals(StatusPolicy.Criticality.NORMAL, policy.criticalityOf("cache"));
+    }
+
+    @Test
+    public void invalidSettingsFailAtConstruction() {
+        List<Map<String, String>> invalid = List.of(
+                Map.of("health.criticality.a", "IMPORTANT"),
+                Map.of("health.weight.a", "heavy"),
+                Map.of("health.weight.a", "-1"),
+                Map.of("health.quorum.db", "two:db-1,db-2"),
+                Map.of("health.quorum.db", "3:db-1,db-2"),
+                Map.of("health.quorum.db", "1:db-1", "health.quorum.replicas", "1:db-1,db-2"));
+        for (Map<String, String> properties : invalid) {
+            setProperties(properties);
+            IllegalArgumentException e = assertThrows(properties.toString(), IllegalArgumentException.class,
+                    StatusPolicy::new);
+            assertTrue(e.getMessage(), e.getMessage().contains("health.") || e.getMessage().contains("db-1"));
+            clearProperties();
+        }
+    }
+
+    private void setProperties(Map<String, String> properties) {
+        properties.forEach((key, value) -> {
+            System.setProperty(key, value);
+            setProperties.add(key);
+        });
+    }
+
+    private static ComponentHealth health(State state) {
+        return ComponentHealth.newBuilder()
+                .setAvailable(state != State.DOWN)
+                .setFunctional(state == State.UP)
+                .build();
+    }
+
+    private static Map<String, State> results(Object... namesAndStates) {
+        Map<String, State> results = new LinkedHashMap<>();
+        for (int i = 0; i < namesAndStates.length; i += 2) {
+            results.put((String) namesAndStates[i], (State) namesAndStates[i + 1]);
+        }
+        return results;
+    }
+}